@@ -0,0 +1,132 @@
+package com.team2final.minglecrm.customer;
+
+import com.team2final.minglecrm.MinglecrmApplication;
+import com.team2final.minglecrm.customer.domain.repository.CustomerSearchRepository;
+import com.team2final.minglecrm.customer.dto.request.CustomerSearchCondition;
+import com.team2final.minglecrm.customer.dto.response.CustomerResponse;
+import com.team2final.minglecrm.customer.service.search.CustomerLookupResult;
+import com.team2final.minglecrm.customer.service.search.CustomerLookupService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// ./gradlew jmh
+// 같은 고객 데이터에서 CustomerSearchRepository 의 QueryDSL contains 검색(LIKE '%...%' 목록 + 건수)과
+// CustomerService 가 쓰는 n-gram 색인 검색 + 해당 페이지 조회를 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class CustomerSearchBenchmark {
+
+    private static final String SURNAMES = "김이박최정강조윤장임한오서신권황안송류홍";
+    private static final String SYLLABLES = "민서지준현우수영도하윤아은성진호예원재";
+    private static final String[] GRADES = {"VIP", "GOLD", "SILVER", "BRONZE"};
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+
+    @Param({"100000", "1000000"})
+    private int customers;
+
+    // 이름:이메일
+    @Param({"민서:mail7", "김:42@", "준현:user1234"})
+    private String query;
+
+    private ConfigurableApplicationContext context;
+    private CustomerSearchRepository customerSearchRepository;
+    private CustomerLookupService customerLookupService;
+    private CustomerSearchCondition condition;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MinglecrmApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:customer_search_benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.sql.init.mode=never",
+                        "spring.jpa.show-sql=false",
+                        "spring.jwt.key=customer-search-benchmark-customer-search-benchmark",
+                        "logging.level.root=warn")
+                .run();
+        customerSearchRepository = context.getBean(CustomerSearchRepository.class);
+        customerLookupService = context.getBean(CustomerLookupService.class);
+
+        generateCustomers(context.getBean(JdbcTemplate.class));
+        customerLookupService.rebuild();
+
+        String[] parts = query.split(":");
+        condition = new CustomerSearchCondition(parts[0], null, null, parts[1], null, null);
+
+        long likeTotal = likeSearch().getTotalElements();
+        long indexTotal = customerLookupService.search(condition, FIRST_PAGE).total();
+        if (likeTotal != indexTotal) {
+            throw new IllegalStateException("검색 결과 건수가 다릅니다 : LIKE " + likeTotal + ", n-gram " + indexTotal);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<CustomerResponse> likeSearch() {
+        return customerSearchRepository.search(condition, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public List<CustomerResponse> ngramSearch() {
+        CustomerLookupResult result = customerLookupService.search(condition, FIRST_PAGE);
+        return customerSearchRepository.findByIds(result.pageIds());
+    }
+
+    private void generateCustomers(JdbcTemplate jdbcTemplate) {
+        Random random = new Random(42);
+        List<Object[]> batch = new ArrayList<>();
+        for (long id = 1; id <= customers; id++) {
+            String name = "" + SURNAMES.charAt(random.nextInt(SURNAMES.length()))
+                    + SYLLABLES.charAt(random.nextInt(SYLLABLES.length()))
+                    + SYLLABLES.charAt(random.nextInt(SYLLABLES.length()));
+            String email = "user" + id + "@mail" + random.nextInt(100) + ".com";
+            String phone = String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000));
+            LocalDate birth = LocalDate.of(1950, 1, 1).plusDays(random.nextInt(365 * 55));
+
+            batch.add(new Object[]{id, name, email, phone, GRADES[random.nextInt(GRADES.length)],
+                    random.nextBoolean() ? "Male" : "Female", Date.valueOf(birth), birth.getYear(), false});
+            if (batch.size() == 10_000) {
+                insert(jdbcTemplate, batch);
+            }
+        }
+        insert(jdbcTemplate, batch);
+    }
+
+    private void insert(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO customer (id, name, email, phone, grade, gender, birth, birth_year, is_deleted) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+}
@@ -0,0 +1,128 @@
+package com.team2final.minglecrm.statistics;
+
+import com.team2final.minglecrm.statistics.config.support.ReservationRollup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// ./gradlew jmh
+// 기존 4개의 GROUP BY 쿼리 방식과 한 번의 스캔 + 롤업 방식 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ReservationRollupBenchmark {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2019, 1, 1);
+
+    private static final String[] FOUR_QUERIES = {
+            "SELECT YEAR(start_date), COUNT(*) FROM room_reservation GROUP BY YEAR(start_date)",
+            "SELECT YEAR(start_date), MONTH(start_date), COUNT(*) FROM room_reservation GROUP BY YEAR(start_date), MONTH(start_date)",
+            "SELECT YEAR(start_date), WEEK(start_date), COUNT(*) FROM room_reservation GROUP BY YEAR(start_date), WEEK(start_date)",
+            "SELECT YEAR(start_date), MONTH(start_date), DAY_OF_MONTH(start_date), COUNT(*) FROM room_reservation GROUP BY YEAR(start_date), MONTH(start_date), DAY_OF_MONTH(start_date)"
+    };
+
+    @Param({"2000000"})
+    private int reservations;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:rollup_benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        generateReservations();
+
+        // 두 방식 모두 예약 한 건을 연, 월, 주, 일 네 칸에 한 번씩 셈
+        long fourQueriesTotal = fourQueries();
+        long singlePassTotal = singlePass();
+        if (fourQueriesTotal != reservations * 4L || singlePassTotal != reservations * 4L) {
+            throw new IllegalStateException("집계 건수가 다릅니다 : 4 queries " + fourQueriesTotal + ", single pass " + singlePassTotal);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE room_reservation");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long fourQueries() throws SQLException {
+        long total = 0;
+        try (Statement statement = connection.createStatement()) {
+            for (String query : FOUR_QUERIES) {
+                try (ResultSet resultSet = statement.executeQuery(query)) {
+                    int countColumn = resultSet.getMetaData().getColumnCount();
+                    while (resultSet.next()) {
+                        total += resultSet.getLong(countColumn);
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long singlePass() throws SQLException {
+        ReservationRollup rollup = new ReservationRollup();
+        try (Statement statement = connection.createStatement()) {
+            statement.setFetchSize(1000);
+            try (ResultSet resultSet = statement.executeQuery("SELECT start_date FROM room_reservation")) {
+                while (resultSet.next()) {
+                    rollup.add(resultSet.getObject(1, LocalDate.class));
+                }
+            }
+        }
+        long[] total = new long[1];
+        rollup.getByYearCounts().forEach((key, count) -> total[0] += count);
+        rollup.getMonthlyCounts().forEach((key, count) -> total[0] += count);
+        rollup.getWeeklyCounts().forEach((key, count) -> total[0] += count);
+        rollup.getDailyCounts().forEach((key, count) -> total[0] += count);
+        return total[0];
+    }
+
+    private void generateReservations() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE room_reservation (id BIGINT PRIMARY KEY, start_date DATE)");
+        }
+        connection.setAutoCommit(false);
+        Random random = new Random(42);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO room_reservation VALUES (?, ?)")) {
+            for (int id = 1; id <= reservations; id++) {
+                insert.setLong(1, id);
+                insert.setDate(2, Date.valueOf(FIRST_DAY.plusDays(random.nextInt(365 * 5))));
+                insert.addBatch();
+                if (id % 10_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+}
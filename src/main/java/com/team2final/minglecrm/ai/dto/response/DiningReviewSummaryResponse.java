@@ -2,6 +2,7 @@ package com.team2final.minglecrm.ai.dto.response;
 
 import com.team2final.minglecrm.review.domain.dining.DiningReviewSummary;
 import com.team2final.minglecrm.review.domain.hotel.SummaryType;
+import com.team2final.minglecrm.review.domain.summary.RollingReviewSummary;
 import lombok.Builder;
 import lombok.Data;
 
@@ -32,4 +33,15 @@ public class DiningReviewSummaryResponse {
                 .summary(diningReviewSummary.getSummary())
                 .build();
     }
+
+    // 미리 만들어 둔 최근 N일 요약. 실제 요약 기간이 담김
+    static public DiningReviewSummaryResponse of(RollingReviewSummary rollingReviewSummary) {
+        return DiningReviewSummaryResponse
+                .builder()
+                .startDate(rollingReviewSummary.getStartDate())
+                .endDate(rollingReviewSummary.getEndDate())
+                .summaryType(rollingReviewSummary.getSummaryType())
+                .summary(rollingReviewSummary.getSummary())
+                .build();
+    }
 }
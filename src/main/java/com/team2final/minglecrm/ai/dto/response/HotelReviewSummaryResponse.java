@@ -2,6 +2,7 @@ package com.team2final.minglecrm.ai.dto.response;
 
 import com.team2final.minglecrm.review.domain.hotel.HotelReviewSummary;
 import com.team2final.minglecrm.review.domain.hotel.SummaryType;
+import com.team2final.minglecrm.review.domain.summary.RollingReviewSummary;
 import lombok.Builder;
 import lombok.Data;
 
@@ -33,4 +34,15 @@ public class HotelReviewSummaryResponse {
                 .build();
     }
 
+    // 미리 만들어 둔 최근 N일 요약. 실제 요약 기간이 담김
+    static public HotelReviewSummaryResponse of(RollingReviewSummary rollingReviewSummary) {
+        return HotelReviewSummaryResponse
+                .builder()
+                .startDate(rollingReviewSummary.getStartDate())
+                .endDate(rollingReviewSummary.getEndDate())
+                .summaryType(rollingReviewSummary.getSummaryType())
+                .summary(rollingReviewSummary.getSummary())
+                .build();
+    }
+
 }
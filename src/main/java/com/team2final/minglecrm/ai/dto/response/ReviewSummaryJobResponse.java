@@ -0,0 +1,41 @@
+package com.team2final.minglecrm.ai.dto.response;
+
+import com.team2final.minglecrm.ai.service.job.ReviewSummaryJob;
+import com.team2final.minglecrm.ai.service.summary.SummaryProgress;
+import com.team2final.minglecrm.review.domain.hotel.SummaryType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class ReviewSummaryJobResponse {
+
+    private Long jobId;
+    private String scope;
+    private String target;
+    private SummaryType summaryType;
+    private String status;
+    private Integer attempts;
+    private List<SummaryProgress> progress;
+    private String summary;
+    private String error;
+    private LocalDateTime createdTime;
+    private LocalDateTime startedTime;
+    private LocalDateTime finishedTime;
+
+    public ReviewSummaryJobResponse(ReviewSummaryJob job) {
+        this.jobId = job.getJobId();
+        this.scope = job.getScope();
+        this.target = job.getTarget();
+        this.summaryType = job.getSummaryType();
+        this.status = job.getStatus().name();
+        this.attempts = job.getAttempts();
+        this.progress = job.getProgress();
+        this.summary = job.getSummary();
+        this.error = job.getError();
+        this.createdTime = job.getCreatedTime();
+        this.startedTime = job.getStartedTime();
+        this.finishedTime = job.getFinishedTime();
+    }
+}
@@ -6,18 +6,23 @@ import lombok.Setter;
 import org.springframework.cglib.core.Local;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Setter
 public class JoinedReviews {
 
-    private final String joinedReviews;
     private final LocalDateTime startDate;
     private final LocalDateTime endDate;
+    // 작성 순서대로의 리뷰 본문. 요약 파이프라인이 토큰 예산 단위로 나눌 때 사용
+    private final List<String> reviews;
+    // reviews 와 같은 순서의 리뷰 id. 요약 캐시 키에 사용
+    private final List<Long> reviewIds;
 
     @Builder
-    public JoinedReviews(String joinedReviews, LocalDateTime startDate, LocalDateTime endDate) {
-        this.joinedReviews = joinedReviews;
+    public JoinedReviews(List<String> reviews, List<Long> reviewIds, LocalDateTime startDate, LocalDateTime endDate) {
+        this.reviews = reviews;
+        this.reviewIds = reviewIds;
         this.startDate = startDate;
         this.endDate = endDate;
     }
@@ -0,0 +1,43 @@
+package com.team2final.minglecrm.ai.dto.vo;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 기간 내 대상 별 리뷰 묶음 요약값. 건수, 최대 id, id 합이 모두 같으면 같은 묶음으로 봄
+@Getter
+public class ReviewSetFingerprint {
+
+    private final String target;
+    private final long count;
+    private final long maxId;
+    private final long idSum;
+
+    public ReviewSetFingerprint(String target, Long count, Long maxId, Long idSum) {
+        this.target = target;
+        this.count = count == null ? 0 : count;
+        this.maxId = maxId == null ? 0 : maxId;
+        this.idSum = idSum == null ? 0 : idSum;
+    }
+
+    // 대상 전체(All) 지문
+    public static ReviewSetFingerprint merge(String target, List<ReviewSetFingerprint> fingerprints) {
+        long count = 0;
+        long maxId = 0;
+        long idSum = 0;
+        for (ReviewSetFingerprint fingerprint : fingerprints) {
+            count += fingerprint.count;
+            maxId = Math.max(maxId, fingerprint.maxId);
+            idSum += fingerprint.idSum;
+        }
+        return new ReviewSetFingerprint(target, count, maxId, idSum);
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public String getValue() {
+        return count + "-" + maxId + "-" + idSum;
+    }
+}
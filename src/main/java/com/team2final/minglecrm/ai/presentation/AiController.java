@@ -6,6 +6,7 @@ import com.team2final.minglecrm.common.exception.ResultResponse;
 import com.team2final.minglecrm.ai.dto.request.ReviewSummaryRequest;
 import com.team2final.minglecrm.ai.dto.response.DiningReviewSummaryResponse;
 import com.team2final.minglecrm.ai.dto.response.HotelReviewSummaryResponse;
+import com.team2final.minglecrm.ai.dto.response.ReviewSummaryJobResponse;
 import com.team2final.minglecrm.review.domain.dining.DiningReviewSummary;
 import com.team2final.minglecrm.review.domain.hotel.SummaryType;
 import com.team2final.minglecrm.ai.service.AiService;
@@ -13,7 +14,9 @@ import com.team2final.minglecrm.review.service.dining.DiningReviewService;
 import com.team2final.minglecrm.review.service.hotel.HotelReviewService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 
@@ -25,8 +28,9 @@ public class AiController {
     private final HotelReviewService hotelReviewService;
     private final DiningReviewService diningReviewService;
 
+    // 요약 작업 id 를 바로 반환. 진행 상황은 /api/review/summary/jobs/{jobId} 또는 /events 로 조회
     @PostMapping("/api/hotel/review/summary")
-    ResultResponse<String> createHotelReviewSummary(@RequestBody HotelReviewSummaryRequest request) {
+    ResultResponse<Long> createHotelReviewSummary(@RequestBody HotelReviewSummaryRequest request) {
         String hotel = request.getHotel();
         if (request.getHotel().equals("All")) {
             hotel = null;
@@ -36,12 +40,12 @@ public class AiController {
             return new ResultResponse<>(HttpStatus.BAD_REQUEST.value(), "리뷰 데이터 없음", null);
         }
 
-        String answer = aiService.createHotelReviewSummary(joinedHotelReviews, request.getSummaryType(), request.getHotel());
-        return new ResultResponse<>(HttpStatus.CREATED.value(), "success", answer);
+        Long jobId = aiService.enqueueHotelReviewSummary(joinedHotelReviews, request.getSummaryType(), request.getHotel());
+        return new ResultResponse<>(HttpStatus.ACCEPTED.value(), "success", jobId);
     }
 
     @PostMapping("/api/dining/review/summary")
-    ResultResponse<String> createDiningReviewSummary(@RequestBody DiningReviewSummary request) {
+    ResultResponse<Long> createDiningReviewSummary(@RequestBody DiningReviewSummary request) {
         String restaurant = request.getRestaurant();
         if (request.getRestaurant().equals("All")){
             restaurant = null;
@@ -53,8 +57,19 @@ public class AiController {
             return new ResultResponse<>(HttpStatus.BAD_REQUEST.value(), "리뷰 데이터 없음", null);
         }
 
-        String answer = aiService.createDiningReviewSummary(joinedDiningReviews, request.getSummaryType(), request.getRestaurant());
-        return new ResultResponse<>(HttpStatus.CREATED.value(), "success", answer);
+        Long jobId = aiService.enqueueDiningReviewSummary(joinedDiningReviews, request.getSummaryType(), request.getRestaurant());
+        return new ResultResponse<>(HttpStatus.ACCEPTED.value(), "success", jobId);
+    }
+
+    @GetMapping("/api/review/summary/jobs/{jobId}")
+    ResultResponse<ReviewSummaryJobResponse> getReviewSummaryJob(@PathVariable(name = "jobId") Long jobId) {
+        return new ResultResponse<>(HttpStatus.OK.value(), "success", aiService.getReviewSummaryJob(jobId));
+    }
+
+    // status, progress(부분 요약), result / error 이벤트를 차례로 보냄
+    @GetMapping(value = "/api/review/summary/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter subscribeReviewSummaryJob(@PathVariable(name = "jobId") Long jobId) {
+        return aiService.subscribeReviewSummaryJob(jobId);
     }
 
     @GetMapping("/api/hotel/review/summary")
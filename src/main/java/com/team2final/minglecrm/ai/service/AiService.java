@@ -2,7 +2,13 @@ package com.team2final.minglecrm.ai.service;
 
 import com.team2final.minglecrm.ai.dto.response.DiningReviewSummaryResponse;
 import com.team2final.minglecrm.ai.dto.response.HotelReviewSummaryResponse;
+import com.team2final.minglecrm.ai.dto.response.ReviewSummaryJobResponse;
 import com.team2final.minglecrm.ai.dto.vo.JoinedReviews;
+import com.team2final.minglecrm.ai.service.job.ReviewSummaryJobEngine;
+import com.team2final.minglecrm.ai.service.summary.ReviewSummaryCache;
+import com.team2final.minglecrm.ai.service.summary.ReviewSummaryKey;
+import com.team2final.minglecrm.ai.service.summary.ReviewSummaryPipeline;
+import com.team2final.minglecrm.ai.service.summary.SummaryProgress;
 import com.team2final.minglecrm.review.domain.dining.DiningReviewSummary;
 import com.team2final.minglecrm.review.domain.dining.repository.DiningReviewRepository;
 import com.team2final.minglecrm.review.domain.hotel.HotelReviewSummary;
@@ -10,25 +16,32 @@ import com.team2final.minglecrm.review.domain.hotel.SummaryType;
 import com.team2final.minglecrm.review.domain.dining.repository.DiningReviewSummaryRepository;
 import com.team2final.minglecrm.review.domain.hotel.repository.hotelReview.HotelReviewRepository;
 import com.team2final.minglecrm.review.domain.hotel.repository.summary.HotelReviewSummaryRepository;
+import com.team2final.minglecrm.review.domain.summary.RollingReviewSummary;
+import com.team2final.minglecrm.review.domain.summary.repository.RollingReviewSummaryRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.chat.messages.SystemMessage;
-import org.springframework.ai.chat.messages.UserMessage;
-import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class AiService {
 
-    private final ChatClient chatClient;
+    private final ReviewSummaryPipeline reviewSummaryPipeline;
+    private final ReviewSummaryCache reviewSummaryCache;
+    private final ReviewSummaryJobEngine reviewSummaryJobEngine;
     private final HotelReviewRepository hotelReviewRepository;
     private final HotelReviewSummaryRepository hotelReviewSummaryRepository;
     private final DiningReviewRepository diningReviewRepository;
     private final DiningReviewSummaryRepository diningReviewSummaryRepository;
+    private final RollingReviewSummaryRepository rollingReviewSummaryRepository;
 
 
 
@@ -64,41 +77,93 @@ public class AiService {
         diningReviewSummaryRepository.save(summary);
     }
 
+    // 같은 리뷰 집합에 대한 요약은 캐시에서 돌려주고, 같은 기간의 같은 요약은 다시 저장하지 않음
     public String createHotelReviewSummary(JoinedReviews joinedHotelReviews, SummaryType summaryType, String hotel) {
-        String systemMessageContent = generateSystemMessage(summaryType);
-        SystemMessage systemMessage = new SystemMessage(systemMessageContent);
-
-        UserMessage userMessage = new UserMessage(joinedHotelReviews.getJoinedReviews());
-        Prompt prompt = new Prompt(List.of(systemMessage, userMessage));
-        String answer = chatClient.prompt(prompt).call().content();
+        return createHotelReviewSummary(joinedHotelReviews, summaryType, hotel, progress -> {}, null);
+    }
 
-        saveHotelSummary(joinedHotelReviews, summaryType, answer, hotel);
+    // listener 로 부분 요약을 받고, timeout 이 지나면 IllegalStateException
+    public String createHotelReviewSummary(JoinedReviews joinedHotelReviews, SummaryType summaryType, String hotel,
+                                           Consumer<SummaryProgress> listener, Duration timeout) {
+        String answer = summarizeHotelReviews(joinedHotelReviews, summaryType, hotel, listener, timeout);
+
+        boolean saved = hotelReviewSummaryRepository.findHotelReviewSummariesBySummaryTypeAndStartDateAndEndDateAndHotel(
+                        summaryType, joinedHotelReviews.getStartDate(), joinedHotelReviews.getEndDate(), hotel)
+                .stream()
+                .anyMatch(summary -> answer.equals(summary.getSummary()));
+        if (!saved) {
+            saveHotelSummary(joinedHotelReviews, summaryType, answer, hotel);
+        }
         return answer;
     }
 
     public String createDiningReviewSummary(JoinedReviews joinedDiningReviews, SummaryType summaryType, String restaurant) {
-        String systemMessageContent = generateSystemMessage(summaryType);
-        SystemMessage systemMessage = new SystemMessage(systemMessageContent);
+        return createDiningReviewSummary(joinedDiningReviews, summaryType, restaurant, progress -> {}, null);
+    }
 
-        UserMessage userMessage = new UserMessage(joinedDiningReviews.getJoinedReviews());
-        Prompt prompt = new Prompt(List.of(systemMessage, userMessage));
-        String answer = chatClient.prompt(prompt).call().content();
+    public String createDiningReviewSummary(JoinedReviews joinedDiningReviews, SummaryType summaryType, String restaurant,
+                                            Consumer<SummaryProgress> listener, Duration timeout) {
+        String answer = summarizeDiningReviews(joinedDiningReviews, summaryType, restaurant, listener, timeout);
 
-        saveDiningSummary(joinedDiningReviews, summaryType, answer, restaurant);
+        boolean saved = diningReviewSummaryRepository.findDiningReviewSummariesBySummaryTypeAndStartDateAndEndDateAndRestaurant(
+                        summaryType, joinedDiningReviews.getStartDate(), joinedDiningReviews.getEndDate(), restaurant)
+                .stream()
+                .anyMatch(summary -> answer.equals(summary.getSummary()));
+        if (!saved) {
+            saveDiningSummary(joinedDiningReviews, summaryType, answer, restaurant);
+        }
         return answer;
     }
 
+    // 기간 요약 행은 남기지 않고 요약만 만듦. 롤링 요약 배치가 사용
+    public String summarizeHotelReviews(JoinedReviews joinedHotelReviews, SummaryType summaryType, String hotel,
+                                        Consumer<SummaryProgress> listener, Duration timeout) {
+        String key = ReviewSummaryKey.of("hotel", hotel, summaryType, joinedHotelReviews.getReviewIds(), joinedHotelReviews.getReviews());
+        return reviewSummaryCache.getOrCompute(key,
+                () -> reviewSummaryPipeline.summarize(joinedHotelReviews.getReviews(), generateSystemMessage(summaryType), listener, timeout));
+    }
+
+    public String summarizeDiningReviews(JoinedReviews joinedDiningReviews, SummaryType summaryType, String restaurant,
+                                         Consumer<SummaryProgress> listener, Duration timeout) {
+        String key = ReviewSummaryKey.of("dining", restaurant, summaryType, joinedDiningReviews.getReviewIds(), joinedDiningReviews.getReviews());
+        return reviewSummaryCache.getOrCompute(key,
+                () -> reviewSummaryPipeline.summarize(joinedDiningReviews.getReviews(), generateSystemMessage(summaryType), listener, timeout));
+    }
+
+    // 요약 작업 등록. 작업 id 를 바로 반환하고 결과는 작업 조회나 SSE 로 받음
+    public Long enqueueHotelReviewSummary(JoinedReviews joinedHotelReviews, SummaryType summaryType, String hotel) {
+        return reviewSummaryJobEngine.enqueue("hotel", hotel, summaryType,
+                (listener, timeout) -> createHotelReviewSummary(joinedHotelReviews, summaryType, hotel, listener, timeout));
+    }
+
+    public Long enqueueDiningReviewSummary(JoinedReviews joinedDiningReviews, SummaryType summaryType, String restaurant) {
+        return reviewSummaryJobEngine.enqueue("dining", restaurant, summaryType,
+                (listener, timeout) -> createDiningReviewSummary(joinedDiningReviews, summaryType, restaurant, listener, timeout));
+    }
+
+    public ReviewSummaryJobResponse getReviewSummaryJob(Long jobId) {
+        return reviewSummaryJobEngine.getJob(jobId)
+                .map(ReviewSummaryJobResponse::new)
+                .orElseThrow(() -> new IllegalArgumentException("없는 요약 작업입니다."));
+    }
+
+    public SseEmitter subscribeReviewSummaryJob(Long jobId) {
+        return reviewSummaryJobEngine.subscribe(jobId);
+    }
+
     public HotelReviewSummaryResponse getHotelReviewSummaryByPeriod(
             LocalDateTime startDate,
             LocalDateTime endDate,
             SummaryType summaryType,
             String hotel) {
         List<HotelReviewSummary> entities =  hotelReviewSummaryRepository.findHotelReviewSummariesBySummaryTypeAndStartDateAndEndDateAndHotel(summaryType, startDate, endDate, hotel);
-        if (entities.isEmpty()) {
-            return null;
-        } else {
+        if (!entities.isEmpty()) {
             return HotelReviewSummaryResponse.of(entities.get(0));
         }
+        // 같은 기간 요약이 없으면 미리 만들어 둔 최근 N일 요약 중 가장 가까운 기간으로 응답
+        return findNearestRollingSummary("hotel", hotel, summaryType, startDate, endDate)
+                .map(HotelReviewSummaryResponse::of)
+                .orElse(null);
     }
 
     public DiningReviewSummaryResponse getDiningReviewSummaryByPeriod(
@@ -108,11 +173,22 @@ public class AiService {
             String restaurant) {
         List<DiningReviewSummary> entities = diningReviewSummaryRepository.findDiningReviewSummariesBySummaryTypeAndStartDateAndEndDateAndRestaurant(summaryType, startDate, endDate,restaurant);
 
-        if (entities.isEmpty()) {
-            return null;
-        } else {
+        if (!entities.isEmpty()) {
             return DiningReviewSummaryResponse.of(entities.get(0));
         }
+        return findNearestRollingSummary("dining", restaurant, summaryType, startDate, endDate)
+                .map(DiningReviewSummaryResponse::of)
+                .orElse(null);
+    }
+
+    // 기간 길이가 가장 비슷한 것, 같으면 끝나는 시점이 가까운 것
+    private Optional<RollingReviewSummary> findNearestRollingSummary(String scope, String target, SummaryType summaryType,
+                                                                     LocalDateTime startDate, LocalDateTime endDate) {
+        long requestedDays = Math.max(1, ChronoUnit.DAYS.between(startDate.toLocalDate(), endDate.toLocalDate()));
+        return rollingReviewSummaryRepository.findRollingReviewSummariesByScopeAndTargetAndSummaryType(scope, target, summaryType)
+                .stream()
+                .min(Comparator.<RollingReviewSummary>comparingLong(summary -> Math.abs(summary.getWindowDays() - requestedDays))
+                        .thenComparingLong(summary -> Math.abs(ChronoUnit.MINUTES.between(summary.getEndDate(), endDate))));
     }
 
 }
@@ -0,0 +1,152 @@
+package com.team2final.minglecrm.ai.service.job;
+
+import com.team2final.minglecrm.ai.service.summary.SummaryProgress;
+import com.team2final.minglecrm.common.sse.SseSubscriber;
+import com.team2final.minglecrm.review.domain.hotel.SummaryType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+// 리뷰 요약 작업 상태와 부분 요약. 요약 스레드가 갱신하고 구독 중인 SSE 로 내보냄
+// 상태 변경은 잠금 안에서 이벤트 목록에 쌓고 구독자별 대기열에 넣기만 함. 소켓 쓰기는 전송 풀에서 따로 처리
+// 느리거나 멈춘 구독자가 있어도 요약 스레드는 기다리지 않고, 대기열이 찬 구독자는 끊음
+@Slf4j
+@Getter
+public class ReviewSummaryJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final Long jobId;
+    private final String scope;
+    private final String target;
+    private final SummaryType summaryType;
+    private final LocalDateTime createdTime = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile int attempts;
+    private volatile String summary;
+    private volatile String error;
+    private volatile LocalDateTime startedTime;
+    private volatile LocalDateTime finishedTime;
+
+    private final List<SummaryProgress> progress = new ArrayList<>();
+    // 나중에 붙은 구독자도 처음부터 같은 순서로 받도록 보낸 이벤트를 모두 남김. 추가, 구독은 잠금 안에서만
+    @Getter(AccessLevel.NONE)
+    private final List<JobEvent> events = new ArrayList<>();
+    // 끊김 콜백은 컨테이너 스레드에서 오므로 잠금 없이 제거할 수 있게 둠
+    @Getter(AccessLevel.NONE)
+    private final List<SseSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private final Executor sender;
+    // 구독 뒤에 쌓일 수 있는 이벤트 수. 지난 이벤트는 이와 별도로 대기열에 더 들어감
+    @Getter(AccessLevel.NONE)
+    private final int subscriberBufferSize;
+
+    public ReviewSummaryJob(Long jobId, String scope, String target, SummaryType summaryType,
+                            Executor sender, int subscriberBufferSize) {
+        this.jobId = jobId;
+        this.scope = scope;
+        this.target = target;
+        this.summaryType = summaryType;
+        this.sender = sender;
+        this.subscriberBufferSize = subscriberBufferSize;
+        events.add(new JobEvent("status", status.name(), false));
+    }
+
+    public synchronized void startAttempt(int attempt) {
+        if (startedTime == null) {
+            startedTime = LocalDateTime.now();
+        }
+        attempts = attempt;
+        status = Status.RUNNING;
+        publish(new JobEvent("status", status.name(), false));
+    }
+
+    public synchronized void addProgress(SummaryProgress summaryProgress) {
+        progress.add(summaryProgress);
+        publish(new JobEvent("progress", summaryProgress, false));
+    }
+
+    public synchronized void complete(String summary) {
+        this.summary = summary;
+        finish(Status.COMPLETED, "result", summary);
+    }
+
+    public synchronized void fail(String error) {
+        this.error = error;
+        finish(Status.FAILED, "error", error);
+    }
+
+    public synchronized List<SummaryProgress> getProgress() {
+        return List.copyOf(progress);
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    // 지금까지의 진행 상황을 먼저 넣고 이후 이벤트를 이어서 받게 함. 이미 끝난 작업이면 결과까지 보내고 닫음
+    public synchronized void subscribe(SseEmitter emitter) {
+        SseSubscriber subscriber = new SseSubscriber(emitter, subscriberBufferSize, sender, () -> unsubscribe(emitter));
+        subscriber.replay(events.stream().map(JobEvent::toSse).toList());
+        if (isFinished()) {
+            subscriber.finish();
+            return;
+        }
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(SseEmitter emitter) {
+        subscribers.removeIf(subscriber -> {
+            if (subscriber.getEmitter() != emitter) {
+                return false;
+            }
+            subscriber.close(false);
+            return true;
+        });
+    }
+
+    private void finish(Status status, String name, String data) {
+        this.finishedTime = LocalDateTime.now();
+        this.status = status;
+        publish(new JobEvent(name, data, true));
+    }
+
+    // 잠금 안에서 호출. 대기열에 넣기만 하므로 오래 걸리지 않음. 대기열이 찬 구독자는 끊고 목록에서 제거
+    private void publish(JobEvent event) {
+        events.add(event);
+        subscribers.removeIf(subscriber -> {
+            if (!subscriber.offer(event.toSse())) {
+                if (!subscriber.isClosed()) {
+                    log.info("요약 작업 {} SSE 구독자가 밀려 연결을 닫음", jobId);
+                }
+                subscriber.close(true);
+                return true;
+            }
+            if (event.last()) {
+                subscriber.finish();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private record JobEvent(String name, Object data, boolean last) {
+
+        private SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event().name(name).data(data);
+        }
+    }
+}
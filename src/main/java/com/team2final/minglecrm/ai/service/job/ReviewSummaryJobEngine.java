@@ -0,0 +1,155 @@
+package com.team2final.minglecrm.ai.service.job;
+
+import com.team2final.minglecrm.ai.service.summary.SummaryProgress;
+import com.team2final.minglecrm.review.domain.hotel.SummaryType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// 리뷰 요약 작업 실행. 요청 스레드는 작업만 등록하고, 모델 호출은 제한된 크기의 요약 작업 풀에서 시간 제한과 재시도를 두고 진행
+@Slf4j
+@Service
+public class ReviewSummaryJobEngine {
+
+    // 완료된 작업 상태를 보관하는 기간
+    private static final long RETENTION_HOURS = 24;
+    private static final long SSE_TIMEOUT_MILLIS = Duration.ofMinutes(10).toMillis();
+
+    @FunctionalInterface
+    public interface SummaryWork {
+        String run(Consumer<SummaryProgress> listener, Duration timeout);
+    }
+
+    private final ThreadPoolTaskExecutor reviewSummaryJobExecutor;
+    private final ThreadPoolTaskExecutor sseSendExecutor;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, ReviewSummaryJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${spring.ai.summary.job.max-attempts:2}")
+    private int maxAttempts;
+
+    @Value("${spring.ai.summary.job.timeout-seconds:120}")
+    private long timeoutSeconds;
+
+    @Value("${spring.ai.summary.job.retry-backoff-millis:1000}")
+    private long retryBackoffMillis;
+
+    // 끝난 작업을 이 수보다 많이 들고 있지 않음. 오래 끝난 작업부터 버림
+    @Value("${spring.ai.summary.job.max-retained:500}")
+    private int maxRetainedJobs;
+
+    @Value("${spring.ai.summary.job.subscriber-buffer-size:100}")
+    private int subscriberBufferSize;
+
+    public ReviewSummaryJobEngine(@Qualifier("reviewSummaryJobExecutor") ThreadPoolTaskExecutor reviewSummaryJobExecutor,
+                                  @Qualifier("sseSendExecutor") ThreadPoolTaskExecutor sseSendExecutor) {
+        this.reviewSummaryJobExecutor = reviewSummaryJobExecutor;
+        this.sseSendExecutor = sseSendExecutor;
+    }
+
+    public Long enqueue(String scope, String target, SummaryType summaryType, SummaryWork work) {
+        if (jobs.size() >= maxRetainedJobs) {
+            evictFinishedJobs();
+        }
+
+        ReviewSummaryJob job = new ReviewSummaryJob(sequence.incrementAndGet(), scope, target, summaryType,
+                sseSendExecutor, subscriberBufferSize);
+        jobs.put(job.getJobId(), job);
+
+        try {
+            reviewSummaryJobExecutor.execute(() -> run(job, work));
+        } catch (TaskRejectedException e) {
+            job.fail("요약 대기열이 가득 찼습니다.");
+            throw new IllegalStateException("요약 대기열이 가득 찼습니다.", e);
+        }
+        return job.getJobId();
+    }
+
+    public Optional<ReviewSummaryJob> getJob(Long jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public SseEmitter subscribe(Long jobId) {
+        ReviewSummaryJob job = getJob(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("없는 요약 작업입니다."));
+
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        emitter.onCompletion(() -> job.unsubscribe(emitter));
+        emitter.onTimeout(() -> job.unsubscribe(emitter));
+        emitter.onError(e -> job.unsubscribe(emitter));
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    private void run(ReviewSummaryJob job, SummaryWork work) {
+        Duration timeout = Duration.ofSeconds(timeoutSeconds);
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            job.startAttempt(attempt);
+            try {
+                job.complete(work.run(job::addProgress, timeout));
+                log.info("리뷰 요약 작업 완료 : job {}, 시도 {}회", job.getJobId(), attempt);
+                return;
+            } catch (IllegalArgumentException e) {
+                // 입력 문제는 다시 해도 같으므로 재시도하지 않음
+                job.fail(e.getMessage());
+                return;
+            } catch (RuntimeException e) {
+                log.warn("리뷰 요약 작업 실패 : job {}, 시도 {}/{}", job.getJobId(), attempt, maxAttempts, e);
+                if (attempt == maxAttempts) {
+                    job.fail(e.getMessage());
+                    return;
+                }
+                if (!sleep(retryBackoffMillis * attempt)) {
+                    job.fail("요약 작업이 중단되었습니다.");
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 요청이 끊겨도 메모리를 돌려받도록 주기적으로 정리. 보관 기간이 지났거나 보관 수를 넘긴 끝난 작업을 버림
+    @Scheduled(fixedDelayString = "${spring.ai.summary.job.eviction-interval-millis:600000}")
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusHours(RETENTION_HOURS);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedTime().isBefore(threshold));
+
+        int excess = jobs.size() - maxRetainedJobs;
+        if (excess > 0) {
+            jobs.values().stream()
+                    .filter(ReviewSummaryJob::isFinished)
+                    .sorted(Comparator.comparing(ReviewSummaryJob::getFinishedTime))
+                    .limit(excess)
+                    .map(ReviewSummaryJob::getJobId)
+                    .toList()
+                    .forEach(jobs::remove);
+        }
+    }
+
+    public int getRetainedJobCount() {
+        return jobs.size();
+    }
+}
@@ -0,0 +1,41 @@
+package com.team2final.minglecrm.ai.service.summary;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 묶음 요약 캐시. 키는 (프롬프트, 묶음 내용) 의 SHA-256 이라 어느 기간에서 나온 묶음이든 내용이 같으면 재사용
+public class ChunkSummaryCache {
+
+    private final Cache<String, String> summaries;
+
+    public ChunkSummaryCache(int maxEntries) {
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    public String get(String key) {
+        return summaries.getIfPresent(key);
+    }
+
+    public void put(String key, String summary) {
+        summaries.put(key, summary);
+    }
+
+    public static String key(String systemMessage, String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(systemMessage.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
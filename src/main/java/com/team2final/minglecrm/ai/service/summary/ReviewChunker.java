@@ -0,0 +1,56 @@
+package com.team2final.minglecrm.ai.service.summary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 리뷰 목록을 토큰 예산 안의 묶음으로 나눔.
+// 예산만으로 자르면 기간 시작점이 하루만 달라도 모든 묶음 경계가 밀리므로,
+// 리뷰 내용의 해시로도 경계를 정해 겹치는 기간끼리 같은 묶음(=같은 캐시 키)이 나오게 함
+public class ReviewChunker {
+
+    // 평균 8 개 리뷰마다 내용 기반 경계
+    private static final int BOUNDARY_MASK = 0x7;
+
+    private final int tokenBudget;
+    private final int minChunkTokens;
+
+    public ReviewChunker(int tokenBudget) {
+        if (tokenBudget <= 0) {
+            throw new IllegalArgumentException("토큰 예산은 0 보다 커야 합니다.");
+        }
+        this.tokenBudget = tokenBudget;
+        this.minChunkTokens = tokenBudget / 4;
+    }
+
+    public List<String> chunk(List<String> reviews) {
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int currentTokens = 0;
+
+        for (String review : reviews) {
+            if (review == null || review.isBlank()) {
+                continue;
+            }
+            String line = "- " + review.strip() + "\n";
+            int tokens = TokenEstimator.estimate(line);
+
+            if (currentTokens > 0 && currentTokens + tokens > tokenBudget) {
+                chunks.add(current.toString());
+                current.setLength(0);
+                currentTokens = 0;
+            }
+            current.append(line);
+            currentTokens += tokens;
+
+            if (currentTokens >= minChunkTokens && (line.hashCode() & BOUNDARY_MASK) == 0) {
+                chunks.add(current.toString());
+                current.setLength(0);
+                currentTokens = 0;
+            }
+        }
+        if (currentTokens > 0) {
+            chunks.add(current.toString());
+        }
+        return chunks;
+    }
+}
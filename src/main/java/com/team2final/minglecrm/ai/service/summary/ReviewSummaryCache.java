@@ -0,0 +1,112 @@
+package com.team2final.minglecrm.ai.service.summary;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team2final.minglecrm.employee.domain.repository.dao.RedisDao;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+// 최종 리뷰 요약 캐시. 로컬(Caffeine) -> Redis -> 모델 호출 순으로 찾고,
+// 같은 키로 동시에 들어온 요청은 처음 요청의 future 하나를 함께 기다림
+@Slf4j
+@Component
+public class ReviewSummaryCache {
+
+    private static final String REDIS_KEY_PREFIX = "review-summary:";
+
+    private final RedisDao redisDao;
+    private final Cache<String, String> localCache;
+    private final Duration redisTtl;
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    public ReviewSummaryCache(RedisDao redisDao,
+                              @Value("${spring.ai.summary.cache.local-max-size:500}") long localMaxSize,
+                              @Value("${spring.ai.summary.cache.local-ttl-minutes:60}") long localTtlMinutes,
+                              @Value("${spring.ai.summary.cache.redis-ttl-hours:24}") long redisTtlHours) {
+        this.redisDao = redisDao;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(localTtlMinutes))
+                .build();
+        this.redisTtl = Duration.ofHours(redisTtlHours);
+    }
+
+    public String getOrCompute(String key, Supplier<String> loader) {
+        String cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            // 직전에 다른 요청이 끝내고 in-flight 에서 빠졌을 수 있음
+            String summary = localCache.getIfPresent(key);
+            if (summary == null) {
+                summary = readRedis(key);
+            }
+            if (summary == null) {
+                summary = loader.get();
+                writeRedis(key, summary);
+            }
+            localCache.put(key, summary);
+            future.complete(summary);
+            return summary;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    public void evict(String key) {
+        localCache.invalidate(key);
+        try {
+            redisDao.deleteValues(REDIS_KEY_PREFIX + key);
+        } catch (RuntimeException e) {
+            log.warn("리뷰 요약 Redis 캐시 삭제 실패 : {}", e.getMessage());
+        }
+    }
+
+    // Redis 장애 시에는 로컬 캐시와 in-flight 공유만으로 동작
+    private String readRedis(String key) {
+        try {
+            return redisDao.getValues(REDIS_KEY_PREFIX + key);
+        } catch (RuntimeException e) {
+            log.warn("리뷰 요약 Redis 캐시 조회 실패 : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, String summary) {
+        try {
+            redisDao.setValues(REDIS_KEY_PREFIX + key, summary, redisTtl);
+        } catch (RuntimeException e) {
+            log.warn("리뷰 요약 Redis 캐시 저장 실패 : {}", e.getMessage());
+        }
+    }
+
+    private String join(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.team2final.minglecrm.ai.service.summary;
+
+import com.team2final.minglecrm.review.domain.hotel.SummaryType;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 요약 캐시 키. 기간이 아니라 실제로 요약에 들어간 리뷰 집합으로 정하므로
+// 기간이 달라도 리뷰가 같으면 같은 키, 리뷰가 추가 / 수정되면 다른 키가 됨
+public final class ReviewSummaryKey {
+
+    private ReviewSummaryKey() {
+    }
+
+    // target : 호텔 또는 레스토랑 이름 (전체는 "All"), 리뷰 본문 해시를 리뷰 버전으로 사용
+    public static String of(String scope, String target, SummaryType summaryType, List<Long> reviewIds, List<String> reviews) {
+        Map<Long, String> sorted = new TreeMap<>();
+        for (int i = 0; i < reviewIds.size(); i++) {
+            sorted.put(reviewIds.get(i), reviews.get(i));
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, scope);
+            update(digest, target);
+            update(digest, summaryType.name());
+            for (Map.Entry<Long, String> entry : sorted.entrySet()) {
+                update(digest, String.valueOf(entry.getKey()));
+                update(digest, entry.getValue());
+            }
+            return scope + ":" + HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+}
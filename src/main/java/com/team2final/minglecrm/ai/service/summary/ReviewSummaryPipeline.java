@@ -0,0 +1,153 @@
+package com.team2final.minglecrm.ai.service.summary;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// 리뷰 요약 map-reduce.
+// map : 리뷰를 토큰 예산 묶음으로 나눠 묶음마다 요약 (executor 크기만큼만 동시 호출)
+// reduce : 부분 요약들을 다시 예산 단위로 묶어 요약하기를 하나가 남을 때까지 반복
+@Slf4j
+public class ReviewSummaryPipeline {
+
+    private static final String REDUCE_INSTRUCTION = "아래 글들은 리뷰를 여러 묶음으로 나눠 각각 요약한 내용이야. 하나의 문단으로 합쳐서 요약해줘 \n";
+
+    private final ChatClient chatClient;
+    private final Executor executor;
+    private final ChunkSummaryCache cache;
+    private final ReviewChunker chunker;
+    private final int tokenBudget;
+
+    public ReviewSummaryPipeline(ChatClient chatClient, Executor executor, ChunkSummaryCache cache, int tokenBudget) {
+        this.chatClient = chatClient;
+        this.executor = executor;
+        this.cache = cache;
+        this.chunker = new ReviewChunker(tokenBudget);
+        this.tokenBudget = tokenBudget;
+    }
+
+    public String summarize(List<String> reviews, String systemMessage) {
+        return summarize(reviews, systemMessage, progress -> {}, null);
+    }
+
+    // listener 는 부분 요약이 나올 때마다 요약 스레드에서 호출됨. timeout 이 null 이면 제한 없음
+    public String summarize(List<String> reviews, String systemMessage, Consumer<SummaryProgress> listener, Duration timeout) {
+        List<String> chunks = chunker.chunk(reviews);
+        if (chunks.isEmpty()) {
+            throw new IllegalArgumentException("요약할 리뷰가 없습니다.");
+        }
+        long deadline = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+
+        List<String> summaries = summarizeAll(chunks, systemMessage, 0, listener, deadline);
+        String reduceMessage = systemMessage + REDUCE_INSTRUCTION;
+        int level = 0;
+        while (summaries.size() > 1) {
+            level++;
+            log.debug("리뷰 요약 reduce {} 단계 : 부분 요약 {}개", level, summaries.size());
+            summaries = summarizeAll(group(summaries), reduceMessage, level, listener, deadline);
+        }
+        return summaries.get(0);
+    }
+
+    // 입력 순서대로 결과를 돌려줌. 캐시에 있는 묶음은 호출하지 않음
+    // CompletableFuture 는 취소해도 실행 중인 스레드를 깨우지 않으므로 FutureTask 로 실행해 모델 호출 중인 묶음도 인터럽트함
+    private List<String> summarizeAll(List<String> contents, String systemMessage, int level,
+                                      Consumer<SummaryProgress> listener, long deadline) {
+        AtomicInteger completed = new AtomicInteger();
+        // 포기한 뒤 늦게 끝난 묶음이 다음 시도의 진행 상황에 섞이지 않게 함
+        AtomicBoolean abandoned = new AtomicBoolean();
+        List<Future<String>> futures = new ArrayList<>(contents.size());
+        for (String content : contents) {
+            String key = ChunkSummaryCache.key(systemMessage, content);
+            String cached = cache.get(key);
+            if (cached != null) {
+                listener.accept(new SummaryProgress(level, completed.incrementAndGet(), contents.size(), cached));
+                futures.add(CompletableFuture.completedFuture(cached));
+                continue;
+            }
+            FutureTask<String> task = new FutureTask<>(() -> {
+                String summary = call(systemMessage, content);
+                cache.put(key, summary);
+                if (!abandoned.get()) {
+                    listener.accept(new SummaryProgress(level, completed.incrementAndGet(), contents.size(), summary));
+                }
+                return summary;
+            });
+            futures.add(task);
+            executor.execute(task);
+        }
+
+        try {
+            List<String> summaries = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                summaries.add(deadline == 0
+                        ? future.get()
+                        : future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            }
+            return summaries;
+        } catch (TimeoutException e) {
+            cancelAll(futures, abandoned);
+            throw new IllegalStateException("리뷰 요약 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            cancelAll(futures, abandoned);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("리뷰 요약이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            cancelAll(futures, abandoned);
+            throw new RuntimeException("리뷰 요약 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    // 대기 중인 묶음은 실행되지 않고, 실행 중인 묶음은 인터럽트되어 작업 스레드를 바로 돌려줌
+    private void cancelAll(List<Future<String>> futures, AtomicBoolean abandoned) {
+        abandoned.set(true);
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    // 부분 요약을 예산 안에서 묶되, 단계마다 개수가 줄어들도록 최소 두 개씩은 묶음
+    private List<String> group(List<String> summaries) {
+        List<String> groups = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int currentTokens = 0;
+        int currentCount = 0;
+
+        for (String summary : summaries) {
+            String line = "- " + summary.strip() + "\n";
+            int tokens = TokenEstimator.estimate(line);
+            if (currentCount >= 2 && currentTokens + tokens > tokenBudget) {
+                groups.add(current.toString());
+                current.setLength(0);
+                currentTokens = 0;
+                currentCount = 0;
+            }
+            current.append(line);
+            currentTokens += tokens;
+            currentCount++;
+        }
+        if (currentCount > 0) {
+            groups.add(current.toString());
+        }
+        return groups;
+    }
+
+    private String call(String systemMessage, String content) {
+        Prompt prompt = new Prompt(List.of(new SystemMessage(systemMessage), new UserMessage(content)));
+        return chatClient.prompt(prompt).call().content();
+    }
+}
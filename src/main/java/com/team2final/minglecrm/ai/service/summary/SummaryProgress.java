@@ -0,0 +1,5 @@
+package com.team2final.minglecrm.ai.service.summary;
+
+// 요약 진행 상황. level 0 은 리뷰 묶음 요약(map), 1 부터는 부분 요약 합치기(reduce) 단계
+public record SummaryProgress(int level, int completed, int total, String partialSummary) {
+}
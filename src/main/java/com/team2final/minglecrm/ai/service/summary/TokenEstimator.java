@@ -0,0 +1,24 @@
+package com.team2final.minglecrm.ai.service.summary;
+
+// 토크나이저 없이 토큰 수를 넉넉하게 어림. 한글 등 비 ASCII 문자는 글자당 1 토큰, ASCII 는 4 글자당 1 토큰
+public final class TokenEstimator {
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int ascii = 0;
+        int nonAscii = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 128) {
+                ascii++;
+            } else {
+                nonAscii++;
+            }
+        }
+        return nonAscii + (ascii + 3) / 4;
+    }
+}
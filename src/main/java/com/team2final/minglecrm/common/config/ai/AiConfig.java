@@ -1,15 +1,67 @@
 package com.team2final.minglecrm.common.config.ai;
 
+import com.team2final.minglecrm.ai.service.summary.ChunkSummaryCache;
+import com.team2final.minglecrm.ai.service.summary.ReviewSummaryPipeline;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 public class AiConfig {
 
+    @Value("${spring.ai.summary.parallelism:4}")
+    private int parallelism;
+
+    @Value("${spring.ai.summary.chunk-token-budget:3000}")
+    private int chunkTokenBudget;
+
+    @Value("${spring.ai.summary.cache-size:1000}")
+    private int cacheSize;
+
+    @Value("${spring.ai.summary.job.workers:2}")
+    private int jobWorkers;
+
+    @Value("${spring.ai.summary.job.queue-capacity:50}")
+    private int jobQueueCapacity;
+
     @Bean
     ChatClient createChatClient(ChatClient.Builder builder) {
         return builder.build();
     }
 
+    // 묶음 요약 호출. 동시 호출 수를 parallelism 으로 제한하고 큐가 차면 요청 스레드가 직접 실행
+    @Bean
+    public ThreadPoolTaskExecutor reviewSummaryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 4);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("review_summary-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 요약 작업 실행. 대기열이 차면 거절해 웹 요청 스레드가 모델 호출을 떠안지 않게 함
+    @Bean
+    public ThreadPoolTaskExecutor reviewSummaryJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(jobWorkers);
+        executor.setMaxPoolSize(jobWorkers);
+        executor.setQueueCapacity(jobQueueCapacity);
+        executor.setThreadNamePrefix("review_summary_job-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ReviewSummaryPipeline reviewSummaryPipeline(ChatClient chatClient,
+                                                       @Qualifier("reviewSummaryExecutor") ThreadPoolTaskExecutor reviewSummaryExecutor) {
+        return new ReviewSummaryPipeline(chatClient, reviewSummaryExecutor, new ChunkSummaryCache(cacheSize), chunkTokenBudget);
+    }
 }
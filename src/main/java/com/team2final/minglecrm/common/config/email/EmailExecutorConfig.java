@@ -0,0 +1,42 @@
+package com.team2final.minglecrm.common.config.email;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class EmailExecutorConfig {
+
+    @Value("${spring.mail.bulk.workers:4}")
+    private int workers;
+
+    // SMTP 발송 작업. 큐가 차면 제출한 스레드가 직접 실행해 수신자 조회 속도를 늦춤
+    @Bean
+    public ThreadPoolTaskExecutor emailSendExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers * 2);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("email_send-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // 대량 발송 전체를 스케줄러, 요청 스레드 밖에서 진행
+    @Bean
+    public ThreadPoolTaskExecutor emailDispatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("email_dispatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
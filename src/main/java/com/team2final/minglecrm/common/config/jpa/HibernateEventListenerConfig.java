@@ -0,0 +1,57 @@
+package com.team2final.minglecrm.common.config.jpa;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+
+// 엔티티 변경 리스너 빈을 Hibernate 에 등록. Hibernate 는 Spring 빈을 찾지 않으므로 여기서 한 번에 붙임
+// PostCommit* 를 구현한 리스너는 커밋된 뒤에만 호출되어 롤백된 변경은 반영하지 않고, 나머지는 같은 트랜잭션 안에서 호출됨
+@Configuration
+@RequiredArgsConstructor
+public class HibernateEventListenerConfig {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectProvider<PostInsertEventListener> insertListeners;
+    private final ObjectProvider<PostUpdateEventListener> updateListeners;
+    private final ObjectProvider<PostDeleteEventListener> deleteListeners;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        insertListeners.orderedStream().forEach(listener -> {
+            if (listener instanceof PostCommitInsertEventListener postCommitListener) {
+                registry.appendListeners(EventType.POST_COMMIT_INSERT, postCommitListener);
+            } else {
+                registry.appendListeners(EventType.POST_INSERT, listener);
+            }
+        });
+        updateListeners.orderedStream().forEach(listener -> {
+            if (listener instanceof PostCommitUpdateEventListener postCommitListener) {
+                registry.appendListeners(EventType.POST_COMMIT_UPDATE, postCommitListener);
+            } else {
+                registry.appendListeners(EventType.POST_UPDATE, listener);
+            }
+        });
+        deleteListeners.orderedStream().forEach(listener -> {
+            if (listener instanceof PostCommitDeleteEventListener postCommitListener) {
+                registry.appendListeners(EventType.POST_COMMIT_DELETE, postCommitListener);
+            } else {
+                registry.appendListeners(EventType.POST_DELETE, listener);
+            }
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.team2final.minglecrm.common.config.sse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class SseConfig {
+
+    @Value("${spring.sse.sender-threads:8}")
+    private int senderThreads;
+
+    // SSE 전송. 구독자마다 대기 중인 작업은 하나뿐이라 작업 큐는 구독자 수를 넘지 않음
+    // 응답이 막힌 구독자가 스레드를 잡고 있어도 나머지는 구독자별 대기열에 쌓였다가, 차면 그 구독자가 끊김
+    @Bean
+    public ThreadPoolTaskExecutor sseSendExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(senderThreads);
+        executor.setMaxPoolSize(senderThreads);
+        executor.setThreadNamePrefix("sse_send-");
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,30 @@
+package com.team2final.minglecrm.common.lock;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 여러 인스턴스가 같은 작업을 동시에 돌리지 않도록 작업 이름마다 한 행을 두고 행 잠금을 잡음
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLock {
+
+    @Id
+    private String name;
+
+    // 마지막으로 잠금을 잡은 시각. 잠금 자체는 행 잠금이고 이 값은 확인용
+    private LocalDateTime lockedAt;
+
+    public JobLock(String name) {
+        this.name = name;
+    }
+
+    public void acquired(LocalDateTime lockedAt) {
+        this.lockedAt = lockedAt;
+    }
+}
@@ -0,0 +1,19 @@
+package com.team2final.minglecrm.common.lock;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    // SELECT ... FOR UPDATE. 다른 트랜잭션이 잡고 있으면 그 트랜잭션이 끝날 때까지 기다림
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM JobLock l WHERE l.name = :name")
+    Optional<JobLock> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,50 @@
+package com.team2final.minglecrm.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+// 작업 이름 별 DB 행 잠금. 잡은 잠금은 호출한 트랜잭션이 끝날 때 풀림
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobLockService {
+
+    private final JobLockRepository jobLockRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 다른 인스턴스가 같은 이름으로 잠금을 잡고 있으면 그쪽 트랜잭션이 끝날 때까지 기다림
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(String name) {
+        JobLock jobLock = jobLockRepository.findForUpdate(name).orElse(null);
+        if (jobLock == null) {
+            createIfAbsent(name);
+            jobLock = jobLockRepository.findForUpdate(name)
+                    .orElseThrow(() -> new IllegalStateException("작업 잠금 행을 만들지 못했습니다. " + name));
+        }
+        jobLock.acquired(LocalDateTime.now());
+    }
+
+    // 처음 쓰는 이름이면 잠금 행을 별도 트랜잭션으로 만듦. 다른 인스턴스가 먼저 만들었으면 그 행을 씀
+    private void createIfAbsent(String name) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!jobLockRepository.existsById(name)) {
+                    jobLockRepository.saveAndFlush(new JobLock(name));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("작업 잠금 행을 다른 인스턴스가 먼저 만듦 : {}", name);
+        }
+    }
+}
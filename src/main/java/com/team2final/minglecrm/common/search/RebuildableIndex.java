@@ -0,0 +1,94 @@
+package com.team2final.minglecrm.common.search;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 기동 시 DB 에서 채우고 이후 커밋된 변경을 바로 반영하는 메모리 색인
+// 다시 채우는 동안에는 기존 색인으로 검색하고, 새 색인을 다 채운 뒤에 바꿔 끼움
+// 그 사이 커밋된 변경은 두 색인에 모두 반영하고, 변경된 id 는 기억해 그보다 먼저 읽은 페이지 행이 새 값을 덮어쓰거나 지운 문서를 되살리지 않게 함
+public class RebuildableIndex<I> {
+
+    private final Supplier<I> factory;
+    private volatile I index;
+    // 아래 두 필드는 changedWhileRebuilding 의 잠금으로 보호
+    private I rebuilding;
+    private final Set<Long> changedWhileRebuilding = new HashSet<>();
+
+    public RebuildableIndex(Supplier<I> factory) {
+        this.factory = factory;
+        this.index = factory.get();
+    }
+
+    public I current() {
+        return index;
+    }
+
+    public boolean isRebuilding() {
+        synchronized (changedWhileRebuilding) {
+            return rebuilding != null;
+        }
+    }
+
+    // loader 는 lastId 다음부터 id 순으로 한 페이지를 읽음. pageSize 보다 적게 오면 끝. 새로 채운 색인을 돌려줌
+    public synchronized <R> I rebuild(int pageSize, Function<Long, List<R>> loader, Function<R, Long> idOf, BiConsumer<I, R> put) {
+        I fresh = factory.get();
+        synchronized (changedWhileRebuilding) {
+            changedWhileRebuilding.clear();
+            rebuilding = fresh;
+        }
+        try {
+            long lastId = 0L;
+            while (true) {
+                List<R> rows = loader.apply(lastId);
+                synchronized (changedWhileRebuilding) {
+                    for (R row : rows) {
+                        if (!changedWhileRebuilding.contains(idOf.apply(row))) {
+                            put.accept(fresh, row);
+                        }
+                    }
+                }
+                if (rows.size() < pageSize) {
+                    break;
+                }
+                lastId = idOf.apply(rows.get(rows.size() - 1));
+            }
+            index = fresh;
+        } finally {
+            synchronized (changedWhileRebuilding) {
+                rebuilding = null;
+                changedWhileRebuilding.clear();
+            }
+        }
+        return fresh;
+    }
+
+    // 문서 하나의 변경. 다시 채우는 중이면 새 색인에도 반영하고 id 를 기억함
+    public void write(Long id, Consumer<I> change) {
+        write(id, change, true);
+    }
+
+    // 여러 문서에 걸친 변경. 다시 채우는 중이면 새 색인에도 반영하지만 이후 페이지 행은 그대로 넣음
+    public void writeAll(Consumer<I> change) {
+        write(null, change, false);
+    }
+
+    private void write(Long id, Consumer<I> change, boolean remember) {
+        I current;
+        synchronized (changedWhileRebuilding) {
+            I pending = rebuilding;
+            current = index;
+            if (pending != null && pending != current) {
+                if (remember) {
+                    changedWhileRebuilding.add(id);
+                }
+                change.accept(pending);
+            }
+        }
+        change.accept(current);
+    }
+}
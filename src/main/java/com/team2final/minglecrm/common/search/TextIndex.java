@@ -0,0 +1,368 @@
+package com.team2final.minglecrm.common.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 본문 역색인. 검색어 토큰마다 (문서 번호, 위치) 목록을 int 배열로 들고 있음
+// 문서 번호는 추가 순서대로 매기므로 목록이 항상 정렬되어 있고, 수정/삭제는 옛 번호를 지우고 새 번호로 다시 넣음
+public class TextIndex {
+
+    // BM25 기본값
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 지운 문서가 이 수 이상이고 전체 문서 중 비율이 COMPACT_RATIO 를 넘으면 압축
+    private static final int COMPACT_MIN_DELETED = 1024;
+    private static final double COMPACT_RATIO = 0.25;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 한 글자 검색어를 그 글자로 시작하는 두 글자 토큰으로 넓히려고 정렬된 맵 사용
+    private final TreeMap<String, Postings> postingsByTerm = new TreeMap<>();
+    private final Map<Long, Integer> docById = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] ids = new long[1024];
+    private int[] docLengths = new int[1024];
+    private int docCount;
+    private int liveDocCount;
+    private long liveTokenCount;
+
+    public void add(Long id, String text) {
+        addTokens(id, TextTokenizer.tokenize(text));
+    }
+
+    public void add(Long id, List<String> fields) {
+        addTokens(id, TextTokenizer.tokenize(fields));
+    }
+
+    private void addTokens(Long id, List<TextToken> tokens) {
+        Map<String, List<Integer>> positionsByTerm = new LinkedHashMap<>();
+        for (TextToken token : tokens) {
+            positionsByTerm.computeIfAbsent(token.term(), term -> new ArrayList<>()).add(token.position());
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            if (tokens.isEmpty()) {
+                compactIfNeeded();
+                return;
+            }
+            int doc = docCount++;
+            if (doc == ids.length) {
+                ids = Arrays.copyOf(ids, doc * 2);
+                docLengths = Arrays.copyOf(docLengths, doc * 2);
+            }
+            ids[doc] = id;
+            docLengths[doc] = tokens.size();
+            docById.put(id, doc);
+            liveDocCount++;
+            liveTokenCount += tokens.size();
+
+            for (Map.Entry<String, List<Integer>> entry : positionsByTerm.entrySet()) {
+                postingsByTerm.computeIfAbsent(entry.getKey(), term -> new Postings()).add(doc, entry.getValue());
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postingsByTerm.clear();
+            docById.clear();
+            deleted.clear();
+            ids = new long[1024];
+            docLengths = new int[1024];
+            docCount = 0;
+            liveDocCount = 0;
+            liveTokenCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 지웠지만 아직 압축되지 않은 문서까지 포함한 문서 번호 수
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 따옴표로 묶은 구절과 나머지 단어를 모두 포함하는 문서를 점수 순으로. 단어 하나도 토큰 순서가 맞아야 함
+    public List<TextSearchHit> search(String query, int limit) {
+        List<List<TextToken>> clauses = TextQueryParser.parse(query);
+        if (clauses.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Clause> resolved = new ArrayList<>();
+            for (List<TextToken> tokens : clauses) {
+                Postings[] postings = new Postings[tokens.size()];
+                for (int i = 0; i < tokens.size(); i++) {
+                    postings[i] = lookup(tokens.get(i).term());
+                    if (postings[i] == null) {
+                        return List.of();
+                    }
+                }
+                resolved.add(new Clause(tokens, postings));
+            }
+            // 가장 드문 토큰의 문서 목록을 기준으로 나머지를 확인
+            Clause pivotClause = resolved.stream().min(Comparator.comparingInt(Clause::rarestSize)).orElseThrow();
+            Postings pivot = pivotClause.postings[pivotClause.rarest()];
+            double averageLength = liveDocCount == 0 ? 1 : (double) liveTokenCount / liveDocCount;
+
+            List<TextSearchHit> hits = new ArrayList<>();
+            for (int i = 0; i < pivot.size; i++) {
+                int doc = pivot.docs[i];
+                if (deleted.get(doc)) {
+                    continue;
+                }
+                double score = 0;
+                boolean matched = true;
+                for (Clause clause : resolved) {
+                    if (!clause.matches(doc)) {
+                        matched = false;
+                        break;
+                    }
+                    score += clause.score(doc, docLengths[doc], averageLength);
+                }
+                if (matched) {
+                    hits.add(new TextSearchHit(ids[doc], score));
+                }
+            }
+            hits.sort(Comparator.comparingDouble(TextSearchHit::score).reversed()
+                    .thenComparing(TextSearchHit::id, Comparator.reverseOrder()));
+            return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 한글 한 글자는 색인에서 두 글자 토큰의 앞 글자로만 남아 있으므로 그 글자로 시작하는 토큰을 합침
+    private Postings lookup(String term) {
+        if (term.length() != 1 || term.charAt(0) < '가' || term.charAt(0) > '힣') {
+            return postingsByTerm.get(term);
+        }
+        List<Postings> matches = new ArrayList<>(postingsByTerm.subMap(term, true, term + Character.MAX_VALUE, true).values());
+        if (matches.isEmpty()) {
+            return null;
+        }
+        return matches.size() == 1 ? matches.get(0) : Postings.union(matches);
+    }
+
+    private void removeLocked(Long id) {
+        Integer doc = docById.remove(id);
+        if (doc != null) {
+            deleted.set(doc);
+            liveDocCount--;
+            liveTokenCount -= docLengths[doc];
+        }
+    }
+
+    // 살아 있는 문서만 추가 순서를 유지한 채 번호를 다시 매김. 번호 순서가 그대로라 목록은 정렬된 채로 남음
+    private void compactIfNeeded() {
+        int deletedCount = docCount - liveDocCount;
+        if (deletedCount < COMPACT_MIN_DELETED || deletedCount < docCount * COMPACT_RATIO) {
+            return;
+        }
+        int[] renumbered = new int[docCount];
+        int live = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deleted.get(doc)) {
+                renumbered[doc] = -1;
+                continue;
+            }
+            renumbered[doc] = live;
+            ids[live] = ids[doc];
+            docLengths[live] = docLengths[doc];
+            docById.put(ids[live], live);
+            live++;
+        }
+        postingsByTerm.values().removeIf(postings -> !postings.renumber(renumbered));
+        deleted.clear();
+        docCount = live;
+    }
+
+    private double idf(Postings postings) {
+        // 지워진 문서도 목록에 남아 있어 문서 수는 근사치
+        int documentFrequency = Math.min(postings.size, liveDocCount);
+        return Math.log(1 + (liveDocCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private class Clause {
+
+        private final int[] offsets;
+        private final Postings[] postings;
+
+        private Clause(List<TextToken> tokens, Postings[] postings) {
+            this.offsets = tokens.stream().mapToInt(TextToken::position).toArray();
+            this.postings = postings;
+        }
+
+        private int rarest() {
+            int rarest = 0;
+            for (int i = 1; i < postings.length; i++) {
+                if (postings[i].size < postings[rarest].size) {
+                    rarest = i;
+                }
+            }
+            return rarest;
+        }
+
+        private int rarestSize() {
+            return postings[rarest()].size;
+        }
+
+        // 첫 토큰 위치에서 쿼리와 같은 간격으로 나머지 토큰이 모두 나오는지
+        private boolean matches(int doc) {
+            int[] slots = new int[postings.length];
+            for (int i = 0; i < postings.length; i++) {
+                slots[i] = postings[i].indexOf(doc);
+                if (slots[i] < 0) {
+                    return false;
+                }
+            }
+            Postings first = postings[0];
+            for (int p = first.positionStart(slots[0]); p < first.positionEnd(slots[0]); p++) {
+                int start = first.positions[p] - offsets[0];
+                boolean phrase = true;
+                for (int i = 1; i < postings.length && phrase; i++) {
+                    phrase = postings[i].hasPosition(slots[i], start + offsets[i]);
+                }
+                if (phrase) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private double score(int doc, int docLength, double averageLength) {
+            double score = 0;
+            for (Postings posting : postings) {
+                int slot = posting.indexOf(doc);
+                int frequency = posting.positionEnd(slot) - posting.positionStart(slot);
+                double norm = K1 * (1 - B + B * docLength / averageLength);
+                score += idf(posting) * frequency * (K1 + 1) / (frequency + norm);
+            }
+            return score;
+        }
+    }
+
+    // 한 토큰의 문서 번호(오름차순)와 문서 별 위치(오름차순)를 이어 붙인 배열
+    private static class Postings {
+
+        private int[] docs = new int[4];
+        private int[] positionStarts = new int[5];
+        private int[] positions = new int[8];
+        private int size;
+
+        private void add(int doc, List<Integer> docPositions) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                positionStarts = Arrays.copyOf(positionStarts, size * 2 + 1);
+            }
+            int start = positionStarts[size];
+            int end = start + docPositions.size();
+            if (end > positions.length) {
+                positions = Arrays.copyOf(positions, Math.max(end, positions.length * 2));
+            }
+            for (int i = 0; i < docPositions.size(); i++) {
+                positions[start + i] = docPositions.get(i);
+            }
+            docs[size] = doc;
+            positionStarts[size + 1] = end;
+            size++;
+        }
+
+        // 문서 번호 순으로 합치고 같은 문서의 위치는 정렬해 합침
+        private static Postings union(List<Postings> sources) {
+            Map<Integer, List<Integer>> positionsByDoc = new TreeMap<>();
+            for (Postings source : sources) {
+                for (int slot = 0; slot < source.size; slot++) {
+                    List<Integer> docPositions = positionsByDoc.computeIfAbsent(source.docs[slot], doc -> new ArrayList<>());
+                    for (int p = source.positionStart(slot); p < source.positionEnd(slot); p++) {
+                        docPositions.add(source.positions[p]);
+                    }
+                }
+            }
+            Postings union = new Postings();
+            for (Map.Entry<Integer, List<Integer>> entry : positionsByDoc.entrySet()) {
+                entry.getValue().sort(null);
+                union.add(entry.getKey(), entry.getValue());
+            }
+            return union;
+        }
+
+        // 지운 문서를 빼고 새 번호로 바꿈. 남은 문서가 없으면 false
+        private boolean renumber(int[] renumbered) {
+            int kept = 0;
+            int positionEnd = 0;
+            for (int slot = 0; slot < size; slot++) {
+                int doc = renumbered[docs[slot]];
+                if (doc < 0) {
+                    continue;
+                }
+                int start = positionStarts[slot];
+                int length = positionStarts[slot + 1] - start;
+                System.arraycopy(positions, start, positions, positionEnd, length);
+                docs[kept] = doc;
+                positionStarts[kept] = positionEnd;
+                positionEnd += length;
+                kept++;
+            }
+            positionStarts[kept] = positionEnd;
+            size = kept;
+            return kept > 0;
+        }
+
+        private int indexOf(int doc) {
+            int slot = Arrays.binarySearch(docs, 0, size, doc);
+            return slot < 0 ? -1 : slot;
+        }
+
+        private int positionStart(int slot) {
+            return positionStarts[slot];
+        }
+
+        private int positionEnd(int slot) {
+            return positionStarts[slot + 1];
+        }
+
+        private boolean hasPosition(int slot, int position) {
+            return Arrays.binarySearch(positions, positionStart(slot), positionEnd(slot), position) >= 0;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.team2final.minglecrm.common.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// "조식 맛" 처럼 따옴표로 묶은 부분은 한 구절, 나머지는 공백 단위 단어. 모두 포함해야 검색됨
+public final class TextQueryParser {
+
+    private TextQueryParser() {
+    }
+
+    public static List<List<TextToken>> parse(String query) {
+        List<List<TextToken>> clauses = new ArrayList<>();
+        if (query == null || query.isBlank()) {
+            return clauses;
+        }
+
+        StringBuilder words = new StringBuilder();
+        int index = 0;
+        while (index < query.length()) {
+            int open = query.indexOf('"', index);
+            if (open < 0) {
+                words.append(query, index, query.length()).append(' ');
+                break;
+            }
+            int close = query.indexOf('"', open + 1);
+            if (close < 0) {
+                // 닫히지 않은 따옴표는 일반 단어로 봄
+                words.append(query, index, query.length()).append(' ');
+                break;
+            }
+            words.append(query, index, open).append(' ');
+            addClause(clauses, query.substring(open + 1, close));
+            index = close + 1;
+        }
+
+        for (String word : words.toString().split("\\s+")) {
+            addClause(clauses, word);
+        }
+        return clauses;
+    }
+
+    private static void addClause(List<List<TextToken>> clauses, String text) {
+        List<TextToken> tokens = TextTokenizer.tokenize(text);
+        if (!tokens.isEmpty()) {
+            clauses.add(tokens);
+        }
+    }
+}
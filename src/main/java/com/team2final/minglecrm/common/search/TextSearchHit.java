@@ -0,0 +1,4 @@
+package com.team2final.minglecrm.common.search;
+
+public record TextSearchHit(Long id, double score) {
+}
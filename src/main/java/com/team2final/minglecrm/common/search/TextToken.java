@@ -0,0 +1,5 @@
+package com.team2final.minglecrm.common.search;
+
+// position 은 공백을 한 칸으로 접은 정규화 문자열에서의 글자 위치. 구절 검색은 위치 차이로 판단
+public record TextToken(String term, int position) {
+}
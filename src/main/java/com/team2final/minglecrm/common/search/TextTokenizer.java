@@ -0,0 +1,91 @@
+package com.team2final.minglecrm.common.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 한글은 조사, 어미가 붙어 어절 단위로는 찾기 어려우므로 두 글자씩 겹쳐 자름 (조식이 -> 조식, 식이)
+// 영문, 숫자는 단어 단위 소문자. 한 글자 한글 어절은 그대로 한 토큰
+public final class TextTokenizer {
+
+    // 필드 사이 위치 간격. 구절 검색이 필드 경계를 넘어 맞지 않도록 충분히 띄움
+    private static final int FIELD_GAP = 1000;
+
+    private TextTokenizer() {
+    }
+
+    // 제목, 본문처럼 여러 필드를 한 문서로 색인할 때 사용
+    public static List<TextToken> tokenize(List<String> fields) {
+        List<TextToken> tokens = new ArrayList<>();
+        int offset = 0;
+        for (String field : fields) {
+            List<TextToken> fieldTokens = tokenize(field);
+            for (TextToken token : fieldTokens) {
+                tokens.add(new TextToken(token.term(), offset + token.position()));
+            }
+            if (!fieldTokens.isEmpty()) {
+                offset += fieldTokens.get(fieldTokens.size() - 1).position() + FIELD_GAP;
+            }
+        }
+        return tokens;
+    }
+
+    public static List<TextToken> tokenize(String text) {
+        List<TextToken> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        // 전각 영문, 호환용 자모 등을 같은 글자로 맞춤
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        int position = 0;
+        int index = 0;
+        boolean separated = false;
+        while (index < normalized.length()) {
+            char c = normalized.charAt(index);
+            if (isHangul(c)) {
+                int end = index;
+                while (end < normalized.length() && isHangul(normalized.charAt(end))) {
+                    end++;
+                }
+                addHangul(tokens, normalized, index, end, position);
+                position += end - index;
+                index = end;
+                separated = false;
+            } else if (Character.isLetterOrDigit(c)) {
+                int end = index;
+                while (end < normalized.length() && !isHangul(normalized.charAt(end))
+                        && Character.isLetterOrDigit(normalized.charAt(end))) {
+                    end++;
+                }
+                tokens.add(new TextToken(normalized.substring(index, end), position));
+                position += end - index;
+                index = end;
+                separated = false;
+            } else {
+                // 연속된 공백, 문장 부호는 한 칸으로 셈
+                if (!separated) {
+                    position++;
+                    separated = true;
+                }
+                index++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addHangul(List<TextToken> tokens, String text, int start, int end, int position) {
+        if (end - start == 1) {
+            tokens.add(new TextToken(text.substring(start, end), position));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(new TextToken(text.substring(i, i + 2), position + (i - start)));
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
@@ -0,0 +1,132 @@
+package com.team2final.minglecrm.common.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+// SSE 구독자 하나의 전송 대기열. 이벤트를 만드는 스레드는 넣기만 하고 소켓 쓰기는 전송 풀에서 처리
+// 구독자마다 전송 작업은 한 번에 하나라 순서가 유지되고, 느린 구독자는 자기 대기열만 채움
+@Slf4j
+public class SseSubscriber {
+
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Executor sender;
+    // 전송 실패로 끊겼을 때 목록에서 빼도록 알림
+    private final Runnable onDisconnect;
+    private final ArrayDeque<SseEmitter.SseEventBuilder> pending = new ArrayDeque<>();
+    // 대기열 앞쪽에 남은 지난 이벤트 수. 대기열 크기 제한에서 뺌
+    private int backlog;
+    private boolean draining;
+    // 더 받지 않고 남은 이벤트까지 보낸 뒤 닫음
+    private boolean finishing;
+    // 남은 이벤트를 버리고 닫음
+    private boolean closed;
+    private boolean completeOnClose;
+
+    public SseSubscriber(SseEmitter emitter, int capacity, Executor sender, Runnable onDisconnect) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.sender = sender;
+        this.onDisconnect = onDisconnect;
+    }
+
+    public SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    // 구독 직후 다시 보낼 지난 이벤트. 대기열 크기와 관계없이 모두 넣고, 새 이벤트만 capacity 로 제한
+    public synchronized void replay(List<SseEmitter.SseEventBuilder> events) {
+        if (closed || finishing || events.isEmpty()) {
+            return;
+        }
+        pending.addAll(events);
+        backlog += events.size();
+        scheduleDrain();
+    }
+
+    // 닫혔거나 새 이벤트 대기열이 차 있으면 false
+    public synchronized boolean offer(SseEmitter.SseEventBuilder event) {
+        if (closed || finishing || pending.size() - backlog >= capacity) {
+            return false;
+        }
+        pending.addLast(event);
+        scheduleDrain();
+        return true;
+    }
+
+    // 대기 중인 이벤트까지 보낸 뒤 연결을 정상 종료
+    public synchronized void finish() {
+        if (closed || finishing) {
+            return;
+        }
+        finishing = true;
+        scheduleDrain();
+    }
+
+    // 보내는 중이던 이벤트가 끝나면 전송 스레드에서 닫음. 이미 끊긴 연결이면 complete 하지 않음
+    public synchronized void close(boolean complete) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        completeOnClose = complete;
+        pending.clear();
+        backlog = 0;
+        scheduleDrain();
+    }
+
+    public synchronized boolean isClosed() {
+        return closed || finishing;
+    }
+
+    private void scheduleDrain() {
+        if (!draining) {
+            draining = true;
+            sender.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        boolean complete;
+        while (true) {
+            SseEmitter.SseEventBuilder event;
+            synchronized (this) {
+                event = closed ? null : pending.pollFirst();
+                if (event == null) {
+                    draining = false;
+                    if (!closed && !finishing) {
+                        return;
+                    }
+                    complete = closed ? completeOnClose : true;
+                    closed = true;
+                    completeOnClose = false;
+                    break;
+                }
+                if (backlog > 0) {
+                    backlog--;
+                }
+            }
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 구독 종료 : {}", e.getMessage());
+                synchronized (this) {
+                    closed = true;
+                    pending.clear();
+                    backlog = 0;
+                    draining = false;
+                }
+                onDisconnect.run();
+                return;
+            }
+        }
+        if (complete) {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.team2final.minglecrm.customer.domain;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+// 연령대 = 기준 연도 - 출생 연도. 하루 중에는 결과가 바뀌지 않고 출생 연도 인덱스 범위로 바로 찾음
+@Getter
+public enum AgeGroup {
+    TWENTIES("20s", 20, 29),
+    THIRTIES("30s", 30, 39),
+    FORTIES("40s", 40, 49),
+    FIFTIES("50s", 50, 59),
+    OVER_SIXTY("60s", 60, null);
+
+    private final String code;
+    private final int minAge;
+    private final Integer maxAge;
+
+    AgeGroup(String code, int minAge, Integer maxAge) {
+        this.code = code;
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+    }
+
+    // 20세 미만이거나 기준 연도보다 늦은 출생 연도는 어느 연령대에도 속하지 않음
+    public static Optional<AgeGroup> of(Integer birthYear, int baseYear) {
+        return Arrays.stream(values())
+                .filter(ageGroup -> ageGroup.contains(birthYear, baseYear))
+                .findFirst();
+    }
+
+    public static Optional<AgeGroup> fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(ageGroup -> ageGroup.code.equals(code))
+                .findFirst();
+    }
+
+    // 60s 는 하한이 없으므로 null
+    public Integer minBirthYear(int baseYear) {
+        return maxAge == null ? null : baseYear - maxAge;
+    }
+
+    public int maxBirthYear(int baseYear) {
+        return baseYear - minAge;
+    }
+
+    public boolean contains(Integer birthYear, int baseYear) {
+        if (birthYear == null) {
+            return false;
+        }
+        Integer minBirthYear = minBirthYear(baseYear);
+        return (minBirthYear == null || birthYear >= minBirthYear) && birthYear <= maxBirthYear(baseYear);
+    }
+}
@@ -18,6 +18,13 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 연령대 검색, 통계는 출생 연도 범위로 찾음. 성별/등급이 같이 오는 조건은 복합 인덱스로
+@Table(indexes = {
+        @Index(name = "idx_customer_name", columnList = "name"),
+        @Index(name = "idx_customer_birth_year_gender", columnList = "birth_year, gender"),
+        @Index(name = "idx_customer_gender_birth_year_visit_cnt", columnList = "gender, birth_year, visit_cnt"),
+        @Index(name = "idx_customer_grade_gender_birth_year", columnList = "grade, gender, birth_year")
+})
 public class Customer {
 
     @Id
@@ -45,6 +52,10 @@ public class Customer {
 
     private LocalDate birth;
 
+    // birth 에서 파생. 기존 행은 customerBirthYearBackfillJob 으로 채움
+    @Column(name = "birth_year")
+    private Integer birthYear;
+
     private LocalDate createdDate;
 
     @OneToOne(mappedBy = "customer")
@@ -86,6 +97,7 @@ public class Customer {
         this.memo = memo;
         this.gender = gender;
         this.birth = birth;
+        this.birthYear = birth == null ? null : birth.getYear();
         this.reward = reward;
         this.isDeleted = isDeleted;
 
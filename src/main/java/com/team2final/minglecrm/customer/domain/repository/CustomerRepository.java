@@ -2,12 +2,15 @@ package com.team2final.minglecrm.customer.domain.repository;
 
 import aj.org.objectweb.asm.commons.Remapper;
 import com.team2final.minglecrm.customer.domain.Customer;
+import com.team2final.minglecrm.customer.service.search.CustomerLookupEntry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,4 +27,20 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
     @Query("SELECT c FROM Customer c JOIN FETCH c.employee")
     Page<Customer> findAllCustomersWithEmployees(Pageable pageable);
+
+    // [email, id]
+    @Query("SELECT c.email, c.id FROM Customer c WHERE c.email IN :emails")
+    List<Object[]> findIdsByEmailIn(Collection<String> emails);
+
+    // 검색 색인을 다시 만들 때 id 순으로 나눠 읽음
+    @Query("SELECT new com.team2final.minglecrm.customer.service.search.CustomerLookupEntry(" +
+            "c.id, c.name, c.email, c.phone, c.grade, c.gender, c.birth) " +
+            "FROM Customer c WHERE c.id > :lastId ORDER BY c.id")
+    List<CustomerLookupEntry> findLookupEntriesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 커밋 뒤 리스너에서 영속성 컨텍스트의 프록시를 거치지 않고 바로 읽음
+    @Query("SELECT new com.team2final.minglecrm.customer.service.search.CustomerLookupEntry(" +
+            "c.id, c.name, c.email, c.phone, c.grade, c.gender, c.birth) " +
+            "FROM Customer c WHERE c.id = :id")
+    Optional<CustomerLookupEntry> findLookupEntry(@Param("id") Long id);
 }
@@ -1,21 +1,18 @@
 package com.team2final.minglecrm.customer.domain.repository;
 
-import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.CaseBuilder;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.NumberTemplate;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.team2final.minglecrm.customer.domain.AgeGroup;
 import com.team2final.minglecrm.customer.domain.QCustomer;
 import com.team2final.minglecrm.customer.dto.request.CustomerSearchCondition;
 import com.team2final.minglecrm.customer.dto.response.CustomerResponse;
 import com.team2final.minglecrm.customer.dto.response.QCustomerResponse;
-import com.team2final.minglecrm.statistics.dto.response.customer.QRevisitCustomerStatisticsResponse;
-import com.team2final.minglecrm.statistics.dto.response.customer.RevisitCustomerStatisticsResponse;
+import com.team2final.minglecrm.employee.domain.QEmployee;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -31,21 +28,11 @@ public class CustomerSearchRepository {
         this.queryFactory = new JPAQueryFactory(em);
     }
 
+    // 부분 일치 조건이 없는 검색. 건수 쿼리는 필요할 때만 실행
     public Page<CustomerResponse> search(CustomerSearchCondition condition, Pageable pageable) {
         QCustomer customer = QCustomer.customer;
 
-        List<CustomerResponse> results = queryFactory
-                .select(new QCustomerResponse(
-                        customer.id,
-                        customer.name,
-                        customer.email,
-                        customer.phone,
-                        customer.employee.name,
-                        customer.grade,
-                        customer.gender,
-                        customer.birth
-                ))
-                .from(customer)
+        List<CustomerResponse> results = selectCustomerResponse()
                 .where(
                         customerNameEq(condition.getCustomerName()),
                         customerGradeEq(condition.getGrade()),
@@ -53,12 +40,13 @@ public class CustomerSearchRepository {
                         customerEmailEq(condition.getEmail()),
                         ageGroupEq(condition.getAgeGroup())
                 )
+                .orderBy(customer.id.asc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        long totalCount = queryFactory
-                .select(customer)
+        JPAQuery<Long> countQuery = queryFactory
+                .select(customer.count())
                 .from(customer)
                 .where(
                         customerNameEq(condition.getCustomerName()),
@@ -66,165 +54,59 @@ public class CustomerSearchRepository {
                         genderEq(condition.getGender()),
                         customerEmailEq(condition.getEmail()),
                         ageGroupEq(condition.getAgeGroup())
-                )
-                .fetchCount();
+                );
 
-        return new PageImpl<>(results, pageable, totalCount);
+        return PageableExecutionUtils.getPage(results, pageable, countQuery::fetchOne);
     }
 
-    private BooleanExpression ageGroupEq(String ageGroup) {
-        if (ageGroup == null) {
-            return null;
+    // 검색 색인이 고른 한 페이지 분량의 고객. id 오름차순
+    public List<CustomerResponse> findByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
-        LocalDate now = LocalDate.now();
-        return switch (ageGroup) {
-            case "20s" -> QCustomer.customer.birth.between(now.minusYears(30), now.minusYears(20));
-            case "30s" -> QCustomer.customer.birth.between(now.minusYears(40), now.minusYears(30));
-            case "40s" -> QCustomer.customer.birth.between(now.minusYears(50), now.minusYears(40));
-            case "50s" -> QCustomer.customer.birth.between(now.minusYears(60), now.minusYears(50));
-            case "60s" -> QCustomer.customer.birth.before(now.minusYears(60));
-            default -> null;
-        };
+        QCustomer customer = QCustomer.customer;
+        return selectCustomerResponse()
+                .where(customer.id.in(ids))
+                .orderBy(customer.id.asc())
+                .fetch();
     }
 
-    public RevisitCustomerStatisticsResponse findRevisitCustomerStatistics() {
-
+    // 담당 직원이 없는 고객도 건수와 목록이 맞도록 외부 조인
+    private JPAQuery<CustomerResponse> selectCustomerResponse() {
         QCustomer customer = QCustomer.customer;
-
-        BooleanBuilder builder = new BooleanBuilder();
-
-
-        NumberTemplate<Integer> age = Expressions.numberTemplate(Integer.class,
-                "TIMESTAMPDIFF(YEAR, {0}, {1})", customer.birth, LocalDate.now());
-
-
+        QEmployee employee = QEmployee.employee;
         return queryFactory
-                .select(new QRevisitCustomerStatisticsResponse(
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.between(20, 29).and(customer.gender.eq("Male"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.between(20, 29).and(customer.gender.eq("Female"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.between(30, 39).and(customer.gender.eq("Male"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.between(30, 39).and(customer.gender.eq("Female"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.between(40, 49).and(customer.gender.eq("Male"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.between(40, 49).and(customer.gender.eq("Female"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.between(50, 59).and(customer.gender.eq("Male"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.between(50, 59).and(customer.gender.eq("Female"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.notBetween(0, 59).and(customer.gender.eq("Male"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.notBetween(0, 59).and(customer.gender.eq("Female"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        )
+                .select(new QCustomerResponse(
+                        customer.id,
+                        customer.name,
+                        customer.email,
+                        customer.phone,
+                        employee.name,
+                        customer.grade,
+                        customer.gender,
+                        customer.birth
                 ))
                 .from(customer)
-                .where(customer.visitCnt.gt(1))
-                .fetchOne();
-
+                .leftJoin(customer.employee, employee);
     }
 
-    public RevisitCustomerStatisticsResponse findVisitCustomerStatistics() {
+    // 출생 연도 범위 조건이라 idx_customer_birth_year_gender 등 복합 인덱스 범위 검색으로 처리
+    private BooleanExpression ageGroupEq(String ageGroup) {
+        if (ageGroup == null) {
+            return null;
+        }
+        int baseYear = LocalDate.now().getYear();
+        return AgeGroup.fromCode(ageGroup)
+                .map(group -> birthYearIn(group, baseYear))
+                .orElse(null);
+    }
 
+    private BooleanExpression birthYearIn(AgeGroup ageGroup, int baseYear) {
         QCustomer customer = QCustomer.customer;
-
-        BooleanBuilder builder = new BooleanBuilder();
-
-
-        NumberTemplate<Integer> age = Expressions.numberTemplate(Integer.class,
-                "TIMESTAMPDIFF(YEAR, {0}, {1})", customer.birth, LocalDate.now());
-
-
-        return queryFactory
-                .select(new QRevisitCustomerStatisticsResponse(
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.between(20, 29).and(customer.gender.eq("Male"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.between(20, 29).and(customer.gender.eq("Female"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.between(30, 39).and(customer.gender.eq("Male"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.between(30, 39).and(customer.gender.eq("Female"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.between(40, 49).and(customer.gender.eq("Male"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.between(40, 49).and(customer.gender.eq("Female"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.between(50, 59).and(customer.gender.eq("Male"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.between(50, 59).and(customer.gender.eq("Female"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.notBetween(0, 59).and(customer.gender.eq("Male"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        ),
-                        Expressions.asNumber(
-                                new CaseBuilder()
-                                        .when(age.notBetween(0, 59).and(customer.gender.eq("Female"))).then(1)
-                                        .otherwise(0).sum().intValue()
-                        )
-                ))
-                .from(customer)
-                .where(customer.visitCnt.gt(0))
-                .fetchOne();
-
+        Integer minBirthYear = ageGroup.minBirthYear(baseYear);
+        return minBirthYear == null
+                ? customer.birthYear.loe(ageGroup.maxBirthYear(baseYear))
+                : customer.birthYear.between(minBirthYear, ageGroup.maxBirthYear(baseYear));
     }
 
     private BooleanExpression customerEmailEq(String customerEmail) {
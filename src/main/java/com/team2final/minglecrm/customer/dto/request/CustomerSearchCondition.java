@@ -16,4 +16,11 @@ public class CustomerSearchCondition {
     private String email;
 
     private String ageGroup;
+
+    private String phone;
+
+    // 이름, 이메일, 전화번호 부분 일치 조건이 있으면 n-gram 색인으로 검색
+    public boolean hasContainsCondition() {
+        return customerName != null || email != null || phone != null;
+    }
 }
@@ -35,9 +35,10 @@ public class CustomerApi {
             @RequestParam(value = "grade", required = false) String grade,
             @RequestParam(value = "gender", required = false) String gender,
             @RequestParam(value = "email", required = false) String email,
-            @RequestParam(value = "ageGroup", required = false) String ageGroup
+            @RequestParam(value = "ageGroup", required = false) String ageGroup,
+            @RequestParam(value = "phone", required = false) String phone
     ) {
-        CustomerSearchCondition condition = new CustomerSearchCondition(name, grade, gender, email, ageGroup);
+        CustomerSearchCondition condition = new CustomerSearchCondition(name, grade, gender, email, ageGroup, phone);
         Page<CustomerResponse> customers = customerService.search(pageable, condition);
         return ResponseEntity.ok(customers);
     }
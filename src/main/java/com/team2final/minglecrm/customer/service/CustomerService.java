@@ -8,6 +8,8 @@ import com.team2final.minglecrm.customer.dto.request.CustomerSearchCondition;
 import com.team2final.minglecrm.customer.dto.request.CustomerUpdateRequest;
 import com.team2final.minglecrm.customer.dto.response.CustomerDetailResponse;
 import com.team2final.minglecrm.customer.dto.response.CustomerResponse;
+import com.team2final.minglecrm.customer.service.search.CustomerLookupResult;
+import com.team2final.minglecrm.customer.service.search.CustomerLookupService;
 import com.team2final.minglecrm.employee.domain.repository.EmployeeRepository;
 import com.team2final.minglecrm.log.service.view.ViewLogService;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +32,7 @@ public class CustomerService {
     private final CustomerRepository customerRepository;
     private final ViewLogService viewLogService;
     private final CustomerSearchRepository customerSearchRepository;
+    private final CustomerLookupService customerLookupService;
 
 
     @Transactional(readOnly = true)
@@ -83,7 +86,12 @@ public class CustomerService {
 
     public Page<CustomerResponse> search(Pageable pageable, CustomerSearchCondition condition) {
         pageable = pageable == null ? PageRequest.of(0, 5) : pageable;
-        return customerSearchRepository.search(condition, pageable);
+        if (!condition.hasContainsCondition()) {
+            return customerSearchRepository.search(condition, pageable);
+        }
+        // LIKE '%...%' 는 인덱스를 못 타므로 n-gram 색인에서 id 를 고르고 해당 페이지만 DB 에서 읽음
+        CustomerLookupResult result = customerLookupService.search(condition, pageable);
+        return new PageImpl<>(customerSearchRepository.findByIds(result.pageIds()), pageable, result.total());
     }
 
 }
\ No newline at end of file
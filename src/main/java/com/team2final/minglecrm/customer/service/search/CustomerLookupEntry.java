@@ -0,0 +1,13 @@
+package com.team2final.minglecrm.customer.service.search;
+
+import java.time.LocalDate;
+
+// 검색 색인에 올리는 고객 필드. 이름, 이메일, 전화번호는 부분 일치, 나머지는 같은 값 비교
+public record CustomerLookupEntry(Long id,
+                                  String name,
+                                  String email,
+                                  String phone,
+                                  String grade,
+                                  String gender,
+                                  LocalDate birth) {
+}
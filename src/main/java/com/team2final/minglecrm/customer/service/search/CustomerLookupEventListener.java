@@ -0,0 +1,61 @@
+package com.team2final.minglecrm.customer.service.search;
+
+import com.team2final.minglecrm.customer.domain.Customer;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+// 고객 등록, 수정, 삭제가 커밋된 뒤에 검색 색인에 반영
+@Component
+@RequiredArgsConstructor
+public class CustomerLookupEventListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final CustomerLookupService customerLookupService;
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        put(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        put(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Customer customer) {
+            customerLookupService.remove(customer.getId());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return Customer.class.equals(persister.getMappedClass());
+    }
+
+    private void put(Object entity) {
+        if (entity instanceof Customer customer) {
+            customerLookupService.put(new CustomerLookupEntry(customer.getId(), customer.getName(), customer.getEmail(),
+                    customer.getPhone(), customer.getGrade(), customer.getGender(), customer.getBirth()));
+        }
+    }
+}
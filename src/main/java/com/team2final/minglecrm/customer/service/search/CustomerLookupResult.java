@@ -0,0 +1,7 @@
+package com.team2final.minglecrm.customer.service.search;
+
+import java.util.List;
+
+// 조건에 맞는 전체 건수와 요청한 페이지의 고객 id (id 오름차순)
+public record CustomerLookupResult(long total, List<Long> pageIds) {
+}
@@ -0,0 +1,44 @@
+package com.team2final.minglecrm.customer.service.search;
+
+import com.team2final.minglecrm.common.search.RebuildableIndex;
+import com.team2final.minglecrm.customer.domain.repository.CustomerRepository;
+import com.team2final.minglecrm.customer.dto.request.CustomerSearchCondition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+// 고객 이름, 이메일, 전화번호 부분 일치 검색
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerLookupService {
+
+    private static final int REBUILD_PAGE_SIZE = 5000;
+
+    private final CustomerRepository customerRepository;
+    private final RebuildableIndex<CustomerNgramIndex> index = new RebuildableIndex<>(CustomerNgramIndex::new);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        CustomerNgramIndex rebuilt = index.rebuild(REBUILD_PAGE_SIZE,
+                lastId -> customerRepository.findLookupEntriesAfter(lastId, PageRequest.of(0, REBUILD_PAGE_SIZE)),
+                CustomerLookupEntry::id, CustomerNgramIndex::put);
+        log.info("고객 검색 색인 완료 : {}명", rebuilt.size());
+    }
+
+    public CustomerLookupResult search(CustomerSearchCondition condition, Pageable pageable) {
+        return index.current().search(condition, pageable.getOffset(), pageable.getPageSize());
+    }
+
+    public void put(CustomerLookupEntry entry) {
+        index.write(entry.id(), target -> target.put(entry));
+    }
+
+    public void remove(Long customerId) {
+        index.write(customerId, target -> target.remove(customerId));
+    }
+}
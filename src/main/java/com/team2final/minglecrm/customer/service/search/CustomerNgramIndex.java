@@ -0,0 +1,304 @@
+package com.team2final.minglecrm.customer.service.search;
+
+import com.team2final.minglecrm.customer.domain.AgeGroup;
+import com.team2final.minglecrm.customer.dto.request.CustomerSearchCondition;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 고객 이름, 이메일, 전화번호 부분 일치 검색용 n-gram 색인
+// 이름은 짧은 검색어(성, 이름 두 글자)가 많아 1~3 글자 조각을 모두, 이메일과 전화번호는 3 글자 조각만 색인
+// 조각 목록으로 후보를 좁힌 뒤 실제 문자열로 한 번 더 확인하므로 결과는 LIKE '%검색어%' 와 같음
+// 고객이 바뀌면 이전 문서는 지움 표시만 하고 새 문서를 붙이므로, 지운 문서 비율이 높아지면 살아 있는 문서만으로 다시 만듦
+public class CustomerNgramIndex {
+
+    private static final int GRAM = 3;
+    private static final int MAX_INTERSECTED_LISTS = 3;
+    // 지운 문서가 이 수 이상이고 전체 문서 중 비율이 COMPACT_RATIO 를 넘으면 압축
+    private static final int COMPACT_MIN_DELETED = 1024;
+    private static final double COMPACT_RATIO = 0.25;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IntList> nameGrams = new HashMap<>();
+    private final Map<String, IntList> emailGrams = new HashMap<>();
+    private final Map<String, IntList> phoneGrams = new HashMap<>();
+    private final Map<Long, Integer> docByCustomerId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private final List<CustomerLookupEntry> entries = new ArrayList<>();
+    private final List<String[]> normalized = new ArrayList<>();
+    private int deletedCount;
+
+    public void put(CustomerLookupEntry entry) {
+        String name = normalize(entry.name());
+        String email = normalize(entry.email());
+        String phone = digits(entry.phone());
+
+        lock.writeLock().lock();
+        try {
+            // 메모, 담당 직원 등 색인하지 않는 필드만 바뀌었으면 조각은 그대로 두고 등급, 성별, 생일만 바꿈
+            Integer current = docByCustomerId.get(entry.id());
+            if (current != null && Arrays.equals(normalized.get(current), new String[]{name, email, phone})) {
+                entries.set(current, entry);
+                return;
+            }
+            removeLocked(entry.id());
+            addLocked(entry, name, email, phone);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long customerId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(customerId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 지운 문서까지 포함한 문서 수
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByCustomerId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public CustomerLookupResult search(CustomerSearchCondition condition, long offset, int limit) {
+        String name = normalize(condition.getCustomerName());
+        String email = normalize(condition.getEmail());
+        String phoneDigits = digits(condition.getPhone());
+        // 숫자가 없는 전화번호 검색어는 어떤 번호와도 맞지 않음. 조건을 버리면 전체 고객이 나오므로 빈 결과
+        if (phoneDigits == null && condition.getPhone() != null && !condition.getPhone().isEmpty()) {
+            return new CustomerLookupResult(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] candidates = candidates(name, email, phoneDigits);
+            List<Long> matched = new ArrayList<>();
+            int baseYear = LocalDate.now().getYear();
+            for (int doc : candidates) {
+                if (deleted.get(doc)) {
+                    continue;
+                }
+                String[] values = normalized.get(doc);
+                CustomerLookupEntry entry = entries.get(doc);
+                if (contains(values[0], name) && contains(values[1], email) && contains(values[2], phoneDigits)
+                        && equalsIfPresent(entry.grade(), condition.getGrade())
+                        && equalsIfPresent(entry.gender(), condition.getGender())
+                        && inAgeGroup(entry.birth(), condition.getAgeGroup(), baseYear)) {
+                    matched.add(entry.id());
+                }
+            }
+            matched.sort(null);
+
+            int from = (int) Math.min(offset, matched.size());
+            int to = (int) Math.min(offset + limit, matched.size());
+            return new CustomerLookupResult(matched.size(), new ArrayList<>(matched.subList(from, to)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 가장 짧은 조각 목록부터 교집합. 조각으로 좁힐 수 없으면 전체 문서
+    private int[] candidates(String name, String email, String phone) {
+        List<IntList> lists = new ArrayList<>();
+        if (!addLookup(lists, nameGrams, name, true)
+                || !addLookup(lists, emailGrams, email, false)
+                || !addLookup(lists, phoneGrams, phone, false)) {
+            return new int[0];
+        }
+        if (lists.isEmpty()) {
+            int[] all = new int[entries.size()];
+            Arrays.setAll(all, doc -> doc);
+            return all;
+        }
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+        // 긴 목록까지 이분 탐색하는 것보다 남은 후보를 문자열로 확인하는 편이 빠름
+        int intersected = Math.min(lists.size(), MAX_INTERSECTED_LISTS);
+
+        IntList smallest = lists.get(0);
+        int[] result = new int[smallest.size];
+        int count = 0;
+        for (int i = 0; i < smallest.size; i++) {
+            int doc = smallest.values[i];
+            boolean inAll = true;
+            for (int j = 1; j < intersected && inAll; j++) {
+                inAll = lists.get(j).contains(doc);
+            }
+            if (inAll) {
+                result[count++] = doc;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    // 검색어의 조각 목록을 lists 에 더함. 색인에 없는 조각이 있으면 결과가 없으므로 false
+    private boolean addLookup(List<IntList> lists, Map<String, IntList> grams, String query, boolean shortGramsIndexed) {
+        if (query == null) {
+            return true;
+        }
+        if (query.length() < GRAM) {
+            // 3 글자보다 짧은 이메일, 전화번호 검색어는 좁힐 조각이 없어 후보를 모두 확인
+            if (!shortGramsIndexed) {
+                return true;
+            }
+            IntList list = grams.get(query);
+            if (list == null) {
+                return false;
+            }
+            lists.add(list);
+            return true;
+        }
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i + GRAM <= query.length(); i++) {
+            String gram = query.substring(i, i + GRAM);
+            if (!seen.add(gram)) {
+                continue;
+            }
+            IntList list = grams.get(gram);
+            if (list == null) {
+                return false;
+            }
+            lists.add(list);
+        }
+        return true;
+    }
+
+    private void addGrams(Map<String, IntList> grams, String value, int doc, int minGram) {
+        if (value == null) {
+            return;
+        }
+        Set<String> seen = new HashSet<>();
+        for (int length = minGram; length <= GRAM; length++) {
+            for (int i = 0; i + length <= value.length(); i++) {
+                String gram = value.substring(i, i + length);
+                if (seen.add(gram)) {
+                    grams.computeIfAbsent(gram, key -> new IntList()).add(doc);
+                }
+            }
+        }
+    }
+
+    private void addLocked(CustomerLookupEntry entry, String name, String email, String phone) {
+        int doc = entries.size();
+        entries.add(entry);
+        normalized.add(new String[]{name, email, phone});
+        docByCustomerId.put(entry.id(), doc);
+
+        addGrams(nameGrams, name, doc, 1);
+        addGrams(emailGrams, email, doc, GRAM);
+        addGrams(phoneGrams, phone, doc, GRAM);
+    }
+
+    private void removeLocked(Long customerId) {
+        Integer doc = docByCustomerId.remove(customerId);
+        if (doc != null) {
+            deleted.set(doc);
+            deletedCount++;
+        }
+    }
+
+    // 살아 있는 문서를 원래 순서대로 다시 번호 매겨 조각 목록이 계속 오름차순이 되게 함
+    private void compactIfNeeded() {
+        if (deletedCount < COMPACT_MIN_DELETED || deletedCount < entries.size() * COMPACT_RATIO) {
+            return;
+        }
+        List<CustomerLookupEntry> liveEntries = new ArrayList<>(entries.size() - deletedCount);
+        List<String[]> liveNormalized = new ArrayList<>(entries.size() - deletedCount);
+        for (int doc = deleted.nextClearBit(0); doc < entries.size(); doc = deleted.nextClearBit(doc + 1)) {
+            liveEntries.add(entries.get(doc));
+            liveNormalized.add(normalized.get(doc));
+        }
+
+        nameGrams.clear();
+        emailGrams.clear();
+        phoneGrams.clear();
+        docByCustomerId.clear();
+        deleted.clear();
+        deletedCount = 0;
+        entries.clear();
+        normalized.clear();
+        for (int i = 0; i < liveEntries.size(); i++) {
+            String[] values = liveNormalized.get(i);
+            addLocked(liveEntries.get(i), values[0], values[1], values[2]);
+        }
+    }
+
+    private static boolean contains(String value, String query) {
+        return query == null || (value != null && value.contains(query));
+    }
+
+    private static boolean equalsIfPresent(String value, String condition) {
+        return condition == null || condition.equals(value);
+    }
+
+    // CustomerSearchRepository 의 연령대 조건과 같은 출생 연도 범위. 모르는 연령대 값은 조건 없음
+    private static boolean inAgeGroup(LocalDate birth, String ageGroup, int baseYear) {
+        if (ageGroup == null) {
+            return true;
+        }
+        return AgeGroup.fromCode(ageGroup)
+                .map(group -> group.contains(birth == null ? null : birth.getYear(), baseYear))
+                .orElse(true);
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    // 010-1234-5678, 01012345678 을 같은 값으로 봄
+    private static String digits(String value) {
+        if (value == null) {
+            return null;
+        }
+        String digits = value.replaceAll("[^0-9]", "");
+        return digits.isEmpty() ? null : digits;
+    }
+
+    // 문서 번호는 추가 순서대로 늘어나므로 항상 오름차순
+    private static class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+    }
+}
@@ -4,10 +4,18 @@ import com.team2final.minglecrm.event.domain.Event;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
 
     Page<Event> findAll(Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Event e SET e.sendCount = COALESCE(e.sendCount, 0) + :count WHERE e.id = :id")
+    int addSendCount(Long id, Long count);
 }
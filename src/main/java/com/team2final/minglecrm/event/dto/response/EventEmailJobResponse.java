@@ -0,0 +1,32 @@
+package com.team2final.minglecrm.event.dto.response;
+
+import com.team2final.minglecrm.event.service.EventEmailJob;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class EventEmailJobResponse {
+
+    private Long jobId;
+    private String status;
+    private Long totalCount;
+    private Long sentCount;
+    private Long failedCount;
+    private Long pendingCount;
+    private Double throughputPerSecond;
+    private LocalDateTime startedTime;
+    private LocalDateTime finishedTime;
+
+    public EventEmailJobResponse(EventEmailJob job) {
+        this.jobId = job.getJobId();
+        this.status = job.getStatus().name();
+        this.totalCount = job.getTotalCount();
+        this.sentCount = job.getSentCount();
+        this.failedCount = job.getFailedCount();
+        this.pendingCount = Math.max(0, totalCount - sentCount - failedCount);
+        this.throughputPerSecond = job.getThroughput();
+        this.startedTime = job.getStartedTime();
+        this.finishedTime = job.getFinishedTime();
+    }
+}
@@ -6,6 +6,7 @@ import com.team2final.minglecrm.event.dto.request.EventEmailSendRequest;
 import com.team2final.minglecrm.event.dto.request.GroupEmailSendRequest;
 import com.team2final.minglecrm.event.dto.request.PersonalEmailSendRequest;
 import com.team2final.minglecrm.event.dto.response.EmailLogResponse;
+import com.team2final.minglecrm.event.dto.response.EventEmailJobResponse;
 import com.team2final.minglecrm.event.dto.response.EventLogResponse;
 import com.team2final.minglecrm.employee.domain.Employee;
 import com.team2final.minglecrm.service.email.EmailSendService;
@@ -32,10 +33,17 @@ public class EventController {
     private final JwtUtil jwtUtil;
     private final LogService logService;
 
+    // 발송 작업 id 를 바로 반환. 진행 상황은 /api/event/email/jobs/{jobId} 로 조회
     @PostMapping("/api/event/email")
-    public ResultResponse<Void> sendEventEmail(@RequestBody EventEmailSendRequest request) throws Exception {
-        eventService.sendEventEmail(request);
-        return new ResultResponse<>(HttpStatus.OK.value(), "success", null);
+    public ResultResponse<Long> sendEventEmail(@RequestBody EventEmailSendRequest request) throws Exception {
+        Long jobId = eventService.sendEventEmail(request);
+        return new ResultResponse<>(HttpStatus.ACCEPTED.value(), "success", jobId);
+    }
+
+    // 발송을 맡은 인스턴스 메모리의 상태. 재시작 후나 다른 인스턴스에서는 없는 작업으로 응답
+    @GetMapping("/api/event/email/jobs/{jobId}")
+    public ResultResponse<EventEmailJobResponse> getEventEmailJob(@PathVariable(name = "jobId") Long jobId) {
+        return new ResultResponse<>(HttpStatus.OK.value(), "success", eventService.getEventEmailJob(jobId));
     }
 
     @GetMapping("/api/readcheck/{eventId}/{customerEmail}")
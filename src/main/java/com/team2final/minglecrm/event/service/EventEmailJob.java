@@ -0,0 +1,73 @@
+package com.team2final.minglecrm.event.service;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 이벤트 메일 대량 발송 진행 상황. 발송 스레드들이 동시에 갱신
+@Getter
+public class EventEmailJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final Long jobId;
+    private final long totalCount;
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedTime;
+    private volatile LocalDateTime finishedTime;
+
+    public EventEmailJob(Long jobId, long totalCount) {
+        this.jobId = jobId;
+        this.totalCount = totalCount;
+    }
+
+    public void start() {
+        this.startedTime = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    public void finish(Status status) {
+        this.finishedTime = LocalDateTime.now();
+        this.status = status;
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public void addSent(long count) {
+        sentCount.addAndGet(count);
+    }
+
+    public void addFailed(long count) {
+        failedCount.addAndGet(count);
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    // 초당 처리(성공 + 실패) 건수
+    public double getThroughput() {
+        if (startedTime == null) {
+            return 0;
+        }
+        LocalDateTime end = finishedTime != null ? finishedTime : LocalDateTime.now();
+        long millis = Math.max(1, Duration.between(startedTime, end).toMillis());
+        return (sentCount.get() + failedCount.get()) * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,135 @@
+package com.team2final.minglecrm.event.service;
+
+import com.team2final.minglecrm.customer.domain.repository.CustomerRepository;
+import com.team2final.minglecrm.event.domain.repository.EventRepository;
+import com.team2final.minglecrm.log.domain.repository.EmailLogBulkRepository;
+import com.team2final.minglecrm.service.email.BulkEmailSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 이벤트 메일 대량 발송. 요청 스레드는 작업만 등록하고, 발송과 로그 적재는 백그라운드에서 진행
+// 작업 상태는 이 인스턴스 메모리에만 있음. 재시작하면 진행 중이던 발송은 멈추고 상태 조회도 없는 작업이 되며,
+// 여러 인스턴스면 작업을 등록한 인스턴스에서만 조회됨. 이미 보낸 건수는 배치마다 event.send_count 와 email_log 에 남음
+@Slf4j
+@Service
+public class EventEmailSendEngine {
+
+    // 완료된 작업 상태를 보관하는 기간
+    private static final long RETENTION_HOURS = 24;
+
+    private final BulkEmailSender bulkEmailSender;
+    private final CustomerRepository customerRepository;
+    private final EventRepository eventRepository;
+    private final EmailLogBulkRepository emailLogBulkRepository;
+    private final ThreadPoolTaskExecutor emailSendExecutor;
+    private final ThreadPoolTaskExecutor emailDispatchExecutor;
+
+    private final Map<Long, EventEmailJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${spring.mail.bulk.batch-size:50}")
+    private int batchSize;
+
+    public EventEmailSendEngine(BulkEmailSender bulkEmailSender,
+                                CustomerRepository customerRepository,
+                                EventRepository eventRepository,
+                                EmailLogBulkRepository emailLogBulkRepository,
+                                @Qualifier("emailSendExecutor") ThreadPoolTaskExecutor emailSendExecutor,
+                                @Qualifier("emailDispatchExecutor") ThreadPoolTaskExecutor emailDispatchExecutor) {
+        this.bulkEmailSender = bulkEmailSender;
+        this.customerRepository = customerRepository;
+        this.eventRepository = eventRepository;
+        this.emailLogBulkRepository = emailLogBulkRepository;
+        this.emailSendExecutor = emailSendExecutor;
+        this.emailDispatchExecutor = emailDispatchExecutor;
+    }
+
+    // 작업 id 는 이벤트 id 와 같음. 완료된 작업은 RETENTION_HOURS 동안만 조회됨
+    public Long enqueue(Long eventId, String title, String content, List<String> toEmails) {
+        evictFinishedJobs();
+
+        List<String> recipients = new ArrayList<>(new LinkedHashSet<>(toEmails));
+        EventEmailJob job = new EventEmailJob(eventId, recipients.size());
+        jobs.put(eventId, job);
+
+        try {
+            emailDispatchExecutor.execute(() -> run(job, title, content, recipients));
+        } catch (TaskRejectedException e) {
+            job.finish(EventEmailJob.Status.FAILED);
+            throw new IllegalStateException("메일 발송 대기열이 가득 찼습니다.", e);
+        }
+        return eventId;
+    }
+
+    public Optional<EventEmailJob> getJob(Long jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private void run(EventEmailJob job, String title, String content, List<String> recipients) {
+        job.start();
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int from = 0; from < recipients.size(); from += batchSize) {
+                List<String> batch = recipients.subList(from, Math.min(from + batchSize, recipients.size()));
+                futures.add(CompletableFuture.runAsync(() -> sendBatch(job, title, content, batch), emailSendExecutor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            job.finish(EventEmailJob.Status.COMPLETED);
+        } catch (Exception e) {
+            log.error("이벤트 메일 발송 실패 : event {}", job.getJobId(), e);
+            job.finish(EventEmailJob.Status.FAILED);
+        }
+        log.info("이벤트 메일 발송 종료 : event {}, 성공 {}, 실패 {}", job.getJobId(), job.getSentCount(), job.getFailedCount());
+    }
+
+    private void sendBatch(EventEmailJob job, String title, String content, List<String> batch) {
+        Map<String, Long> customerIds = new HashMap<>();
+        for (Object[] row : customerRepository.findIdsByEmailIn(batch)) {
+            customerIds.put((String) row[0], (Long) row[1]);
+        }
+
+        // 고객이 아닌 주소는 로그를 남길 수 없으므로 보내지 않음
+        List<String> known = new ArrayList<>();
+        for (String email : batch) {
+            if (customerIds.containsKey(email)) {
+                known.add(email);
+            }
+        }
+        job.addFailed(batch.size() - known.size());
+
+        Map<String, BulkEmailSender.Outcome> outcomes = bulkEmailSender.send(known, email -> email, title, email -> content);
+
+        List<Long> sentCustomerIds = new ArrayList<>();
+        for (Map.Entry<String, BulkEmailSender.Outcome> entry : outcomes.entrySet()) {
+            if (entry.getValue().sent()) {
+                sentCustomerIds.add(customerIds.get(entry.getKey()));
+            } else {
+                log.warn("이벤트 메일 발송 실패 : event {}, {}", job.getJobId(), entry.getValue().error());
+            }
+        }
+
+        emailLogBulkRepository.saveAll(job.getJobId(), sentCustomerIds);
+        eventRepository.addSendCount(job.getJobId(), (long) sentCustomerIds.size());
+
+        job.addSent(sentCustomerIds.size());
+        job.addFailed(known.size() - sentCustomerIds.size());
+    }
+
+    private void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusHours(RETENTION_HOURS);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedTime().isBefore(threshold));
+    }
+}
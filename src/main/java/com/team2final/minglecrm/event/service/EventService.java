@@ -4,6 +4,7 @@ import com.team2final.minglecrm.event.dto.request.CreateEventRequest;
 import com.team2final.minglecrm.event.dto.request.EventEmailSendRequest;
 import com.team2final.minglecrm.event.dto.request.ToEmailRequest;
 import com.team2final.minglecrm.event.dto.response.EmailLogResponse;
+import com.team2final.minglecrm.event.dto.response.EventEmailJobResponse;
 import com.team2final.minglecrm.event.dto.response.EventLogResponse;
 import com.team2final.minglecrm.customer.domain.Customer;
 import com.team2final.minglecrm.employee.domain.Employee;
@@ -15,8 +16,6 @@ import com.team2final.minglecrm.event.domain.repository.EventRepository;
 import com.team2final.minglecrm.event.domain.repository.queryDsl.EventRespositoryCustom;
 import com.team2final.minglecrm.log.domain.repository.EmailLogRepository;
 import com.team2final.minglecrm.log.domain.repository.queryDsl.EmailLogRepositoryCustom;
-import com.team2final.minglecrm.service.email.EmailSendService;
-import com.team2final.minglecrm.log.service.LogService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -31,16 +30,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EventService {
 
-    private final EmailSendService emailSendService;
     private final EventRepository eventRepository;
     private final EmployeeRepository employeeRepository;
     private final EmailLogRepository emailLogRepository;
     private final CustomerRepository customerRepository;
-    private final LogService logService;
+    private final EventEmailSendEngine eventEmailSendEngine;
     private final EventRespositoryCustom eventRespositoryCustom;
     private final EmailLogRepositoryCustom emailLogRepositoryCustom;
 
-    public void sendEventEmail(EventEmailSendRequest request) throws Exception {
+    // 이벤트만 저장하고 발송은 백그라운드 작업으로 등록한 뒤 작업 id 를 바로 반환
+    public Long sendEventEmail(EventEmailSendRequest request) throws Exception {
 
         // 요청한 이메일 주소를 통해 직원 정보를 조회합니다.
         Employee employee = employeeRepository.findByEmail(request.getFromEmail())
@@ -52,6 +51,7 @@ public class EventService {
                 .content(request.getContent())
                 .employee(employee)
                 .sentDate(LocalDateTime.now())
+                .sendCount(0L)
                 .build();
 
         // 이벤트 객체를 데이터베이스에 저장합니다.
@@ -62,14 +62,17 @@ public class EventService {
             throw new Exception("Event ID is null after saving");
         }
 
-        // 이벤트가 성공적으로 저장된 후, 각 수신자에게 이메일을 보냅니다.
-        for(ToEmailRequest toEmailRequest : request.getToEmail()) {
-            String toEmail = toEmailRequest.getEmail();
-            emailSendService.sendMail(toEmail, request.getTitle(), request.getContent());
+        List<String> toEmails = request.getToEmail().stream()
+                .map(ToEmailRequest::getEmail)
+                .toList();
 
-            // 이메일 로그를 생성합니다.
-            logService.createEmailLog(savedEvent.getId(), toEmail);
-        }
+        return eventEmailSendEngine.enqueue(savedEvent.getId(), request.getTitle(), request.getContent(), toEmails);
+    }
+
+    public EventEmailJobResponse getEventEmailJob(Long jobId) {
+        return eventEmailSendEngine.getJob(jobId)
+                .map(EventEmailJobResponse::new)
+                .orElseThrow(() -> new IllegalArgumentException("없는 발송 작업입니다."));
     }
 
     @Transactional
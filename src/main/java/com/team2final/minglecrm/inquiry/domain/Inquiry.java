@@ -16,6 +16,12 @@ import static jakarta.persistence.GenerationType.IDENTITY;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 문의함 목록은 답변/조치 테이블을 서브쿼리로 뒤지지 않고 아래 상태 컬럼 인덱스로 바로 찾음
+@Table(indexes = {
+        @Index(name = "idx_inquiry_is_reply", columnList = "is_reply, id"),
+        @Index(name = "idx_inquiry_action_status", columnList = "action_status, id"),
+        @Index(name = "idx_inquiry_last_activity_time", columnList = "last_activity_time")
+})
 public class Inquiry {
 
     @Id
@@ -38,6 +44,13 @@ public class Inquiry {
 
     private Boolean isReply;
 
+    // InquiryAction 의 조치 상태 사본. 조치가 없으면 null
+    @Enumerated(EnumType.STRING)
+    private ActionStatus actionStatus;
+
+    // 등록, 답변, 조치 중 가장 최근 시각
+    private LocalDateTime lastActivityTime;
+
     @Builder
     public Inquiry(Long id, Customer customer, LocalDateTime date, String inquiryTitle, String inquiryContent, String type, Boolean isReply, Boolean isActionNeeded, String actionContent) {
         this.id = id;
@@ -45,12 +58,21 @@ public class Inquiry {
         this.date = date;
         this.inquiryTitle = inquiryTitle;
         this.inquiryContent = inquiryContent;
-        this.isReply = isReply;
+        this.isReply = isReply != null && isReply;
         this.type = type;
+        this.lastActivityTime = date;
     }
 
-    public void changeIsReply() {
+    // 답변 등록, 수정과 같은 트랜잭션에서 호출
+    public void recordReply(LocalDateTime replyTime) {
         this.isReply = true;
+        this.lastActivityTime = replyTime;
+    }
+
+    // 조치 등록, 수정과 같은 트랜잭션에서 호출
+    public void recordAction(ActionStatus actionStatus, LocalDateTime actionTime) {
+        this.actionStatus = actionStatus;
+        this.lastActivityTime = actionTime;
     }
 
 }
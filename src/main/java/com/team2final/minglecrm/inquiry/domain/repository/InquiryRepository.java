@@ -1,6 +1,9 @@
 package com.team2final.minglecrm.inquiry.domain.repository;
 
 import com.team2final.minglecrm.inquiry.domain.Inquiry;
+import com.team2final.minglecrm.inquiry.dto.response.InquiryResponse;
+import com.team2final.minglecrm.inquiry.service.InquiryPageRow;
+import com.team2final.minglecrm.inquiry.service.search.InquiryDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,20 +12,20 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface InquiryRepository extends JpaRepository<Inquiry, Long>, InquiryRepositoryCustom {
-    @Query("SELECT i FROM Inquiry i WHERE i NOT IN (SELECT ir.inquiry FROM InquiryReply ir)")
+    // 문의함 목록은 Inquiry 상태 컬럼 인덱스로 조회
+    @Query("SELECT i FROM Inquiry i WHERE i.isReply = false")
     Page<Inquiry> findUnansweredInquiries(Pageable pageable);
 
-    @Query("SELECT i FROM Inquiry i WHERE i.id IN (SELECT ir.inquiry.id FROM InquiryReply ir)")
-    Page<Inquiry> findInquiriesWithReply(Pageable pageable);
-
-    @Query("SELECT i FROM Inquiry i WHERE i.id IN (SELECT ia.inquiry.id FROM InquiryAction ia)")
+    @Query("SELECT i FROM Inquiry i WHERE i.actionStatus IS NOT NULL")
     Page<Inquiry> findInquiriesWithAction(Pageable pageable);
 
-    @Query("SELECT i FROM Inquiry i WHERE i.id NOT IN (SELECT ia.inquiry.id FROM InquiryAction ia)")
+    @Query("SELECT i FROM Inquiry i WHERE i.actionStatus IS NULL")
     Page<Inquiry> findInquiriesWithoutAction(Pageable pageable);
 
     @Query("SELECT i FROM Inquiry i WHERE i.customer.id = :customerId")
@@ -39,4 +42,33 @@ public interface InquiryRepository extends JpaRepository<Inquiry, Long>, Inquiry
                                   @Param("endDate") LocalDateTime endDate,
                                   Pageable pageable);
 
+    // 목록 페이지의 고객, 답변 직원, 조치 상태를 한 번에 조회
+    @Query("SELECT new com.team2final.minglecrm.inquiry.service.InquiryPageRow(" +
+            "i.id, c.name, c.phone, ir.id, e.name, i.actionStatus) " +
+            "FROM Inquiry i " +
+            "LEFT JOIN i.customer c " +
+            "LEFT JOIN InquiryReply ir ON ir.inquiry.id = i.id " +
+            "LEFT JOIN ir.employee e " +
+            "WHERE i.id IN :inquiryIds")
+    List<InquiryPageRow> findPageRowsByIdIn(@Param("inquiryIds") Collection<Long> inquiryIds);
+
+    // 검색 결과 id 로 응답을 한 번에 조회. 순서는 호출하는 쪽에서 검색 순위대로 맞춤
+    @Query("SELECT new com.team2final.minglecrm.inquiry.dto.response.InquiryResponse(" +
+            "i.id, c.name, c.phone, i.date, i.type, i.isReply, e.name, i.inquiryTitle, i.inquiryContent, i.actionStatus) " +
+            "FROM Inquiry i " +
+            "LEFT JOIN i.customer c " +
+            "LEFT JOIN InquiryReply ir ON ir.inquiry.id = i.id " +
+            "LEFT JOIN ir.employee e " +
+            "WHERE i.id IN :inquiryIds")
+    List<InquiryResponse> findResponsesByIdIn(@Param("inquiryIds") Collection<Long> inquiryIds);
+
+    // 검색 색인 재구성용. id 순 keyset 으로 나눠 읽음
+    @Query("SELECT new com.team2final.minglecrm.inquiry.service.search.InquiryDocument(" +
+            "i.id, c.id, i.inquiryTitle, i.inquiryContent, c.name, c.phone, i.date, i.type, i.isReply, i.actionStatus) " +
+            "FROM Inquiry i " +
+            "LEFT JOIN i.customer c " +
+            "WHERE i.id > :lastId " +
+            "ORDER BY i.id")
+    List<InquiryDocument> findSearchDocumentsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
 }
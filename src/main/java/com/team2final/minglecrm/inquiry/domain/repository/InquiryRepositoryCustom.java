@@ -2,6 +2,7 @@ package com.team2final.minglecrm.inquiry.domain.repository;
 
 import com.team2final.minglecrm.inquiry.domain.ActionStatus;
 import com.team2final.minglecrm.inquiry.domain.Inquiry;
+import com.team2final.minglecrm.inquiry.dto.response.InquiryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -9,4 +10,6 @@ import java.time.LocalDateTime;
 
 public interface InquiryRepositoryCustom {
     Page<Inquiry> searchByCondition(String keyword, String customerName, String customerPhone, String inquiryTitle, String inquiryContent, LocalDateTime startDate, LocalDateTime endDate, String type, Boolean isReply, ActionStatus actionStatus, Pageable pageable);
+
+    Page<InquiryResponse> findAnsweredInquiries(Pageable pageable);
 }
\ No newline at end of file
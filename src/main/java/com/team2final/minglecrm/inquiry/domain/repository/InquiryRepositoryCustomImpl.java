@@ -1,17 +1,21 @@
 package com.team2final.minglecrm.inquiry.domain.repository;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.team2final.minglecrm.customer.domain.QCustomer;
+import com.team2final.minglecrm.employee.domain.QEmployee;
 import com.team2final.minglecrm.inquiry.domain.ActionStatus;
 import com.team2final.minglecrm.inquiry.domain.Inquiry;
 import com.team2final.minglecrm.inquiry.domain.QInquiry;
-import com.team2final.minglecrm.inquiry.domain.QInquiryAction;
+import com.team2final.minglecrm.inquiry.domain.QInquiryReply;
+import com.team2final.minglecrm.inquiry.dto.response.InquiryResponse;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -32,7 +36,6 @@ public class InquiryRepositoryCustomImpl implements InquiryRepositoryCustom {
     public Page<Inquiry> searchByCondition(String keyword, String customerName, String customerPhone, String inquiryTitle, String inquiryContent, LocalDateTime startDate, LocalDateTime endDate, String type, Boolean isReply, ActionStatus actionStatus, Pageable pageable) {
         QInquiry inquiry = QInquiry.inquiry;
         QCustomer customer = QCustomer.customer;
-        QInquiryAction inquiryAction = QInquiryAction.inquiryAction;
 
         BooleanExpression predicate = null;
 
@@ -79,13 +82,12 @@ public class InquiryRepositoryCustomImpl implements InquiryRepositoryCustom {
         }
 
         if (actionStatus != null) {
-            BooleanExpression actionStatusPredicate = inquiryAction.actionStatus.eq(actionStatus);
+            BooleanExpression actionStatusPredicate = inquiry.actionStatus.eq(actionStatus);
             predicate = (predicate == null) ? actionStatusPredicate : predicate.and(actionStatusPredicate);
         }
 
         List<Inquiry> inquiries = queryFactory.selectFrom(inquiry)
                 .leftJoin(inquiry.customer, customer)
-                .leftJoin(inquiryAction).on(inquiryAction.inquiry.eq(inquiry))
                 .where(predicate)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -93,10 +95,53 @@ public class InquiryRepositoryCustomImpl implements InquiryRepositoryCustom {
 
         long total = queryFactory.selectFrom(inquiry)
                 .leftJoin(inquiry.customer, customer)
-                .leftJoin(inquiryAction).on(inquiryAction.inquiry.eq(inquiry))
                 .where(predicate)
                 .fetchCount();
 
         return new PageImpl<>(inquiries, pageable, total);
     }
-}
\ No newline at end of file
+
+    // 답변이 있는 문의를 답변 직원, 조치 상태와 함께 한 행씩 조회. 답변 전체를 메모리에 올리지 않음
+    // 답변 여부, 조치 상태는 Inquiry 상태 컬럼으로 판단하고 답변은 직원 이름을 위해서만 조인
+    @Override
+    public Page<InquiryResponse> findAnsweredInquiries(Pageable pageable) {
+        QInquiry inquiry = QInquiry.inquiry;
+        QCustomer customer = QCustomer.customer;
+        QInquiryReply inquiryReply = QInquiryReply.inquiryReply;
+        QEmployee employee = QEmployee.employee;
+
+        List<InquiryResponse> inquiries = queryFactory
+                .select(inquiry.id, customer.name, customer.phone, inquiry.date, inquiry.type, employee.name,
+                        inquiry.inquiryTitle, inquiry.inquiryContent, inquiry.actionStatus)
+                .from(inquiry)
+                .leftJoin(inquiryReply).on(inquiryReply.inquiry.id.eq(inquiry.id))
+                .leftJoin(inquiryReply.employee, employee)
+                .leftJoin(inquiry.customer, customer)
+                .where(inquiry.isReply.isTrue())
+                .orderBy(inquiry.id.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch()
+                .stream()
+                .map(row -> InquiryResponse.builder()
+                        .id(row.get(inquiry.id))
+                        .customerName(row.get(customer.name))
+                        .customerPhone(row.get(customer.phone))
+                        .date(row.get(inquiry.date))
+                        .type(row.get(inquiry.type))
+                        .isReply(true)
+                        .employName(row.get(employee.name))
+                        .inquiryTitle(row.get(inquiry.inquiryTitle))
+                        .inquiryContent(row.get(inquiry.inquiryContent))
+                        .actionStatus(row.get(inquiry.actionStatus))
+                        .build())
+                .toList();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(inquiry.count())
+                .from(inquiry)
+                .where(inquiry.isReply.isTrue());
+
+        return PageableExecutionUtils.getPage(inquiries, pageable, countQuery::fetchOne);
+    }
+}
@@ -0,0 +1,4 @@
+package com.team2final.minglecrm.inquiry.dto.response;
+
+public record InquiryFacetCount(String value, long count) {
+}
@@ -0,0 +1,10 @@
+package com.team2final.minglecrm.inquiry.dto.response;
+
+import java.util.List;
+
+// 구독 시작 시 한 번 보내는 문의함 상태. 이후에는 변경분만 보냄
+public record InquiryQueueSnapshot(long unansweredCount,
+                                   long withoutActionCount,
+                                   List<InquiryResponse> unanswered,
+                                   List<InquiryResponse> withoutAction) {
+}
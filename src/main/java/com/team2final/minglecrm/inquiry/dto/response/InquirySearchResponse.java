@@ -0,0 +1,10 @@
+package com.team2final.minglecrm.inquiry.dto.response;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Map;
+
+// 검색 결과 페이지와 month, type, status, actionStatus 패싯 건수
+public record InquirySearchResponse(Page<InquiryResponse> inquiries, Map<String, List<InquiryFacetCount>> facets) {
+}
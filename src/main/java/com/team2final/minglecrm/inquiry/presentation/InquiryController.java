@@ -10,8 +10,12 @@ import com.team2final.minglecrm.inquiry.dto.response.InquiryActionResponse;
 import com.team2final.minglecrm.inquiry.dto.response.InquiryDetailResponse;
 import com.team2final.minglecrm.inquiry.dto.response.InquiryReplyResponse;
 import com.team2final.minglecrm.inquiry.dto.response.InquiryResponse;
+import com.team2final.minglecrm.inquiry.dto.response.InquirySearchResponse;
 import com.team2final.minglecrm.inquiry.domain.Inquiry;
 import com.team2final.minglecrm.inquiry.service.InquiryService;
+import com.team2final.minglecrm.inquiry.service.queue.InquiryQueueStream;
+import com.team2final.minglecrm.inquiry.service.search.InquirySearchCondition;
+import com.team2final.minglecrm.inquiry.service.search.InquirySearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -19,8 +23,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -32,6 +38,8 @@ import java.time.LocalDateTime;
 public class InquiryController {
 
     private final InquiryService inquiryService;
+    private final InquirySearchService inquirySearchService;
+    private final InquiryQueueStream inquiryQueueStream;
 
     @GetMapping
     public ResponseEntity<ResultResponse<Page<InquiryResponse>>> getAllInquiries(
@@ -178,4 +186,39 @@ public class InquiryController {
         return ResponseEntity.status(HttpStatus.OK).body(new ResultResponse<>(HttpStatusCode.valueOf(HttpStatus.OK.value()).value(), "문의 전체 목록 검색 성공", inquiries));
     }
 
+    // 검색 색인 기반 검색. 제목, 본문, 고객 이름, 전화번호에서 찾아 순위 순으로 반환하고 월, 유형, 답변, 조치 상태 별 건수를 함께 반환
+    @GetMapping("/search/text")
+    public ResponseEntity<ResultResponse<InquirySearchResponse>> searchInquiriesByText(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Boolean isReply,
+            @RequestParam(required = false) String actionStatus,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Pageable pageable = PageRequest.of(page, size);
+
+        ActionStatus actionStatusEnum = null;
+        if (actionStatus != null) {
+            try {
+                actionStatusEnum = ActionStatus.fromValue(actionStatus);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(new ResultResponse<>(HttpStatusCode.valueOf(HttpStatus.BAD_REQUEST.value()).value(), "조치 상태를 찾을 수 없음", null));
+            }
+        }
+
+        InquirySearchCondition condition = new InquirySearchCondition(query, startDate, endDate, type, isReply, actionStatusEnum);
+        InquirySearchResponse inquiries = inquirySearchService.search(condition, pageable);
+        return ResponseEntity.status(HttpStatus.OK).body(new ResultResponse<>(HttpStatusCode.valueOf(HttpStatus.OK.value()).value(), "문의 검색 성공", inquiries));
+    }
+
+    // 문의함 실시간 구독. snapshot 이벤트 뒤로 created, replied, actioned 변경분을 보냄
+    // 재연결 시 브라우저가 보내는 Last-Event-ID 이후 변경분만 다시 받음
+    @GetMapping(value = "/queue/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeInquiryQueue(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return inquiryQueueStream.subscribe(lastEventId);
+    }
+
 }
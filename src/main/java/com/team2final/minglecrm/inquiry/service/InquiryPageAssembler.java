@@ -0,0 +1,69 @@
+package com.team2final.minglecrm.inquiry.service;
+
+import com.team2final.minglecrm.inquiry.domain.Inquiry;
+import com.team2final.minglecrm.inquiry.domain.repository.InquiryRepository;
+import com.team2final.minglecrm.inquiry.dto.response.InquiryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 문의 페이지를 응답으로 변환. 문의마다 답변, 조치, 고객, 직원을 따로 읽지 않고
+// 페이지의 문의 id 로 한 번에 읽어 페이지 크기와 무관하게 쿼리 수가 일정
+@Component
+@RequiredArgsConstructor
+public class InquiryPageAssembler {
+
+    private final InquiryRepository inquiryRepository;
+
+    public Page<InquiryResponse> assemble(Page<Inquiry> inquiries) {
+        List<Long> inquiryIds = inquiries.getContent().stream()
+                .map(Inquiry::getId)
+                .toList();
+        Map<Long, InquiryPageRow> rows = inquiryIds.isEmpty()
+                ? Map.of()
+                : inquiryRepository.findPageRowsByIdIn(inquiryIds).stream()
+                .collect(Collectors.toMap(InquiryPageRow::inquiryId, Function.identity(), (first, second) -> first));
+
+        return inquiries.map(inquiry -> toResponse(inquiry, rows.get(inquiry.getId())));
+    }
+
+    // 검색 색인이 고른 id 를 한 번의 조회로 응답으로 만들고 검색 순위대로 다시 정렬
+    public Page<InquiryResponse> assemble(List<Long> inquiryIds, Pageable pageable, long total) {
+        Map<Long, InquiryResponse> responses = inquiryIds.isEmpty()
+                ? Map.of()
+                : inquiryRepository.findResponsesByIdIn(inquiryIds).stream()
+                .collect(Collectors.toMap(InquiryResponse::getId, Function.identity(), (first, second) -> first));
+
+        List<InquiryResponse> content = inquiryIds.stream()
+                .map(responses::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // customer 는 지연 로딩 프록시라 건드리지 않고 조회한 값만 사용
+    private InquiryResponse toResponse(Inquiry inquiry, InquiryPageRow row) {
+        boolean isReply = row != null && row.replyId() != null; // 답변이 있으면 true
+
+        return InquiryResponse.builder()
+                .id(inquiry.getId())
+                .customerName(row != null ? row.customerName() : null)
+                .customerPhone(row != null ? row.customerPhone() : null)
+                .date(inquiry.getDate())
+                .type(inquiry.getType())
+                .employName(isReply ? row.replyEmployeeName() : null)
+                .inquiryTitle(inquiry.getInquiryTitle())
+                .inquiryContent(inquiry.getInquiryContent())
+                .isReply(isReply)
+                .actionStatus(row != null ? row.actionStatus() : null)
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package com.team2final.minglecrm.inquiry.service;
+
+import com.team2final.minglecrm.inquiry.domain.ActionStatus;
+
+// 문의 목록 한 행을 만드는 데 필요한 고객, 답변, 조치 값. 답변, 조치가 없으면 해당 값은 null
+public record InquiryPageRow(Long inquiryId, String customerName, String customerPhone,
+                             Long replyId, String replyEmployeeName, ActionStatus actionStatus) {
+}
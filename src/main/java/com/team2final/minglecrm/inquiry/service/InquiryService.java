@@ -15,7 +15,10 @@ import com.team2final.minglecrm.employee.domain.repository.EmployeeRepository;
 import com.team2final.minglecrm.inquiry.domain.repository.InquiryActionRepository;
 import com.team2final.minglecrm.inquiry.domain.repository.InquiryReplyRepository;
 import com.team2final.minglecrm.inquiry.domain.repository.InquiryRepository;
+import com.team2final.minglecrm.inquiry.service.queue.InquiryQueueChange;
+import com.team2final.minglecrm.inquiry.service.queue.InquiryQueueEventType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -25,8 +28,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -36,62 +37,38 @@ public class InquiryService {
     private final InquiryReplyRepository inquiryReplyRepository;
     private final InquiryActionRepository inquiryActionRepository;
     private final EmployeeRepository employeeRepository;
+    private final InquiryPageAssembler inquiryPageAssembler;
+    // 문의함 SSE 로 보낼 변경분. 커밋된 뒤에 전송됨
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Page<InquiryResponse> getAllInquiries(Pageable pageable) {
         Page<Inquiry> inquiries = inquiryRepository.findAll(pageable);
-        return inquiries.map(inquiry -> {
-            InquiryReply inquiryReply = inquiryReplyRepository.findByInquiryId(inquiry.getId());
-            InquiryAction inquiryAction = inquiryActionRepository.findByInquiryId(inquiry.getId());
-
-            return convertToDTO(inquiry, inquiryReply, inquiryAction);
-        });
+        return inquiryPageAssembler.assemble(inquiries);
     }
 
 
     @Transactional
     public Page<InquiryResponse> getUnansweredInquiries(Pageable pageable) {
         Page<Inquiry> unansweredInquiries = inquiryRepository.findUnansweredInquiries(pageable);
-        return unansweredInquiries.map(inquiry -> {
-            InquiryAction inquiryAction = inquiryActionRepository.findByInquiryId(inquiry.getId());
-            return convertToDTO(inquiry, null, inquiryAction); // 답변이 없는 문의만 조회 - inquiryReply는 항상 null
-        });
+        return inquiryPageAssembler.assemble(unansweredInquiries); // 답변이 없는 문의만 조회 - 답변 값은 항상 null
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Page<InquiryResponse> getAnsweredInquiries(Pageable pageable) {
-        Page<Inquiry> answeredInquiries = inquiryRepository.findInquiriesWithReply(pageable);
-
-        Map<Long, InquiryReply> inquiryReplyMap = inquiryReplyRepository.findAll().stream()
-                .collect(Collectors.toMap(ir -> ir.getInquiry().getId(), ir -> ir));
-
-        return answeredInquiries.map(inquiry -> {
-            InquiryReply inquiryReply = inquiryReplyMap.get(inquiry.getId());
-            InquiryAction inquiryAction = inquiryActionRepository.findByInquiryId(inquiry.getId());
-
-            return convertToDTO(inquiry, inquiryReply, inquiryAction);
-        });
+        return inquiryRepository.findAnsweredInquiries(pageable);
     }
 
     @Transactional
     public Page<InquiryResponse> getInquiriesWithAction(Pageable pageable) {
         Page<Inquiry> inquiriesWithAction = inquiryRepository.findInquiriesWithAction(pageable);
-        return inquiriesWithAction.map(inquiry -> {
-            InquiryReply inquiryReply = inquiryReplyRepository.findByInquiryId(inquiry.getId());
-            InquiryAction inquiryAction = inquiryActionRepository.findByInquiryId(inquiry.getId());
-
-            return convertToDTO(inquiry, inquiryReply, inquiryAction);
-        });
+        return inquiryPageAssembler.assemble(inquiriesWithAction);
     }
 
     @Transactional
     public Page<InquiryResponse> getInquiriesWithoutAction(Pageable pageable) {
         Page<Inquiry> inquiriesWithoutAction = inquiryRepository.findInquiriesWithoutAction(pageable);
-        return inquiriesWithoutAction.map(inquiry -> {
-            InquiryReply inquiryReply = inquiryReplyRepository.findByInquiryId(inquiry.getId());
-
-            return convertToDTO(inquiry, inquiryReply, null);
-        });
+        return inquiryPageAssembler.assemble(inquiriesWithoutAction);
     }
 
     @Transactional
@@ -125,16 +102,18 @@ public class InquiryService {
         Inquiry inquiry = inquiryRepository.findById(request.getInquiryId())
                 .orElseThrow(() -> new IllegalArgumentException("문의를 찾을 수 없습니다."));
 
-        inquiry.changeIsReply();
+        LocalDateTime now = LocalDateTime.now();
+        inquiry.recordReply(now);
 
         InquiryReply inquiryReply = InquiryReply.builder()
                 .inquiry(inquiry)
                 .employee(employee)
                 .reply(request.getReply())
-                .date(LocalDateTime.now())
+                .date(now)
                 .build();
 
         InquiryReply saveReply = inquiryReplyRepository.save(inquiryReply);
+        eventPublisher.publishEvent(InquiryQueueChange.of(InquiryQueueEventType.REPLIED, inquiry));
 
         return convertToDTO(saveReply);
     }
@@ -151,7 +130,10 @@ public class InquiryService {
                 .orElseThrow(() -> new IllegalArgumentException("답변을 찾을 수 없습니다."));
 
         // 엔티티 메서드 호출
-        inquiryReply.updateReply(updatedReply, LocalDateTime.now(), employee);
+        LocalDateTime now = LocalDateTime.now();
+        inquiryReply.updateReply(updatedReply, now, employee);
+        inquiryReply.getInquiry().recordReply(now);
+        eventPublisher.publishEvent(InquiryQueueChange.of(InquiryQueueEventType.REPLIED, inquiryReply.getInquiry()));
 
         return convertToDTO(inquiryReply);
     }
@@ -169,15 +151,20 @@ public class InquiryService {
 
         System.out.println("Received action status: " + request.getActionStatus());  // 받은 값 로그
 
+        LocalDateTime now = LocalDateTime.now();
+        ActionStatus actionStatus = ActionStatus.fromValue(request.getActionStatus());
+        inquiry.recordAction(actionStatus, now);
+
         InquiryAction inquiryAction = InquiryAction.builder()
                 .inquiry(inquiry)
                 .employee(employee)
-                .actionStatus(ActionStatus.fromValue(request.getActionStatus()))
+                .actionStatus(actionStatus)
                 .actionContent(request.getActionContent())
-                .date(LocalDateTime.now())
+                .date(now)
                 .build();
 
         InquiryAction saveAction = inquiryActionRepository.save(inquiryAction);
+        eventPublisher.publishEvent(InquiryQueueChange.of(InquiryQueueEventType.ACTIONED, inquiry));
 
         return convertToActionDTO(saveAction);
     }
@@ -204,7 +191,10 @@ public class InquiryService {
         System.out.println("Updating action: " + updateAction);  // 추가 로그
         System.out.println("Updating action status: " + actionStatus);  // 추가 로그
 
-        inquiryAction.updateAction(updateAction, LocalDateTime.now(), employee, actionStatus);
+        LocalDateTime now = LocalDateTime.now();
+        inquiryAction.updateAction(updateAction, now, employee, actionStatus);
+        inquiryAction.getInquiry().recordAction(actionStatus, now);
+        eventPublisher.publishEvent(InquiryQueueChange.of(InquiryQueueEventType.ACTIONED, inquiryAction.getInquiry()));
 
         InquiryActionResponse response = convertToActionDTO(inquiryAction);
 
@@ -219,13 +209,7 @@ public class InquiryService {
     @Transactional
     public Page<InquiryResponse> getInquiriesByCustomerId(Long customerId, Pageable pageable) {
         Page<Inquiry> inquiries = inquiryRepository.findByCustomerId(customerId, pageable);
-
-        return inquiries.map(inquiry -> {
-            InquiryReply reply = inquiryReplyRepository.findByInquiryId(inquiry.getId());
-            InquiryAction action = inquiryActionRepository.findByInquiryId(inquiry.getId());
-
-            return convertToDTO(inquiry, reply, action);
-        });
+        return inquiryPageAssembler.assemble(inquiries);
     }
 
     @Transactional
@@ -254,21 +238,13 @@ public class InquiryService {
         LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
 
         Page<Inquiry> inquiries = inquiryRepository.searchByKeyword(keyword, startDateTime, endDateTime, pageable);
-        return inquiries.map(inquiry -> {
-
-            InquiryReply reply = inquiryReplyRepository.findByInquiryId(inquiry.getId());
-            InquiryAction action = inquiryActionRepository.findByInquiryId(inquiry.getId());
-
-            return convertToDTO(inquiry, reply, action);
-        });
+        return inquiryPageAssembler.assemble(inquiries);
     }
+
+    @Transactional(readOnly = true)
     public Page<InquiryResponse> searchInquiries(String keyword, String customerName, String customerPhone, String inquiryTitle, String inquiryContent, LocalDateTime startDate, LocalDateTime endDate, String type, Boolean isReply, ActionStatus actionStatus, Pageable pageable) {
         Page<Inquiry> inquiries = inquiryRepository.searchByCondition(keyword, customerName, customerPhone, inquiryTitle, inquiryContent, startDate, endDate, type, isReply, actionStatus, pageable);
-        return inquiries.map(inquiry -> {
-            InquiryReply reply = inquiryReplyRepository.findByInquiryId(inquiry.getId());
-            InquiryAction action = inquiryActionRepository.findByInquiryId(inquiry.getId());
-            return convertToDTO(inquiry, reply, action);
-        });
+        return inquiryPageAssembler.assemble(inquiries);
     }
 
     private InquiryResponse convertToDTO(Inquiry inquiry, InquiryReply inquiryReply, InquiryAction inquiryAction) {
@@ -0,0 +1,21 @@
+package com.team2final.minglecrm.inquiry.service.queue;
+
+import com.team2final.minglecrm.inquiry.domain.ActionStatus;
+import com.team2final.minglecrm.inquiry.domain.Inquiry;
+
+import java.time.LocalDateTime;
+
+// 문의함 변경분. 문의함 목록에서 옮기거나 빼는 데 필요한 상태만 담음
+public record InquiryQueueChange(InquiryQueueEventType type,
+                                 Long inquiryId,
+                                 String inquiryTitle,
+                                 Boolean isReply,
+                                 ActionStatus actionStatus,
+                                 LocalDateTime lastActivityTime) {
+
+    // 커밋 뒤에도 호출되므로 지연 로딩 연관은 건드리지 않음
+    public static InquiryQueueChange of(InquiryQueueEventType type, Inquiry inquiry) {
+        return new InquiryQueueChange(type, inquiry.getId(), inquiry.getInquiryTitle(), inquiry.getIsReply(),
+                inquiry.getActionStatus(), inquiry.getLastActivityTime());
+    }
+}
@@ -0,0 +1,32 @@
+package com.team2final.minglecrm.inquiry.service.queue;
+
+import com.team2final.minglecrm.inquiry.domain.Inquiry;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+// 문의 등록은 InquiryService 를 거치지 않으므로 어느 경로로 저장되든 커밋된 뒤에 문의함에 알림
+@Component
+@RequiredArgsConstructor
+public class InquiryQueueEventListener implements PostCommitInsertEventListener {
+
+    private final InquiryQueueStream inquiryQueueStream;
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Inquiry inquiry) {
+            inquiryQueueStream.publish(InquiryQueueChange.of(InquiryQueueEventType.CREATED, inquiry));
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return Inquiry.class.equals(persister.getMappedClass());
+    }
+}
@@ -0,0 +1,17 @@
+package com.team2final.minglecrm.inquiry.service.queue;
+
+import lombok.Getter;
+
+// SSE 이벤트 이름. 클라이언트는 addEventListener 로 이 이름을 구독
+@Getter
+public enum InquiryQueueEventType {
+    CREATED("created"),
+    REPLIED("replied"),
+    ACTIONED("actioned");
+
+    private final String eventName;
+
+    InquiryQueueEventType(String eventName) {
+        this.eventName = eventName;
+    }
+}
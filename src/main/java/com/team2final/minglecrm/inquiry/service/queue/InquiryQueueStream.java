@@ -0,0 +1,234 @@
+package com.team2final.minglecrm.inquiry.service.queue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team2final.minglecrm.inquiry.dto.response.InquiryQueueSnapshot;
+import com.team2final.minglecrm.inquiry.dto.response.InquiryResponse;
+import com.team2final.minglecrm.common.sse.SseSubscriber;
+import com.team2final.minglecrm.inquiry.service.InquiryService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 문의함 실시간 SSE. 구독 시 스냅샷을 한 번 보내고 이후에는 커밋된 변경분만 밀어 줌
+// 이벤트 순번은 한 스레드에서 차례로 매겨 구독자마다 순서가 같고, 변경분 JSON 은 구독자 수와 무관하게 한 번만 만듦
+// 실제 전송은 구독자별 대기열에서 공용 SSE 전송 풀로 처리해 느린 구독자가 다른 구독자를 막지 않음. 대기열이 차면 그 구독자를 끊음
+// 최근 변경분을 replay-size 만큼 남겨 두고, Last-Event-ID 로 재연결하면 그 뒤 변경분만 다시 보냄
+@Slf4j
+@Component
+public class InquiryQueueStream {
+
+    private static final long SSE_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+    private static final long RECONNECT_MILLIS = Duration.ofSeconds(3).toMillis();
+    private static final String SNAPSHOT_EVENT = "snapshot";
+
+    private final InquiryService inquiryService;
+    private final ObjectMapper objectMapper;
+    private final int replaySize;
+    private final int snapshotSize;
+    private final int subscriberBufferSize;
+
+    // 이벤트 id 는 "기동 구분자-순번". 재기동 전 id 로 재연결하면 이어받지 않고 스냅샷부터 보냄
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    // 아래 두 필드는 전송 스레드에서만 변경
+    private final ArrayDeque<QueueEvent> recentEvents = new ArrayDeque<>();
+    private volatile long lastSequence;
+    // 끊김 콜백은 컨테이너 스레드에서 오므로 동시 제거가 가능한 집합 사용
+    private final Set<SseSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "inquiry_queue_stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ThreadPoolTaskExecutor sseSendExecutor;
+
+    public InquiryQueueStream(InquiryService inquiryService,
+                              ObjectMapper objectMapper,
+                              @Qualifier("sseSendExecutor") ThreadPoolTaskExecutor sseSendExecutor,
+                              @Value("${spring.inquiry-queue.replay-size:1000}") int replaySize,
+                              @Value("${spring.inquiry-queue.snapshot-size:20}") int snapshotSize,
+                              @Value("${spring.inquiry-queue.subscriber-buffer-size:100}") int subscriberBufferSize) {
+        this.inquiryService = inquiryService;
+        this.objectMapper = objectMapper;
+        this.sseSendExecutor = sseSendExecutor;
+        this.replaySize = replaySize;
+        this.snapshotSize = snapshotSize;
+        this.subscriberBufferSize = subscriberBufferSize;
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        subscribe(emitter, lastEventId);
+        return emitter;
+    }
+
+    public void subscribe(SseEmitter emitter, String lastEventId) {
+        emitter.onCompletion(() -> unsubscribe(emitter));
+        emitter.onTimeout(() -> unsubscribe(emitter));
+        emitter.onError(e -> unsubscribe(emitter));
+
+        Long resumeAfter = parseSequence(lastEventId);
+        // 스냅샷은 요청 스레드에서 조회. 조회하는 동안 생긴 변경분은 붙일 때 이어서 보내므로 빠지지 않음
+        long snapshotSequence = lastSequence;
+        String snapshot = resumeAfter == null ? loadSnapshot() : null;
+        dispatcher.execute(() -> attach(emitter, resumeAfter, snapshot, snapshotSequence));
+    }
+
+    // 답변, 조치 변경은 InquiryService 트랜잭션이 커밋된 뒤에만 보냄
+    @TransactionalEventListener
+    public void onInquiryQueueChange(InquiryQueueChange change) {
+        publish(change);
+    }
+
+    public void publish(InquiryQueueChange change) {
+        String data = toJson(change);
+        dispatcher.execute(() -> broadcast(change.type().getEventName(), data));
+    }
+
+    // 프록시, 로드밸런서가 유휴 연결을 끊지 않게 하고 끊긴 구독자를 정리
+    @Scheduled(fixedDelayString = "${spring.inquiry-queue.heartbeat-interval-millis:15000}")
+    public void heartbeat() {
+        dispatcher.execute(() -> subscribers.removeIf(subscriber -> !deliver(subscriber, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        dispatcher.shutdown();
+        dispatcher.awaitTermination(5, TimeUnit.SECONDS);
+        subscribers.forEach(subscriber -> subscriber.close(true));
+        subscribers.clear();
+    }
+
+    private void unsubscribe(SseEmitter emitter) {
+        subscribers.removeIf(subscriber -> {
+            if (subscriber.getEmitter() != emitter) {
+                return false;
+            }
+            subscriber.close(false);
+            return true;
+        });
+    }
+
+    private void attach(SseEmitter emitter, Long resumeAfter, String snapshot, long snapshotSequence) {
+        long replayAfter;
+        if (snapshot != null) {
+            replayAfter = snapshotSequence;
+        } else if (canReplayAfter(resumeAfter)) {
+            replayAfter = resumeAfter;
+        } else {
+            // 남겨 둔 변경분보다 오래 끊겨 있었으면 스냅샷부터 다시 보냄. 드문 경우라 전송 스레드에서 조회
+            replayAfter = lastSequence;
+            snapshot = loadSnapshot();
+        }
+
+        // 스냅샷과 다시 보낼 변경분은 대기열 크기 제한 밖에서 넣고, 이후 변경분만 subscriber-buffer-size 로 제한
+        List<SseEmitter.SseEventBuilder> backlog = new ArrayList<>();
+        if (snapshot != null) {
+            backlog.add(event(replayAfter, SNAPSHOT_EVENT, snapshot).reconnectTime(RECONNECT_MILLIS));
+        }
+        for (QueueEvent queueEvent : recentEvents) {
+            if (queueEvent.sequence() > replayAfter) {
+                backlog.add(event(queueEvent));
+            }
+        }
+        SseSubscriber subscriber = new SseSubscriber(emitter, subscriberBufferSize, sseSendExecutor, () -> unsubscribe(emitter));
+        subscriber.replay(backlog);
+        subscribers.add(subscriber);
+    }
+
+    private void broadcast(String name, String data) {
+        QueueEvent queueEvent = new QueueEvent(lastSequence + 1, name, data);
+        recentEvents.addLast(queueEvent);
+        if (recentEvents.size() > replaySize) {
+            recentEvents.removeFirst();
+        }
+        lastSequence = queueEvent.sequence();
+
+        subscribers.removeIf(subscriber -> !deliver(subscriber, event(queueEvent)));
+    }
+
+    private boolean canReplayAfter(Long sequence) {
+        if (sequence == null || sequence > lastSequence) {
+            return false;
+        }
+        return recentEvents.isEmpty() ? sequence == lastSequence : sequence >= recentEvents.peekFirst().sequence() - 1;
+    }
+
+    // 대기열이 찬 구독자는 연결을 닫고 false 를 돌려 목록에서 제거. 재연결하면 Last-Event-ID 로 이어받거나 스냅샷부터 받음
+    private boolean deliver(SseSubscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.offer(event)) {
+            return true;
+        }
+        if (!subscriber.isClosed()) {
+            log.info("문의함 SSE 구독자가 밀려 연결을 닫음 : 대기 {}건", subscriberBufferSize);
+            subscriber.close(true);
+        }
+        return false;
+    }
+
+    private SseEmitter.SseEventBuilder event(QueueEvent queueEvent) {
+        return event(queueEvent.sequence(), queueEvent.name(), queueEvent.data());
+    }
+
+    private SseEmitter.SseEventBuilder event(long sequence, String name, String data) {
+        return SseEmitter.event()
+                .id(bootId + "-" + sequence)
+                .name(name)
+                .data(data, MediaType.APPLICATION_JSON);
+    }
+
+    private Long parseSequence(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(bootId + "-")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(bootId.length() + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 문의함 두 탭(미답변, 조치 전)의 첫 페이지와 전체 건수
+    private String loadSnapshot() {
+        PageRequest pageRequest = PageRequest.of(0, snapshotSize, Sort.by(Sort.Direction.DESC, "id"));
+        Page<InquiryResponse> unanswered = inquiryService.getUnansweredInquiries(pageRequest);
+        Page<InquiryResponse> withoutAction = inquiryService.getInquiriesWithoutAction(pageRequest);
+        return toJson(new InquiryQueueSnapshot(unanswered.getTotalElements(), withoutAction.getTotalElements(),
+                unanswered.getContent(), withoutAction.getContent()));
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("문의함 이벤트를 변환할 수 없습니다.", e);
+        }
+    }
+
+    private record QueueEvent(long sequence, String name, String data) {
+    }
+}
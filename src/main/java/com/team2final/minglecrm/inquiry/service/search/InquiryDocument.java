@@ -0,0 +1,23 @@
+package com.team2final.minglecrm.inquiry.service.search;
+
+import com.team2final.minglecrm.inquiry.domain.ActionStatus;
+
+import java.time.LocalDateTime;
+
+// 문의 검색 색인에 넣는 값. 본문 검색 필드와 패싯 필드만 담음
+public record InquiryDocument(Long id,
+                              Long customerId,
+                              String inquiryTitle,
+                              String inquiryContent,
+                              String customerName,
+                              String customerPhone,
+                              LocalDateTime date,
+                              String type,
+                              Boolean isReply,
+                              ActionStatus actionStatus) {
+
+    public InquiryDocument withCustomer(String customerName, String customerPhone) {
+        return new InquiryDocument(id, customerId, inquiryTitle, inquiryContent, customerName, customerPhone,
+                date, type, isReply, actionStatus);
+    }
+}
@@ -0,0 +1,14 @@
+package com.team2final.minglecrm.inquiry.service.search;
+
+import com.team2final.minglecrm.inquiry.domain.ActionStatus;
+
+import java.time.LocalDate;
+
+// query 가 비어 있으면 필터만 적용해 최신순으로 조회. 나머지 조건은 null 이면 적용하지 않음
+public record InquirySearchCondition(String query,
+                                     LocalDate startDate,
+                                     LocalDate endDate,
+                                     String type,
+                                     Boolean isReply,
+                                     ActionStatus actionStatus) {
+}
@@ -0,0 +1,62 @@
+package com.team2final.minglecrm.inquiry.service.search;
+
+import com.team2final.minglecrm.customer.domain.Customer;
+import com.team2final.minglecrm.inquiry.domain.Inquiry;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+// 문의 등록, 수정(답변, 조치 상태 포함), 삭제와 고객 이름, 전화번호 수정이 커밋된 뒤에 검색 색인에 반영
+@Component
+@RequiredArgsConstructor
+public class InquirySearchEventListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final InquirySearchService inquirySearchService;
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Inquiry inquiry) {
+            inquirySearchService.index(inquiry);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Inquiry inquiry) {
+            inquirySearchService.index(inquiry);
+        } else if (event.getEntity() instanceof Customer customer) {
+            inquirySearchService.updateCustomer(customer);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Inquiry inquiry) {
+            inquirySearchService.remove(inquiry.getId());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> entityClass = persister.getMappedClass();
+        return Inquiry.class.equals(entityClass) || Customer.class.equals(entityClass);
+    }
+}
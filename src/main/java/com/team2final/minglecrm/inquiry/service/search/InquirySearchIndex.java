@@ -0,0 +1,278 @@
+package com.team2final.minglecrm.inquiry.service.search;
+
+import com.team2final.minglecrm.common.search.TextIndex;
+import com.team2final.minglecrm.common.search.TextSearchHit;
+import com.team2final.minglecrm.inquiry.dto.response.InquiryFacetCount;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 문의 제목, 본문, 고객 이름, 전화번호 본문 색인과 패싯 필드를 함께 들고 있음
+// 패싯 건수는 해당 패싯 조건만 뺀 나머지 조건으로 셈. 유형 하나를 고른 상태에서도 다른 유형 건수가 보임
+public class InquirySearchIndex {
+
+    public static final String FACET_MONTH = "month";
+    public static final String FACET_TYPE = "type";
+    public static final String FACET_STATUS = "status";
+    public static final String FACET_ACTION_STATUS = "actionStatus";
+
+    public static final String ANSWERED = "ANSWERED";
+    public static final String UNANSWERED = "UNANSWERED";
+    public static final String NO_ACTION = "NONE";
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    // 점수가 같으면 최신 문의 먼저
+    private static final Comparator<Candidate> RANKING = Comparator.comparingDouble(Candidate::score).reversed()
+            .thenComparing(candidate -> candidate.document().date(), Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(candidate -> candidate.document().id(), Comparator.reverseOrder());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TextIndex textIndex = new TextIndex();
+    private final Map<Long, InquiryDocument> documents = new HashMap<>();
+    private final Map<Long, Set<Long>> inquiryIdsByCustomerId = new HashMap<>();
+
+    // 답변 여부, 조치 상태처럼 패싯 필드만 바뀌면 본문 색인은 그대로 두고 문서만 바꿈
+    public void put(InquiryDocument document) {
+        lock.writeLock().lock();
+        try {
+            InquiryDocument previous = unlinkLocked(document.id());
+            documents.put(document.id(), document);
+            if (document.customerId() != null) {
+                inquiryIdsByCustomerId.computeIfAbsent(document.customerId(), customerId -> new HashSet<>()).add(document.id());
+            }
+            List<String> fields = textFields(document);
+            if (previous == null || !textFields(previous).equals(fields)) {
+                textIndex.add(document.id(), fields);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 고객 이름, 전화번호가 바뀌면 그 고객의 문의를 모두 다시 색인
+    public void updateCustomer(Long customerId, String customerName, String customerPhone) {
+        lock.writeLock().lock();
+        try {
+            for (Long inquiryId : List.copyOf(inquiryIdsByCustomerId.getOrDefault(customerId, Set.of()))) {
+                InquiryDocument document = documents.get(inquiryId);
+                if (!Objects.equals(document.customerName(), customerName) || !Objects.equals(document.customerPhone(), customerPhone)) {
+                    put(document.withCustomer(customerName, customerPhone));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<InquiryDocument> find(Long inquiryId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(documents.get(inquiryId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 같은 고객의 다른 문의에 색인된 이름, 전화번호
+    public Optional<InquiryDocument> findAnyByCustomerId(Long customerId) {
+        lock.readLock().lock();
+        try {
+            return inquiryIdsByCustomerId.getOrDefault(customerId, Set.of()).stream()
+                    .map(documents::get)
+                    .findFirst();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void remove(Long inquiryId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(inquiryId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            textIndex.clear();
+            documents.clear();
+            inquiryIdsByCustomerId.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 본문 색인에 쌓인 문서 번호 수. 지웠지만 압축되지 않은 문서 포함
+    public int textDocumentCount() {
+        return textIndex.documentCount();
+    }
+
+    public InquirySearchResult search(InquirySearchCondition condition, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            FacetCounter facets = new FacetCounter();
+            List<Candidate> matched = new ArrayList<>();
+            for (Candidate candidate : candidates(condition.query())) {
+                InquiryDocument document = candidate.document();
+                boolean monthMatched = inDateRange(document.date(), condition.startDate(), condition.endDate());
+                boolean typeMatched = condition.type() == null || condition.type().equals(document.type());
+                boolean statusMatched = condition.isReply() == null || condition.isReply().equals(Boolean.TRUE.equals(document.isReply()));
+                boolean actionStatusMatched = condition.actionStatus() == null || condition.actionStatus() == document.actionStatus();
+
+                int failed = (monthMatched ? 0 : 1) + (typeMatched ? 0 : 1) + (statusMatched ? 0 : 1) + (actionStatusMatched ? 0 : 1);
+                if (failed == 0) {
+                    matched.add(candidate);
+                }
+                if (failed > 1) {
+                    continue;
+                }
+                // 하나만 어긋난 문서는 그 패싯 건수에만 더함
+                if (failed == 0 || !monthMatched) {
+                    facets.add(FACET_MONTH, month(document.date()));
+                }
+                if (failed == 0 || !typeMatched) {
+                    facets.add(FACET_TYPE, document.type());
+                }
+                if (failed == 0 || !statusMatched) {
+                    facets.add(FACET_STATUS, Boolean.TRUE.equals(document.isReply()) ? ANSWERED : UNANSWERED);
+                }
+                if (failed == 0 || !actionStatusMatched) {
+                    facets.add(FACET_ACTION_STATUS, document.actionStatus() == null ? NO_ACTION : document.actionStatus().name());
+                }
+            }
+
+            matched.sort(RANKING);
+            List<Long> pageIds = matched.stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .map(candidate -> candidate.document().id())
+                    .toList();
+            return new InquirySearchResult(matched.size(), pageIds, facets.toMap());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어가 없으면 전체 문의가 후보
+    private List<Candidate> candidates(String query) {
+        if (query == null || query.isBlank()) {
+            return documents.values().stream()
+                    .map(document -> new Candidate(document, 0))
+                    .toList();
+        }
+        List<Candidate> candidates = new ArrayList<>();
+        for (TextSearchHit hit : textIndex.search(query, Integer.MAX_VALUE)) {
+            InquiryDocument document = documents.get(hit.id());
+            if (document != null) {
+                candidates.add(new Candidate(document, hit.score()));
+            }
+        }
+        return candidates;
+    }
+
+    private void removeLocked(Long inquiryId) {
+        unlinkLocked(inquiryId);
+        textIndex.remove(inquiryId);
+    }
+
+    // 문서와 고객 연결만 지우고 본문 색인은 남김
+    private InquiryDocument unlinkLocked(Long inquiryId) {
+        InquiryDocument removed = documents.remove(inquiryId);
+        if (removed != null && removed.customerId() != null) {
+            Set<Long> inquiryIds = inquiryIdsByCustomerId.get(removed.customerId());
+            inquiryIds.remove(inquiryId);
+            if (inquiryIds.isEmpty()) {
+                inquiryIdsByCustomerId.remove(removed.customerId());
+            }
+        }
+        return removed;
+    }
+
+    // 전화번호는 하이픈 없이 입력해도 찾도록 숫자만 남긴 값도 색인
+    private static List<String> textFields(InquiryDocument document) {
+        String phoneDigits = document.customerPhone() == null ? null : document.customerPhone().replaceAll("[^0-9]", "");
+        List<String> fields = new ArrayList<>();
+        fields.add(document.inquiryTitle());
+        fields.add(document.inquiryContent());
+        fields.add(document.customerName());
+        fields.add(document.customerPhone());
+        fields.add(phoneDigits);
+        return fields;
+    }
+
+    private static boolean inDateRange(LocalDateTime date, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null && endDate == null) {
+            return true;
+        }
+        if (date == null) {
+            return false;
+        }
+        LocalDate day = date.toLocalDate();
+        return (startDate == null || !day.isBefore(startDate)) && (endDate == null || !day.isAfter(endDate));
+    }
+
+    private static String month(LocalDateTime date) {
+        return date == null ? null : date.format(MONTH_FORMAT);
+    }
+
+    private record Candidate(InquiryDocument document, double score) {
+    }
+
+    private static class FacetCounter {
+
+        private final Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+
+        private FacetCounter() {
+            counts.put(FACET_MONTH, new HashMap<>());
+            counts.put(FACET_TYPE, new HashMap<>());
+            counts.put(FACET_STATUS, new HashMap<>());
+            counts.put(FACET_ACTION_STATUS, new HashMap<>());
+        }
+
+        private void add(String facet, String value) {
+            if (value != null) {
+                counts.get(facet).merge(value, 1L, Long::sum);
+            }
+        }
+
+        // 월은 최신 월부터, 나머지는 건수가 많은 값부터
+        private Map<String, List<InquiryFacetCount>> toMap() {
+            Map<String, List<InquiryFacetCount>> facets = new LinkedHashMap<>();
+            for (Map.Entry<String, Map<String, Long>> facet : counts.entrySet()) {
+                Comparator<InquiryFacetCount> order = FACET_MONTH.equals(facet.getKey())
+                        ? Comparator.comparing(InquiryFacetCount::value).reversed()
+                        : Comparator.comparingLong(InquiryFacetCount::count).reversed().thenComparing(InquiryFacetCount::value);
+                facets.put(facet.getKey(), facet.getValue().entrySet().stream()
+                        .map(entry -> new InquiryFacetCount(entry.getKey(), entry.getValue()))
+                        .sorted(order)
+                        .toList());
+            }
+            return facets;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.team2final.minglecrm.inquiry.service.search;
+
+import com.team2final.minglecrm.inquiry.dto.response.InquiryFacetCount;
+
+import java.util.List;
+import java.util.Map;
+
+// 조건에 맞는 전체 건수, 요청한 페이지의 문의 id(순위 순), 패싯 이름 별 값 건수
+public record InquirySearchResult(long total, List<Long> pageIds, Map<String, List<InquiryFacetCount>> facets) {
+}
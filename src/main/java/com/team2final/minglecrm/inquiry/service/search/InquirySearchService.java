@@ -0,0 +1,100 @@
+package com.team2final.minglecrm.inquiry.service.search;
+
+import com.team2final.minglecrm.common.search.RebuildableIndex;
+import com.team2final.minglecrm.customer.domain.Customer;
+import com.team2final.minglecrm.customer.domain.repository.CustomerRepository;
+import com.team2final.minglecrm.inquiry.domain.Inquiry;
+import com.team2final.minglecrm.inquiry.domain.repository.InquiryRepository;
+import com.team2final.minglecrm.inquiry.dto.response.InquiryResponse;
+import com.team2final.minglecrm.inquiry.dto.response.InquirySearchResponse;
+import com.team2final.minglecrm.inquiry.service.InquiryPageAssembler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 문의 본문 검색. 검색은 색인에서 순위, 패싯, 페이지를 정하고 DB 는 페이지의 id 만 한 번 조회
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InquirySearchService {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final InquiryRepository inquiryRepository;
+    private final CustomerRepository customerRepository;
+    private final InquiryPageAssembler inquiryPageAssembler;
+    private final RebuildableIndex<InquirySearchIndex> index = new RebuildableIndex<>(InquirySearchIndex::new);
+    // 다시 채우는 동안 바뀐 고객 이름, 전화번호. 그보다 먼저 읽은 페이지의 문의에 옛 값이 들어가지 않게 덮어씀
+    private final Map<Long, CustomerFields> customersChangedWhileRebuilding = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        customersChangedWhileRebuilding.clear();
+        try {
+            InquirySearchIndex rebuilt = index.rebuild(REBUILD_PAGE_SIZE,
+                    lastId -> inquiryRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, REBUILD_PAGE_SIZE)),
+                    InquiryDocument::id, (target, document) -> target.put(withChangedCustomer(document)));
+            log.info("문의 검색 색인 완료 : {}건", rebuilt.size());
+        } finally {
+            customersChangedWhileRebuilding.clear();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public InquirySearchResponse search(InquirySearchCondition condition, Pageable pageable) {
+        InquirySearchResult result = index.current().search(condition, pageable.getOffset(), pageable.getPageSize());
+        Page<InquiryResponse> inquiries = inquiryPageAssembler.assemble(result.pageIds(), pageable, result.total());
+        return new InquirySearchResponse(inquiries, result.facets());
+    }
+
+    // 커밋 뒤에 호출되므로 지연 로딩을 하지 않음. 고객이 아직 로딩되지 않았으면 이미 색인된 같은 고객 값을 쓰고, 없으면 DB 에서 읽음
+    public void index(Inquiry inquiry) {
+        Customer customer = inquiry.getCustomer();
+        Long customerId = customer == null ? null : customer.getId();
+        CustomerFields customerFields = null;
+        if (customer != null && Hibernate.isInitialized(customer)) {
+            customerFields = new CustomerFields(customer.getName(), customer.getPhone());
+        } else if (customer != null) {
+            InquirySearchIndex current = index.current();
+            customerFields = current.find(inquiry.getId())
+                    .or(() -> current.findAnyByCustomerId(customerId))
+                    .map(indexed -> new CustomerFields(indexed.customerName(), indexed.customerPhone()))
+                    .or(() -> customerRepository.findLookupEntry(customerId)
+                            .map(entry -> new CustomerFields(entry.name(), entry.phone())))
+                    .orElse(null);
+        }
+        InquiryDocument document = new InquiryDocument(inquiry.getId(), customerId, inquiry.getInquiryTitle(), inquiry.getInquiryContent(),
+                customerFields == null ? null : customerFields.name(), customerFields == null ? null : customerFields.phone(),
+                inquiry.getDate(), inquiry.getType(), inquiry.getIsReply(), inquiry.getActionStatus());
+        index.write(inquiry.getId(), target -> target.put(document));
+    }
+
+    public void updateCustomer(Customer customer) {
+        if (index.isRebuilding()) {
+            customersChangedWhileRebuilding.put(customer.getId(), new CustomerFields(customer.getName(), customer.getPhone()));
+        }
+        index.writeAll(target -> target.updateCustomer(customer.getId(), customer.getName(), customer.getPhone()));
+    }
+
+    public void remove(Long inquiryId) {
+        index.write(inquiryId, target -> target.remove(inquiryId));
+    }
+
+    private InquiryDocument withChangedCustomer(InquiryDocument document) {
+        CustomerFields changed = document.customerId() == null ? null : customersChangedWhileRebuilding.get(document.customerId());
+        return changed == null ? document : document.withCustomer(changed.name(), changed.phone());
+    }
+
+    private record CustomerFields(String name, String phone) {
+    }
+}
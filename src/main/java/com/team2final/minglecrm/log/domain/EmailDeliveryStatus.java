@@ -0,0 +1,7 @@
+package com.team2final.minglecrm.log.domain;
+
+public enum EmailDeliveryStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 import static jakarta.persistence.FetchType.LAZY;
 
 @Entity
+@Table(indexes = @Index(name = "idx_view_log_view_time_id", columnList = "view_time, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ViewLog {
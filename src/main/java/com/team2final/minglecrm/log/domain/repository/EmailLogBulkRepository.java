@@ -0,0 +1,29 @@
+package com.team2final.minglecrm.log.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// IDENTITY 키라 JPA 로는 배치 INSERT 가 되지 않아 JDBC 로 한 번에 적재
+@Repository
+@RequiredArgsConstructor
+public class EmailLogBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(Long eventId, List<Long> customerIds) {
+        if (customerIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO email_log (event_id, customer_id, is_opened) VALUES (?, ?, false)",
+                customerIds,
+                customerIds.size(),
+                (ps, customerId) -> {
+                    ps.setLong(1, eventId);
+                    ps.setLong(2, customerId);
+                });
+    }
+}
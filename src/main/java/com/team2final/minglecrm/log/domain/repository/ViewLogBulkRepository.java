@@ -0,0 +1,33 @@
+package com.team2final.minglecrm.log.domain.repository;
+
+import com.team2final.minglecrm.log.service.view.ViewLogEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ViewLogBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 직원 조회를 INSERT ... SELECT 로 합쳐 조회 요청 경로에서 직원 조회를 없앰
+    public void saveAll(List<ViewLogEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO view_log (customer_id, employee_id, view_time) " +
+                        "SELECT ?, e.id, ? FROM employee e WHERE e.email = ?",
+                events,
+                events.size(),
+                (ps, event) -> {
+                    ps.setLong(1, event.customerId());
+                    ps.setTimestamp(2, Timestamp.valueOf(event.viewTime()));
+                    ps.setString(3, event.employeeEmail());
+                });
+    }
+}
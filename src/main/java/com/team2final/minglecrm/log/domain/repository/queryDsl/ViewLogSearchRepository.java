@@ -1,6 +1,7 @@
 package com.team2final.minglecrm.log.domain.repository.queryDsl;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.team2final.minglecrm.customer.domain.QCustomer;
 import com.team2final.minglecrm.employee.domain.QEmployee;
@@ -9,9 +10,14 @@ import com.team2final.minglecrm.log.dto.view.request.ViewLogSearchCondition;
 import com.team2final.minglecrm.log.dto.view.response.QViewLogResponse;
 import com.team2final.minglecrm.log.dto.view.response.ViewLogResponse;
 import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
@@ -25,31 +31,106 @@ public class ViewLogSearchRepository {
         this.queryFactory = new JPAQueryFactory(em);
     }
 
-    public List<ViewLogResponse> search(ViewLogSearchCondition condition) {
+    // offset 페이지. 마지막 페이지 등 내용만으로 전체 건수를 알 수 있으면 count 쿼리 생략
+    public Page<ViewLogResponse> search(ViewLogSearchCondition condition, Pageable pageable) {
+        List<ViewLogResponse> content = selectFrom(condition)
+                .where(conditions(condition))
+                .orderBy(QViewLog.viewLog.viewTime.desc(), QViewLog.viewLog.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(condition));
+    }
+
+    // count 없이 다음 페이지 존재 여부만 확인 (size + 1 건 조회)
+    public Slice<ViewLogResponse> searchSlice(ViewLogSearchCondition condition, Pageable pageable) {
+        List<ViewLogResponse> content = selectFrom(condition)
+                .where(conditions(condition))
+                .orderBy(QViewLog.viewLog.viewTime.desc(), QViewLog.viewLog.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        return toSlice(content, pageable);
+    }
+
+    // 키셋 페이지. (viewTime, id) 가 마지막으로 받은 행보다 작은 행부터 읽어 깊은 페이지도 offset 비용이 없음
+    public Slice<ViewLogResponse> searchAfter(ViewLogSearchCondition condition, LocalDateTime lastViewTime, Long lastId, int size) {
         QViewLog viewLog = QViewLog.viewLog;
 
-        return queryFactory
+        List<ViewLogResponse> content = selectFrom(condition)
+                .where(conditions(condition))
+                .where(before(lastViewTime, lastId))
+                .orderBy(viewLog.viewTime.desc(), viewLog.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        return toSlice(content, PageRequest.ofSize(size));
+    }
+
+    private JPAQuery<ViewLogResponse> selectFrom(ViewLogSearchCondition condition) {
+        QViewLog viewLog = QViewLog.viewLog;
+
+        return joinRelations(queryFactory
                 .select(new QViewLogResponse(
                         viewLog.id,
-                        viewLog.employee.name,
-                        viewLog.employee.email,
-                        viewLog.employee.authority,
-                        viewLog.customer.name,
-                        viewLog.customer.email,
-                        viewLog.customer.grade,
+                        QEmployee.employee.name,
+                        QEmployee.employee.email,
+                        QEmployee.employee.authority,
+                        QCustomer.customer.name,
+                        QCustomer.customer.email,
+                        QCustomer.customer.grade,
                         viewLog.viewTime
                 ))
-                .from(viewLog)
-                .where(
-                        customerNameEq(condition.getCustomerName()),
-                        customerGradeEq(condition.getCustomerGrade()),
-                        customerEmailEq(condition.getCustomerEmail()),
-                        employeeNameEq(condition.getEmployeeName()),
-                        employeeGradeEq(condition.getEmployeeGrade()),
-                        employeeEmailEq(condition.getEmployeeEmail()),
-                        withinDateRange(condition.getStartDate(), condition.getEndDate())
-                )
-                .fetch();
+                .from(viewLog));
+    }
+
+    // select 절 없이 건수만 셈. 내용 쿼리와 같은 inner join 을 걸어야 고객, 직원이 없는 로그가 건수에만 잡히지 않음
+    private Long count(ViewLogSearchCondition condition) {
+        QViewLog viewLog = QViewLog.viewLog;
+
+        return joinRelations(queryFactory
+                .select(viewLog.count())
+                .from(viewLog))
+                .where(conditions(condition))
+                .fetchOne();
+    }
+
+    private <T> JPAQuery<T> joinRelations(JPAQuery<T> query) {
+        QViewLog viewLog = QViewLog.viewLog;
+        return query
+                .join(viewLog.customer, QCustomer.customer)
+                .join(viewLog.employee, QEmployee.employee);
+    }
+
+    private BooleanExpression[] conditions(ViewLogSearchCondition condition) {
+        return new BooleanExpression[]{
+                customerNameEq(condition.getCustomerName()),
+                customerGradeEq(condition.getCustomerGrade()),
+                customerEmailEq(condition.getCustomerEmail()),
+                employeeNameEq(condition.getEmployeeName()),
+                employeeGradeEq(condition.getEmployeeGrade()),
+                employeeEmailEq(condition.getEmployeeEmail()),
+                withinDateRange(condition.getStartDate(), condition.getEndDate())
+        };
+    }
+
+    private BooleanExpression before(LocalDateTime lastViewTime, Long lastId) {
+        if (lastViewTime == null || lastId == null) {
+            return null;
+        }
+        QViewLog viewLog = QViewLog.viewLog;
+        return viewLog.viewTime.lt(lastViewTime)
+                .or(viewLog.viewTime.eq(lastViewTime).and(viewLog.id.lt(lastId)));
+    }
+
+    private Slice<ViewLogResponse> toSlice(List<ViewLogResponse> content, Pageable pageable) {
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
     }
 
     private BooleanExpression customerNameEq(String customerName) {
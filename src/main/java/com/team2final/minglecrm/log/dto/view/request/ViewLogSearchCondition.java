@@ -23,11 +23,21 @@ public class ViewLogSearchCondition {
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
     private final LocalDateTime endDate;
 
+    // 빈 값으로 넘어온 검색어는 조건 없음으로 봄. "grade=" 가 빈 문자열 일치 조건이 되지 않게 함
     public static ViewLogSearchCondition of(String employeeName, String employeeGrade, String employeeEmail,
                                             String customerName, String customerGrade, String customerEmail,
                                             LocalDateTime startDate, LocalDateTime endDate) {
         return new ViewLogSearchCondition(
-                employeeName, employeeGrade, employeeEmail, customerName, customerGrade, customerEmail, startDate, endDate
+                blankToNull(employeeName), blankToNull(employeeGrade), blankToNull(employeeEmail),
+                blankToNull(customerName), blankToNull(customerGrade), blankToNull(customerEmail), startDate, endDate
         );
     }
+
+    public ViewLogSearchCondition normalize() {
+        return of(employeeName, employeeGrade, employeeEmail, customerName, customerGrade, customerEmail, startDate, endDate);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
 }
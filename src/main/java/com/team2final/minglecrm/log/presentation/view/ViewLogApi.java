@@ -6,13 +6,17 @@ import com.team2final.minglecrm.log.service.view.ViewLogService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -36,17 +40,31 @@ public class ViewLogApi {
             Pageable pageable
 
     ) {
-        ViewLogSearchCondition condition = ViewLogSearchCondition.of(searchCondition.getEmployeeName(),
-                searchCondition.getEmployeeGrade(),
-                searchCondition.getEmployeeEmail(),
-                searchCondition.getCustomerName(),
-                searchCondition.getCustomerGrade(),
-                searchCondition.getCustomerEmail(),
-                searchCondition.getStartDate(),
-                searchCondition.getEndDate());
-
-        Page<ViewLogResponse> viewLogResponses = viewLogService.search(pageable, condition);
+        Page<ViewLogResponse> viewLogResponses = viewLogService.search(pageable, searchCondition.normalize());
 
         return ResponseEntity.ok(viewLogResponses);
     }
+
+    // count 쿼리 없이 다음 페이지 존재 여부만 반환
+    @GetMapping("/search/slice")
+    @PreAuthorize("hasAnyRole('MANAGER')")
+    public ResponseEntity<Slice<ViewLogResponse>> searchSlice(
+            @ModelAttribute ViewLogSearchCondition searchCondition,
+            Pageable pageable
+    ) {
+        return ResponseEntity.ok(viewLogService.searchSlice(pageable, searchCondition.normalize()));
+    }
+
+    // 이전 응답의 마지막 (viewTime, id) 다음부터 조회. 첫 페이지는 둘 다 생략
+    @GetMapping("/search/keyset")
+    @PreAuthorize("hasAnyRole('MANAGER')")
+    public ResponseEntity<Slice<ViewLogResponse>> searchAfter(
+            @ModelAttribute ViewLogSearchCondition searchCondition,
+            @RequestParam(name = "lastViewTime", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastViewTime,
+            @RequestParam(name = "lastId", required = false) Long lastId,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(viewLogService.searchAfter(searchCondition.normalize(), lastViewTime, lastId, size));
+    }
 }
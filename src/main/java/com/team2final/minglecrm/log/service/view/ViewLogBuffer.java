@@ -0,0 +1,172 @@
+package com.team2final.minglecrm.log.service.view;
+
+import com.team2final.minglecrm.log.domain.repository.ViewLogBulkRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 조회 로그 write-behind 버퍼. 요청 스레드는 큐에 넣기만 하고, 주기 또는 건수 기준으로 모아서 적재
+// 적재에 실패한 묶음은 다음 비우기에서 먼저 다시 적재하고, max-retries 번 더 실패하면 버림. 그동안 새 기록은 큐에 남겨 둠
+@Slf4j
+@Component
+public class ViewLogBuffer {
+
+    private final ViewLogBulkRepository viewLogBulkRepository;
+    private final int capacity;
+    private final int batchSize;
+    private final int maxRetries;
+
+    private final ConcurrentLinkedQueue<ViewLogEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "view_log_flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    // 아래 두 필드는 flushLock 안에서만 다룸
+    private List<ViewLogEvent> failedBatch = List.of();
+    private int failedAttempts;
+
+    public ViewLogBuffer(ViewLogBulkRepository viewLogBulkRepository,
+                         @Value("${spring.view-log.buffer.capacity:10000}") int capacity,
+                         @Value("${spring.view-log.buffer.batch-size:500}") int batchSize,
+                         @Value("${spring.view-log.buffer.max-retries:3}") int maxRetries) {
+        this.viewLogBulkRepository = viewLogBulkRepository;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.maxRetries = maxRetries;
+    }
+
+    public void offer(ViewLogEvent event) {
+        if (!tryEnqueue(event)) {
+            // 버퍼가 가득 차면 요청 스레드가 직접 비워 유입 속도를 늦춤
+            flush();
+            if (!tryEnqueue(event)) {
+                droppedCount.incrementAndGet();
+                log.warn("조회 로그 버퍼가 가득 차 기록을 버림 : customer {}", event.customerId());
+                return;
+            }
+        }
+
+        if (size.get() >= batchSize && !flushLock.isLocked()) {
+            flushExecutor.execute(this::flush);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${spring.view-log.buffer.flush-interval-millis:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 종료 시 남은 기록을 모두 적재
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        flushLock.lock();
+        try {
+            drain();
+            // 종료할 때까지 적재하지 못한 기록은 버림
+            long lost = failedBatch.size() + size.get();
+            if (lost > 0) {
+                droppedCount.addAndGet(lost);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+        log.info("조회 로그 버퍼 종료 : 적재 {}, 버림 {}", flushedCount.get(), droppedCount.get());
+    }
+
+    public int getSize() {
+        return size.get();
+    }
+
+    public long getFlushedCount() {
+        return flushedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private boolean tryEnqueue(ViewLogEvent event) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return false;
+        }
+        queue.offer(event);
+        return true;
+    }
+
+    private void drain() {
+        if (!failedBatch.isEmpty()) {
+            List<ViewLogEvent> retry = failedBatch;
+            failedBatch = List.of();
+            if (!write(retry)) {
+                return;
+            }
+        }
+
+        List<ViewLogEvent> batch = new ArrayList<>(batchSize);
+        ViewLogEvent event;
+        while ((event = queue.poll()) != null) {
+            size.decrementAndGet();
+            batch.add(event);
+            if (batch.size() == batchSize) {
+                if (!write(batch)) {
+                    return;
+                }
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        write(batch);
+    }
+
+    // 실패하면 false 를 돌려 이번 비우기를 멈춤. 남은 기록은 큐에 두고 다음 비우기에서 이어서 적재
+    private boolean write(List<ViewLogEvent> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        try {
+            viewLogBulkRepository.saveAll(batch);
+            flushedCount.addAndGet(batch.size());
+            failedAttempts = 0;
+            return true;
+        } catch (Exception e) {
+            if (failedAttempts >= maxRetries) {
+                droppedCount.addAndGet(batch.size());
+                failedAttempts = 0;
+                log.error("조회 로그 {}건 적재 실패, {}번 다시 시도한 뒤 버림", batch.size(), maxRetries, e);
+            } else {
+                failedAttempts++;
+                failedBatch = batch;
+                log.warn("조회 로그 {}건 적재 실패, 다음 비우기에서 다시 시도 ({}/{})", batch.size(), failedAttempts, maxRetries, e);
+            }
+            return false;
+        }
+    }
+}
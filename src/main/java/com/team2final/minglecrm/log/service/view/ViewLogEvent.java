@@ -0,0 +1,7 @@
+package com.team2final.minglecrm.log.service.view;
+
+import java.time.LocalDateTime;
+
+// 고객 상세 조회 기록. 직원 id 는 적재 시점에 이메일로 찾음
+public record ViewLogEvent(Long customerId, String employeeEmail, LocalDateTime viewTime) {
+}
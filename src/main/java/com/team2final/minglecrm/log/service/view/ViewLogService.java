@@ -1,9 +1,5 @@
 package com.team2final.minglecrm.log.service.view;
 
-import com.team2final.minglecrm.customer.domain.Customer;
-import com.team2final.minglecrm.customer.domain.repository.CustomerRepository;
-import com.team2final.minglecrm.employee.domain.Employee;
-import com.team2final.minglecrm.employee.domain.repository.EmployeeRepository;
 import com.team2final.minglecrm.log.domain.ViewLog;
 import com.team2final.minglecrm.log.domain.repository.ViewLogRepository;
 import com.team2final.minglecrm.log.domain.repository.queryDsl.ViewLogSearchRepository;
@@ -11,25 +7,26 @@ import com.team2final.minglecrm.log.dto.view.request.ViewLogSearchCondition;
 import com.team2final.minglecrm.log.dto.view.response.ViewLogResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ViewLogService {
 
+    private static final int DEFAULT_PAGE_SIZE = 5;
+    // 한 요청에서 읽는 최대 행 수
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ViewLogRepository viewLogRepository;
-    private final CustomerRepository customerRepository;
-    private final EmployeeRepository employeeRepository;
     private final ViewLogSearchRepository viewLogSearchRepository;
+    private final ViewLogBuffer viewLogBuffer;
 
     public List<ViewLogResponse> findAllLogs() {
 
@@ -40,26 +37,31 @@ public class ViewLogService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional
+    // 조회 요청 안에서 INSERT 하지 않고 버퍼에 넣어 두면 모아서 적재됨
     public void createViewLog(Long customerId, String employeeEmail) {
-        Customer customer = customerRepository.findById(customerId).orElseThrow(
-                () -> new RuntimeException("고객을 찾을 수 없습니다."));
+        viewLogBuffer.offer(new ViewLogEvent(customerId, employeeEmail, LocalDateTime.now()));
+    }
+
+    public Page<ViewLogResponse> search(Pageable pageable, ViewLogSearchCondition condition) {
+        return viewLogSearchRepository.search(condition, clamp(pageable));
+    }
 
-        Employee employee = employeeRepository.findByEmail(employeeEmail).orElseThrow(
-                () -> new RuntimeException("직원을 찾을 수 없습니다."));
+    public Slice<ViewLogResponse> searchSlice(Pageable pageable, ViewLogSearchCondition condition) {
+        return viewLogSearchRepository.searchSlice(condition, clamp(pageable));
+    }
 
-        ViewLog createdViewLog = ViewLog.builder()
-                .customer(customer)
-                .employee(employee)
-                .viewTime(LocalDateTime.now())
-                .build();
+    public Slice<ViewLogResponse> searchAfter(ViewLogSearchCondition condition, LocalDateTime lastViewTime, Long lastId, int size) {
+        return viewLogSearchRepository.searchAfter(condition, lastViewTime, lastId, clampSize(size));
+    }
 
-        viewLogRepository.save(createdViewLog);
+    private Pageable clamp(Pageable pageable) {
+        if (pageable == null || pageable.isUnpaged()) {
+            return PageRequest.of(0, DEFAULT_PAGE_SIZE);
+        }
+        return PageRequest.of(pageable.getPageNumber(), clampSize(pageable.getPageSize()), pageable.getSort());
     }
 
-    public Page<ViewLogResponse> search(Pageable pageable, ViewLogSearchCondition condition) {
-        pageable = pageable == null ? PageRequest.of(0, 5) : pageable;
-        List<ViewLogResponse> search = viewLogSearchRepository.search(condition);
-        return new PageImpl<>(search, pageable, search.size());
+    private int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
     }
 }
\ No newline at end of file
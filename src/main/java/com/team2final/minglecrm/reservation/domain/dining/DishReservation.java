@@ -17,6 +17,7 @@ import static jakarta.persistence.FetchType.LAZY;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_dish_reservation_restaurant", columnList = "restaurant"))
 public class DishReservation {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
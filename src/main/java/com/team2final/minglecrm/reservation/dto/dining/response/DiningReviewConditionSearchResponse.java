@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 @Getter
 public class DiningReviewConditionSearchResponse {
 
+    private Long id;
     private String customerName;
     private Double kindnessRating;
     private Double tasteRating;
@@ -21,6 +22,7 @@ public class DiningReviewConditionSearchResponse {
 
     @QueryProjection
     public DiningReviewConditionSearchResponse(
+            Long id,
             String customerName,
             Double kindnessRating,
             Double tasteRating,
@@ -30,6 +32,7 @@ public class DiningReviewConditionSearchResponse {
             LocalDateTime createdTime,
             String restaurant
     ) {
+        this.id = id;
         this.customerName = customerName;
         this.kindnessRating = kindnessRating;
         this.cleanlinessRating = cleanlinessRating;
@@ -1,7 +1,5 @@
 package com.team2final.minglecrm.reservation.service.hotel;
 
-import com.team2final.minglecrm.reservation.domain.hotel.repository.RoomReservationQueryDslRepository;
-import com.team2final.minglecrm.reservation.domain.hotel.repository.RoomReservationQueryDslRepositoryImpl;
 import com.team2final.minglecrm.reservation.dto.hotel.request.UpdateRoomReservationRequest;
 import com.team2final.minglecrm.reservation.dto.hotel.response.RoomReservationResponse;
 import com.team2final.minglecrm.reservation.domain.hotel.RoomReservation;
@@ -13,6 +11,7 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 import com.team2final.minglecrm.reservation.dto.hotel.response.RoomReservationStatisticsResponse;
+import com.team2final.minglecrm.statistics.service.demographic.DemographicCubeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,7 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class HotelReservationService {
 
     private final RoomReservationRepository roomReservationRepository;
-    private final RoomReservationQueryDslRepository roomReservationQueryDslRepository;
+    private final DemographicCubeService demographicCubeService;
 
     @Transactional
     public List<RoomReservationResponse> findById(Long customerId) {
@@ -93,7 +92,7 @@ public class HotelReservationService {
 
     @Transactional
     public RoomReservationStatisticsResponse getRoomReservationStatistics(LocalDate startDate, LocalDate endDate) {
-        return roomReservationQueryDslRepository.findRoomReservationStatistics(startDate, endDate);
+        return demographicCubeService.getRoomReservationStatistics(startDate, endDate);
     }
 
 }
@@ -14,6 +14,7 @@ import static jakarta.persistence.FetchType.LAZY;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_dining_review_created_date_id", columnList = "created_date, id"))
 public class DiningReview {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
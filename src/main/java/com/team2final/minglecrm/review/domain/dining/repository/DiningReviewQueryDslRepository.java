@@ -4,8 +4,10 @@ import com.team2final.minglecrm.ai.dto.vo.DiningReviewForSummary;
 import com.team2final.minglecrm.reservation.dto.dining.response.DiningReviewConditionSearchResponse;
 import com.team2final.minglecrm.reservation.dto.dining.response.DiningReviewResponse;
 import com.team2final.minglecrm.review.domain.dining.DiningReview;
+import com.team2final.minglecrm.review.domain.search.ReviewCursor;
 import com.team2final.minglecrm.review.dto.dining.request.DiningReviewConditionSearchRequest;
 import com.team2final.minglecrm.review.dto.dining.response.DiningReviewConditionSearchForSummaryResponse;
+import com.team2final.minglecrm.review.dto.dining.response.DiningReviewRatingAggregate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -16,9 +18,15 @@ public interface DiningReviewQueryDslRepository {
 
     Page<DiningReviewConditionSearchResponse> searchByExpression(DiningReviewConditionSearchRequest condition, Pageable pageable);
 
+    List<DiningReviewConditionSearchResponse> scrollByExpression(DiningReviewConditionSearchRequest condition, ReviewCursor cursor, int size);
+
+    List<DiningReviewConditionSearchResponse> findByIdsAndExpression(List<Long> ids, DiningReviewConditionSearchRequest condition);
+
     Long countByExpression(DiningReviewConditionSearchRequest condition);
 
     List<DiningReviewForSummary> findAllByStartDateCondition(LocalDateTime startDate);
 
     List<DiningReviewConditionSearchForSummaryResponse> findDiningReviewsByCondition(DiningReviewConditionSearchRequest condition);
+
+    DiningReviewRatingAggregate aggregateRatings(String restaurant, LocalDateTime from, LocalDateTime to, boolean toInclusive);
 }
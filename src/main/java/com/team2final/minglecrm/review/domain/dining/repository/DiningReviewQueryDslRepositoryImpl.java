@@ -1,6 +1,8 @@
 package com.team2final.minglecrm.review.domain.dining.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.team2final.minglecrm.ai.dto.vo.DiningReviewForSummary;
 import com.team2final.minglecrm.ai.dto.vo.QDiningReviewForSummary;
@@ -10,13 +12,17 @@ import com.team2final.minglecrm.reservation.dto.dining.response.DiningReviewCond
 import com.team2final.minglecrm.reservation.dto.dining.response.DiningReviewResponse;
 import com.team2final.minglecrm.reservation.dto.dining.response.QDiningReviewConditionSearchResponse;
 import com.team2final.minglecrm.review.domain.dining.QDiningReview;
+import com.team2final.minglecrm.review.domain.search.ReviewCursor;
+import com.team2final.minglecrm.review.domain.search.ReviewSearchExpressions;
 import com.team2final.minglecrm.review.dto.dining.request.DiningReviewConditionSearchRequest;
 import com.team2final.minglecrm.review.dto.dining.response.DiningReviewConditionSearchForSummaryResponse;
+import com.team2final.minglecrm.review.dto.dining.response.DiningReviewRatingAggregate;
 import com.team2final.minglecrm.review.dto.dining.response.QDiningReviewConditionSearchForSummaryResponse;
+import com.team2final.minglecrm.review.dto.dining.response.QDiningReviewRatingAggregate;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.web.bind.annotation.RequestBody;
 
 import java.time.LocalDateTime;
@@ -24,6 +30,10 @@ import java.util.List;
 
 public class DiningReviewQueryDslRepositoryImpl implements DiningReviewQueryDslRepository {
 
+    private static final QDiningReview diningReview = QDiningReview.diningReview;
+    private static final QCustomer customer = QCustomer.customer;
+    private static final QDishReservation dishReservation = QDishReservation.dishReservation;
+
     private final EntityManager em;
     private final JPAQueryFactory queryFactory;
 
@@ -33,44 +43,42 @@ public class DiningReviewQueryDslRepositoryImpl implements DiningReviewQueryDslR
     }
 
 
+    // 목록과 건수가 같은 조인, 같은 조건을 쓰도록 한 곳에서 만듦. 건수 쿼리는 필요할 때만 실행
     @Override
     public Page<DiningReviewConditionSearchResponse> searchByExpression(DiningReviewConditionSearchRequest condition, Pageable pageable) {
+        List<DiningReviewConditionSearchResponse> response = selectFromSearch(searchResponse())
+                .where(searchCondition(condition))
+                .orderBy(diningReview.createdDate.desc(), diningReview.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
 
-        QDiningReview diningReview = QDiningReview.diningReview;
-        QCustomer customer = QCustomer.customer;
-        QDishReservation dishReservation = QDishReservation.dishReservation;
+        JPAQuery<Long> countQuery = selectFromSearch(diningReview.count())
+                .where(searchCondition(condition));
 
-        BooleanBuilder builder = new BooleanBuilder();
+        return PageableExecutionUtils.getPage(response, pageable, countQuery::fetchOne);
+    }
 
-        if (condition.getCustomerName() != null) {
-            builder.and(customer.name.eq(condition.getCustomerName()));
-        }
-        if (condition.getRestaurant() != null) {
-            builder.and(dishReservation.restaurant.eq(condition.getRestaurant()));
-        }
-        if (condition.getStartDate() != null && condition.getEndDate() != null) {
-            builder.and(diningReview.createdDate.between(condition.getStartDate(), condition.getEndDate()));
-        }
-        List<DiningReviewConditionSearchResponse> response = queryFactory
-                .select(new QDiningReviewConditionSearchResponse(
-                        customer.name,
-                        diningReview.kindnessRating,
-                        diningReview.tasteRating,
-                        diningReview.cleanlinessRating,
-                        diningReview.atmosphereRating,
-                        diningReview.review,
-                        diningReview.createdDate,
-                        dishReservation.restaurant
-                ))
-                .from(diningReview)
-                .join(diningReview.customer, customer)
-                .join(diningReview.dishReservation, dishReservation)
-                .where(builder)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+    // 최신순 무한 스크롤. 다음 페이지 여부 판단을 위해 size + 1 건까지 읽음
+    @Override
+    public List<DiningReviewConditionSearchResponse> scrollByExpression(DiningReviewConditionSearchRequest condition, ReviewCursor cursor, int size) {
+        return selectFromSearch(searchResponse())
+                .where(searchCondition(condition),
+                        ReviewSearchExpressions.olderThan(diningReview.createdDate, diningReview.id, cursor))
+                .orderBy(diningReview.createdDate.desc(), diningReview.id.desc())
+                .limit(size + 1L)
                 .fetch();
+    }
 
-        return new PageImpl<>(response, pageable, response.size());
+    // 본문 검색 결과 id 를 기존 검색 조건과 함께 걸러 냄. 순서는 호출한 쪽에서 점수 순으로 맞춤
+    @Override
+    public List<DiningReviewConditionSearchResponse> findByIdsAndExpression(List<Long> ids, DiningReviewConditionSearchRequest condition) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return selectFromSearch(searchResponse())
+                .where(diningReview.id.in(ids), searchCondition(condition))
+                .fetch();
     }
 
     public List<DiningReviewForSummary> findAllByStartDateCondition(LocalDateTime startDate) {
@@ -86,20 +94,7 @@ public class DiningReviewQueryDslRepositoryImpl implements DiningReviewQueryDslR
 
     @Override
     public List<DiningReviewConditionSearchForSummaryResponse> findDiningReviewsByCondition(DiningReviewConditionSearchRequest condition) {
-        QDiningReview diningReview = QDiningReview.diningReview;
-        QDishReservation dishReservation = QDishReservation.dishReservation;
-        BooleanBuilder builder = new BooleanBuilder();
-
-        if(condition.getRestaurant() != null) {
-            builder.and(dishReservation.restaurant.eq(condition.getRestaurant()));
-        }
-
-        if (condition.getStartDate() != null && condition.getEndDate() != null) {
-            builder.and(diningReview.createdDate.between(condition.getStartDate(), condition.getEndDate()));
-        }
-
-        return queryFactory
-                .select(new QDiningReviewConditionSearchForSummaryResponse(
+        return selectFromSearch(new QDiningReviewConditionSearchForSummaryResponse(
                         diningReview.tasteRating,
                         diningReview.kindnessRating,
                         diningReview.cleanlinessRating,
@@ -108,32 +103,75 @@ public class DiningReviewQueryDslRepositoryImpl implements DiningReviewQueryDslR
                         diningReview.createdDate,
                         dishReservation.restaurant
                         ))
-                .from(diningReview)
-                .join(diningReview.dishReservation, dishReservation)
-                .where(builder)
+                .where(searchCondition(condition))
                 .fetch();
     }
 
     @Override
     public Long countByExpression(DiningReviewConditionSearchRequest condition) {
+        return selectFromSearch(diningReview.count())
+                .where(searchCondition(condition))
+                .fetchOne();
+    }
+
+    // 고객이 없는 리뷰도 포함하도록 고객은 left join. 고객 이름 조건이 있으면 그때만 걸러짐
+    private <T> JPAQuery<T> selectFromSearch(Expression<T> expression) {
+        return queryFactory
+                .select(expression)
+                .from(diningReview)
+                .leftJoin(diningReview.customer, customer)
+                .join(diningReview.dishReservation, dishReservation);
+    }
+
+    private BooleanBuilder searchCondition(DiningReviewConditionSearchRequest condition) {
+        return new BooleanBuilder()
+                .and(ReviewSearchExpressions.eqIfPresent(customer.name, condition.getCustomerName()))
+                .and(ReviewSearchExpressions.eqIfPresent(dishReservation.restaurant, condition.getRestaurant()))
+                .and(ReviewSearchExpressions.createdBetween(diningReview.createdDate, condition.getStartDate(), condition.getEndDate()));
+    }
+
+    private QDiningReviewConditionSearchResponse searchResponse() {
+        return new QDiningReviewConditionSearchResponse(
+                diningReview.id,
+                customer.name,
+                diningReview.kindnessRating,
+                diningReview.tasteRating,
+                diningReview.cleanlinessRating,
+                diningReview.atmosphereRating,
+                diningReview.review,
+                diningReview.createdDate,
+                dishReservation.restaurant
+        );
+    }
+
+    // 리뷰 행을 가져오지 않고 COUNT / SUM 만 계산. to 는 toInclusive 에 따라 포함 여부 결정
+    @Override
+    public DiningReviewRatingAggregate aggregateRatings(String restaurant, LocalDateTime from, LocalDateTime to, boolean toInclusive) {
         QDiningReview diningReview = QDiningReview.diningReview;
         QDishReservation dishReservation = QDishReservation.dishReservation;
         BooleanBuilder builder = new BooleanBuilder();
 
-        if(condition.getRestaurant() != null) {
-            builder.and(dishReservation.restaurant.eq(condition.getRestaurant()));
+        if (restaurant != null) {
+            builder.and(dishReservation.restaurant.eq(restaurant));
         }
-
-        if (condition.getStartDate() != null && condition.getEndDate() != null) {
-            builder.and(diningReview.createdDate.between(condition.getStartDate(), condition.getEndDate()));
+        if (from != null) {
+            builder.and(diningReview.createdDate.goe(from));
+        }
+        if (to != null) {
+            builder.and(toInclusive ? diningReview.createdDate.loe(to) : diningReview.createdDate.lt(to));
         }
 
         return queryFactory
-                .select(diningReview.count().longValue())
+                .select(new QDiningReviewRatingAggregate(
+                        diningReview.count(),
+                        diningReview.tasteRating.sum(),
+                        diningReview.kindnessRating.sum(),
+                        diningReview.cleanlinessRating.sum(),
+                        diningReview.atmosphereRating.sum()
+                ))
                 .from(diningReview)
                 .join(diningReview.dishReservation, dishReservation)
                 .where(builder)
                 .fetchOne();
-
     }
 }
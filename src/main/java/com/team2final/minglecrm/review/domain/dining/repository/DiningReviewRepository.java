@@ -1,9 +1,13 @@
 package com.team2final.minglecrm.review.domain.dining.repository;
 
+import com.team2final.minglecrm.ai.dto.vo.ReviewSetFingerprint;
 import com.team2final.minglecrm.review.domain.dining.DiningReview;
+import com.team2final.minglecrm.review.service.search.ReviewText;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -15,5 +19,25 @@ public interface DiningReviewRepository extends JpaRepository<DiningReview, Long
     Page<DiningReview> findAll(Pageable pageable);
     List<DiningReview> findDiningReviewByCreatedDateBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    // 요약 묶음이 기간과 무관하게 같은 순서로 나오도록 작성 순 정렬
+    List<DiningReview> findDiningReviewByCreatedDateBetweenOrderByCreatedDateAscIdAsc(LocalDateTime startDate, LocalDateTime endDate);
+
+    List<DiningReview> findDiningReviewByDishReservationRestaurantAndCreatedDateBetweenOrderByCreatedDateAscIdAsc(String restaurant, LocalDateTime startDate, LocalDateTime endDate);
+
     Long countDiningReviewByCreatedDateBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("SELECT MIN(r.createdDate) FROM DiningReview r")
+    LocalDateTime findFirstCreatedTime();
+
+    // 레스토랑 별 기간 내 리뷰 지문. 롤링 요약 배치가 바뀐 레스토랑만 다시 요약할 때 사용
+    @Query("SELECT new com.team2final.minglecrm.ai.dto.vo.ReviewSetFingerprint(d.restaurant, COUNT(r), MAX(r.id), SUM(r.id)) " +
+            "FROM DiningReview r JOIN r.dishReservation d " +
+            "WHERE r.createdDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY d.restaurant")
+    List<ReviewSetFingerprint> findFingerprintsByPeriod(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    // 본문 색인을 다시 만들 때 id 순으로 나눠 읽음
+    @Query("SELECT new com.team2final.minglecrm.review.service.search.ReviewText(r.id, r.review) " +
+            "FROM DiningReview r WHERE r.id > :lastId ORDER BY r.id")
+    List<ReviewText> findReviewTextsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
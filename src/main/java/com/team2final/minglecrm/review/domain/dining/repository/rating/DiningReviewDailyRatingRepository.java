@@ -0,0 +1,45 @@
+package com.team2final.minglecrm.review.domain.dining.repository.rating;
+
+import com.team2final.minglecrm.review.domain.dining.DiningReviewDailyRating;
+import com.team2final.minglecrm.review.dto.dining.response.DiningReviewRatingAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Repository
+public interface DiningReviewDailyRatingRepository extends JpaRepository<DiningReviewDailyRating, Long> {
+
+    // restaurant 가 null 이면 전체 레스토랑
+    @Query("SELECT new com.team2final.minglecrm.review.dto.dining.response.DiningReviewRatingAggregate(" +
+            "SUM(d.reviewCount), SUM(d.tasteSum), SUM(d.kindnessSum), SUM(d.cleanlinessSum), SUM(d.atmosphereSum)) " +
+            "FROM DiningReviewDailyRating d " +
+            "WHERE d.reviewDate BETWEEN :firstDay AND :lastDay AND (:restaurant IS NULL OR d.restaurant = :restaurant)")
+    DiningReviewRatingAggregate sumByPeriod(@Param("restaurant") String restaurant,
+                                            @Param("firstDay") LocalDate firstDay,
+                                            @Param("lastDay") LocalDate lastDay);
+
+    @Query("SELECT MAX(d.reviewDate) FROM DiningReviewDailyRating d")
+    LocalDate findLastReviewDate();
+
+    @Modifying
+    @Query("DELETE FROM DiningReviewDailyRating d WHERE d.reviewDate BETWEEN :firstDay AND :lastDay")
+    int deleteByPeriod(@Param("firstDay") LocalDate firstDay, @Param("lastDay") LocalDate lastDay);
+
+    // 리뷰를 레스토랑, 작성일 단위로 DB 안에서 묶어 그대로 적재
+    @Modifying
+    @Query(nativeQuery = true, value =
+            "INSERT INTO dining_review_daily_rating " +
+                    "(restaurant, review_date, review_count, taste_sum, kindness_sum, cleanliness_sum, atmosphere_sum) " +
+                    "SELECT dr.restaurant, CAST(r.created_date AS DATE), COUNT(*), " +
+                    "SUM(r.taste_rating), SUM(r.kindness_rating), SUM(r.cleanliness_rating), SUM(r.atmosphere_rating) " +
+                    "FROM dining_review r " +
+                    "JOIN dish_reservation dr ON r.dish_reservation_id = dr.id " +
+                    "WHERE r.created_date >= :from AND r.created_date < :to " +
+                    "GROUP BY dr.restaurant, CAST(r.created_date AS DATE)")
+    int insertDailyRatings(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
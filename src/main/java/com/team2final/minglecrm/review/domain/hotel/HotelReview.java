@@ -21,6 +21,8 @@ import static jakarta.persistence.FetchType.LAZY;
                 @NamedAttributeNode("roomReservation"),
                 @NamedAttributeNode("customer")
         })
+// 검색, 무한 스크롤 모두 최신순 (createdTime, id) 로 정렬하고 자름
+@Table(indexes = @Index(name = "idx_hotel_review_created_time_id", columnList = "created_time, id"))
 public class HotelReview {
 
     @Id
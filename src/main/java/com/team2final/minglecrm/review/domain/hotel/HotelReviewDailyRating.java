@@ -0,0 +1,28 @@
+package com.team2final.minglecrm.review.domain.hotel;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 호텔 별 하루치 리뷰 평점 합계. 기간 조회는 리뷰 대신 이 행들을 더함
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_hotel_review_daily_rating",
+        columnNames = {"hotel", "review_date"}))
+public class HotelReviewDailyRating {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String hotel;
+    private LocalDate reviewDate;
+    private Long reviewCount;
+    private Double kindnessSum;
+    private Double cleanlinessSum;
+    private Double convenienceSum;
+    private Double locationSum;
+}
@@ -2,9 +2,11 @@ package com.team2final.minglecrm.review.domain.hotel.repository.hotelReview;
 
 import com.team2final.minglecrm.ai.dto.vo.HotelReviewForSummary;
 import com.team2final.minglecrm.review.domain.hotel.HotelReview;
+import com.team2final.minglecrm.review.domain.search.ReviewCursor;
 import com.team2final.minglecrm.review.dto.hotel.request.HotelReviewConditionSearchRequest;
 import com.team2final.minglecrm.review.dto.hotel.response.HotelReviewConditionSearchResponse;
 import com.team2final.minglecrm.review.dto.hotel.response.HotelReviewForSummaryResponse;
+import com.team2final.minglecrm.review.dto.hotel.response.HotelReviewRatingAggregate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -13,8 +15,12 @@ import java.util.List;
 
 public interface HotelReviewQueryDslRepository {
     Page<HotelReviewConditionSearchResponse> searchByExpression(HotelReviewConditionSearchRequest condition, Pageable pageable);
+    List<HotelReviewConditionSearchResponse> scrollByExpression(HotelReviewConditionSearchRequest condition, ReviewCursor cursor, int size);
+    List<HotelReviewConditionSearchResponse> findByIdsAndExpression(List<Long> ids, HotelReviewConditionSearchRequest condition);
     List<HotelReviewForSummary> findAllByStartDateCondition(LocalDateTime startDate);
     List<HotelReviewForSummaryResponse> findHotelReviewsByCondition(HotelReviewConditionSearchRequest condition);
 
     Long countByExpression(HotelReviewConditionSearchRequest condition);
+
+    HotelReviewRatingAggregate aggregateRatings(String hotel, LocalDateTime from, LocalDateTime to, boolean toInclusive);
 }
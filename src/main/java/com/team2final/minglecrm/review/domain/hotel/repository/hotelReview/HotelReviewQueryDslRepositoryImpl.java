@@ -1,6 +1,8 @@
 package com.team2final.minglecrm.review.domain.hotel.repository.hotelReview;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.team2final.minglecrm.ai.dto.vo.HotelReviewForSummary;
 import com.team2final.minglecrm.ai.dto.vo.QHotelReviewForSummary;
@@ -9,15 +11,19 @@ import com.team2final.minglecrm.reservation.domain.hotel.QHotelRoom;
 import com.team2final.minglecrm.reservation.domain.hotel.QRoomReservation;
 import com.team2final.minglecrm.review.domain.hotel.HotelReview;
 import com.team2final.minglecrm.review.domain.hotel.QHotelReview;
+import com.team2final.minglecrm.review.domain.search.ReviewCursor;
+import com.team2final.minglecrm.review.domain.search.ReviewSearchExpressions;
 import com.team2final.minglecrm.review.dto.hotel.request.HotelReviewConditionSearchRequest;
 import com.team2final.minglecrm.review.dto.hotel.response.HotelReviewConditionSearchResponse;
 import com.team2final.minglecrm.review.dto.hotel.response.HotelReviewForSummaryResponse;
+import com.team2final.minglecrm.review.dto.hotel.response.HotelReviewRatingAggregate;
 import com.team2final.minglecrm.review.dto.hotel.response.QHotelReviewConditionSearchResponse;
 import com.team2final.minglecrm.review.dto.hotel.response.QHotelReviewForSummaryResponse;
+import com.team2final.minglecrm.review.dto.hotel.response.QHotelReviewRatingAggregate;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -26,6 +32,11 @@ import java.util.List;
 @Repository
 public class HotelReviewQueryDslRepositoryImpl implements HotelReviewQueryDslRepository {
 
+    private static final QHotelReview hotelReview = QHotelReview.hotelReview;
+    private static final QCustomer customer = QCustomer.customer;
+    private static final QRoomReservation roomReservation = QRoomReservation.roomReservation;
+    private static final QHotelRoom hotelRoom = QHotelRoom.hotelRoom;
+
     private final EntityManager em;
     private final JPAQueryFactory queryFactory;
 
@@ -34,52 +45,42 @@ public class HotelReviewQueryDslRepositoryImpl implements HotelReviewQueryDslRep
         this.queryFactory = new JPAQueryFactory(em);
     }
 
+    // 목록과 건수가 같은 조인, 같은 조건을 쓰도록 한 곳에서 만듦. 건수 쿼리는 필요할 때만 실행
     @Override
     public Page<HotelReviewConditionSearchResponse> searchByExpression(HotelReviewConditionSearchRequest condition, Pageable pageable) {
+        List<HotelReviewConditionSearchResponse> response = selectFromSearch(searchResponse())
+                .where(searchCondition(condition))
+                .orderBy(hotelReview.createdTime.desc(), hotelReview.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
 
-        QHotelReview hotelReview = QHotelReview.hotelReview;
-        QCustomer customer = QCustomer.customer;
-        QRoomReservation roomReservation = QRoomReservation.roomReservation;
-        QHotelRoom hotelRoom = QHotelRoom.hotelRoom;
-
-        BooleanBuilder builder = new BooleanBuilder();
+        JPAQuery<Long> countQuery = selectFromSearch(hotelReview.count())
+                .where(searchCondition(condition));
 
-        if (condition.getCustomerName() != null) {
-            builder.and(customer.name.eq(condition.getCustomerName()));
-        }
-        if (condition.getHotel() != null) {
-            builder.and(hotelRoom.hotel.eq(condition.getHotel())); // Hotel 정보 검색
-        }
-        if (condition.getRoomType() != null) {
-            builder.and(hotelRoom.roomType.eq(condition.getRoomType()));
-        }
-        if (condition.getStartDate() != null && condition.getEndDate() != null) {
-            builder.and(hotelReview.createdTime.between(condition.getStartDate(), condition.getEndDate()));
-        }
+        return PageableExecutionUtils.getPage(response, pageable, countQuery::fetchOne);
+    }
 
-        List<HotelReviewConditionSearchResponse> response =  queryFactory
-                .select(new QHotelReviewConditionSearchResponse(
-                        customer.name,
-                        hotelReview.kindnessRating,
-                        hotelReview.cleanlinessRating,
-                        hotelReview.convenienceRating,
-                        hotelReview.locationRating,
-                        hotelReview.comment,
-                        hotelReview.createdTime,
-                        roomReservation.hotelRoom.roomType,
-                        hotelRoom.hotel // Hotel 정보 추가
-                ))
-                .from(hotelReview)
-                .join(hotelReview.customer, customer)
-                .join(hotelReview.roomReservation, roomReservation)
-                .join(roomReservation.hotelRoom, hotelRoom) // HotelRoom과 조인
-                .where(builder)
-                .offset(pageable.getOffset()) // offset
-                .limit(pageable.getPageSize()) // limit
+    // 최신순 무한 스크롤. 다음 페이지 여부 판단을 위해 size + 1 건까지 읽음
+    @Override
+    public List<HotelReviewConditionSearchResponse> scrollByExpression(HotelReviewConditionSearchRequest condition, ReviewCursor cursor, int size) {
+        return selectFromSearch(searchResponse())
+                .where(searchCondition(condition),
+                        ReviewSearchExpressions.olderThan(hotelReview.createdTime, hotelReview.id, cursor))
+                .orderBy(hotelReview.createdTime.desc(), hotelReview.id.desc())
+                .limit(size + 1L)
                 .fetch();
+    }
 
-
-        return new PageImpl<>(response, pageable, response.size());
+    // 본문 검색 결과 id 를 기존 검색 조건과 함께 걸러 냄. 순서는 호출한 쪽에서 점수 순으로 맞춤
+    @Override
+    public List<HotelReviewConditionSearchResponse> findByIdsAndExpression(List<Long> ids, HotelReviewConditionSearchRequest condition) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return selectFromSearch(searchResponse())
+                .where(hotelReview.id.in(ids), searchCondition(condition))
+                .fetch();
     }
 
     public List<HotelReviewForSummary> findAllByStartDateCondition(LocalDateTime startDate) {
@@ -97,22 +98,8 @@ public class HotelReviewQueryDslRepositoryImpl implements HotelReviewQueryDslRep
     }
 
     public List<HotelReviewForSummaryResponse> findHotelReviewsByCondition(HotelReviewConditionSearchRequest condition) {
-        QHotelReview hotelReview = QHotelReview.hotelReview;
-        QHotelRoom hotelRoom = QHotelRoom.hotelRoom;
-        QRoomReservation roomReservation = QRoomReservation.roomReservation;
-
-        BooleanBuilder builder = new BooleanBuilder();
-
-        if (condition.getHotel() != null) {
-            builder.and(hotelRoom.hotel.eq(condition.getHotel())); // Hotel 정보 검색
-        }
-
-        if (condition.getStartDate() != null && condition.getEndDate() != null) {
-            builder.and(hotelReview.createdTime.between(condition.getStartDate(), condition.getEndDate()));
-        }
-
-        return queryFactory
-                .select(new QHotelReviewForSummaryResponse(
+        return selectFromSearch(new QHotelReviewForSummaryResponse(
+                        hotelReview.id,
                         hotelReview.kindnessRating,
                         hotelReview.cleanlinessRating,
                         hotelReview.convenienceRating,
@@ -120,33 +107,80 @@ public class HotelReviewQueryDslRepositoryImpl implements HotelReviewQueryDslRep
                         hotelReview.comment,
                         hotelReview.createdTime
                 ))
-                .from(hotelReview)
-                .join(hotelReview.roomReservation, roomReservation)
-                .join(roomReservation.hotelRoom, hotelRoom) // HotelRoom과 조인
-                .where(builder)
+                .where(searchCondition(condition))
+                .orderBy(hotelReview.createdTime.asc(), hotelReview.id.asc()) // 요약 묶음이 기간과 무관하게 같은 순서로 나오도록
                 .fetch();
     }
 
     public Long countByExpression(HotelReviewConditionSearchRequest condition) {
+        return selectFromSearch(hotelReview.count())
+                .where(searchCondition(condition))
+                .fetchOne();
+    }
+
+    // 고객이 없는 리뷰도 포함하도록 고객은 left join. 고객 이름 조건이 있으면 그때만 걸러짐
+    private <T> JPAQuery<T> selectFromSearch(Expression<T> expression) {
+        return queryFactory
+                .select(expression)
+                .from(hotelReview)
+                .leftJoin(hotelReview.customer, customer)
+                .join(hotelReview.roomReservation, roomReservation)
+                .join(roomReservation.hotelRoom, hotelRoom); // HotelRoom과 조인
+    }
+
+    private BooleanBuilder searchCondition(HotelReviewConditionSearchRequest condition) {
+        return new BooleanBuilder()
+                .and(ReviewSearchExpressions.eqIfPresent(customer.name, condition.getCustomerName()))
+                .and(ReviewSearchExpressions.eqIfPresent(hotelRoom.hotel, condition.getHotel())) // Hotel 정보 검색
+                .and(ReviewSearchExpressions.eqIfPresent(hotelRoom.roomType, condition.getRoomType()))
+                .and(ReviewSearchExpressions.createdBetween(hotelReview.createdTime, condition.getStartDate(), condition.getEndDate()));
+    }
+
+    private QHotelReviewConditionSearchResponse searchResponse() {
+        return new QHotelReviewConditionSearchResponse(
+                hotelReview.id,
+                customer.name,
+                hotelReview.kindnessRating,
+                hotelReview.cleanlinessRating,
+                hotelReview.convenienceRating,
+                hotelReview.locationRating,
+                hotelReview.comment,
+                hotelReview.createdTime,
+                hotelRoom.roomType,
+                hotelRoom.hotel // Hotel 정보 추가
+        );
+    }
+
+    // 리뷰 행을 가져오지 않고 COUNT / SUM 만 계산. to 는 toInclusive 에 따라 포함 여부 결정
+    @Override
+    public HotelReviewRatingAggregate aggregateRatings(String hotel, LocalDateTime from, LocalDateTime to, boolean toInclusive) {
         QHotelReview hotelReview = QHotelReview.hotelReview;
         QHotelRoom hotelRoom = QHotelRoom.hotelRoom;
         QRoomReservation roomReservation = QRoomReservation.roomReservation;
 
         BooleanBuilder builder = new BooleanBuilder();
 
-        if (condition.getHotel() != null) {
-            builder.and(hotelRoom.hotel.eq(condition.getHotel())); // Hotel 정보 검색
+        if (hotel != null) {
+            builder.and(hotelRoom.hotel.eq(hotel));
         }
-
-        if (condition.getStartDate() != null && condition.getEndDate() != null) {
-            builder.and(hotelReview.createdTime.between(condition.getStartDate(), condition.getEndDate()));
+        if (from != null) {
+            builder.and(hotelReview.createdTime.goe(from));
+        }
+        if (to != null) {
+            builder.and(toInclusive ? hotelReview.createdTime.loe(to) : hotelReview.createdTime.lt(to));
         }
 
         return queryFactory
-                .select(hotelReview.count())
+                .select(new QHotelReviewRatingAggregate(
+                        hotelReview.count(),
+                        hotelReview.kindnessRating.sum(),
+                        hotelReview.cleanlinessRating.sum(),
+                        hotelReview.convenienceRating.sum(),
+                        hotelReview.locationRating.sum()
+                ))
                 .from(hotelReview)
                 .join(hotelReview.roomReservation, roomReservation)
-                .join(roomReservation.hotelRoom, hotelRoom) // HotelRoom과 조인
+                .join(roomReservation.hotelRoom, hotelRoom)
                 .where(builder)
                 .fetchOne();
     }
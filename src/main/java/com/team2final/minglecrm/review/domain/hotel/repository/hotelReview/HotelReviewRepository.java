@@ -1,11 +1,15 @@
 package com.team2final.minglecrm.review.domain.hotel.repository.hotelReview;
 
 
+import com.team2final.minglecrm.ai.dto.vo.ReviewSetFingerprint;
 import com.team2final.minglecrm.review.domain.hotel.HotelReview;
+import com.team2final.minglecrm.review.service.search.ReviewText;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -20,4 +24,19 @@ public interface HotelReviewRepository extends JpaRepository<HotelReview, Long>,
     List<HotelReview> findHotelReviewByCreatedTimeBetween(LocalDateTime startDate, LocalDateTime endDate);
 
     Long countHotelReviewByCreatedTimeBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("SELECT MIN(r.createdTime) FROM HotelReview r")
+    LocalDateTime findFirstCreatedTime();
+
+    // 호텔 별 기간 내 리뷰 지문. 롤링 요약 배치가 바뀐 호텔만 다시 요약할 때 사용
+    @Query("SELECT new com.team2final.minglecrm.ai.dto.vo.ReviewSetFingerprint(hr.hotel, COUNT(r), MAX(r.id), SUM(r.id)) " +
+            "FROM HotelReview r JOIN r.roomReservation rr JOIN rr.hotelRoom hr " +
+            "WHERE r.createdTime BETWEEN :startDate AND :endDate " +
+            "GROUP BY hr.hotel")
+    List<ReviewSetFingerprint> findFingerprintsByPeriod(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    // 본문 색인을 다시 만들 때 id 순으로 나눠 읽음
+    @Query("SELECT new com.team2final.minglecrm.review.service.search.ReviewText(r.id, r.comment) " +
+            "FROM HotelReview r WHERE r.id > :lastId ORDER BY r.id")
+    List<ReviewText> findReviewTextsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -0,0 +1,46 @@
+package com.team2final.minglecrm.review.domain.hotel.repository.rating;
+
+import com.team2final.minglecrm.review.domain.hotel.HotelReviewDailyRating;
+import com.team2final.minglecrm.review.dto.hotel.response.HotelReviewRatingAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Repository
+public interface HotelReviewDailyRatingRepository extends JpaRepository<HotelReviewDailyRating, Long> {
+
+    // hotel 이 null 이면 전체 호텔
+    @Query("SELECT new com.team2final.minglecrm.review.dto.hotel.response.HotelReviewRatingAggregate(" +
+            "SUM(d.reviewCount), SUM(d.kindnessSum), SUM(d.cleanlinessSum), SUM(d.convenienceSum), SUM(d.locationSum)) " +
+            "FROM HotelReviewDailyRating d " +
+            "WHERE d.reviewDate BETWEEN :firstDay AND :lastDay AND (:hotel IS NULL OR d.hotel = :hotel)")
+    HotelReviewRatingAggregate sumByPeriod(@Param("hotel") String hotel,
+                                           @Param("firstDay") LocalDate firstDay,
+                                           @Param("lastDay") LocalDate lastDay);
+
+    @Query("SELECT MAX(d.reviewDate) FROM HotelReviewDailyRating d")
+    LocalDate findLastReviewDate();
+
+    @Modifying
+    @Query("DELETE FROM HotelReviewDailyRating d WHERE d.reviewDate BETWEEN :firstDay AND :lastDay")
+    int deleteByPeriod(@Param("firstDay") LocalDate firstDay, @Param("lastDay") LocalDate lastDay);
+
+    // 리뷰를 호텔, 작성일 단위로 DB 안에서 묶어 그대로 적재
+    @Modifying
+    @Query(nativeQuery = true, value =
+            "INSERT INTO hotel_review_daily_rating " +
+                    "(hotel, review_date, review_count, kindness_sum, cleanliness_sum, convenience_sum, location_sum) " +
+                    "SELECT hr.hotel, CAST(r.created_time AS DATE), COUNT(*), " +
+                    "SUM(r.kindness_rating), SUM(r.cleanliness_rating), SUM(r.convenience_rating), SUM(r.location_rating) " +
+                    "FROM hotel_review r " +
+                    "JOIN room_reservation rr ON r.room_reservation_id = rr.id " +
+                    "JOIN hotel_room hr ON rr.hotel_room_id = hr.id " +
+                    "WHERE r.created_time >= :from AND r.created_time < :to " +
+                    "GROUP BY hr.hotel, CAST(r.created_time AS DATE)")
+    int insertDailyRatings(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
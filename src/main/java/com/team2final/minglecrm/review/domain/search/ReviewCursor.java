@@ -0,0 +1,15 @@
+package com.team2final.minglecrm.review.domain.search;
+
+import java.time.LocalDateTime;
+
+// 무한 스크롤에서 마지막으로 받은 리뷰 위치. 다음 조회는 이보다 오래된 리뷰부터
+public record ReviewCursor(LocalDateTime createdTime, Long id) {
+
+    // 둘 중 하나라도 없으면 첫 페이지
+    public static ReviewCursor of(LocalDateTime createdTime, Long id) {
+        if (createdTime == null || id == null) {
+            return null;
+        }
+        return new ReviewCursor(createdTime, id);
+    }
+}
@@ -0,0 +1,42 @@
+package com.team2final.minglecrm.review.domain.search;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.SimpleExpression;
+
+import java.time.LocalDateTime;
+
+// 호텔, 다이닝 리뷰 검색이 목록 조회와 건수 조회에서 같이 쓰는 조건. 값이 없으면 null 을 돌려줘 where 에서 빠짐
+public final class ReviewSearchExpressions {
+
+    private ReviewSearchExpressions() {
+    }
+
+    public static <T> BooleanExpression eqIfPresent(SimpleExpression<T> path, T value) {
+        return value == null ? null : path.eq(value);
+    }
+
+    // 인덱스 컬럼을 그대로 비교해 범위 검색이 되도록 함수로 감싸지 않음
+    public static BooleanExpression createdBetween(DateTimePath<LocalDateTime> createdTime, LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate != null && endDate != null) {
+            return createdTime.between(startDate, endDate);
+        }
+        if (startDate != null) {
+            return createdTime.goe(startDate);
+        }
+        if (endDate != null) {
+            return createdTime.loe(endDate);
+        }
+        return null;
+    }
+
+    // 최신순 (createdTime desc, id desc) 정렬에서 cursor 다음 위치부터
+    public static BooleanExpression olderThan(DateTimePath<LocalDateTime> createdTime, NumberPath<Long> id, ReviewCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return createdTime.lt(cursor.createdTime())
+                .or(createdTime.eq(cursor.createdTime()).and(id.lt(cursor.id())));
+    }
+}
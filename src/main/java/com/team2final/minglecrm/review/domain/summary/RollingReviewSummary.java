@@ -0,0 +1,64 @@
+package com.team2final.minglecrm.review.domain.summary;
+
+import com.team2final.minglecrm.review.domain.hotel.SummaryType;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 야간 배치가 미리 만들어 두는 최근 N일 요약. 대상(호텔/레스토랑) · 기간 길이 · 요약 종류 별 한 행
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_rolling_review_summary",
+        columnNames = {"scope", "target", "window_days", "summary_type"}))
+public class RollingReviewSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // hotel, dining
+    private String scope;
+    // 호텔 또는 레스토랑 이름. 전체는 All
+    private String target;
+    private Integer windowDays;
+    private SummaryType summaryType;
+
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+
+    // 요약에 쓴 리뷰 묶음의 지문. 다음 실행에서 같으면 다시 요약하지 않음
+    private String reviewFingerprint;
+
+    @Column(length = 1000)
+    private String summary;
+
+    private LocalDateTime generatedTime;
+
+    @Builder
+    public RollingReviewSummary(String scope, String target, Integer windowDays, SummaryType summaryType,
+                                LocalDateTime startDate, LocalDateTime endDate, String reviewFingerprint,
+                                String summary, LocalDateTime generatedTime) {
+        this.scope = scope;
+        this.target = target;
+        this.windowDays = windowDays;
+        this.summaryType = summaryType;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.reviewFingerprint = reviewFingerprint;
+        this.summary = summary;
+        this.generatedTime = generatedTime;
+    }
+
+    public void update(LocalDateTime startDate, LocalDateTime endDate, String reviewFingerprint,
+                       String summary, LocalDateTime generatedTime) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.reviewFingerprint = reviewFingerprint;
+        this.summary = summary;
+        this.generatedTime = generatedTime;
+    }
+}
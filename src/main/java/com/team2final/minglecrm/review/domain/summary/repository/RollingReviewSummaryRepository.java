@@ -0,0 +1,17 @@
+package com.team2final.minglecrm.review.domain.summary.repository;
+
+import com.team2final.minglecrm.review.domain.hotel.SummaryType;
+import com.team2final.minglecrm.review.domain.summary.RollingReviewSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RollingReviewSummaryRepository extends JpaRepository<RollingReviewSummary, Long> {
+
+    List<RollingReviewSummary> findRollingReviewSummariesByScopeAndTargetAndSummaryType(String scope, String target, SummaryType summaryType);
+
+    Optional<RollingReviewSummary> findRollingReviewSummaryByScopeAndTargetAndWindowDaysAndSummaryType(String scope, String target, Integer windowDays, SummaryType summaryType);
+}
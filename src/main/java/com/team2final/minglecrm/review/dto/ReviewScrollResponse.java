@@ -0,0 +1,33 @@
+package com.team2final.minglecrm.review.dto;
+
+import com.team2final.minglecrm.review.domain.search.ReviewCursor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+// 무한 스크롤 응답. 다음 요청에 nextCursorTime, nextCursorId 를 그대로 넘기면 이어서 조회
+@Getter
+public class ReviewScrollResponse<T> {
+
+    private final List<T> content;
+    private final boolean hasNext;
+    private final LocalDateTime nextCursorTime;
+    private final Long nextCursorId;
+
+    private ReviewScrollResponse(List<T> content, boolean hasNext, ReviewCursor nextCursor) {
+        this.content = content;
+        this.hasNext = hasNext;
+        this.nextCursorTime = nextCursor == null ? null : nextCursor.createdTime();
+        this.nextCursorId = nextCursor == null ? null : nextCursor.id();
+    }
+
+    // fetched 는 size + 1 건까지 읽은 결과. 넘친 한 건으로 다음 페이지 여부만 판단
+    public static <T> ReviewScrollResponse<T> of(List<T> fetched, int size, Function<T, ReviewCursor> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        ReviewCursor nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new ReviewScrollResponse<>(content, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,42 @@
+package com.team2final.minglecrm.review.dto.dining.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+// 기간 내 리뷰 수와 평가 항목별 합계. 리뷰 본문 없이 DB 에서 SUM / COUNT 로 받아옴
+@Getter
+public class DiningReviewRatingAggregate {
+
+    private final Long reviewCount;
+    private final Double tasteSum;
+    private final Double kindnessSum;
+    private final Double cleanlinessSum;
+    private final Double atmosphereSum;
+
+    @QueryProjection
+    public DiningReviewRatingAggregate(Long reviewCount, Double tasteSum, Double kindnessSum, Double cleanlinessSum, Double atmosphereSum) {
+        this.reviewCount = reviewCount == null ? 0L : reviewCount;
+        this.tasteSum = tasteSum == null ? 0.0 : tasteSum;
+        this.kindnessSum = kindnessSum == null ? 0.0 : kindnessSum;
+        this.cleanlinessSum = cleanlinessSum == null ? 0.0 : cleanlinessSum;
+        this.atmosphereSum = atmosphereSum == null ? 0.0 : atmosphereSum;
+    }
+
+    public static DiningReviewRatingAggregate empty() {
+        return new DiningReviewRatingAggregate(0L, 0.0, 0.0, 0.0, 0.0);
+    }
+
+    public DiningReviewRatingAggregate plus(DiningReviewRatingAggregate other) {
+        return new DiningReviewRatingAggregate(
+                reviewCount + other.reviewCount,
+                tasteSum + other.tasteSum,
+                kindnessSum + other.kindnessSum,
+                cleanlinessSum + other.cleanlinessSum,
+                atmosphereSum + other.atmosphereSum);
+    }
+
+    // 리뷰 별 네 항목 평균의 평균 (리뷰가 없으면 NaN)
+    public Double getAverageRating() {
+        return (tasteSum + kindnessSum + cleanlinessSum + atmosphereSum) / 4 / reviewCount;
+    }
+}
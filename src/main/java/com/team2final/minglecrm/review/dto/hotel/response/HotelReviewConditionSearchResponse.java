@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 @Setter
 public class HotelReviewConditionSearchResponse {
 
+    private Long id;
     private String customerName;
     private Double kindnessRating;
     private Double cleanlinessRating;
@@ -24,6 +25,7 @@ public class HotelReviewConditionSearchResponse {
 
     @QueryProjection
     public HotelReviewConditionSearchResponse(
+            Long id,
             String customerName,
             Double kindnessRating,
             Double cleanlinessRating,
@@ -34,6 +36,7 @@ public class HotelReviewConditionSearchResponse {
             RoomType roomType,
             String hotel
     ) {
+        this.id = id;
         this.customerName = customerName;
         this.kindnessRating = kindnessRating;
         this.cleanlinessRating = cleanlinessRating;
@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 @Getter
 public class HotelReviewForSummaryResponse {
 
+    private Long id;
     private Double kindnessRating;
     private Double cleanlinessRating;
     private Double convenienceRating;
@@ -21,6 +22,7 @@ public class HotelReviewForSummaryResponse {
 
     @QueryProjection
     public HotelReviewForSummaryResponse(
+            Long id,
             Double kindnessRating,
             Double cleanlinessRating,
             Double convenienceRating,
@@ -28,6 +30,7 @@ public class HotelReviewForSummaryResponse {
             String comment,
             LocalDateTime createdTime
     ) {
+        this.id = id;
         this.kindnessRating = kindnessRating;
         this.cleanlinessRating = cleanlinessRating;
         this.convenienceRating = convenienceRating;
@@ -0,0 +1,43 @@
+package com.team2final.minglecrm.review.dto.hotel.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+// 기간 내 리뷰 수와 평가 항목별 합계. 리뷰 본문 없이 DB 에서 SUM / COUNT 로 받아옴
+@Getter
+public class HotelReviewRatingAggregate {
+
+    private final Long reviewCount;
+    private final Double kindnessSum;
+    private final Double cleanlinessSum;
+    private final Double convenienceSum;
+    private final Double locationSum;
+
+    @QueryProjection
+    public HotelReviewRatingAggregate(Long reviewCount, Double kindnessSum, Double cleanlinessSum, Double convenienceSum, Double locationSum) {
+        // 대상 행이 없으면 SUM 은 null
+        this.reviewCount = reviewCount == null ? 0L : reviewCount;
+        this.kindnessSum = kindnessSum == null ? 0.0 : kindnessSum;
+        this.cleanlinessSum = cleanlinessSum == null ? 0.0 : cleanlinessSum;
+        this.convenienceSum = convenienceSum == null ? 0.0 : convenienceSum;
+        this.locationSum = locationSum == null ? 0.0 : locationSum;
+    }
+
+    public static HotelReviewRatingAggregate empty() {
+        return new HotelReviewRatingAggregate(0L, 0.0, 0.0, 0.0, 0.0);
+    }
+
+    public HotelReviewRatingAggregate plus(HotelReviewRatingAggregate other) {
+        return new HotelReviewRatingAggregate(
+                reviewCount + other.reviewCount,
+                kindnessSum + other.kindnessSum,
+                cleanlinessSum + other.cleanlinessSum,
+                convenienceSum + other.convenienceSum,
+                locationSum + other.locationSum);
+    }
+
+    // 리뷰 별 네 항목 평균의 평균 (리뷰가 없으면 NaN)
+    public Double getAverageRating() {
+        return (kindnessSum + cleanlinessSum + convenienceSum + locationSum) / 4 / reviewCount;
+    }
+}
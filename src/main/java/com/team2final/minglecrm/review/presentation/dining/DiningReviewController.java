@@ -2,6 +2,7 @@ package com.team2final.minglecrm.review.presentation.dining;
 
 import com.team2final.minglecrm.common.exception.ResultResponse;
 import com.team2final.minglecrm.reservation.dto.dining.response.DiningReviewConditionSearchResponse;
+import com.team2final.minglecrm.review.dto.ReviewScrollResponse;
 import com.team2final.minglecrm.review.dto.dining.request.DiningReviewConditionSearchRequest;
 import com.team2final.minglecrm.review.dto.dining.response.DiningReviewMetaDataResponse;
 import com.team2final.minglecrm.review.service.dining.DiningReviewService;
@@ -25,6 +26,25 @@ public class DiningReviewController {
         return new ResultResponse<>(HttpStatus.OK.value(), "success", diningReviewService.searchDiningReviews(pageNo, condition));
     }
 
+    // 최신순 무한 스크롤. 응답의 nextCursorTime, nextCursorId 를 다음 요청에 넘김
+    @PostMapping("/api/dining/reviews/scroll")
+    public ResultResponse<ReviewScrollResponse<DiningReviewConditionSearchResponse>> scrollDiningReviews(
+            @RequestParam(name = "cursorTime", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorTime,
+            @RequestParam(name = "cursorId", required = false) Long cursorId,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestBody DiningReviewConditionSearchRequest condition) {
+        return new ResultResponse<>(HttpStatus.OK.value(), "success", diningReviewService.scrollDiningReviews(condition, cursorTime, cursorId, size));
+    }
+
+    // 리뷰 본문 검색. 단어는 모두 포함, "..." 는 구절 그대로. 관련도 순
+    @PostMapping("/api/dining/reviews/text-search")
+    public ResultResponse<List<DiningReviewConditionSearchResponse>> searchDiningReviewsByText(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestBody DiningReviewConditionSearchRequest condition) {
+        return new ResultResponse<>(HttpStatus.OK.value(), "success", diningReviewService.searchDiningReviewsByText(query, condition, size));
+    }
+
     @GetMapping("/api/dining/review/meta")
     public ResultResponse<DiningReviewMetaDataResponse> getDiningReviewMetaData(@ModelAttribute DiningReviewConditionSearchRequest condition) {
         DiningReviewMetaDataResponse response = diningReviewService.getDiningReviewMetaData(condition);
@@ -1,6 +1,7 @@
 package com.team2final.minglecrm.review.presentation.hotel;
 
 import com.team2final.minglecrm.common.exception.ResultResponse;
+import com.team2final.minglecrm.review.dto.ReviewScrollResponse;
 import com.team2final.minglecrm.review.dto.hotel.request.HotelReviewConditionSearchRequest;
 import com.team2final.minglecrm.review.dto.hotel.response.HotelReviewConditionSearchResponse;
 import com.team2final.minglecrm.review.dto.hotel.response.HotelReviewMetaDataResponse;
@@ -31,6 +32,25 @@ public class HotelReviewController {
         return new ResultResponse<>(HttpStatus.OK.value(), "success" ,hotelReviewService.searchReviews(request, pageNo));
     }
 
+    // 최신순 무한 스크롤. 응답의 nextCursorTime, nextCursorId 를 다음 요청에 넘김
+    @PostMapping("/api/hotel/reviews/scroll")
+    public ResultResponse<ReviewScrollResponse<HotelReviewConditionSearchResponse>> scrollReviews(
+            @RequestParam(name = "cursorTime", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorTime,
+            @RequestParam(name = "cursorId", required = false) Long cursorId,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestBody HotelReviewConditionSearchRequest request) {
+        return new ResultResponse<>(HttpStatus.OK.value(), "success", hotelReviewService.scrollReviews(request, cursorTime, cursorId, size));
+    }
+
+    // 리뷰 본문 검색. 단어는 모두 포함, "..." 는 구절 그대로. 관련도 순
+    @PostMapping("/api/hotel/reviews/text-search")
+    public ResultResponse<List<HotelReviewConditionSearchResponse>> searchReviewsByText(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestBody HotelReviewConditionSearchRequest request) {
+        return new ResultResponse<>(HttpStatus.OK.value(), "success", hotelReviewService.searchReviewsByText(query, request, size));
+    }
+
     @GetMapping("/api/hotel/review/meta")
     public ResultResponse<HotelReviewMetaDataResponse> getHotelReviewMetaData(@ModelAttribute HotelReviewConditionSearchRequest condition) {
         HotelReviewMetaDataResponse response = hotelReviewService.getHotelReviewMetaData(condition);
@@ -6,8 +6,16 @@ import com.team2final.minglecrm.reservation.dto.dining.response.DiningReviewCond
 import com.team2final.minglecrm.reservation.dto.dining.response.DiningReviewResponse;
 import com.team2final.minglecrm.review.domain.dining.DiningReview;
 import com.team2final.minglecrm.review.domain.dining.repository.DiningReviewRepository;
+import com.team2final.minglecrm.review.domain.search.ReviewCursor;
+import com.team2final.minglecrm.review.dto.ReviewScrollResponse;
 import com.team2final.minglecrm.review.dto.dining.response.DiningReviewConditionSearchForSummaryResponse;
 import com.team2final.minglecrm.review.dto.dining.response.DiningReviewMetaDataResponse;
+import com.team2final.minglecrm.review.dto.dining.response.DiningReviewRatingAggregate;
+import com.team2final.minglecrm.review.domain.dining.repository.rating.DiningReviewDailyRatingRepository;
+import com.team2final.minglecrm.review.service.rating.ReviewRatingRollupService;
+import com.team2final.minglecrm.review.service.rating.RollupPeriod;
+import com.team2final.minglecrm.common.search.TextSearchHit;
+import com.team2final.minglecrm.review.service.search.ReviewTextIndexService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -15,14 +23,22 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class DiningReviewService {
 
     private final DiningReviewRepository diningReviewRepository;
+    private final DiningReviewDailyRatingRepository diningReviewDailyRatingRepository;
+    private final ReviewRatingRollupService reviewRatingRollupService;
+    private final ReviewTextIndexService reviewTextIndexService;
     private final int ROWS_PER_PAGE = 9;
+    private final int MAX_SCROLL_SIZE = 100;
+    private final int TEXT_SEARCH_BATCH_SIZE = 1000;
 
     public List<DiningReviewResponse> findAllDiningReviewsWithPaging(Integer pageNo) {
         Page<DiningReview> diningReviewPage = diningReviewRepository.findAll(PageRequest.of(pageNo, 9));
@@ -35,22 +51,17 @@ public class DiningReviewService {
     }
 
     public JoinedReviews getJoinedDiningReviews (LocalDateTime startDate, LocalDateTime endDate, String restaurant) {
-        List<DiningReview> diningReviewList = diningReviewRepository.findDiningReviewByCreatedDateBetween(startDate, endDate);
+        List<DiningReview> diningReviewList = restaurant == null
+                ? diningReviewRepository.findDiningReviewByCreatedDateBetweenOrderByCreatedDateAscIdAsc(startDate, endDate)
+                : diningReviewRepository.findDiningReviewByDishReservationRestaurantAndCreatedDateBetweenOrderByCreatedDateAscIdAsc(restaurant, startDate, endDate);
 
         if (diningReviewList.isEmpty()) {
             return null;
         }
 
-        StringBuilder response = new StringBuilder();
-        for (int i=0; i < diningReviewList.size() ; i++) {
-            response.append(i)
-                    .append(" 번째 리뷰 : ")
-                    .append(diningReviewList.get(i).getReview())
-                    .append("\n");
-        }
-
         return  JoinedReviews.builder()
-                .joinedReviews(response.toString())
+                .reviews(diningReviewList.stream().map(DiningReview::getReview).toList())
+                .reviewIds(diningReviewList.stream().map(DiningReview::getId).toList())
                 .startDate(startDate)
                 .endDate(endDate)
                 .build();
@@ -62,6 +73,39 @@ public class DiningReviewService {
         return new ArrayList<>(page.getContent());
     }
 
+    // 최신순 무한 스크롤. cursor 가 없으면 처음부터
+    public ReviewScrollResponse<DiningReviewConditionSearchResponse> scrollDiningReviews(DiningReviewConditionSearchRequest condition,
+                                                                                         LocalDateTime cursorTime, Long cursorId, Integer size) {
+        int scrollSize = size == null ? ROWS_PER_PAGE : Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        List<DiningReviewConditionSearchResponse> fetched =
+                diningReviewRepository.scrollByExpression(condition, ReviewCursor.of(cursorTime, cursorId), scrollSize);
+        return ReviewScrollResponse.of(fetched, scrollSize, review -> new ReviewCursor(review.getCreatedTime(), review.getId()));
+    }
+
+    // 본문 색인에서 점수 순 id 를 받아 검색 조건으로 거른 뒤 같은 순서로 돌려줌
+    // 조건에 맞는 리뷰가 size 건 찰 때까지 id 를 TEXT_SEARCH_BATCH_SIZE 개씩 나눠 DB 에서 거름
+    public List<DiningReviewConditionSearchResponse> searchDiningReviewsByText(String query, DiningReviewConditionSearchRequest condition, Integer size) {
+        int limit = size == null ? ROWS_PER_PAGE : Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        List<Long> ids = reviewTextIndexService.searchDiningReviews(query, Integer.MAX_VALUE).stream()
+                .map(TextSearchHit::id)
+                .toList();
+
+        List<DiningReviewConditionSearchResponse> result = new ArrayList<>();
+        for (int from = 0; from < ids.size() && result.size() < limit; from += TEXT_SEARCH_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + TEXT_SEARCH_BATCH_SIZE, ids.size()));
+            Map<Long, DiningReviewConditionSearchResponse> rows = new HashMap<>();
+            for (DiningReviewConditionSearchResponse row : diningReviewRepository.findByIdsAndExpression(batch, condition)) {
+                rows.put(row.getId(), row);
+            }
+            batch.stream()
+                    .map(rows::get)
+                    .filter(Objects::nonNull)
+                    .limit(limit - result.size())
+                    .forEach(result::add);
+        }
+        return result;
+    }
+
     public DiningReviewMetaDataResponse getDiningReviewMetaData(DiningReviewConditionSearchRequest condition) {
         long rowsNumber = diningReviewRepository.countByExpression(condition);
         return DiningReviewMetaDataResponse.builder()
@@ -71,37 +115,38 @@ public class DiningReviewService {
     }
 
     public Double getDiningReviewAverageRatingByPeriod(LocalDateTime startDate, LocalDateTime endDate) {
-        List<DiningReview> diningReviews = diningReviewRepository.findDiningReviewByCreatedDateBetween(startDate, endDate);
-        double numOfReviews = (double) diningReviews.size();
-        double averageRating = 0;
-        for (DiningReview diningReview : diningReviews ) {
-            averageRating += getAverageRating(diningReview);
-        }
-        return averageRating / numOfReviews;
+        return getRatingAggregate(startDate, endDate, null).getAverageRating();
     }
 
     public Double getDiningReviewAverageRatingByPeriodAndRestaurant(LocalDateTime startDate, LocalDateTime endDate, String restaurant) {
         if(restaurant.equals("All")) {
             restaurant = null;
         }
-        DiningReviewConditionSearchRequest request = new DiningReviewConditionSearchRequest(null, restaurant, startDate, endDate);
-        List<DiningReviewConditionSearchForSummaryResponse> diningReviewResponses = diningReviewRepository.findDiningReviewsByCondition(request);
-        double numOfReviews = (double) diningReviewResponses.size();
-        double averageRating = 0;
-        for ( DiningReviewConditionSearchForSummaryResponse response: diningReviewResponses) {
-            averageRating += getAverageRating(response);
-        }
-        return averageRating / numOfReviews;
+        return getRatingAggregate(startDate, endDate, restaurant).getAverageRating();
     }
 
     public Long getDiningReviewsNumberByPeriod(LocalDateTime startDate, LocalDateTime endDate, String restaurant) {
         if(restaurant.equals("All")) {
             restaurant = null;
         }
-        DiningReviewConditionSearchRequest request = new DiningReviewConditionSearchRequest(null, restaurant, startDate, endDate);
-        List<DiningReviewConditionSearchForSummaryResponse> diningReviewResponses = diningReviewRepository.findDiningReviewsByCondition(request);
+        return getRatingAggregate(startDate, endDate, restaurant).getReviewCount();
+    }
 
-        return (long) diningReviewResponses.size();
+    // 온전한 날짜는 일별 집계를 더하고, 앞뒤 자투리 시간과 아직 집계되지 않은 날짜만 리뷰 테이블에서 COUNT / SUM
+    public DiningReviewRatingAggregate getRatingAggregate(LocalDateTime startDate, LocalDateTime endDate, String restaurant) {
+        RollupPeriod period = RollupPeriod.of(startDate, endDate, reviewRatingRollupService.getRolledUpThrough());
+        if (period == null) {
+            return diningReviewRepository.aggregateRatings(restaurant, startDate, endDate, true);
+        }
+
+        DiningReviewRatingAggregate aggregate = diningReviewDailyRatingRepository.sumByPeriod(restaurant, period.firstDay(), period.lastDay());
+        if (startDate.isBefore(period.headEnd())) {
+            aggregate = aggregate.plus(diningReviewRepository.aggregateRatings(restaurant, startDate, period.headEnd(), false));
+        }
+        if (!period.tailStart().isAfter(endDate)) {
+            aggregate = aggregate.plus(diningReviewRepository.aggregateRatings(restaurant, period.tailStart(), endDate, true));
+        }
+        return aggregate;
     }
 
     public Double getAverageRating(DiningReview diningReview) {
@@ -1,12 +1,20 @@
 package com.team2final.minglecrm.review.service.hotel;
 
 import com.team2final.minglecrm.ai.dto.vo.JoinedReviews;
+import com.team2final.minglecrm.review.domain.search.ReviewCursor;
+import com.team2final.minglecrm.review.dto.ReviewScrollResponse;
 import com.team2final.minglecrm.review.dto.hotel.request.HotelReviewConditionSearchRequest;
 import com.team2final.minglecrm.review.dto.hotel.response.HotelReviewConditionSearchResponse;
 import com.team2final.minglecrm.review.domain.hotel.HotelReview;
 import com.team2final.minglecrm.review.domain.hotel.repository.hotelReview.HotelReviewRepository;
 import com.team2final.minglecrm.review.dto.hotel.response.HotelReviewForSummaryResponse;
 import com.team2final.minglecrm.review.dto.hotel.response.HotelReviewMetaDataResponse;
+import com.team2final.minglecrm.review.dto.hotel.response.HotelReviewRatingAggregate;
+import com.team2final.minglecrm.review.domain.hotel.repository.rating.HotelReviewDailyRatingRepository;
+import com.team2final.minglecrm.review.service.rating.ReviewRatingRollupService;
+import com.team2final.minglecrm.review.service.rating.RollupPeriod;
+import com.team2final.minglecrm.common.search.TextSearchHit;
+import com.team2final.minglecrm.review.service.search.ReviewTextIndexService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -14,14 +22,22 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class HotelReviewService {
 
     private final HotelReviewRepository hotelReviewRepository;
+    private final HotelReviewDailyRatingRepository hotelReviewDailyRatingRepository;
+    private final ReviewRatingRollupService reviewRatingRollupService;
+    private final ReviewTextIndexService reviewTextIndexService;
     private final int ROWS_PER_PAGE = 9;
+    private final int MAX_SCROLL_SIZE = 100;
+    private final int TEXT_SEARCH_BATCH_SIZE = 1000;
 
     public List<HotelReviewConditionSearchResponse> searchReviews(HotelReviewConditionSearchRequest condition, int pageNo) {
 
@@ -35,24 +51,51 @@ public class HotelReviewService {
         return response;
     }
 
+    // 최신순 무한 스크롤. cursor 가 없으면 처음부터
+    public ReviewScrollResponse<HotelReviewConditionSearchResponse> scrollReviews(HotelReviewConditionSearchRequest condition,
+                                                                                  LocalDateTime cursorTime, Long cursorId, Integer size) {
+        int scrollSize = size == null ? ROWS_PER_PAGE : Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        List<HotelReviewConditionSearchResponse> fetched =
+                hotelReviewRepository.scrollByExpression(condition, ReviewCursor.of(cursorTime, cursorId), scrollSize);
+        return ReviewScrollResponse.of(fetched, scrollSize, review -> new ReviewCursor(review.getCreatedTime(), review.getId()));
+    }
+
+    // 본문 색인에서 점수 순 id 를 받아 검색 조건으로 거른 뒤 같은 순서로 돌려줌
+    // 조건에 맞는 리뷰가 size 건 찰 때까지 id 를 TEXT_SEARCH_BATCH_SIZE 개씩 나눠 DB 에서 거름
+    public List<HotelReviewConditionSearchResponse> searchReviewsByText(String query, HotelReviewConditionSearchRequest condition, Integer size) {
+        int limit = size == null ? ROWS_PER_PAGE : Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        List<Long> ids = reviewTextIndexService.searchHotelReviews(query, Integer.MAX_VALUE).stream()
+                .map(TextSearchHit::id)
+                .toList();
+
+        List<HotelReviewConditionSearchResponse> result = new ArrayList<>();
+        for (int from = 0; from < ids.size() && result.size() < limit; from += TEXT_SEARCH_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + TEXT_SEARCH_BATCH_SIZE, ids.size()));
+            Map<Long, HotelReviewConditionSearchResponse> rows = new HashMap<>();
+            for (HotelReviewConditionSearchResponse row : hotelReviewRepository.findByIdsAndExpression(batch, condition)) {
+                rows.put(row.getId(), row);
+            }
+            batch.stream()
+                    .map(rows::get)
+                    .filter(Objects::nonNull)
+                    .limit(limit - result.size())
+                    .forEach(result::add);
+        }
+        return result;
+    }
+
     public JoinedReviews getJoinedHotelReviews (LocalDateTime startDate, LocalDateTime endDate, String hotel) {
         HotelReviewConditionSearchRequest request = new HotelReviewConditionSearchRequest(null, hotel, null, startDate, endDate);
         List<HotelReviewForSummaryResponse> hotelReviewList = hotelReviewRepository.findHotelReviewsByCondition(request);
-        StringBuilder response = new StringBuilder();
 
         if (hotelReviewList.isEmpty()) {
             System.out.println("리뷰 데이터가 없습니다.");
             return null;
         }
 
-        for (int i=0; i < hotelReviewList.size() ; i++) {
-            response.append(i)
-                    .append(" 번째 리뷰 : ")
-                    .append(hotelReviewList.get(i).getComment())
-                    .append("\n");
-        }
         return JoinedReviews.builder()
-                .joinedReviews(response.toString())
+                .reviews(hotelReviewList.stream().map(HotelReviewForSummaryResponse::getComment).toList())
+                .reviewIds(hotelReviewList.stream().map(HotelReviewForSummaryResponse::getId).toList())
                 .startDate(startDate)
                 .endDate(endDate)
                 .build();
@@ -73,15 +116,7 @@ public class HotelReviewService {
             hotel = null;
         }
 
-        HotelReviewConditionSearchRequest request = new HotelReviewConditionSearchRequest(null, hotel, null, startDate, endDate);
-        List<HotelReviewForSummaryResponse> hotelReviews = hotelReviewRepository.findHotelReviewsByCondition(request);
-
-        double numberOfReviews = (double) hotelReviews.size();
-        double averageRating = 0;
-        for(HotelReviewForSummaryResponse hotelReview : hotelReviews) {
-            averageRating += getAverageRating(hotelReview);
-        }
-        return averageRating / numberOfReviews;
+        return getRatingAggregate(startDate, endDate, hotel).getAverageRating();
     }
 
     public Long getHotelReviewsNumberByPeriod(LocalDateTime startDate, LocalDateTime endDate, String hotel) {
@@ -90,11 +125,24 @@ public class HotelReviewService {
             hotel = null;
         }
 
-        HotelReviewConditionSearchRequest request = new HotelReviewConditionSearchRequest(null, hotel, null, startDate, endDate);
-        List<HotelReviewForSummaryResponse> hotelReviews = hotelReviewRepository.findHotelReviewsByCondition(request);
+        return getRatingAggregate(startDate, endDate, hotel).getReviewCount();
+    }
 
+    // 온전한 날짜는 일별 집계를 더하고, 앞뒤 자투리 시간과 아직 집계되지 않은 날짜만 리뷰 테이블에서 COUNT / SUM
+    public HotelReviewRatingAggregate getRatingAggregate(LocalDateTime startDate, LocalDateTime endDate, String hotel) {
+        RollupPeriod period = RollupPeriod.of(startDate, endDate, reviewRatingRollupService.getRolledUpThrough());
+        if (period == null) {
+            return hotelReviewRepository.aggregateRatings(hotel, startDate, endDate, true);
+        }
 
-        return (long) hotelReviews.size();
+        HotelReviewRatingAggregate aggregate = hotelReviewDailyRatingRepository.sumByPeriod(hotel, period.firstDay(), period.lastDay());
+        if (startDate.isBefore(period.headEnd())) {
+            aggregate = aggregate.plus(hotelReviewRepository.aggregateRatings(hotel, startDate, period.headEnd(), false));
+        }
+        if (!period.tailStart().isAfter(endDate)) {
+            aggregate = aggregate.plus(hotelReviewRepository.aggregateRatings(hotel, period.tailStart(), endDate, true));
+        }
+        return aggregate;
     }
 
     public Double getAverageRating(HotelReview hotelReview) {
@@ -0,0 +1,91 @@
+package com.team2final.minglecrm.review.service.rating;
+
+import com.team2final.minglecrm.common.lock.JobLockService;
+import com.team2final.minglecrm.review.domain.dining.repository.DiningReviewRepository;
+import com.team2final.minglecrm.review.domain.dining.repository.rating.DiningReviewDailyRatingRepository;
+import com.team2final.minglecrm.review.domain.hotel.repository.hotelReview.HotelReviewRepository;
+import com.team2final.minglecrm.review.domain.hotel.repository.rating.HotelReviewDailyRatingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 지난 날짜의 리뷰 평점을 호텔 / 레스토랑, 일 단위로 미리 합산
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewRatingRollupService {
+
+    private static final String LOCK_NAME = "reviewRatingRollup";
+
+    private final HotelReviewRepository hotelReviewRepository;
+    private final HotelReviewDailyRatingRepository hotelReviewDailyRatingRepository;
+    private final DiningReviewRepository diningReviewRepository;
+    private final DiningReviewDailyRatingRepository diningReviewDailyRatingRepository;
+    private final JobLockService jobLockService;
+
+    // 일별 집계가 반영된 마지막 날짜. 아직 집계 전이면 null 이고 조회는 전부 리뷰 테이블에서 함
+    private volatile LocalDate rolledUpThrough;
+
+    public LocalDate getRolledUpThrough() {
+        return rolledUpThrough;
+    }
+
+    // 마지막 집계일부터 어제까지 다시 합산. 오늘은 아직 리뷰가 쌓이는 중이라 제외
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${spring.review.rating-rollup.cron:0 5 0 * * *}")
+    public void refresh() {
+        rollup(false);
+    }
+
+    // 지난 날짜의 리뷰가 수정, 삭제되면 마지막 집계일 이전 행은 refresh 로 고쳐지지 않으므로 주기적으로 전체를 다시 합산
+    @Transactional
+    @Scheduled(cron = "${spring.review.rating-rollup.reconcile-cron:0 35 0 * * SUN}")
+    public void reconcile() {
+        rollup(true);
+    }
+
+    // 기동 시점과 cron 이 여러 인스턴스에서 겹쳐도 지우고 다시 넣는 구간이 섞이지 않도록 트랜잭션 동안 잠금을 잡음
+    private void rollup(boolean full) {
+        jobLockService.lock(LOCK_NAME);
+        LocalDate through = LocalDate.now().minusDays(1);
+        // 전체 합산이면 리뷰가 모두 지워진 날의 행까지 남지 않도록 먼저 비움
+        if (full) {
+            hotelReviewDailyRatingRepository.deleteAllInBatch();
+            diningReviewDailyRatingRepository.deleteAllInBatch();
+        }
+
+        LocalDate hotelFrom = resumeDay(full ? null : hotelReviewDailyRatingRepository.findLastReviewDate(),
+                hotelReviewRepository.findFirstCreatedTime());
+        if (hotelFrom != null && !hotelFrom.isAfter(through)) {
+            hotelReviewDailyRatingRepository.deleteByPeriod(hotelFrom, through);
+            int rows = hotelReviewDailyRatingRepository.insertDailyRatings(hotelFrom.atStartOfDay(), through.plusDays(1).atStartOfDay());
+            log.info("호텔 리뷰 일별 평점 집계 {} ~ {} : {}행", hotelFrom, through, rows);
+        }
+
+        LocalDate diningFrom = resumeDay(full ? null : diningReviewDailyRatingRepository.findLastReviewDate(),
+                diningReviewRepository.findFirstCreatedTime());
+        if (diningFrom != null && !diningFrom.isAfter(through)) {
+            diningReviewDailyRatingRepository.deleteByPeriod(diningFrom, through);
+            int rows = diningReviewDailyRatingRepository.insertDailyRatings(diningFrom.atStartOfDay(), through.plusDays(1).atStartOfDay());
+            log.info("다이닝 리뷰 일별 평점 집계 {} ~ {} : {}행", diningFrom, through, rows);
+        }
+
+        rolledUpThrough = through;
+    }
+
+    // 집계된 적이 있으면 마지막 집계일부터, 없으면 가장 오래된 리뷰부터
+    private LocalDate resumeDay(LocalDate lastReviewDate, LocalDateTime firstCreatedTime) {
+        if (lastReviewDate != null) {
+            return lastReviewDate;
+        }
+        return firstCreatedTime == null ? null : firstCreatedTime.toLocalDate();
+    }
+}
@@ -0,0 +1,37 @@
+package com.team2final.minglecrm.review.service.rating;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// [startDate, endDate] 중 일별 집계로 대신할 수 있는 온전한 날짜 구간. 앞뒤 자투리 시간은 리뷰 테이블에서 직접 집계
+public record RollupPeriod(LocalDate firstDay, LocalDate lastDay) {
+
+    // 일별 집계가 rolledUpThrough 까지만 있으므로 그 이후 날짜는 자투리로 남김
+    public static RollupPeriod of(LocalDateTime startDate, LocalDateTime endDate, LocalDate rolledUpThrough) {
+        if (startDate == null || endDate == null || rolledUpThrough == null) {
+            return null;
+        }
+
+        LocalDate firstDay = startDate.toLocalTime().equals(LocalTime.MIDNIGHT)
+                ? startDate.toLocalDate()
+                : startDate.toLocalDate().plusDays(1);
+        // endDate 가 하루의 마지막 순간이 아니면 그 날은 온전히 포함되지 않음
+        LocalDate lastDay = endDate.plusNanos(1).toLocalDate().minusDays(1);
+        if (lastDay.isAfter(rolledUpThrough)) {
+            lastDay = rolledUpThrough;
+        }
+
+        return firstDay.isAfter(lastDay) ? null : new RollupPeriod(firstDay, lastDay);
+    }
+
+    // 앞쪽 자투리의 끝 (미포함)
+    public LocalDateTime headEnd() {
+        return firstDay.atStartOfDay();
+    }
+
+    // 뒤쪽 자투리의 시작 (포함)
+    public LocalDateTime tailStart() {
+        return lastDay.plusDays(1).atStartOfDay();
+    }
+}
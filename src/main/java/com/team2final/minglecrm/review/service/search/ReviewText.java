@@ -0,0 +1,5 @@
+package com.team2final.minglecrm.review.service.search;
+
+// 색인을 다시 만들 때 읽는 리뷰 id 와 본문
+public record ReviewText(Long id, String text) {
+}
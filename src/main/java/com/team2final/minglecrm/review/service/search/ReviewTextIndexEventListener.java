@@ -0,0 +1,66 @@
+package com.team2final.minglecrm.review.service.search;
+
+import com.team2final.minglecrm.review.domain.dining.DiningReview;
+import com.team2final.minglecrm.review.domain.hotel.HotelReview;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+// 리뷰 저장, 수정, 삭제가 커밋된 뒤에 본문 색인에 반영
+@Component
+@RequiredArgsConstructor
+public class ReviewTextIndexEventListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final ReviewTextIndexService reviewTextIndexService;
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        index(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        index(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof HotelReview hotelReview) {
+            reviewTextIndexService.removeHotelReview(hotelReview.getId());
+        } else if (event.getEntity() instanceof DiningReview diningReview) {
+            reviewTextIndexService.removeDiningReview(diningReview.getId());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> entityClass = persister.getMappedClass();
+        return HotelReview.class.equals(entityClass) || DiningReview.class.equals(entityClass);
+    }
+
+    private void index(Object entity) {
+        if (entity instanceof HotelReview hotelReview) {
+            reviewTextIndexService.indexHotelReview(hotelReview.getId(), hotelReview.getComment());
+        } else if (entity instanceof DiningReview diningReview) {
+            reviewTextIndexService.indexDiningReview(diningReview.getId(), diningReview.getReview());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.team2final.minglecrm.review.service.search;
+
+import com.team2final.minglecrm.common.search.RebuildableIndex;
+import com.team2final.minglecrm.common.search.TextIndex;
+import com.team2final.minglecrm.common.search.TextSearchHit;
+import com.team2final.minglecrm.review.domain.dining.repository.DiningReviewRepository;
+import com.team2final.minglecrm.review.domain.hotel.repository.hotelReview.HotelReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+// 호텔, 다이닝 리뷰 본문 검색
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewTextIndexService {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final HotelReviewRepository hotelReviewRepository;
+    private final DiningReviewRepository diningReviewRepository;
+
+    private final RebuildableIndex<TextIndex> hotelIndex = new RebuildableIndex<>(TextIndex::new);
+    private final RebuildableIndex<TextIndex> diningIndex = new RebuildableIndex<>(TextIndex::new);
+
+    // id 순 keyset 으로 나눠 읽어 전체 리뷰를 한 번에 메모리에 올리지 않음
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        TextIndex hotel = rebuild(hotelIndex, (lastId, page) -> hotelReviewRepository.findReviewTextsAfter(lastId, page));
+        TextIndex dining = rebuild(diningIndex, (lastId, page) -> diningReviewRepository.findReviewTextsAfter(lastId, page));
+        log.info("리뷰 본문 색인 완료 : 호텔 {}건, 다이닝 {}건", hotel.size(), dining.size());
+    }
+
+    public List<TextSearchHit> searchHotelReviews(String query, int limit) {
+        return hotelIndex.current().search(query, limit);
+    }
+
+    public List<TextSearchHit> searchDiningReviews(String query, int limit) {
+        return diningIndex.current().search(query, limit);
+    }
+
+    public void indexHotelReview(Long reviewId, String comment) {
+        hotelIndex.write(reviewId, index -> index.add(reviewId, comment));
+    }
+
+    public void indexDiningReview(Long reviewId, String review) {
+        diningIndex.write(reviewId, index -> index.add(reviewId, review));
+    }
+
+    public void removeHotelReview(Long reviewId) {
+        hotelIndex.write(reviewId, index -> index.remove(reviewId));
+    }
+
+    public void removeDiningReview(Long reviewId) {
+        diningIndex.write(reviewId, index -> index.remove(reviewId));
+    }
+
+    private TextIndex rebuild(RebuildableIndex<TextIndex> index, BiFunction<Long, PageRequest, List<ReviewText>> loader) {
+        return index.rebuild(REBUILD_PAGE_SIZE, lastId -> loader.apply(lastId, PageRequest.of(0, REBUILD_PAGE_SIZE)),
+                ReviewText::id, (target, text) -> target.add(text.id(), text.text()));
+    }
+}
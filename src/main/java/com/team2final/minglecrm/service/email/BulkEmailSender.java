@@ -0,0 +1,92 @@
+package com.team2final.minglecrm.service.email;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// 수신자 묶음을 하나의 SMTP 연결로 보내고 실패한 수신자만 재시도
+@Component
+@RequiredArgsConstructor
+public class BulkEmailSender {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final EmailSendService emailSendService;
+    private final EmailRateLimiter emailRateLimiter;
+
+    @Value("${spring.mail.bulk.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${spring.mail.bulk.retry-backoff-millis:1000}")
+    private long retryBackoffMillis;
+
+    // 인터럽트되면 아직 결과가 없는 수신자는 결과 맵에서 빠짐
+    public <T> Map<T, Outcome> send(List<T> recipients,
+                                    Function<T, String> toEmail,
+                                    String subject,
+                                    Function<T, String> content) {
+        Map<T, Outcome> outcomes = new HashMap<>();
+        List<T> pending = recipients;
+
+        try {
+            for (int attempt = 1; attempt <= maxAttempts && !pending.isEmpty(); attempt++) {
+                if (attempt > 1) {
+                    Thread.sleep(retryBackoffMillis * (attempt - 1));
+                }
+
+                Map<MimeMessage, T> mails = new LinkedHashMap<>();
+                for (T recipient : pending) {
+                    try {
+                        mails.put(emailSendService.createMail(toEmail.apply(recipient), subject, content.apply(recipient)), recipient);
+                    } catch (MessagingException e) {
+                        // 주소 오류 등은 재시도해도 같은 결과
+                        outcomes.put(recipient, Outcome.failed(attempt, e));
+                    }
+                }
+
+                emailRateLimiter.acquire(mails.size());
+                Map<MimeMessage, Exception> failures = emailSendService.sendMails(new ArrayList<>(mails.keySet()));
+
+                List<T> retry = new ArrayList<>();
+                for (Map.Entry<MimeMessage, T> entry : mails.entrySet()) {
+                    Exception failure = failures.get(entry.getKey());
+                    if (failure == null) {
+                        outcomes.put(entry.getValue(), Outcome.sent(attempt));
+                    } else {
+                        outcomes.put(entry.getValue(), Outcome.failed(attempt, failure));
+                        retry.add(entry.getValue());
+                    }
+                }
+                pending = retry;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.forEach(outcomes::remove);
+        }
+        return outcomes;
+    }
+
+    public record Outcome(boolean sent, int attempts, String error) {
+
+        static Outcome sent(int attempts) {
+            return new Outcome(true, attempts, null);
+        }
+
+        static Outcome failed(int attempts, Exception cause) {
+            String message = cause.getMessage();
+            if (message != null && message.length() > MAX_ERROR_LENGTH) {
+                message = message.substring(0, MAX_ERROR_LENGTH);
+            }
+            return new Outcome(false, attempts, message);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.team2final.minglecrm.service.email;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 초당 발송 건수 제한 (토큰 버킷). 모든 발송 스레드가 공유
+@Component
+public class EmailRateLimiter {
+
+    private final double permitsPerSecond;
+    private double availablePermits;
+    private long lastRefillNanos;
+
+    public EmailRateLimiter(@Value("${spring.mail.bulk.rate-per-second:20}") double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.availablePermits = permitsPerSecond;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    // 0 이하로 설정하면 제한하지 않음
+    public void acquire(int permits) throws InterruptedException {
+        if (permitsPerSecond <= 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            availablePermits -= permits;
+            waitNanos = availablePermits >= 0 ? 0 : (long) (-availablePermits / permitsPerSecond * 1_000_000_000L);
+        }
+        if (waitNanos > 0) {
+            Thread.sleep(waitNanos / 1_000_000L, (int) (waitNanos % 1_000_000L));
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        availablePermits = Math.min(permitsPerSecond,
+                availablePermits + (now - lastRefillNanos) / 1_000_000_000.0 * permitsPerSecond);
+        lastRefillNanos = now;
+    }
+}
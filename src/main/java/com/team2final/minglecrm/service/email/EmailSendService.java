@@ -4,10 +4,16 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class EmailSendService {
@@ -20,6 +26,13 @@ public class EmailSendService {
                          String subject,
                          String content) throws MessagingException {
 
+        mailSender.send(createMail(toEmail, subject, content));
+    }
+
+    public MimeMessage createMail(String toEmail,
+                                  String subject,
+                                  String content) throws MessagingException {
+
         MimeMessage mail = mailSender.createMimeMessage();
         MimeMessageHelper mailHelper = new MimeMessageHelper(mail, true, "UTF-8");
 
@@ -28,6 +41,26 @@ public class EmailSendService {
         mailHelper.setSubject(subject);
         mailHelper.setText(content, true);
 
-        mailSender.send(mail);
+        return mail;
+    }
+
+    // 여러 메일을 하나의 SMTP 연결로 보내고, 실패한 메일과 원인을 돌려줌
+    public Map<MimeMessage, Exception> sendMails(List<MimeMessage> mails) {
+        Map<MimeMessage, Exception> failures = new HashMap<>();
+        if (mails.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(mails.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            e.getFailedMessages().forEach((mail, cause) -> failures.put((MimeMessage) mail, cause));
+            if (failures.isEmpty()) {
+                mails.forEach(mail -> failures.put(mail, e));
+            }
+        } catch (MailException e) {
+            mails.forEach(mail -> failures.put(mail, e));
+        }
+        return failures;
     }
 }
@@ -0,0 +1,26 @@
+package com.team2final.minglecrm.statistics.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BatchExecutorConfig {
+
+    @Value("${spring.batch.orchestrator.launch-threads:2}")
+    private int launchThreads;
+
+    // API 로 띄운 배치 잡 실행. 같은 잡은 BatchOrchestrator 가 하나만 띄우므로 스레드는 잡 종류 수면 충분
+    // 대기열이 차면 거절하고, 요청은 실패 응답을 받음
+    @Bean
+    public ThreadPoolTaskExecutor batchLaunchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(launchThreads);
+        executor.setMaxPoolSize(launchThreads);
+        executor.setQueueCapacity(launchThreads * 2);
+        executor.setThreadNamePrefix("batch_launch-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,299 @@
+package com.team2final.minglecrm.statistics.config;
+
+import com.team2final.minglecrm.statistics.config.support.BatchJobGraph;
+import com.team2final.minglecrm.statistics.dto.response.batch.BatchJobReportResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 배치 잡들을 의존 관계 순서대로 하나씩 실행해 매 정각 동시에 몰리지 않도록 함
+@Slf4j
+@Component
+public class BatchOrchestrator {
+
+    public static final String SKIPPED_RUNNING = "SKIPPED_RUNNING";
+    public static final String SKIPPED_DEPENDENCY = "SKIPPED_DEPENDENCY";
+
+    private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    // 요청 스레드에서 띄운 잡을 실행
+    private final TaskExecutor batchLaunchExecutor;
+    // 이 시간보다 오래 STARTED 로 남은 실행은 비정상 종료로 보고 ABANDONED 처리
+    private final Duration staleExecutionTimeout;
+    private final BatchJobGraph batchJobGraph;
+    // 파이프라인과 따로 자기 주기로 실행하는 잡
+    private final Map<String, Job> standaloneJobs = new LinkedHashMap<>();
+
+    private final AtomicBoolean pipelineRunning = new AtomicBoolean(false);
+    // 이 프로세스에서 실행 중인 잡. 오래 걸려도 정리 대상에서 제외
+    private final Set<String> launchedJobs = ConcurrentHashMap.newKeySet();
+    private final Map<String, BatchJobReportResponse> reports = new ConcurrentHashMap<>();
+
+    public BatchOrchestrator(JobLauncher jobLauncher,
+                             JobExplorer jobExplorer,
+                             JobRepository jobRepository,
+                             @Qualifier("batchLaunchExecutor") TaskExecutor batchLaunchExecutor,
+                             @Value("${spring.batch.orchestrator.stale-execution-minutes:180}") long staleExecutionMinutes,
+                             Job importFrequentCustomerJob,
+                             Job reservationStatisticsJob,
+                             Job reservationRoomJob,
+                             Job purchaseItemJob,
+                             Job birthdayReminderJob,
+                             Job rollingReviewSummaryJob,
+                             Job customerBirthYearBackfillJob,
+                             Job inquiryStatusBackfillJob) {
+        this.jobLauncher = jobLauncher;
+        this.jobExplorer = jobExplorer;
+        this.jobRepository = jobRepository;
+        this.batchLaunchExecutor = batchLaunchExecutor;
+        this.staleExecutionTimeout = Duration.ofMinutes(staleExecutionMinutes);
+        // 고객 적재 후 통계, 생일 대상자 추출
+        this.batchJobGraph = new BatchJobGraph()
+                .addJob(importFrequentCustomerJob)
+                .addJob(reservationStatisticsJob, importFrequentCustomerJob)
+                .addJob(reservationRoomJob, importFrequentCustomerJob)
+                .addJob(purchaseItemJob, importFrequentCustomerJob)
+                .addJob(birthdayReminderJob, importFrequentCustomerJob);
+        // 기동 시 순환 의존 검증
+        this.batchJobGraph.executionOrder();
+        this.standaloneJobs.put(rollingReviewSummaryJob.getName(), rollingReviewSummaryJob);
+        this.standaloneJobs.put(customerBirthYearBackfillJob.getName(), customerBirthYearBackfillJob);
+        this.standaloneJobs.put(inquiryStatusBackfillJob.getName(), inquiryStatusBackfillJob);
+    }
+
+    // 이번 실행에서 COMPLETED 된 잡 이름. 이전 파이프라인이 아직 돌고 있으면 빈 집합
+    public Set<String> runPipeline() {
+        if (!pipelineRunning.compareAndSet(false, true)) {
+            log.warn("이전 배치 파이프라인이 아직 실행 중이라 이번 실행을 건너뜀");
+            return Set.of();
+        }
+
+        Set<String> completed = new HashSet<>();
+        try {
+            for (Job job : batchJobGraph.executionOrder()) {
+                if (!completed.containsAll(batchJobGraph.getDependencies(job.getName()))) {
+                    log.warn("선행 잡이 완료되지 않아 {} 건너뜀", job.getName());
+                    markStatus(job.getName(), SKIPPED_DEPENDENCY);
+                    continue;
+                }
+                if (run(job) == BatchStatus.COMPLETED) {
+                    completed.add(job.getName());
+                }
+            }
+        } finally {
+            pipelineRunning.set(false);
+        }
+        return completed;
+    }
+
+    // 이전 실행이 아직 돌고 있으면 건너뛰고 null
+    public BatchStatus runStandalone(String jobName) {
+        return run(findStandaloneJob(jobName));
+    }
+
+    // 실행 기록만 만들고 잡은 batchLaunchExecutor 에서 돌림. 요청 스레드는 실행 id 를 받아 바로 반환
+    // 이전 실행이 아직 돌고 있으면 건너뛰고 null
+    public Long launchStandalone(String jobName) {
+        Job job = findStandaloneJob(jobName);
+        if (!tryAcquire(job)) {
+            return null;
+        }
+
+        JobExecution jobExecution;
+        try {
+            JobParameters jobParameters = newJobParameters();
+            job.getJobParametersValidator().validate(jobParameters);
+            jobExecution = jobRepository.createJobExecution(job.getName(), jobParameters);
+        } catch (Exception e) {
+            launchedJobs.remove(job.getName());
+            markStatus(job.getName(), BatchStatus.FAILED.name());
+            throw new IllegalStateException("배치 잡을 시작하지 못했습니다. " + jobName, e);
+        }
+
+        markStatus(job.getName(), BatchStatus.STARTING.name());
+        try {
+            batchLaunchExecutor.execute(() -> execute(job, jobExecution));
+        } catch (TaskRejectedException e) {
+            launchedJobs.remove(job.getName());
+            jobExecution.setStatus(BatchStatus.FAILED);
+            jobExecution.setExitStatus(ExitStatus.FAILED.addExitDescription("실행 대기열이 가득 차 시작하지 못함"));
+            jobExecution.setEndTime(LocalDateTime.now());
+            jobRepository.update(jobExecution);
+            record(job.getName(), jobExecution);
+            throw new IllegalStateException("실행 중인 배치 잡이 많아 시작하지 못했습니다. " + jobName, e);
+        }
+        return jobExecution.getId();
+    }
+
+    // launchStandalone 이 돌려준 실행 id 로 진행 상태 조회
+    public Optional<BatchJobReportResponse> getReport(Long jobExecutionId) {
+        return Optional.ofNullable(jobExplorer.getJobExecution(jobExecutionId))
+                .map(jobExecution -> toReport(jobExecution.getJobInstance().getJobName(), jobExecution));
+    }
+
+    public List<BatchJobReportResponse> getReports() {
+        List<BatchJobReportResponse> result = new ArrayList<>();
+        for (Job job : batchJobGraph.executionOrder()) {
+            BatchJobReportResponse report = reports.get(job.getName());
+            if (report != null) {
+                result.add(report);
+            }
+        }
+        for (String jobName : standaloneJobs.keySet()) {
+            BatchJobReportResponse report = reports.get(jobName);
+            if (report != null) {
+                result.add(report);
+            }
+        }
+        return result;
+    }
+
+    private Job findStandaloneJob(String jobName) {
+        Job job = standaloneJobs.get(jobName);
+        if (job == null) {
+            throw new IllegalArgumentException("등록되지 않은 배치 잡입니다. " + jobName);
+        }
+        return job;
+    }
+
+    // 다른 실행이 없으면 이 프로세스의 실행 중 목록에 올림. 끝나면 launchedJobs 에서 빼야 함
+    private boolean tryAcquire(Job job) {
+        abandonStaleExecutions(job.getName());
+        if (!jobExplorer.findRunningJobExecutions(job.getName()).isEmpty() || !launchedJobs.add(job.getName())) {
+            log.warn("{} 이전 실행이 아직 끝나지 않아 건너뜀", job.getName());
+            markStatus(job.getName(), SKIPPED_RUNNING);
+            return false;
+        }
+        return true;
+    }
+
+    private BatchStatus run(Job job) {
+        if (!tryAcquire(job)) {
+            return null;
+        }
+
+        try {
+            JobExecution jobExecution = jobLauncher.run(job, newJobParameters());
+            record(job.getName(), jobExecution);
+            return jobExecution.getStatus();
+        } catch (Exception e) {
+            log.error("{} 실행 실패", job.getName(), e);
+            markStatus(job.getName(), BatchStatus.FAILED.name());
+            return BatchStatus.FAILED;
+        } finally {
+            launchedJobs.remove(job.getName());
+        }
+    }
+
+    // JobLauncher 가 하는 실행과 같음. 상태 전이와 저장은 Job.execute 가 처리
+    private void execute(Job job, JobExecution jobExecution) {
+        try {
+            job.execute(jobExecution);
+            record(job.getName(), jobExecution);
+        } catch (Exception e) {
+            log.error("{} 실행 실패", job.getName(), e);
+            markStatus(job.getName(), BatchStatus.FAILED.name());
+        } finally {
+            launchedJobs.remove(job.getName());
+        }
+    }
+
+    private static JobParameters newJobParameters() {
+        return new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+    }
+
+    // 프로세스가 죽으면 실행 기록이 STARTED 로 남아 이후 실행이 영원히 건너뛰어짐
+    // 이 프로세스가 돌리고 있지 않고 timeout 보다 오래된 실행은 step 까지 ABANDONED 로 닫음
+    private void abandonStaleExecutions(String jobName) {
+        if (launchedJobs.contains(jobName)) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(staleExecutionTimeout);
+        for (JobExecution execution : jobExplorer.findRunningJobExecutions(jobName)) {
+            LocalDateTime startTime = execution.getStartTime() != null ? execution.getStartTime() : execution.getCreateTime();
+            if (startTime == null || startTime.isAfter(staleBefore)) {
+                continue;
+            }
+            for (StepExecution stepExecution : execution.getStepExecutions()) {
+                if (stepExecution.getEndTime() == null) {
+                    stepExecution.setStatus(BatchStatus.ABANDONED);
+                    stepExecution.setExitStatus(ExitStatus.FAILED);
+                    stepExecution.setEndTime(now);
+                    jobRepository.update(stepExecution);
+                }
+            }
+            execution.setStatus(BatchStatus.ABANDONED);
+            execution.setExitStatus(ExitStatus.FAILED.addExitDescription("비정상 종료로 남은 실행을 정리함"));
+            execution.setEndTime(now);
+            jobRepository.update(execution);
+            log.warn("{} 실행 {} 이 {} 부터 끝나지 않아 ABANDONED 처리", jobName, execution.getId(), startTime);
+        }
+    }
+
+    private void record(String jobName, JobExecution jobExecution) {
+        BatchJobReportResponse report = toReport(jobName, jobExecution);
+        reports.put(jobName, report);
+        log.info("{} {} : {}ms, read {}, write {}", jobName, jobExecution.getStatus(), report.getLastDurationMillis(),
+                report.getReadCount(), report.getWriteCount());
+    }
+
+    private static BatchJobReportResponse toReport(String jobName, JobExecution jobExecution) {
+        long readCount = 0;
+        long writeCount = 0;
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            // 파티션 worker step 의 건수는 manager step 에 합산되어 있음
+            if (stepExecution.getStepName().contains(":")) {
+                continue;
+            }
+            readCount += stepExecution.getReadCount();
+            writeCount += stepExecution.getWriteCount();
+        }
+
+        LocalDateTime startTime = jobExecution.getStartTime();
+        LocalDateTime endTime = jobExecution.getEndTime();
+        Long durationMillis = startTime != null && endTime != null
+                ? Duration.between(startTime, endTime).toMillis()
+                : null;
+
+        return new BatchJobReportResponse(jobName, jobExecution.getStatus().name(),
+                startTime, endTime, durationMillis, readCount, writeCount);
+    }
+
+    // 건너뛰거나 기동 자체가 실패한 경우 상태만 바꾸고 마지막 실행 기록은 유지
+    private void markStatus(String jobName, String status) {
+        BatchJobReportResponse previous = reports.get(jobName);
+        reports.put(jobName, previous == null
+                ? new BatchJobReportResponse(jobName, status, null, null, null, 0L, 0L)
+                : new BatchJobReportResponse(jobName, status, previous.getLastStartTime(), previous.getLastEndTime(),
+                previous.getLastDurationMillis(), previous.getReadCount(), previous.getWriteCount()));
+    }
+}
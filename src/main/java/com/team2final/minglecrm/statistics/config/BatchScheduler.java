@@ -1,110 +1,41 @@
 
 package com.team2final.minglecrm.statistics.config;
 
-import com.team2final.minglecrm.service.email.EmailSendService;
-import com.team2final.minglecrm.statistics.domain.BirthdayReminderCustomers;
-import jakarta.mail.MessagingException;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import com.team2final.minglecrm.statistics.service.customer.BirthdayReminderEmailService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.batch.core.Job;
-import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class BatchScheduler {
 
-    @PersistenceContext
-    private EntityManager entityManager;
-
-    private final JobLauncher jobLauncher;
-    private final Job reservationStatisticsJob;
-    private final Job birthdayReminderJob;
-    private final Job importFrequentCustomerJob;
-    private final Job reservationRoomJob;
-    private final Job purchaseItemJob;
-    private final EmailSendService emailSendService;
+    private final BatchOrchestrator batchOrchestrator;
+    private final BirthdayReminderEmailService birthdayReminderEmailService;
 
+    // 잡마다 따로 정각에 띄우지 않고 의존 순서대로 한 번에 실행
     //    @Scheduled(cron = "0 * * * * ?")
-    @Scheduled(cron = "0 0 0/1 * * *")
-    public void runImportFrequentCustomerJob() {
-        try {
-            jobLauncher.run(importFrequentCustomerJob, new JobParametersBuilder()
-                    .addLong("time", System.currentTimeMillis())
-                    .toJobParameters());
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-    }
+    @Scheduled(cron = "${spring.batch.schedule.cron:0 0 0/1 * * *}")
+    public void runBatchPipeline() {
+        Set<String> completedJobs = batchOrchestrator.runPipeline();
 
-    //    @Scheduled(cron = "0 * * * * ?")
-    @Scheduled(cron = "0 0 0/1 * * *")
-    public void runReservationRoomJob() {
-        try {
-            jobLauncher.run(reservationRoomJob, new JobParametersBuilder()
-                    .addLong("time", System.currentTimeMillis())
-                    .toJobParameters());
-        } catch (Exception e) {
-            e.printStackTrace();
+        // 생일 대상자 추출이 끝난 뒤에만 메일 발송
+        if (completedJobs.contains("birthdayReminderJob")) {
+            birthdayReminderCustomersSendEmail();
         }
     }
 
-    //    @Scheduled(fixedDelay = 10000)
-//    @Scheduled(cron = "0 * * * * ?")
-    @Scheduled(cron = "0 0 0/1 * * *")
-    public void runReservationStatisticsJob() {
-        try {
-            jobLauncher.run(reservationStatisticsJob, new JobParametersBuilder()
-                    .addLong("time", System.currentTimeMillis())
-                    .toJobParameters());
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    // 요약은 하루 단위 기간이라 밤에 한 번만 갱신
+    @Scheduled(cron = "${spring.batch.schedule.review-summary-cron:0 30 3 * * *}")
+    public void runRollingReviewSummary() {
+        batchOrchestrator.runStandalone("rollingReviewSummaryJob");
     }
 
-    //    @Scheduled(cron = "0 0 0 * * ?")
-    @Scheduled(cron = "0 0 0/1 * * *")
-    public void runPurchaseItemJob() {
-        try {
-            jobLauncher.run(purchaseItemJob, new JobParametersBuilder()
-                    .addLong("time", System.currentTimeMillis())
-                    .toJobParameters());
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-    }
-    @Scheduled(cron = "0 0 0/1 * * *")
-    public void runBirthdayReminderJob() {
-        try {
-            jobLauncher.run(birthdayReminderJob, new JobParametersBuilder()
-                    .addLong("time", System.currentTimeMillis())
-                    .toJobParameters());
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-    }
-
-
-    //    @Scheduled(cron = "0 0 0 * * ?")
-    @Scheduled(cron = "0 0 0/1 * * *")
+    // 발송은 별도 스레드 풀에서 진행되므로 스케줄러 스레드는 바로 반환
     public void birthdayReminderCustomersSendEmail() {
-        List<BirthdayReminderCustomers> customers = entityManager.createQuery(
-                        "SELECT b FROM BirthdayReminderCustomers b", BirthdayReminderCustomers.class)
-                .getResultList();
-
-        for (BirthdayReminderCustomers customer : customers) {
-            try {
-                emailSendService.sendMail(customer.getEmail(), "다가오는 생일을 축하합니다.",
-                        customer.getName() + "님, " + ",\n\n다가오는 생일을 축하드리며 생일기념 바우처를 드립니다.");
-            } catch (MessagingException e) {
-                e.printStackTrace();
-            }
-        }
+        birthdayReminderEmailService.sendAsync();
     }
 }
 
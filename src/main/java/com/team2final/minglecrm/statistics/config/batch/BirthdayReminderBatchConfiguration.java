@@ -4,12 +4,12 @@ import com.team2final.minglecrm.customer.domain.Customer;
 import com.team2final.minglecrm.statistics.config.support.JobCompletionNotificationListener;
 import com.team2final.minglecrm.statistics.config.support.RunIdIncrementer;
 import com.team2final.minglecrm.statistics.domain.BirthdayReminderCustomers;
-import jakarta.persistence.EntityManager;
+import com.team2final.minglecrm.statistics.domain.repository.customer.BirthdayReminderCustomersRepository;
 import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.EntityTransaction;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
@@ -18,15 +18,20 @@ import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JpaCursorItemReader;
 import org.springframework.batch.item.database.builder.JpaCursorItemReaderBuilder;
-import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Configuration
 @RequiredArgsConstructor
@@ -35,13 +40,15 @@ public class BirthdayReminderBatchConfiguration {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
     private final EntityManagerFactory entityManagerFactory;
+    private final BirthdayReminderCustomersRepository birthdayReminderCustomersRepository;
 
+    // 대상자 테이블을 비우고 다시 채우지 않고 (고객, 생일 연도) 기준으로 넣거나 갱신해 발송 상태를 유지
     @Bean
-    public Job birthdayReminderJob(JobCompletionNotificationListener listener, Step birthdayReminderStep, Step birthdayReminderDeleteStep) {
+    public Job birthdayReminderJob(JobCompletionNotificationListener listener, Step birthdayReminderStep, Step birthdayReminderCleanupStep) {
         return new JobBuilder("birthdayReminderJob", jobRepository)
                 .incrementer(new RunIdIncrementer())
                 .listener(listener)
-                .start(birthdayReminderDeleteStep)
+                .start(birthdayReminderCleanupStep)
                 .next(birthdayReminderStep)
                 .build();
     }
@@ -57,32 +64,25 @@ public class BirthdayReminderBatchConfiguration {
     }
 
     @Bean
-    public Step birthdayReminderDeleteStep() {
-        return new StepBuilder("birthdayReminderDeleteStep", jobRepository)
-                .tasklet(birthdayReminderDeleteTasklet(), platformTransactionManager)
+    public Step birthdayReminderCleanupStep() {
+        return new StepBuilder("birthdayReminderCleanupStep", jobRepository)
+                .tasklet(birthdayReminderCleanupTasklet(), platformTransactionManager)
                 .build();
     }
 
+    // 지난해 생일까지의 행만 남기고 그 이전 기록은 정리
     @Bean
-    public Tasklet birthdayReminderDeleteTasklet() {
+    public Tasklet birthdayReminderCleanupTasklet() {
         return (contribution, chunkContext) -> {
-            EntityManager entityManager = entityManagerFactory.createEntityManager();
-            EntityTransaction transaction = entityManager.getTransaction();
-            try {
-                transaction.begin();
-                entityManager.createQuery("DELETE FROM BirthdayReminderCustomers").executeUpdate();
-                transaction.commit();
-            } catch (Exception e) {
-                transaction.rollback();
-                throw e;
-            } finally {
-                entityManager.close();
-            }
+            int deleted = birthdayReminderCustomersRepository.deleteByBirthdayYearBefore(LocalDate.now().getYear() - 1);
+            contribution.incrementWriteCount(deleted);
             return RepeatStatus.FINISHED;
         };
     }
 
+    // 실행할 때마다 기준일을 다시 계산하도록 step 범위로 생성
     @Bean
+    @StepScope
     public JpaCursorItemReader<Customer> birthdayReminderReader() {
         LocalDate oneWeekLater = LocalDate.now().plusDays(7);
         int month = oneWeekLater.getMonthValue();
@@ -105,17 +105,42 @@ public class BirthdayReminderBatchConfiguration {
     @Bean
     public ItemProcessor<Customer, BirthdayReminderCustomers> birthdayReminderProcessor() {
         return customer -> BirthdayReminderCustomers.builder()
-                .id(customer.getId())
+                .customerId(customer.getId())
+                .birthdayYear(upcomingBirthdayYear(customer.getBirth(), LocalDate.now()))
                 .name(customer.getName())
                 .email(customer.getEmail())
                 .birth(customer.getBirth())
                 .build();
     }
 
+    // 새 대상자는 PENDING 으로 넣고, 이미 있는 대상자는 보내기 전인 경우에만 이름, 이메일을 갱신
     @Bean
     public ItemWriter<BirthdayReminderCustomers> birthdayReminderWriter() {
-        return new JpaItemWriterBuilder<BirthdayReminderCustomers>()
-                .entityManagerFactory(entityManagerFactory)
-                .build();
+        return chunk -> {
+            Map<Integer, List<BirthdayReminderCustomers>> byYear = chunk.getItems().stream()
+                    .collect(Collectors.groupingBy(BirthdayReminderCustomers::getBirthdayYear));
+            for (Map.Entry<Integer, List<BirthdayReminderCustomers>> entry : byYear.entrySet()) {
+                int birthdayYear = entry.getKey();
+                Set<Long> existing = new HashSet<>(birthdayReminderCustomersRepository.findCustomerIdsByBirthdayYear(birthdayYear,
+                        entry.getValue().stream().map(BirthdayReminderCustomers::getCustomerId).toList()));
+
+                List<BirthdayReminderCustomers> newRecipients = new ArrayList<>();
+                for (BirthdayReminderCustomers recipient : entry.getValue()) {
+                    if (existing.add(recipient.getCustomerId())) {
+                        newRecipients.add(recipient);
+                    } else {
+                        birthdayReminderCustomersRepository.updateUnsentContact(recipient.getCustomerId(), birthdayYear,
+                                recipient.getName(), recipient.getEmail(), recipient.getBirth());
+                    }
+                }
+                birthdayReminderCustomersRepository.saveAll(newRecipients);
+            }
+        };
+    }
+
+    // 오늘 이후 처음 돌아오는 생일의 연도. 2월 29일생은 평년에 2월 28일로 봄
+    static int upcomingBirthdayYear(LocalDate birth, LocalDate today) {
+        MonthDay birthday = MonthDay.from(birth);
+        return birthday.atYear(today.getYear()).isBefore(today) ? today.getYear() + 1 : today.getYear();
     }
 }
@@ -2,24 +2,24 @@ package com.team2final.minglecrm.statistics.config.batch;
 
 import com.team2final.minglecrm.customer.domain.Customer;
 import com.team2final.minglecrm.statistics.config.support.JobCompletionNotificationListener;
+import com.team2final.minglecrm.statistics.config.support.StatisticsGenerationSupport;
 import com.team2final.minglecrm.statistics.domain.FrequentCustomer;
-import jakarta.persistence.EntityManager;
+import com.team2final.minglecrm.statistics.domain.StatisticsSnapshot;
 import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.EntityTransaction;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JpaCursorItemReader;
 import org.springframework.batch.item.database.builder.JpaCursorItemReaderBuilder;
 import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
-import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
@@ -33,14 +33,17 @@ public class CustomerBatchConfiguration {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
     private final EntityManagerFactory entityManagerFactory;
+    private final StatisticsGenerationSupport statisticsGenerationSupport;
 
     @Bean
-    public Job importFrequentCustomerJob(JobCompletionNotificationListener listener, Step importFrequentCustomerStep, Step frequentCustomerDeleteStep) {
+    public Job importFrequentCustomerJob(JobCompletionNotificationListener listener, Step importFrequentCustomerStep,
+                                         Step frequentCustomerPrepareStep, Step frequentCustomerSwitchStep) {
         return new JobBuilder("importFrequentCustomerJob", jobRepository)
                 .incrementer(new RunIdIncrementer())
                 .listener(listener)
-                .start(frequentCustomerDeleteStep)
+                .start(frequentCustomerPrepareStep)
                 .next(importFrequentCustomerStep)
+                .next(frequentCustomerSwitchStep)
                 .build();
     }
 
@@ -49,35 +52,24 @@ public class CustomerBatchConfiguration {
         return new StepBuilder("importFrequentCustomerStep", jobRepository)
                 .<Customer, FrequentCustomer>chunk(10, platformTransactionManager)
                 .reader(importFrequentCustomerReader())
-                .processor(importFrequentCustomerProcessor())
+                .processor(importFrequentCustomerProcessor(null))
                 .writer(importFrequentCustomerWriter())
                 .build();
     }
 
+    // 새 세대에 적재하는 동안 조회는 이전 세대를 그대로 읽음
     @Bean
-    public Step frequentCustomerDeleteStep() {
-        return new StepBuilder("frequentCustomerDeleteStep", jobRepository)
-                .tasklet(frequentCustomerDeleteTasklet(), platformTransactionManager)
+    public Step frequentCustomerPrepareStep() {
+        return new StepBuilder("frequentCustomerPrepareStep", jobRepository)
+                .tasklet(statisticsGenerationSupport.prepareTasklet(StatisticsSnapshot.FREQUENT_CUSTOMER), platformTransactionManager)
                 .build();
     }
 
     @Bean
-    public Tasklet frequentCustomerDeleteTasklet() {
-        return (contribution, chunkContext) -> {
-            EntityManager entityManager = entityManagerFactory.createEntityManager();
-            EntityTransaction transaction = entityManager.getTransaction();
-            try {
-                transaction.begin();
-                entityManager.createQuery("DELETE FROM FrequentCustomer").executeUpdate();
-                transaction.commit();
-            } catch (Exception e) {
-                transaction.rollback();
-                throw e;
-            } finally {
-                entityManager.close();
-            }
-            return RepeatStatus.FINISHED;
-        };
+    public Step frequentCustomerSwitchStep() {
+        return new StepBuilder("frequentCustomerSwitchStep", jobRepository)
+                .tasklet(statisticsGenerationSupport.switchTasklet(StatisticsSnapshot.FREQUENT_CUSTOMER), platformTransactionManager)
+                .build();
     }
 
     @Bean
@@ -90,7 +82,9 @@ public class CustomerBatchConfiguration {
     }
 
     @Bean
-    public ItemProcessor<Customer, FrequentCustomer> importFrequentCustomerProcessor() {
+    @StepScope
+    public ItemProcessor<Customer, FrequentCustomer> importFrequentCustomerProcessor(
+            @Value("#{jobExecutionContext['stagingGeneration']}") Long stagingGeneration) {
         return customer -> FrequentCustomer.builder()
                 .name(customer.getName())
                 .phone(customer.getPhone())
@@ -102,6 +96,7 @@ public class CustomerBatchConfiguration {
                 .gender(customer.getGender())
                 .visitCnt(customer.getVisitCnt())
                 .birth(customer.getBirth())
+                .generation(stagingGeneration)
                 .build();
     }
 
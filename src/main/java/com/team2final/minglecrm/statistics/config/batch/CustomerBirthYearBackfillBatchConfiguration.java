@@ -0,0 +1,129 @@
+package com.team2final.minglecrm.statistics.config.batch;
+
+import com.team2final.minglecrm.statistics.config.support.IdRangePartitioner;
+import com.team2final.minglecrm.statistics.config.support.JobCompletionNotificationListener;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// Customer.birthYear 컬럼 추가 전 행을 birth 기준으로 채움
+// id 구간을 파티션으로 나누고, 파티션 안에서는 slice-size 단위로 짧은 트랜잭션을 반복해 잠금을 오래 잡지 않음
+@Configuration
+@RequiredArgsConstructor
+public class CustomerBirthYearBackfillBatchConfiguration {
+
+    private static final String NEXT_ID = "nextId";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager platformTransactionManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${spring.batch.customer-birth-year.slice-size:1000}")
+    private int sliceSize;
+
+    // 0 이면 사용 가능한 코어 수만큼 파티션을 나눔
+    @Value("${spring.batch.customer-birth-year.grid-size:0}")
+    private int gridSize;
+
+    @Bean
+    public Job customerBirthYearBackfillJob(JobCompletionNotificationListener listener, Step customerBirthYearBackfillStep) {
+        return new JobBuilder("customerBirthYearBackfillJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .listener(listener)
+                .start(customerBirthYearBackfillStep)
+                .build();
+    }
+
+    @Bean
+    public Step customerBirthYearBackfillStep() {
+        return new StepBuilder("customerBirthYearBackfillStep", jobRepository)
+                .partitioner("customerBirthYearBackfillWorkerStep", new IdRangePartitioner(entityManagerFactory, "Customer"))
+                .step(customerBirthYearBackfillWorkerStep())
+                .gridSize(gridSize())
+                .taskExecutor(customerBirthYearBackfillTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public Step customerBirthYearBackfillWorkerStep() {
+        return new StepBuilder("customerBirthYearBackfillWorkerStep", jobRepository)
+                .tasklet(customerBirthYearBackfillTasklet(null, null), platformTransactionManager)
+                .build();
+    }
+
+    // 한 번 호출에 한 구간만 갱신. 진행 위치를 step execution context 에 남겨 재시작 시 이어서 진행
+    // 이미 맞는 값은 조건에서 빠지므로 같은 구간을 다시 돌려도 결과가 같음
+    @Bean
+    @StepScope
+    public Tasklet customerBirthYearBackfillTasklet(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        return (contribution, chunkContext) -> {
+            ExecutionContext stepContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            long from = stepContext.getLong(NEXT_ID, minId);
+            if (from > maxId) {
+                return RepeatStatus.FINISHED;
+            }
+            long to = Math.min(from + sliceSize - 1, maxId);
+
+            contribution.incrementWriteCount(updateBirthYear(from, to));
+            stepContext.putLong(NEXT_ID, to + 1);
+            return to < maxId ? RepeatStatus.CONTINUABLE : RepeatStatus.FINISHED;
+        };
+    }
+
+    private int updateBirthYear(long from, long to) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        EntityTransaction transaction = entityManager.getTransaction();
+        transaction.begin();
+
+        try {
+            int updated = entityManager.createQuery(
+                            "UPDATE Customer c SET c.birthYear = YEAR(c.birth) " +
+                                    "WHERE c.id BETWEEN :from AND :to AND c.birth IS NOT NULL " +
+                                    "AND (c.birthYear IS NULL OR c.birthYear <> YEAR(c.birth))")
+                    .setParameter("from", from)
+                    .setParameter("to", to)
+                    .executeUpdate();
+            transaction.commit();
+            return updated;
+        } catch (Exception e) {
+            transaction.rollback();
+            throw e;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Bean
+    public TaskExecutor customerBirthYearBackfillTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(gridSize());
+        executor.setMaxPoolSize(gridSize());
+        executor.setQueueCapacity(gridSize() * 3);
+        executor.setThreadNamePrefix("customer_birth_year-");
+        executor.initialize();
+        return executor;
+    }
+
+    private int gridSize() {
+        return gridSize > 0 ? gridSize : Runtime.getRuntime().availableProcessors();
+    }
+}
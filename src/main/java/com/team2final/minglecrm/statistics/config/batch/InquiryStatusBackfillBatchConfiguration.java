@@ -0,0 +1,133 @@
+package com.team2final.minglecrm.statistics.config.batch;
+
+import com.team2final.minglecrm.statistics.config.support.IdRangePartitioner;
+import com.team2final.minglecrm.statistics.config.support.JobCompletionNotificationListener;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// Inquiry 상태 컬럼(isReply, actionStatus, lastActivityTime)을 답변, 조치 테이블 기준으로 다시 계산
+// 컬럼 추가 전 행을 채우거나 어긋난 값을 바로잡을 때 실행. 구간 나누기는 고객 출생 연도 채우기와 같음
+@Configuration
+@RequiredArgsConstructor
+public class InquiryStatusBackfillBatchConfiguration {
+
+    private static final String NEXT_ID = "nextId";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager platformTransactionManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${spring.batch.inquiry-status.slice-size:1000}")
+    private int sliceSize;
+
+    // 0 이면 사용 가능한 코어 수만큼 파티션을 나눔
+    @Value("${spring.batch.inquiry-status.grid-size:0}")
+    private int gridSize;
+
+    @Bean
+    public Job inquiryStatusBackfillJob(JobCompletionNotificationListener listener, Step inquiryStatusBackfillStep) {
+        return new JobBuilder("inquiryStatusBackfillJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .listener(listener)
+                .start(inquiryStatusBackfillStep)
+                .build();
+    }
+
+    @Bean
+    public Step inquiryStatusBackfillStep() {
+        return new StepBuilder("inquiryStatusBackfillStep", jobRepository)
+                .partitioner("inquiryStatusBackfillWorkerStep", new IdRangePartitioner(entityManagerFactory, "Inquiry"))
+                .step(inquiryStatusBackfillWorkerStep())
+                .gridSize(gridSize())
+                .taskExecutor(inquiryStatusBackfillTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public Step inquiryStatusBackfillWorkerStep() {
+        return new StepBuilder("inquiryStatusBackfillWorkerStep", jobRepository)
+                .tasklet(inquiryStatusBackfillTasklet(null, null), platformTransactionManager)
+                .build();
+    }
+
+    // 한 번 호출에 한 구간만 갱신. 진행 위치를 step execution context 에 남겨 재시작 시 이어서 진행
+    // 원본 테이블에서 다시 계산하므로 같은 구간을 다시 돌려도 결과가 같음
+    @Bean
+    @StepScope
+    public Tasklet inquiryStatusBackfillTasklet(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        return (contribution, chunkContext) -> {
+            ExecutionContext stepContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            long from = stepContext.getLong(NEXT_ID, minId);
+            if (from > maxId) {
+                return RepeatStatus.FINISHED;
+            }
+            long to = Math.min(from + sliceSize - 1, maxId);
+
+            contribution.incrementWriteCount(updateInquiryStatus(from, to));
+            stepContext.putLong(NEXT_ID, to + 1);
+            return to < maxId ? RepeatStatus.CONTINUABLE : RepeatStatus.FINISHED;
+        };
+    }
+
+    private int updateInquiryStatus(long from, long to) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        EntityTransaction transaction = entityManager.getTransaction();
+        transaction.begin();
+
+        try {
+            int updated = entityManager.createNativeQuery(
+                            "UPDATE inquiry i SET " +
+                                    "is_reply = EXISTS (SELECT 1 FROM inquiry_reply r WHERE r.inquiry_id = i.id), " +
+                                    "action_status = (SELECT a.action_status FROM inquiry_action a WHERE a.inquiry_id = i.id), " +
+                                    "last_activity_time = GREATEST(i.date, " +
+                                    "COALESCE((SELECT r.date FROM inquiry_reply r WHERE r.inquiry_id = i.id), i.date), " +
+                                    "COALESCE((SELECT a.date FROM inquiry_action a WHERE a.inquiry_id = i.id), i.date)) " +
+                                    "WHERE i.id BETWEEN :from AND :to")
+                    .setParameter("from", from)
+                    .setParameter("to", to)
+                    .executeUpdate();
+            transaction.commit();
+            return updated;
+        } catch (Exception e) {
+            transaction.rollback();
+            throw e;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Bean
+    public TaskExecutor inquiryStatusBackfillTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(gridSize());
+        executor.setMaxPoolSize(gridSize());
+        executor.setQueueCapacity(gridSize() * 3);
+        executor.setThreadNamePrefix("inquiry_status-");
+        executor.initialize();
+        return executor;
+    }
+
+    private int gridSize() {
+        return gridSize > 0 ? gridSize : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -1,36 +1,39 @@
 package com.team2final.minglecrm.statistics.config.batch;
 
-import com.team2final.minglecrm.reservation.domain.dining.DishReservation;
-import com.team2final.minglecrm.reservation.domain.dining.DishReservationDetail;
-import com.team2final.minglecrm.reservation.domain.hotel.RoomReservation;
+import com.team2final.minglecrm.statistics.config.support.IdRangePartitioner;
 import com.team2final.minglecrm.statistics.config.support.JobCompletionNotificationListener;
+import com.team2final.minglecrm.statistics.config.support.PurchaseDishRow;
+import com.team2final.minglecrm.statistics.config.support.PurchaseDishTotalRow;
+import com.team2final.minglecrm.statistics.config.support.PurchaseRoomRow;
+import com.team2final.minglecrm.statistics.config.support.StatisticsGenerationSupport;
 import com.team2final.minglecrm.statistics.domain.PurchaseDish;
 import com.team2final.minglecrm.statistics.domain.PurchaseList;
+import com.team2final.minglecrm.statistics.domain.StatisticsSnapshot;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityTransaction;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JpaCursorItemReader;
 import org.springframework.batch.item.database.builder.JpaCursorItemReaderBuilder;
 import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
-import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.time.LocalDate;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Configuration
 @RequiredArgsConstructor
@@ -39,89 +42,94 @@ public class PurchaseRankingBatchConfiguration {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
     private final EntityManagerFactory entityManagerFactory;
+    private final StatisticsGenerationSupport statisticsGenerationSupport;
 
+    @Value("${spring.batch.statistics.purchase.chunk-size:100}")
+    private int chunkSize;
+
+    // 0 이면 사용 가능한 코어 수만큼 파티션을 나눔
+    @Value("${spring.batch.statistics.purchase.grid-size:0}")
+    private int gridSize;
 
     @Bean
-    public Job purchaseItemJob(JobCompletionNotificationListener listener, Step purchaseDishStep, Step purchaseDishDeleteStep, Step purchaseListDeleteStep, Step purchaseDishListStep, Step purchaseRoomListStep) {
+    public Job purchaseItemJob(JobCompletionNotificationListener listener, Step purchasePrepareStep, Step purchaseDishStep, Step purchaseDishListStep, Step purchaseRoomListStep, Step purchaseSwitchStep) {
         return new JobBuilder("purchaseItemJob", jobRepository)
                 .incrementer(new RunIdIncrementer())
                 .listener(listener)
-                .start(purchaseDishDeleteStep)
+                .start(purchasePrepareStep)
                 .next(purchaseDishStep)
-                .start(purchaseListDeleteStep)
                 .next(purchaseDishListStep)
                 .next(purchaseRoomListStep)
+                .next(purchaseSwitchStep)
                 .build();
     }
+
+    // PurchaseDish, PurchaseList 를 새 세대에 모두 적재한 뒤 한 번에 전환
     @Bean
-    public Step purchaseDishDeleteStep() {
-        return new StepBuilder("purchaseDishDeleteStep", jobRepository)
-                .tasklet(purchaseDishDeleteTasklet(), platformTransactionManager)
+    public Step purchasePrepareStep() {
+        return new StepBuilder("purchasePrepareStep", jobRepository)
+                .tasklet(statisticsGenerationSupport.prepareTasklet(StatisticsSnapshot.PURCHASE), platformTransactionManager)
                 .build();
     }
 
     @Bean
-    public Tasklet purchaseDishDeleteTasklet() {
-        return (contribution, chunkContext) -> {
-            EntityManager entityManager = entityManagerFactory.createEntityManager();
-            EntityTransaction transaction = entityManager.getTransaction();
-            try {
-                transaction.begin();
-                entityManager.createQuery("DELETE FROM PurchaseDish").executeUpdate();
-                transaction.commit();
-            } catch (Exception e) {
-                transaction.rollback();
-                throw e;
-            } finally {
-                entityManager.close();
-            }
-            return RepeatStatus.FINISHED;
-        };
+    public Step purchaseSwitchStep() {
+        return new StepBuilder("purchaseSwitchStep", jobRepository)
+                .tasklet(statisticsGenerationSupport.switchTasklet(StatisticsSnapshot.PURCHASE), platformTransactionManager)
+                .build();
     }
 
 
     @Bean
     public Step purchaseDishStep() {
         return new StepBuilder("purchaseDishStep", jobRepository)
-                .<DishReservation, PurchaseDish>chunk(10, platformTransactionManager)
-                .reader(purchaseDishReader())
-                .processor(purchaseDishProcessor())
+                .partitioner("purchaseDishWorkerStep", new IdRangePartitioner(entityManagerFactory, "DishReservation"))
+                .step(purchaseDishWorkerStep())
+                .gridSize(gridSize())
+                .taskExecutor(purchaseRankingTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public Step purchaseDishWorkerStep() {
+        return new StepBuilder("purchaseDishWorkerStep", jobRepository)
+                .<PurchaseDishTotalRow, PurchaseDish>chunk(chunkSize, platformTransactionManager)
+                .reader(purchaseDishReader(null, null))
+                .processor(purchaseDishProcessor(null))
                 .writer(purchaseDishWriter())
                 .build();
     }
 
 
+    // 예약 별 메뉴 합계를 SQL 에서 바로 집계해 엔티티 그래프 없이 평평한 행으로 읽음
     @Bean
-    public JpaCursorItemReader<DishReservation> purchaseDishReader() {
-        return new JpaCursorItemReaderBuilder<DishReservation>()
+    @StepScope
+    public JpaCursorItemReader<PurchaseDishTotalRow> purchaseDishReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        return new JpaCursorItemReaderBuilder<PurchaseDishTotalRow>()
                 .name("purchaseDishReader")
                 .entityManagerFactory(entityManagerFactory)
-                .queryString("SELECT r FROM DishReservation r")
+                .queryString("SELECT new com.team2final.minglecrm.statistics.config.support.PurchaseDishTotalRow(" +
+                        "r.id, r.reservationDate, dish.name, SUM(d.quantity), SUM(d.itemTotalPrice)) " +
+                        "FROM DishReservationDetail d JOIN d.dishReservation r JOIN d.dish dish " +
+                        "WHERE r.id BETWEEN :minId AND :maxId " +
+                        "GROUP BY r.id, r.reservationDate, dish.name ORDER BY r.id")
+                .parameterValues(idRange(minId, maxId))
                 .build();
     }
 
     @Bean
-    public ItemProcessor<DishReservation, PurchaseDish> purchaseDishProcessor() {
-        return dishReservation -> {
-            Map<String, List<DishReservationDetail>> groupedByDish = dishReservation.getDishReservationDetails().stream()
-                    .collect(Collectors.groupingBy(detail -> detail.getDish().getName()));
-
-            for (Map.Entry<String, List<DishReservationDetail>> entry : groupedByDish.entrySet()) {
-                String dishName = entry.getKey();
-                List<DishReservationDetail> details = entry.getValue();
-
-                Integer totalQuantity = details.stream().mapToInt(DishReservationDetail::getQuantity).sum();
-                Long totalAmount = details.stream().mapToLong(DishReservationDetail::getItemTotalPrice).sum();
-
-                return PurchaseDish.builder()
-                        .purchaseDate(dishReservation.getReservationDate().toLocalDate())
-                        .name(dishName)
-                        .quantity(totalQuantity)
-                        .amount(totalAmount)
-                        .build();
-            }
-            return null;
-        };
+    @StepScope
+    public ItemProcessor<PurchaseDishTotalRow, PurchaseDish> purchaseDishProcessor(
+            @Value("#{jobExecutionContext['stagingGeneration']}") Long stagingGeneration) {
+        return row -> PurchaseDish.builder()
+                .purchaseDate(row.reservationDate().toLocalDate())
+                .name(row.dishName())
+                .quantity(Math.toIntExact(row.quantity()))
+                .amount(row.amount())
+                .generation(stagingGeneration)
+                .build();
     }
 
     @Bean
@@ -145,108 +153,109 @@ public class PurchaseRankingBatchConfiguration {
         };
     }
 
-    @Bean
-    public Step purchaseListDeleteStep() {
-        return new StepBuilder("purchaseListDeleteStep", jobRepository)
-                .tasklet(purchaseRankDeleteTasklet(), platformTransactionManager)
-                .build();
-    }
-
-    @Bean
-    public Tasklet purchaseRankDeleteTasklet() {
-        return (contribution, chunkContext) -> {
-            EntityManager entityManager = entityManagerFactory.createEntityManager();
-            EntityTransaction transaction = entityManager.getTransaction();
-            try {
-                transaction.begin();
-                entityManager.createQuery("DELETE FROM PurchaseList").executeUpdate();
-                transaction.commit();
-            } catch (Exception e) {
-                transaction.rollback();
-                throw e;
-            } finally {
-                entityManager.close();
-            }
-            return RepeatStatus.FINISHED;
-        };
-    }
-
-
     ///////////////////////////////////////////////////////////////////////////////////////////////
 
     @Bean
     public Step purchaseDishListStep() {
         return new StepBuilder("purchaseDishListStep", jobRepository)
-                .<DishReservation, PurchaseList>chunk(10, platformTransactionManager)
-                .reader(dishPurchaseReader())
-                .processor(dishPurchaseProcessor())
+                .partitioner("purchaseDishListWorkerStep", new IdRangePartitioner(entityManagerFactory, "DishReservation"))
+                .step(purchaseDishListWorkerStep())
+                .gridSize(gridSize())
+                .taskExecutor(purchaseRankingTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public Step purchaseDishListWorkerStep() {
+        return new StepBuilder("purchaseDishListWorkerStep", jobRepository)
+                .<PurchaseDishRow, PurchaseList>chunk(chunkSize, platformTransactionManager)
+                .reader(dishPurchaseReader(null, null))
+                .processor(dishPurchaseProcessor(null))
                 .writer(purchaseDishListWriter())
                 .build();
     }
 
 
     @Bean
-    public JpaCursorItemReader<DishReservation> dishPurchaseReader() {
-        return new JpaCursorItemReaderBuilder<DishReservation>()
+    @StepScope
+    public JpaCursorItemReader<PurchaseDishRow> dishPurchaseReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        return new JpaCursorItemReaderBuilder<PurchaseDishRow>()
                 .name("dishPurchaseReader")
                 .entityManagerFactory(entityManagerFactory)
-                .queryString("SELECT r FROM DishReservation r")
+                .queryString("SELECT new com.team2final.minglecrm.statistics.config.support.PurchaseDishRow(" +
+                        "r.id, r.reservationDate, c.name, c.grade, c.gender, dish.name, d.quantity, d.itemTotalPrice) " +
+                        "FROM DishReservationDetail d JOIN d.dishReservation r JOIN r.customer c JOIN d.dish dish " +
+                        "WHERE r.id BETWEEN :minId AND :maxId ORDER BY r.id, d.id")
+                .parameterValues(idRange(minId, maxId))
                 .build();
     }
 
     @Bean
-    public ItemProcessor<DishReservation, PurchaseList> dishPurchaseProcessor() {
-        return dishReservation -> {
-            List<PurchaseList> purchaseLists = dishReservation.getDishReservationDetails().stream().map(detail -> {
-                String consumeType = "Dish";
-                String dishName = detail.getDish().getName();
-                return PurchaseList.builder()
-                        .purchaseDate(dishReservation.getReservationDate().toLocalDate())
-                        .customerName(dishReservation.getCustomer().getName())
-                        .customerGrade(dishReservation.getCustomer().getGrade())
-                        .customerGender(dishReservation.getCustomer().getGender())
-                        .consumeType(consumeType)
-                        .dishName(dishName)
-                        .build();
-            }).collect(Collectors.toList());
-
-            return purchaseLists.isEmpty() ? null : purchaseLists.get(0);
-        };
+    @StepScope
+    public ItemProcessor<PurchaseDishRow, PurchaseList> dishPurchaseProcessor(
+            @Value("#{jobExecutionContext['stagingGeneration']}") Long stagingGeneration) {
+        return row -> PurchaseList.builder()
+                .purchaseDate(row.reservationDate().toLocalDate())
+                .customerName(row.customerName())
+                .customerGrade(row.customerGrade())
+                .customerGender(row.customerGender())
+                .consumeType("Dish")
+                .dishName(row.dishName())
+                .generation(stagingGeneration)
+                .build();
     }
 
     @Bean
     public Step purchaseRoomListStep() {
         return new StepBuilder("purchaseRoomListStep", jobRepository)
-                .<RoomReservation, PurchaseList>chunk(10, platformTransactionManager)
-                .reader(roomReservationReader())
-                .processor(roomReservationProcessor())
+                .partitioner("purchaseRoomListWorkerStep", new IdRangePartitioner(entityManagerFactory, "RoomReservation"))
+                .step(purchaseRoomListWorkerStep())
+                .gridSize(gridSize())
+                .taskExecutor(purchaseRankingTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public Step purchaseRoomListWorkerStep() {
+        return new StepBuilder("purchaseRoomListWorkerStep", jobRepository)
+                .<PurchaseRoomRow, PurchaseList>chunk(chunkSize, platformTransactionManager)
+                .reader(roomReservationReader(null, null))
+                .processor(roomReservationProcessor(null))
                 .writer(purchaseRoomListWriter())
                 .build();
     }
 
     @Bean
-    public JpaCursorItemReader<RoomReservation> roomReservationReader() {
-        return new JpaCursorItemReaderBuilder<RoomReservation>()
+    @StepScope
+    public JpaCursorItemReader<PurchaseRoomRow> roomReservationReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        return new JpaCursorItemReaderBuilder<PurchaseRoomRow>()
                 .name("roomReservationReader")
                 .entityManagerFactory(entityManagerFactory)
-                .queryString("SELECT r FROM RoomReservation r")
+                .queryString("SELECT new com.team2final.minglecrm.statistics.config.support.PurchaseRoomRow(" +
+                        "r.id, r.reservationDate, c.name, c.grade, c.gender, h.roomType) " +
+                        "FROM RoomReservation r JOIN r.customer c JOIN r.hotelRoom h " +
+                        "WHERE r.id BETWEEN :minId AND :maxId ORDER BY r.id")
+                .parameterValues(idRange(minId, maxId))
                 .build();
     }
 
     @Bean
-    public ItemProcessor<RoomReservation, PurchaseList> roomReservationProcessor() {
-        return roomReservation -> {
-            String consumeType = "Room";
-            String roomType = roomReservation.getHotelRoom().getRoomType().name();
-            return PurchaseList.builder()
-                    .purchaseDate(roomReservation.getReservationDate().toLocalDate())
-                    .customerName(roomReservation.getCustomer().getName())
-                    .customerGrade(roomReservation.getCustomer().getGrade())
-                    .customerGender(roomReservation.getCustomer().getGender())
-                    .consumeType(consumeType)
-                    .roomType(roomType)
-                    .build();
-        };
+    @StepScope
+    public ItemProcessor<PurchaseRoomRow, PurchaseList> roomReservationProcessor(
+            @Value("#{jobExecutionContext['stagingGeneration']}") Long stagingGeneration) {
+        return row -> PurchaseList.builder()
+                .purchaseDate(row.reservationDate().toLocalDate())
+                .customerName(row.customerName())
+                .customerGrade(row.customerGrade())
+                .customerGender(row.customerGender())
+                .consumeType("Room")
+                .roomType(row.roomType().name())
+                .generation(stagingGeneration)
+                .build();
     }
 
     @Bean
@@ -264,4 +273,26 @@ public class PurchaseRankingBatchConfiguration {
                 .build();
     }
 
-}
\ No newline at end of file
+    // 파티션 수만큼만 스레드를 두어 커넥션 풀을 과하게 점유하지 않도록 제한
+    @Bean
+    public TaskExecutor purchaseRankingTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(gridSize());
+        executor.setMaxPoolSize(gridSize());
+        executor.setQueueCapacity(gridSize() * 3);
+        executor.setThreadNamePrefix("purchase_ranking-");
+        executor.initialize();
+        return executor;
+    }
+
+    private int gridSize() {
+        return gridSize > 0 ? gridSize : Runtime.getRuntime().availableProcessors();
+    }
+
+    private Map<String, Object> idRange(Long minId, Long maxId) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("minId", minId);
+        parameters.put("maxId", maxId);
+        return parameters;
+    }
+}
@@ -1,197 +1,288 @@
 package com.team2final.minglecrm.statistics.config.batch;
 
+import com.team2final.minglecrm.statistics.config.support.IntLongCounter;
 import com.team2final.minglecrm.statistics.config.support.JobCompletionNotificationListener;
+import com.team2final.minglecrm.statistics.config.support.ReservationIdGaps;
+import com.team2final.minglecrm.statistics.config.support.ReservationRollup;
 import com.team2final.minglecrm.statistics.config.support.RunIdIncrementer;
+import com.team2final.minglecrm.statistics.config.support.StatisticsGenerationSupport;
 import com.team2final.minglecrm.statistics.domain.ByYearReservationCount;
 import com.team2final.minglecrm.statistics.domain.DailyReservationCount;
 import com.team2final.minglecrm.statistics.domain.MonthlyReservationCount;
+import com.team2final.minglecrm.statistics.domain.StatisticsSnapshot;
 import com.team2final.minglecrm.statistics.domain.WeeklyReservationCount;
+import com.team2final.minglecrm.statistics.domain.repository.reservation.ByYearReservationCountRepository;
+import com.team2final.minglecrm.statistics.domain.repository.reservation.DailyReservationCountRepository;
+import com.team2final.minglecrm.statistics.domain.repository.reservation.MonthlyReservationCountRepository;
+import com.team2final.minglecrm.statistics.domain.repository.reservation.WeeklyReservationCountRepository;
+import com.team2final.minglecrm.statistics.service.generation.StatisticsGenerationService;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.EntityTransaction;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
-import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.JpaCursorItemReader;
-import org.springframework.batch.item.database.builder.JpaCursorItemReaderBuilder;
-import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
 @Configuration
 @RequiredArgsConstructor
 public class ReservationStatisticsBatchConfiguration {
 
+    private static final String RESERVATION_STATISTICS_JOB = "ReservationStatisticsJob";
+    private static final String FROM_RESERVATION_ID = "fromReservationId";
+    private static final String LAST_RESERVATION_ID = "lastReservationId";
+    private static final String PENDING_RESERVATION_IDS = "pendingReservationIds";
+    // 집계 키 규칙이 바뀌면 올림. 이전 규칙으로 쌓인 세대에는 더하지 않고 전체 재집계
+    private static final String ROLLUP_VERSION = "rollupVersion";
+    private static final int CURRENT_ROLLUP_VERSION = 2;
+    private static final int ROLLUP_FETCH_SIZE = 1000;
+
     private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
     private final PlatformTransactionManager platformTransactionManager;
     private final EntityManagerFactory entityManagerFactory;
 
-    @Bean
-    public Job reservationStatisticsJob(JobCompletionNotificationListener listener) {
-        return new JobBuilder("ReservationStatisticsJob", jobRepository)
-                .incrementer(new RunIdIncrementer())
-                .listener(listener)
-                .start(byYearReservationDeleteStep())
-                .next(byYearReservationStep())
-                .next(monthlyReservationDeleteStep())
-                .next(monthlyReservationStep())
-                .next(weeklyReservationDeleteStep())
-                .next(weeklyReservationStep())
-                .next(dailyReservationDeleteStep())
-                .next(dailyReservationStep())
-                .build();
-    }
+    private final ByYearReservationCountRepository byYearReservationCountRepository;
+    private final MonthlyReservationCountRepository monthlyReservationCountRepository;
+    private final WeeklyReservationCountRepository weeklyReservationCountRepository;
+    private final DailyReservationCountRepository dailyReservationCountRepository;
 
-    @Bean
-    public Step byYearReservationDeleteStep() {
-        return new StepBuilder("byYearReservationDeleteStep", jobRepository)
-                .tasklet(byYearReservationDeleteTasklet(), platformTransactionManager)
-                .build();
-    }
+    private final StatisticsGenerationSupport statisticsGenerationSupport;
+    private final StatisticsGenerationService statisticsGenerationService;
 
-    @Bean
-    public Step monthlyReservationDeleteStep() {
-        return new StepBuilder("monthlyReservationDeleteStep", jobRepository)
-                .tasklet(monthlyReservationDeleteTasklet(), platformTransactionManager)
-                .build();
-    }
+    // false 이면 매 실행마다 전체 재집계
+    @Value("${spring.batch.statistics.reservation.incremental:true}")
+    private boolean incremental;
 
-    @Bean
-    public Step weeklyReservationDeleteStep() {
-        return new StepBuilder("weeklyReservationDeleteStep", jobRepository)
-                .tasklet(dailyReservationDeleteTasklet(), platformTransactionManager)
-                .build();
-    }
-
-    @Bean
-    public Step dailyReservationDeleteStep() {
-        return new StepBuilder("dailyReservationDeleteStep", jobRepository)
-                .tasklet(dailyReservationDeleteTasklet(), platformTransactionManager)
-                .build();
-    }
+    // 워터마크 아래에서 늦게 커밋되는 예약을 다시 확인하는 id 범위
+    @Value("${spring.batch.statistics.reservation.overlap-ids:1000}")
+    private long overlapIds;
 
     @Bean
-    public Step byYearReservationStep() {
-        return new StepBuilder("byYearReservationStep", jobRepository)
-                .<Object[], ByYearReservationCount>chunk(10, platformTransactionManager)
-                .reader(byYearReservationReader())
-                .processor(byYearReservationCountItemProcessor())
-                .writer(byYearReservationCountItemWriter())
+    public Job reservationStatisticsJob(JobCompletionNotificationListener listener) {
+        return new JobBuilder(RESERVATION_STATISTICS_JOB, jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .listener(listener)
+                .start(reservationWatermarkStep())
+                .next(reservationRollupStep())
+                .next(reservationGenerationSwitchStep())
                 .build();
     }
 
+    // 이번 실행에서 집계할 예약 id 구간 (이전 워터마크, 현재 최대 id] 을 결정
     @Bean
-    public Step monthlyReservationStep() {
-        return new StepBuilder("monthlyReservationStep", jobRepository)
-                .<Object[], MonthlyReservationCount>chunk(10, platformTransactionManager)
-                .reader(monthlyReservationReader())
-                .processor(monthlyReservationCountItemProcessor())
-                .writer(monthlyReservationCountItemWriter())
+    public Step reservationWatermarkStep() {
+        return new StepBuilder("reservationWatermarkStep", jobRepository)
+                .tasklet(reservationWatermarkTasklet(), platformTransactionManager)
                 .build();
     }
 
+    // 예약을 한 번만 읽어 연/월/주/일 예약 수를 함께 집계
     @Bean
-    public Step weeklyReservationStep() {
-        return new StepBuilder("weeklyReservationStep", jobRepository)
-                .<Object[], WeeklyReservationCount>chunk(10, platformTransactionManager)
-                .reader(weeklyReservationReader())
-                .processor(weeklyReservationCountItemProcessor())
-                .writer(weeklyReservationCountItemWriter())
+    public Step reservationRollupStep() {
+        return new StepBuilder("reservationRollupStep", jobRepository)
+                .tasklet(reservationRollupTasklet(), platformTransactionManager)
                 .build();
     }
 
     @Bean
-    public Step dailyReservationStep() {
-        return new StepBuilder("dailyReservationStep", jobRepository)
-                .<Object[], DailyReservationCount>chunk(10, platformTransactionManager)
-                .reader(dailyReservationReader())
-                .processor(dailyReservationCountItemProcessor())
-                .writer(dailyReservationCountItemWriter())
+    public Step reservationGenerationSwitchStep() {
+        return new StepBuilder("reservationGenerationSwitchStep", jobRepository)
+                .tasklet(statisticsGenerationSupport.switchTasklet(StatisticsSnapshot.RESERVATION_COUNT), platformTransactionManager)
                 .build();
     }
 
+    // 예약의 startDate 는 생성 후 변경되지 않으므로 id 만으로 신규 예약을 판별
+    // 워터마크보다 작은 id 가 늦게 커밋되는 경우는 직전 실행이 남긴 빈 id 목록으로 다시 확인
+    // 증분 집계는 활성 세대에 바로 더하고, 이전 실행이 정상 완료되지 않았거나 전체 재집계 모드이면 새 세대에 처음부터 집계
     @Bean
-    public Tasklet byYearReservationDeleteTasklet() {
+    public Tasklet reservationWatermarkTasklet() {
         return (contribution, chunkContext) -> {
-            EntityManager entityManager = entityManagerFactory.createEntityManager();
-            EntityTransaction transaction = entityManager.getTransaction();
-            try {
-                transaction.begin();
-                entityManager.createQuery("DELETE FROM ByYearReservationCount").executeUpdate();
-                transaction.commit();
-            } catch (Exception e) {
-                transaction.rollback();
-                throw e;
-            } finally {
-                entityManager.close();
+            JobExecution jobExecution = chunkContext.getStepContext().getStepExecution().getJobExecution();
+            ExecutionContext previousContext = incremental ? findLastCompletedContext(jobExecution.getId()) : null;
+
+            Long stagingGeneration;
+            long lastReservationId;
+            String pendingReservationIds;
+            if (previousContext == null) {
+                stagingGeneration = statisticsGenerationSupport.prepareNextGeneration(StatisticsSnapshot.RESERVATION_COUNT);
+                lastReservationId = 0L;
+                pendingReservationIds = "";
+            } else {
+                stagingGeneration = statisticsGenerationService.getActiveGeneration(StatisticsSnapshot.RESERVATION_COUNT);
+                lastReservationId = previousContext.getLong(LAST_RESERVATION_ID);
+                pendingReservationIds = previousContext.getString(PENDING_RESERVATION_IDS, "");
             }
+            Long maxReservationId = findMaxReservationId();
+
+            ExecutionContext jobContext = jobExecution.getExecutionContext();
+            jobContext.putLong(FROM_RESERVATION_ID, lastReservationId);
+            jobContext.putLong(LAST_RESERVATION_ID, Math.max(lastReservationId, maxReservationId));
+            jobContext.putString(PENDING_RESERVATION_IDS, pendingReservationIds);
+            jobContext.putInt(ROLLUP_VERSION, CURRENT_ROLLUP_VERSION);
+            jobContext.putLong(StatisticsGenerationSupport.STAGING_GENERATION, stagingGeneration);
             return RepeatStatus.FINISHED;
         };
     }
 
     @Bean
-    public Tasklet monthlyReservationDeleteTasklet() {
+    public Tasklet reservationRollupTasklet() {
         return (contribution, chunkContext) -> {
+            ExecutionContext jobContext = StatisticsGenerationSupport.jobExecutionContext(chunkContext);
+            long fromReservationId = jobContext.getLong(FROM_RESERVATION_ID);
+            long lastReservationId = jobContext.getLong(LAST_RESERVATION_ID);
+            long generation = jobContext.getLong(StatisticsGenerationSupport.STAGING_GENERATION);
+            Set<Long> carriedIds = ReservationIdGaps.parse(jobContext.getString(PENDING_RESERVATION_IDS, ""));
+            ReservationIdGaps gaps = new ReservationIdGaps(fromReservationId, lastReservationId, overlapIds, carriedIds);
+
+            ReservationRollup rollup = new ReservationRollup();
             EntityManager entityManager = entityManagerFactory.createEntityManager();
-            EntityTransaction transaction = entityManager.getTransaction();
             try {
-                transaction.begin();
-                entityManager.createQuery("DELETE FROM MonthlyReservationCount").executeUpdate();
-                transaction.commit();
-            } catch (Exception e) {
-                transaction.rollback();
-                throw e;
+                // 직전 실행 때 아직 커밋되지 않았던 워터마크 아래 예약
+                if (!gaps.getPendingIds().isEmpty()) {
+                    entityManager.createQuery(
+                                    "SELECT r.id, r.startDate FROM RoomReservation r WHERE r.id IN :pendingIds", Object[].class)
+                            .setParameter("pendingIds", List.copyOf(gaps.getPendingIds()))
+                            .getResultList()
+                            .forEach(row -> {
+                                if (gaps.resolve((Long) row[0])) {
+                                    rollup.add((LocalDate) row[1]);
+                                    contribution.incrementReadCount();
+                                }
+                            });
+                }
+
+                try (Stream<Object[]> rows = entityManager.createQuery(
+                                "SELECT r.id, r.startDate FROM RoomReservation r " +
+                                        "WHERE r.id > :fromReservationId AND r.id <= :lastReservationId ORDER BY r.id", Object[].class)
+                        .setParameter("fromReservationId", fromReservationId)
+                        .setParameter("lastReservationId", lastReservationId)
+                        .setHint(HibernateHints.HINT_FETCH_SIZE, ROLLUP_FETCH_SIZE)
+                        .setHint(HibernateHints.HINT_READ_ONLY, true)
+                        .getResultStream()) {
+                    rows.forEach(row -> {
+                        gaps.accept((Long) row[0]);
+                        rollup.add((LocalDate) row[1]);
+                        contribution.incrementReadCount();
+                    });
+                }
             } finally {
                 entityManager.close();
             }
+
+            // 다음 실행이 다시 확인할 빈 id
+            jobContext.putString(PENDING_RESERVATION_IDS, ReservationIdGaps.format(gaps.getPendingIds()));
+            saveReservationRollup(rollup, generation);
+            contribution.incrementWriteCount(rollup.getDailyCounts().size());
             return RepeatStatus.FINISHED;
         };
     }
 
-    @Bean
-    public Tasklet weeklyReservationDeleteTasklet() {
-        return (contribution, chunkContext) -> {
-            EntityManager entityManager = entityManagerFactory.createEntityManager();
-            EntityTransaction transaction = entityManager.getTransaction();
-            try {
-                transaction.begin();
-                entityManager.createQuery("DELETE FROM WeeklyReservationCount").executeUpdate();
-                transaction.commit();
-            } catch (Exception e) {
-                transaction.rollback();
-                throw e;
-            } finally {
-                entityManager.close();
+    // 이미 집계된 행이 있으면 예약 수를 더하고, 없으면 새로 저장
+    private void saveReservationRollup(ReservationRollup rollup, Long generation) {
+        IntLongCounter byYearCounts = rollup.getByYearCounts();
+        for (int year : byYearCounts.sortedKeys()) {
+            long count = byYearCounts.get(year);
+            if (byYearReservationCountRepository.addReservationCount(generation, year, count) == 0) {
+                byYearReservationCountRepository.save(ByYearReservationCount.builder()
+                        .reservationYear(year)
+                        .reservationCount(count)
+                        .generation(generation)
+                        .build());
             }
-            return RepeatStatus.FINISHED;
-        };
+        }
+
+        IntLongCounter monthlyCounts = rollup.getMonthlyCounts();
+        for (int monthKey : monthlyCounts.sortedKeys()) {
+            long count = monthlyCounts.get(monthKey);
+            int year = monthKey / 100;
+            int month = monthKey % 100;
+            if (monthlyReservationCountRepository.addReservationCount(generation, year, month, count) == 0) {
+                monthlyReservationCountRepository.save(MonthlyReservationCount.builder()
+                        .reservationYear(year)
+                        .reservationMonth(month)
+                        .reservationCount(count)
+                        .generation(generation)
+                        .build());
+            }
+        }
+
+        IntLongCounter weeklyCounts = rollup.getWeeklyCounts();
+        for (int weekKey : weeklyCounts.sortedKeys()) {
+            long count = weeklyCounts.get(weekKey);
+            int year = weekKey / 100;
+            int week = weekKey % 100;
+            if (weeklyReservationCountRepository.addReservationCount(generation, year, week, count) == 0) {
+                weeklyReservationCountRepository.save(WeeklyReservationCount.builder()
+                        .reservationYear(year)
+                        .reservationWeek(week)
+                        .reservationCount(count)
+                        .generation(generation)
+                        .build());
+            }
+        }
+
+        IntLongCounter dailyCounts = rollup.getDailyCounts();
+        for (int dayKey : dailyCounts.sortedKeys()) {
+            long count = dailyCounts.get(dayKey);
+            LocalDate reservationDate = ReservationRollup.toDate(dayKey);
+            if (dailyReservationCountRepository.addReservationCount(generation, reservationDate, count) == 0) {
+                dailyReservationCountRepository.save(DailyReservationCount.builder()
+                        .reservationYear(reservationDate.getYear())
+                        .reservationMonth(reservationDate.getMonthValue())
+                        .reservationDay(reservationDate.getDayOfMonth())
+                        .reservationCount(count)
+                        .generation(generation)
+                        .build());
+            }
+        }
     }
 
-    @Bean
-    public Tasklet dailyReservationDeleteTasklet() {
-        return (contribution, chunkContext) -> {
-            EntityManager entityManager = entityManagerFactory.createEntityManager();
-            EntityTransaction transaction = entityManager.getTransaction();
-            try {
-                transaction.begin();
-                entityManager.createQuery("DELETE FROM DailyReservationCount").executeUpdate();
-                transaction.commit();
-            } catch (Exception e) {
-                transaction.rollback();
-                throw e;
-            } finally {
-                entityManager.close();
+    private Long findMaxReservationId() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("SELECT COALESCE(MAX(r.id), 0L) FROM RoomReservation r", Long.class)
+                    .getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    // 직전 실행이 정상 완료된 경우에만 그 실행의 워터마크와 빈 id 목록을 이어서 사용
+    private ExecutionContext findLastCompletedContext(Long currentJobExecutionId) {
+        List<JobInstance> jobInstances = jobExplorer.getJobInstances(RESERVATION_STATISTICS_JOB, 0, 2);
+        for (JobInstance jobInstance : jobInstances) {
+            for (JobExecution execution : jobExplorer.getJobExecutions(jobInstance)) {
+                if (execution.getId().equals(currentJobExecutionId)) {
+                    continue;
+                }
+                if (execution.getStatus() != BatchStatus.COMPLETED
+                        || !execution.getExecutionContext().containsKey(LAST_RESERVATION_ID)
+                        || execution.getExecutionContext().getInt(ROLLUP_VERSION, 1) != CURRENT_ROLLUP_VERSION) {
+                    return null;
+                }
+                return execution.getExecutionContext();
             }
-            return RepeatStatus.FINISHED;
-        };
+        }
+        return null;
     }
 
 //    @Bean
@@ -285,105 +376,4 @@ public class ReservationStatisticsBatchConfiguration {
 //                    .build();
 //        };
 //    }
-
-    @Bean
-    public JpaCursorItemReader<Object[]> byYearReservationReader() {
-        return new JpaCursorItemReaderBuilder<Object[]>()
-                .name("byYearReservationReader")
-                .entityManagerFactory(entityManagerFactory)
-                .queryString("SELECT YEAR(r.startDate), COUNT(r) FROM RoomReservation r GROUP BY YEAR(r.startDate)")
-                .build();
-    }
-
-    @Bean
-    public JpaCursorItemReader<Object[]> monthlyReservationReader() {
-        return new JpaCursorItemReaderBuilder<Object[]>()
-                .name("monthlyReservationReader")
-                .entityManagerFactory(entityManagerFactory)
-                .queryString("SELECT YEAR(r.startDate), MONTH(r.startDate), COUNT(r) FROM RoomReservation r GROUP BY YEAR(r.startDate), MONTH(r.startDate)")
-                .build();
-    }
-
-    @Bean
-    public JpaCursorItemReader<Object[]> weeklyReservationReader() {
-        return new JpaCursorItemReaderBuilder<Object[]>()
-                .name("weeklyReservationReader")
-                .entityManagerFactory(entityManagerFactory)
-                .queryString("SELECT YEAR(r.startDate), FUNCTION('week', r.startDate), COUNT(r) FROM RoomReservation r GROUP BY YEAR(r.startDate), FUNCTION('week', r.startDate)")
-                .build();
-    }
-
-    @Bean
-    public JpaCursorItemReader<Object[]> dailyReservationReader() {
-        return new JpaCursorItemReaderBuilder<Object[]>()
-                .name("dailyReservationReader")
-                .entityManagerFactory(entityManagerFactory)
-                .queryString("SELECT YEAR(r.startDate), MONTH(r.startDate), DAY(r.startDate), COUNT(r) FROM RoomReservation r GROUP BY YEAR(r.startDate), MONTH(r.startDate), DAY(r.startDate)")
-                .build();
-    }
-
-    @Bean
-    public ItemProcessor<Object[], ByYearReservationCount> byYearReservationCountItemProcessor() {
-        return result -> ByYearReservationCount.builder()
-                .reservationYear((Integer) result[0])
-                .reservationCount((Long) result[1])
-                .build();
-    }
-
-    @Bean
-    public ItemProcessor<Object[], MonthlyReservationCount> monthlyReservationCountItemProcessor() {
-        return result -> MonthlyReservationCount.builder()
-                .reservationYear((Integer) result[0])
-                .reservationMonth((Integer) result[1])
-                .reservationCount((Long) result[2])
-                .build();
-    }
-
-    @Bean
-    public ItemProcessor<Object[], WeeklyReservationCount> weeklyReservationCountItemProcessor() {
-        return result -> WeeklyReservationCount.builder()
-                .reservationYear((Integer) result[0])
-                .reservationWeek((Integer) result[1])
-                .reservationCount((Long) result[2])
-                .build();
-    }
-
-    @Bean
-    public ItemProcessor<Object[], DailyReservationCount> dailyReservationCountItemProcessor() {
-        return result -> DailyReservationCount.builder()
-                .reservationYear((Integer) result[0])
-                .reservationMonth((Integer) result[1])
-                .reservationDay((Integer) result[2])
-                .reservationCount((Long) result[3])
-                .build();
-    }
-
-
-    @Bean
-    public ItemWriter<ByYearReservationCount> byYearReservationCountItemWriter() {
-        return new JpaItemWriterBuilder<ByYearReservationCount>() {}
-                .entityManagerFactory(entityManagerFactory)
-                .build();
-    }
-
-    @Bean
-    public ItemWriter<MonthlyReservationCount> monthlyReservationCountItemWriter() {
-        return new JpaItemWriterBuilder<MonthlyReservationCount>()
-                .entityManagerFactory(entityManagerFactory)
-                .build();
-    }
-
-    @Bean
-    public ItemWriter<WeeklyReservationCount> weeklyReservationCountItemWriter() {
-        return new JpaItemWriterBuilder<WeeklyReservationCount>()
-                .entityManagerFactory(entityManagerFactory)
-                .build();
-    }
-
-    @Bean
-    public ItemWriter<DailyReservationCount> dailyReservationCountItemWriter() {
-        return new JpaItemWriterBuilder<DailyReservationCount>()
-                .entityManagerFactory(entityManagerFactory)
-                .build();
-    }
 }
@@ -0,0 +1,82 @@
+package com.team2final.minglecrm.statistics.config.batch;
+
+import com.team2final.minglecrm.statistics.config.support.JobCompletionNotificationListener;
+import com.team2final.minglecrm.statistics.config.support.RollingReviewSummaryRefresher;
+import com.team2final.minglecrm.statistics.config.support.RollingReviewSummaryTarget;
+import com.team2final.minglecrm.statistics.config.support.RunIdIncrementer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 호텔, 레스토랑 별 최근 N일 긍정/부정 요약을 밤마다 미리 만들어 둠. 조회 API 는 저장된 요약을 바로 돌려줌
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class RollingReviewSummaryBatchConfiguration {
+
+    private final JobRepository jobRepository;
+    private final RollingReviewSummaryRefresher rollingReviewSummaryRefresher;
+
+    @Value("${spring.batch.review-summary.windows:7,30,90}")
+    private int[] windows;
+
+    // 요약 실패가 이 건수를 넘으면 잡 실패
+    @Value("${spring.batch.review-summary.skip-limit:10}")
+    private int skipLimit;
+
+    @Bean
+    public Job rollingReviewSummaryJob(JobCompletionNotificationListener listener, Step rollingReviewSummaryStep) {
+        return new JobBuilder("rollingReviewSummaryJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .listener(listener)
+                .start(rollingReviewSummaryStep)
+                .build();
+    }
+
+    // chunk step 은 processor 의 요약 모델 호출 동안 트랜잭션과 DB 연결을 잡고 있으므로 트랜잭션 없는 tasklet 으로 돌림
+    // 저장은 대상마다 리포지토리 호출로 짧게 커밋되고, 실패한 대상은 건너뛰어 다음 실행에서 다시 시도
+    @Bean
+    public Step rollingReviewSummaryStep() {
+        return new StepBuilder("rollingReviewSummaryStep", jobRepository)
+                .tasklet(rollingReviewSummaryTasklet(), new ResourcelessTransactionManager())
+                .build();
+    }
+
+    @Bean
+    public Tasklet rollingReviewSummaryTasklet() {
+        return (contribution, chunkContext) -> {
+            List<RollingReviewSummaryTarget> targets = rollingReviewSummaryRefresher.findTargets(LocalDate.now(), windows);
+            int failed = 0;
+            for (RollingReviewSummaryTarget target : targets) {
+                contribution.incrementReadCount();
+                try {
+                    if (rollingReviewSummaryRefresher.refresh(target) != RollingReviewSummaryRefresher.Result.SKIPPED) {
+                        contribution.incrementWriteCount(1);
+                    }
+                } catch (RuntimeException e) {
+                    contribution.incrementProcessSkipCount();
+                    if (++failed > skipLimit) {
+                        throw e;
+                    }
+                    log.warn("롤링 요약 실패, 다음 실행에서 다시 시도 : {}", target, e);
+                }
+            }
+            int deleted = rollingReviewSummaryRefresher.deleteStale(targets);
+            log.info("롤링 요약 {}건 처리, 리뷰가 없는 대상 {}건 삭제", targets.size(), deleted);
+            return RepeatStatus.FINISHED;
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.team2final.minglecrm.statistics.config.support;
+
+import org.springframework.batch.core.Job;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 배치 잡 간 선후 관계. 등록 순서를 유지하면서 선행 잡이 항상 먼저 오도록 정렬
+public class BatchJobGraph {
+
+    private final Map<String, Job> jobs = new LinkedHashMap<>();
+    private final Map<String, List<String>> dependencies = new LinkedHashMap<>();
+
+    public BatchJobGraph addJob(Job job, Job... dependsOn) {
+        jobs.put(job.getName(), job);
+        List<String> names = new ArrayList<>();
+        for (Job dependency : dependsOn) {
+            names.add(dependency.getName());
+        }
+        dependencies.put(job.getName(), names);
+        return this;
+    }
+
+    public List<String> getDependencies(String jobName) {
+        return dependencies.getOrDefault(jobName, List.of());
+    }
+
+    public List<Job> executionOrder() {
+        Map<String, Integer> inDegree = new LinkedHashMap<>();
+        Map<String, List<String>> dependents = new LinkedHashMap<>();
+        for (String jobName : jobs.keySet()) {
+            inDegree.put(jobName, 0);
+            dependents.put(jobName, new ArrayList<>());
+        }
+        for (Map.Entry<String, List<String>> entry : dependencies.entrySet()) {
+            for (String dependency : entry.getValue()) {
+                if (!jobs.containsKey(dependency)) {
+                    throw new IllegalStateException("등록되지 않은 선행 잡 : " + dependency);
+                }
+                dependents.get(dependency).add(entry.getKey());
+                inDegree.merge(entry.getKey(), 1, Integer::sum);
+            }
+        }
+
+        Deque<String> ready = new ArrayDeque<>();
+        inDegree.forEach((jobName, degree) -> {
+            if (degree == 0) {
+                ready.add(jobName);
+            }
+        });
+
+        List<Job> order = new ArrayList<>();
+        while (!ready.isEmpty()) {
+            String jobName = ready.poll();
+            order.add(jobs.get(jobName));
+            for (String dependent : dependents.get(jobName)) {
+                if (inDegree.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (order.size() != jobs.size()) {
+            throw new IllegalStateException("배치 잡 의존 관계에 순환이 있습니다.");
+        }
+        return order;
+    }
+}
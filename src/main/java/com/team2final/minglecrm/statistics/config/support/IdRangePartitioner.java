@@ -0,0 +1,54 @@
+package com.team2final.minglecrm.statistics.config.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 엔티티의 id 구간 [minId, maxId] 를 gridSize 개로 나누어 파티션 별 step execution context 에 기록
+public class IdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String entityName;
+
+    public IdRangePartitioner(EntityManagerFactory entityManagerFactory, String entityName) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.entityName = entityName;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Object[] range = findIdRange();
+        long minId = range[0] == null ? 1L : (Long) range[0];
+        long maxId = range[1] == null ? 0L : (Long) range[1];
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        long targetSize = Math.max(1L, (maxId - minId) / Math.max(1, gridSize) + 1);
+        long start = minId;
+        int number = 0;
+        do {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID, start);
+            context.putLong(MAX_ID, Math.min(start + targetSize - 1, maxId));
+            partitions.put("partition" + number++, context);
+            start += targetSize;
+        } while (start <= maxId);
+        return partitions;
+    }
+
+    private Object[] findIdRange() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("SELECT MIN(e.id), MAX(e.id) FROM " + entityName + " e", Object[].class)
+                    .getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
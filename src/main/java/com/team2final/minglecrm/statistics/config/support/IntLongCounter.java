@@ -0,0 +1,103 @@
+package com.team2final.minglecrm.statistics.config.support;
+
+import java.util.Arrays;
+
+// int 키 -> long 카운트 (open addressing, 박싱 없음). 키는 0 보다 커야 함
+public class IntLongCounter {
+
+    private static final int EMPTY = 0;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private long[] values;
+    private int size;
+
+    public IntLongCounter() {
+        this(64);
+    }
+
+    public IntLongCounter(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new int[capacity];
+        this.values = new long[capacity];
+    }
+
+    public void add(int key, long delta) {
+        if (key <= EMPTY) {
+            throw new IllegalArgumentException("key 는 0 보다 커야 합니다: " + key);
+        }
+        int index = indexOf(keys, key);
+        if (keys[index] == key) {
+            values[index] += delta;
+            return;
+        }
+        keys[index] = key;
+        values[index] = delta;
+        if (++size > keys.length * LOAD_FACTOR) {
+            resize();
+        }
+    }
+
+    public long get(int key) {
+        int index = indexOf(keys, key);
+        return keys[index] == key ? values[index] : 0L;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void forEach(Consumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    // 정렬된 키 목록 (저장 순서를 일정하게 유지하기 위함)
+    public int[] sortedKeys() {
+        int[] result = new int[size];
+        int position = 0;
+        for (int key : keys) {
+            if (key != EMPTY) {
+                result[position++] = key;
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static int indexOf(int[] table, int key) {
+        int mask = table.length - 1;
+        int index = mix(key) & mask;
+        while (table[index] != EMPTY && table[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new int[oldKeys.length << 1];
+        values = new long[oldValues.length << 1];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int index = indexOf(keys, oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Consumer {
+        void accept(int key, long value);
+    }
+}
@@ -1,28 +1,20 @@
 package com.team2final.minglecrm.statistics.config.support;
 
+import com.team2final.minglecrm.statistics.config.BatchOrchestrator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.batch.core.Job;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+// 기동 시에도 스케줄 실행과 같은 파이프라인으로 돌려 의존 순서와 중복 실행 방지를 따름
 @Component
 @RequiredArgsConstructor
 public class JobCommandLineRunner implements CommandLineRunner {
 
-    private final JobRunner jobRunner;
-    private final Job importFrequentCustomerJob;
-    private final Job reservationRoomJob;
-    private final Job reservationStatisticsJob;
-    private final Job birthdayReminderJob;
-    private final Job purchaseItemJob;
+    private final BatchOrchestrator batchOrchestrator;
 
     @Override
-    public void run(String ... args) throws Exception {
-        jobRunner.runImportFrequentCustomerJob(importFrequentCustomerJob);
-        jobRunner.runReservationRoomJob(reservationRoomJob);
-        jobRunner.runReservationStatisticsJob(reservationStatisticsJob);
-        jobRunner.runBirthdayReminderJob(birthdayReminderJob);
-        jobRunner.runPurchaseItemJob(purchaseItemJob);
+    public void run(String ... args) {
+        batchOrchestrator.runPipeline();
     }
 
 }
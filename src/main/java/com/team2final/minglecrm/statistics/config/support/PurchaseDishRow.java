@@ -0,0 +1,16 @@
+package com.team2final.minglecrm.statistics.config.support;
+
+import java.time.LocalDateTime;
+
+// 식당 예약 상세 한 건을 고객, 메뉴 정보와 함께 펼친 배치 조회 행
+public record PurchaseDishRow(
+        Long reservationId,
+        LocalDateTime reservationDate,
+        String customerName,
+        String customerGrade,
+        String customerGender,
+        String dishName,
+        Integer quantity,
+        Integer itemTotalPrice
+) {
+}
@@ -0,0 +1,13 @@
+package com.team2final.minglecrm.statistics.config.support;
+
+import java.time.LocalDateTime;
+
+// 식당 예약 한 건의 메뉴 별 수량, 금액 합계 (SQL 에서 GROUP BY 로 집계)
+public record PurchaseDishTotalRow(
+        Long reservationId,
+        LocalDateTime reservationDate,
+        String dishName,
+        Long quantity,
+        Long amount
+) {
+}
@@ -0,0 +1,16 @@
+package com.team2final.minglecrm.statistics.config.support;
+
+import com.team2final.minglecrm.reservation.domain.hotel.RoomType;
+
+import java.time.LocalDateTime;
+
+// 객실 예약 한 건을 고객, 객실 타입과 함께 펼친 배치 조회 행
+public record PurchaseRoomRow(
+        Long reservationId,
+        LocalDateTime reservationDate,
+        String customerName,
+        String customerGrade,
+        String customerGender,
+        RoomType roomType
+) {
+}
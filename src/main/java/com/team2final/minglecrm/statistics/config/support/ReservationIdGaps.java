@@ -0,0 +1,57 @@
+package com.team2final.minglecrm.statistics.config.support;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+// 워터마크 아래에서 아직 보이지 않은 예약 id 목록
+// IDENTITY id 는 insert 시점에 정해지므로 작은 id 의 트랜잭션이 워터마크가 지나간 뒤에 커밋될 수 있음
+// 집계 구간에서 빠진 id 중 워터마크 아래 overlap 범위 안의 것만 남겨 다음 실행에서 다시 확인. 범위를 벗어나면 롤백된 것으로 보고 버림
+public class ReservationIdGaps {
+
+    private final long floorId;
+    private final Set<Long> pendingIds = new TreeSet<>();
+    private long expectedId;
+
+    // (fromId, lastId] 를 id 순으로 읽을 때 사용. lastId - overlap 이하의 빈 id 는 기록하지 않음
+    public ReservationIdGaps(long fromId, long lastId, long overlap, Set<Long> carriedIds) {
+        this.floorId = lastId - overlap;
+        this.expectedId = fromId + 1;
+        carriedIds.stream()
+                .filter(id -> id > floorId)
+                .forEach(pendingIds::add);
+    }
+
+    // 이전 실행에서 넘어온 id 가 이번에 보이면 집계하고 목록에서 뺌
+    public boolean resolve(long id) {
+        return pendingIds.remove(id);
+    }
+
+    // 구간 안의 id 는 오름차순으로 넘겨야 함
+    public void accept(long id) {
+        for (long missing = Math.max(expectedId, floorId + 1); missing < id; missing++) {
+            pendingIds.add(missing);
+        }
+        expectedId = id + 1;
+    }
+
+    public Set<Long> getPendingIds() {
+        return pendingIds;
+    }
+
+    public static Set<Long> parse(String value) {
+        if (value == null || value.isBlank()) {
+            return new TreeSet<>();
+        }
+        return Arrays.stream(value.split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    public static String format(Set<Long> ids) {
+        return ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+}
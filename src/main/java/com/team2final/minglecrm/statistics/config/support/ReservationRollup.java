@@ -0,0 +1,57 @@
+package com.team2final.minglecrm.statistics.config.support;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+
+// 예약을 한 번만 읽어 일 단위로 세고, 연/월/주 단위는 일 단위 집계에서 롤업
+public class ReservationRollup {
+
+    private final IntLongCounter dailyCounts = new IntLongCounter(1024);
+
+    public void add(LocalDate startDate) {
+        if (startDate != null) {
+            dailyCounts.add(toDayKey(startDate), 1L);
+        }
+    }
+
+    public boolean isEmpty() {
+        return dailyCounts.size() == 0;
+    }
+
+    // key: yyyyMMdd
+    public IntLongCounter getDailyCounts() {
+        return dailyCounts;
+    }
+
+    // key: yyyyMM
+    public IntLongCounter getMonthlyCounts() {
+        IntLongCounter monthlyCounts = new IntLongCounter(dailyCounts.size() / 28 + 1);
+        dailyCounts.forEach((dayKey, count) -> monthlyCounts.add(dayKey / 100, count));
+        return monthlyCounts;
+    }
+
+    // key: yyyy
+    public IntLongCounter getByYearCounts() {
+        IntLongCounter byYearCounts = new IntLongCounter(dailyCounts.size() / 365 + 1);
+        dailyCounts.forEach((dayKey, count) -> byYearCounts.add(dayKey / 10000, count));
+        return byYearCounts;
+    }
+
+    // key: yyyyww (ISO 주차와 그 주차가 속한 연도. 12월 말이 다음 해 1주차가 될 수 있음)
+    public IntLongCounter getWeeklyCounts() {
+        IntLongCounter weeklyCounts = new IntLongCounter(dailyCounts.size() / 7 + 1);
+        dailyCounts.forEach((dayKey, count) -> {
+            LocalDate date = toDate(dayKey);
+            weeklyCounts.add(date.get(IsoFields.WEEK_BASED_YEAR) * 100 + date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR), count);
+        });
+        return weeklyCounts;
+    }
+
+    public static int toDayKey(LocalDate date) {
+        return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    public static LocalDate toDate(int dayKey) {
+        return LocalDate.of(dayKey / 10000, dayKey / 100 % 100, dayKey % 100);
+    }
+}
@@ -0,0 +1,142 @@
+package com.team2final.minglecrm.statistics.config.support;
+
+import com.team2final.minglecrm.ai.dto.vo.JoinedReviews;
+import com.team2final.minglecrm.ai.dto.vo.ReviewSetFingerprint;
+import com.team2final.minglecrm.ai.service.AiService;
+import com.team2final.minglecrm.review.domain.dining.repository.DiningReviewRepository;
+import com.team2final.minglecrm.review.domain.hotel.SummaryType;
+import com.team2final.minglecrm.review.domain.hotel.repository.hotelReview.HotelReviewRepository;
+import com.team2final.minglecrm.review.domain.summary.RollingReviewSummary;
+import com.team2final.minglecrm.review.domain.summary.repository.RollingReviewSummaryRepository;
+import com.team2final.minglecrm.review.service.dining.DiningReviewService;
+import com.team2final.minglecrm.review.service.hotel.HotelReviewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// 롤링 요약 배치의 실제 처리. 트랜잭션을 열지 않고, 조회와 저장은 리포지토리 호출마다 짧게 끝남
+// 요약 모델 호출이 오래 걸려도 그동안 DB 연결을 잡고 있지 않음
+@Component
+@RequiredArgsConstructor
+public class RollingReviewSummaryRefresher {
+
+    public static final String ALL = "All";
+
+    private final HotelReviewRepository hotelReviewRepository;
+    private final DiningReviewRepository diningReviewRepository;
+    private final RollingReviewSummaryRepository rollingReviewSummaryRepository;
+    private final HotelReviewService hotelReviewService;
+    private final DiningReviewService diningReviewService;
+    private final AiService aiService;
+
+    public enum Result {
+        // 리뷰 묶음이 같아 기간만 옮김
+        MOVED,
+        // 요약을 새로 만듦
+        GENERATED,
+        // 리뷰를 읽지 못해 아무것도 하지 않음
+        SKIPPED
+    }
+
+    // 기간 별로 대상 별 리뷰 지문만 집계해 읽음. 리뷰 본문은 지문이 바뀐 대상만 refresh 에서 읽음
+    public List<RollingReviewSummaryTarget> findTargets(LocalDate today, int[] windows) {
+        List<RollingReviewSummaryTarget> targets = new ArrayList<>();
+        for (int windowDays : windows) {
+            LocalDateTime startDate = today.minusDays(windowDays).atStartOfDay();
+            LocalDateTime endDate = today.atStartOfDay();
+
+            addTargets(targets, "hotel", windowDays, startDate, endDate,
+                    hotelReviewRepository.findFingerprintsByPeriod(startDate, endDate));
+            addTargets(targets, "dining", windowDays, startDate, endDate,
+                    diningReviewRepository.findFingerprintsByPeriod(startDate, endDate));
+        }
+        return targets;
+    }
+
+    // 리뷰 묶음이 지난 실행과 같으면 기간만 옮기고, 바뀐 경우에만 요약을 새로 만듦
+    public Result refresh(RollingReviewSummaryTarget item) {
+        Optional<RollingReviewSummary> saved = rollingReviewSummaryRepository
+                .findRollingReviewSummaryByScopeAndTargetAndWindowDaysAndSummaryType(
+                        item.scope(), item.target(), item.windowDays(), item.summaryType());
+
+        if (saved.isPresent() && item.reviewFingerprint().equals(saved.get().getReviewFingerprint())) {
+            RollingReviewSummary summary = saved.get();
+            summary.update(item.startDate(), item.endDate(), item.reviewFingerprint(),
+                    summary.getSummary(), summary.getGeneratedTime());
+            rollingReviewSummaryRepository.save(summary);
+            return Result.MOVED;
+        }
+
+        String filter = ALL.equals(item.target()) ? null : item.target();
+        JoinedReviews joinedReviews = "hotel".equals(item.scope())
+                ? hotelReviewService.getJoinedHotelReviews(item.startDate(), item.endDate(), filter)
+                : diningReviewService.getJoinedDiningReviews(item.startDate(), item.endDate(), filter);
+        if (joinedReviews == null) {
+            return Result.SKIPPED;
+        }
+
+        String content = "hotel".equals(item.scope())
+                ? aiService.summarizeHotelReviews(joinedReviews, item.summaryType(), item.target(), progress -> {}, null)
+                : aiService.summarizeDiningReviews(joinedReviews, item.summaryType(), item.target(), progress -> {}, null);
+
+        if (saved.isPresent()) {
+            RollingReviewSummary summary = saved.get();
+            summary.update(item.startDate(), item.endDate(), item.reviewFingerprint(), content, LocalDateTime.now());
+            rollingReviewSummaryRepository.save(summary);
+        } else {
+            rollingReviewSummaryRepository.save(RollingReviewSummary.builder()
+                    .scope(item.scope())
+                    .target(item.target())
+                    .windowDays(item.windowDays())
+                    .summaryType(item.summaryType())
+                    .startDate(item.startDate())
+                    .endDate(item.endDate())
+                    .reviewFingerprint(item.reviewFingerprint())
+                    .summary(content)
+                    .generatedTime(LocalDateTime.now())
+                    .build());
+        }
+        return Result.GENERATED;
+    }
+
+    // 이번 기간에 리뷰가 없는 대상, 설정에서 빠진 기간 길이의 요약은 지움. 남겨 두면 조회 API 가 옛 기간 요약을 계속 돌려줌
+    public int deleteStale(List<RollingReviewSummaryTarget> targets) {
+        Set<String> liveKeys = new HashSet<>();
+        for (RollingReviewSummaryTarget target : targets) {
+            liveKeys.add(key(target.scope(), target.target(), target.windowDays(), target.summaryType()));
+        }
+        List<RollingReviewSummary> stale = rollingReviewSummaryRepository.findAll().stream()
+                .filter(summary -> !liveKeys.contains(key(summary.getScope(), summary.getTarget(),
+                        summary.getWindowDays(), summary.getSummaryType())))
+                .toList();
+        rollingReviewSummaryRepository.deleteAllInBatch(stale);
+        return stale.size();
+    }
+
+    private void addTargets(List<RollingReviewSummaryTarget> targets, String scope, int windowDays,
+                            LocalDateTime startDate, LocalDateTime endDate, List<ReviewSetFingerprint> fingerprints) {
+        List<ReviewSetFingerprint> withAll = new ArrayList<>(fingerprints);
+        withAll.add(ReviewSetFingerprint.merge(ALL, fingerprints));
+
+        for (ReviewSetFingerprint fingerprint : withAll) {
+            if (fingerprint.getTarget() == null || fingerprint.isEmpty()) {
+                continue;
+            }
+            for (SummaryType summaryType : SummaryType.values()) {
+                targets.add(new RollingReviewSummaryTarget(scope, fingerprint.getTarget(), windowDays, summaryType,
+                        startDate, endDate, fingerprint.getValue()));
+            }
+        }
+    }
+
+    private static String key(String scope, String target, Integer windowDays, SummaryType summaryType) {
+        return scope + "|" + target + "|" + windowDays + "|" + summaryType;
+    }
+}
@@ -0,0 +1,15 @@
+package com.team2final.minglecrm.statistics.config.support;
+
+import com.team2final.minglecrm.review.domain.hotel.SummaryType;
+
+import java.time.LocalDateTime;
+
+// 롤링 요약 배치의 처리 단위. 지문이 저장된 값과 다를 때만 요약을 다시 만듦
+public record RollingReviewSummaryTarget(String scope,
+                                         String target,
+                                         int windowDays,
+                                         SummaryType summaryType,
+                                         LocalDateTime startDate,
+                                         LocalDateTime endDate,
+                                         String reviewFingerprint) {
+}
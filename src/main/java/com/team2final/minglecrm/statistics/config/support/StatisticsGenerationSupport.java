@@ -0,0 +1,64 @@
+package com.team2final.minglecrm.statistics.config.support;
+
+import com.team2final.minglecrm.statistics.domain.StatisticsSnapshot;
+import com.team2final.minglecrm.statistics.service.generation.StatisticsGenerationService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+// 통계 테이블을 지우고 다시 쌓는 대신, 새 세대에 적재한 뒤 활성 세대 포인터만 전환
+@Component
+@RequiredArgsConstructor
+public class StatisticsGenerationSupport {
+
+    public static final String STAGING_GENERATION = "stagingGeneration";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final StatisticsGenerationService statisticsGenerationService;
+
+    // 이전 실행이 실패하며 남긴 적재 중 세대를 정리하고 다음 세대 번호를 반환
+    public Long prepareNextGeneration(StatisticsSnapshot snapshot) {
+        Long nextGeneration = statisticsGenerationService.getActiveGeneration(snapshot) + 1;
+        for (String entityName : snapshot.getEntityNames()) {
+            entityManager.createQuery("DELETE FROM " + entityName + " e WHERE e.generation >= :generation")
+                    .setParameter("generation", nextGeneration)
+                    .executeUpdate();
+        }
+        return nextGeneration;
+    }
+
+    public Tasklet prepareTasklet(StatisticsSnapshot snapshot) {
+        return (contribution, chunkContext) -> {
+            Long stagingGeneration = prepareNextGeneration(snapshot);
+            jobExecutionContext(chunkContext).putLong(STAGING_GENERATION, stagingGeneration);
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    // 직전 세대는 전환 직전에 조회를 시작한 요청을 위해 다음 전환 때까지 남겨 둠
+    public Tasklet switchTasklet(StatisticsSnapshot snapshot) {
+        return (contribution, chunkContext) -> {
+            Long stagingGeneration = jobExecutionContext(chunkContext).getLong(STAGING_GENERATION);
+            Long previousGeneration = statisticsGenerationService.getActiveGeneration(snapshot);
+            statisticsGenerationService.switchGeneration(snapshot, stagingGeneration);
+
+            for (String entityName : snapshot.getEntityNames()) {
+                entityManager.createQuery("DELETE FROM " + entityName + " e WHERE e.generation < :generation")
+                        .setParameter("generation", Math.min(previousGeneration, stagingGeneration))
+                        .executeUpdate();
+            }
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    public static ExecutionContext jobExecutionContext(ChunkContext chunkContext) {
+        return chunkContext.getStepContext().getStepExecution().getJobExecution().getExecutionContext();
+    }
+}
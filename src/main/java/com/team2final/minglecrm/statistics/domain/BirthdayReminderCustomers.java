@@ -1,33 +1,55 @@
 package com.team2final.minglecrm.statistics.domain;
 
+import com.team2final.minglecrm.log.domain.EmailDeliveryStatus;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
 @NoArgsConstructor
 @Getter
+// 한 고객의 한 해 생일에 한 행. 매 시간 대상자를 다시 뽑아도 발송 상태가 유지됨
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_birthday_reminder_customer_year", columnNames = {"customer_id", "birthday_year"}))
 public class BirthdayReminderCustomers {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    private Long customerId;
+    private Integer birthdayYear;
+
     private String name;
     private String email;
     private LocalDate birth;
 
+    // 생일 축하 메일 발송 결과
+    @Enumerated(EnumType.STRING)
+    private EmailDeliveryStatus deliveryStatus;
+    private Integer attemptCount;
+    private String lastError;
+    private LocalDateTime sentTime;
+
     @Builder
-    public BirthdayReminderCustomers(Long id, String name, String email, LocalDate birth) {
+    public BirthdayReminderCustomers(Long id, Long customerId, Integer birthdayYear, String name, String email, LocalDate birth) {
         this.id = id;
+        this.customerId = customerId;
+        this.birthdayYear = birthdayYear;
         this.name = name;
         this.email = email;
         this.birth = birth;
+        this.deliveryStatus = EmailDeliveryStatus.PENDING;
+        this.attemptCount = 0;
     }
 }
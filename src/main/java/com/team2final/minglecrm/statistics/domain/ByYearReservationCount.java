@@ -12,12 +12,14 @@ public class ByYearReservationCount {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+    private Long generation;
     private Integer reservationYear;
     private Long reservationCount;
 
     @Builder
-    public ByYearReservationCount(Integer reservationYear, Long reservationCount) {
+    public ByYearReservationCount(Integer reservationYear, Long reservationCount, Long generation) {
         this.reservationYear = reservationYear;
         this.reservationCount = reservationCount;
+        this.generation = generation;
     }
 }
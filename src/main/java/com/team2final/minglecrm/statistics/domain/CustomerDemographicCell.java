@@ -0,0 +1,36 @@
+package com.team2final.minglecrm.statistics.domain;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 고객 수 큐브의 한 칸. 연령대는 조회 연도마다 달라지므로 출생 연도 단위로 모아 두고 조회할 때 연령대로 접음
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_customer_demographic_cell",
+        columnNames = {"birth_year", "gender", "grade", "visit_bucket"}))
+public class CustomerDemographicCell {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Integer birthYear;
+    private String gender;
+    private String grade;
+    // 0 : 방문 없음, 1 : 1회 방문, 2 : 재방문
+    private Integer visitBucket;
+    private Long customerCount;
+
+    @Builder
+    public CustomerDemographicCell(Long id, Integer birthYear, String gender, String grade, Integer visitBucket, Long customerCount) {
+        this.id = id;
+        this.birthYear = birthYear;
+        this.gender = gender;
+        this.grade = grade;
+        this.visitBucket = visitBucket;
+        this.customerCount = customerCount;
+    }
+}
@@ -14,6 +14,7 @@ public class DailyReservationCount {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+    private Long generation;
     private Integer reservationYear;
     private Integer reservationMonth;
     private Integer reservationDay;
@@ -22,12 +23,13 @@ public class DailyReservationCount {
     private LocalDate reservationDate;
 
     @Builder
-    public DailyReservationCount(Long id, Integer reservationYear, Integer reservationMonth, Integer reservationDay, Long reservationCount) {
+    public DailyReservationCount(Long id, Integer reservationYear, Integer reservationMonth, Integer reservationDay, Long reservationCount, Long generation) {
         this.id = id;
         this.reservationYear = reservationYear;
         this.reservationMonth = reservationMonth;
         this.reservationDay = reservationDay;
         this.reservationCount = reservationCount;
         this.reservationDate = LocalDate.of(reservationYear, reservationMonth, reservationDay);
+        this.generation = generation;
     }
 }
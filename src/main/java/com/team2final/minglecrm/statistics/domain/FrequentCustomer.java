@@ -19,6 +19,8 @@ public class FrequentCustomer {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    private Long generation;
+
     private String name;
     private String phone;
     private String employeeName;
@@ -31,7 +33,7 @@ public class FrequentCustomer {
     private LocalDate birth;
 
     @Builder
-    public FrequentCustomer(Long id, String name, String phone, String employeeName, LocalDate createdDate, String memo, String grade, String address, String gender, Integer visitCnt, LocalDate birth) {
+    public FrequentCustomer(Long id, String name, String phone, String employeeName, LocalDate createdDate, String memo, String grade, String address, String gender, Integer visitCnt, LocalDate birth, Long generation) {
         this.id = id;
         this.name = name;
         this.phone = phone;
@@ -43,5 +45,6 @@ public class FrequentCustomer {
         this.gender = gender;
         this.visitCnt = visitCnt;
         this.birth = birth;
+        this.generation = generation;
     }
 }
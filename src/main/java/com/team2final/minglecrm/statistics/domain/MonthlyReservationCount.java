@@ -12,14 +12,16 @@ public class MonthlyReservationCount {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+    private Long generation;
     private Integer reservationYear;
     private Integer reservationMonth;
     private Long reservationCount;
 
     @Builder
-    public MonthlyReservationCount(Integer reservationYear, Integer reservationMonth, Long reservationCount) {
+    public MonthlyReservationCount(Integer reservationYear, Integer reservationMonth, Long reservationCount, Long generation) {
         this.reservationYear = reservationYear;
         this.reservationMonth = reservationMonth;
         this.reservationCount = reservationCount;
+        this.generation = generation;
     }
 }
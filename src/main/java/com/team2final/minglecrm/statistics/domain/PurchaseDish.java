@@ -19,17 +19,20 @@ public class PurchaseDish {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    private Long generation;
+
     private String name;
     private LocalDate purchaseDate;
     private Integer quantity;
     private Long amount;
 
     @Builder
-    public PurchaseDish(Long id, String name, LocalDate purchaseDate, Integer quantity, Long amount) {
+    public PurchaseDish(Long id, String name, LocalDate purchaseDate, Integer quantity, Long amount, Long generation) {
         this.id = id;
         this.name = name;
         this.purchaseDate = purchaseDate;
         this.quantity = quantity;
         this.amount = amount;
+        this.generation = generation;
     }
 }
@@ -19,6 +19,8 @@ public class PurchaseList {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    private Long generation;
+
     private LocalDate purchaseDate;
     private String customerName;
     private String customerGrade;
@@ -28,7 +30,7 @@ public class PurchaseList {
     private String roomType;
 
     @Builder
-    public PurchaseList(Long id, LocalDate purchaseDate, String customerName, String customerGrade, String customerGender, String consumeType, String dishName, String roomType) {
+    public PurchaseList(Long id, LocalDate purchaseDate, String customerName, String customerGrade, String customerGender, String consumeType, String dishName, String roomType, Long generation) {
         this.id = id;
         this.purchaseDate = purchaseDate;
         this.customerName = customerName;
@@ -37,6 +39,7 @@ public class PurchaseList {
         this.consumeType = consumeType;
         this.dishName = dishName;
         this.roomType = roomType;
+        this.generation = generation;
     }
 
 }
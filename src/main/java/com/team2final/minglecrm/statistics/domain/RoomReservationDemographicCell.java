@@ -0,0 +1,39 @@
+package com.team2final.minglecrm.statistics.domain;
+
+import com.team2final.minglecrm.customer.domain.AgeGroup;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 객실 예약 수 큐브의 한 칸. 연령대는 투숙 시작일 기준이라 예약 시점에 고정됨
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_room_reservation_demographic_cell",
+        columnNames = {"reservation_date", "age_group", "gender", "grade"}))
+public class RoomReservationDemographicCell {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private LocalDate reservationDate;
+    @Enumerated(EnumType.STRING)
+    private AgeGroup ageGroup;
+    private String gender;
+    private String grade;
+    private Long reservationCount;
+
+    @Builder
+    public RoomReservationDemographicCell(Long id, LocalDate reservationDate, AgeGroup ageGroup, String gender, String grade, Long reservationCount) {
+        this.id = id;
+        this.reservationDate = reservationDate;
+        this.ageGroup = ageGroup;
+        this.gender = gender;
+        this.grade = grade;
+        this.reservationCount = reservationCount;
+    }
+}
@@ -0,0 +1,34 @@
+package com.team2final.minglecrm.statistics.domain;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 통계 조회 시 읽어야 할 세대를 가리키는 포인터
+@Entity
+@Getter
+@NoArgsConstructor
+public class StatisticsGeneration {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private StatisticsSnapshot snapshot;
+
+    private Long activeGeneration;
+    private LocalDateTime switchedTime;
+
+    @Builder
+    public StatisticsGeneration(StatisticsSnapshot snapshot, Long activeGeneration, LocalDateTime switchedTime) {
+        this.snapshot = snapshot;
+        this.activeGeneration = activeGeneration;
+        this.switchedTime = switchedTime;
+    }
+
+    public void switchTo(Long generation) {
+        this.activeGeneration = generation;
+        this.switchedTime = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,19 @@
+package com.team2final.minglecrm.statistics.domain;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 배치로 재생성되는 통계 테이블 묶음. 묶음 단위로 세대(generation)를 전환
+@Getter
+public enum StatisticsSnapshot {
+    RESERVATION_COUNT(List.of("ByYearReservationCount", "MonthlyReservationCount", "WeeklyReservationCount", "DailyReservationCount")),
+    PURCHASE(List.of("PurchaseDish", "PurchaseList")),
+    FREQUENT_CUSTOMER(List.of("FrequentCustomer"));
+
+    private final List<String> entityNames;
+
+    StatisticsSnapshot(List<String> entityNames) {
+        this.entityNames = entityNames;
+    }
+}
@@ -12,14 +12,16 @@ public class WeeklyReservationCount {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+    private Long generation;
     private Integer reservationYear;
     private Integer reservationWeek;
     private Long reservationCount;
 
     @Builder
-    public WeeklyReservationCount(Integer reservationYear, Integer reservationWeek, Long reservationCount) {
+    public WeeklyReservationCount(Integer reservationYear, Integer reservationWeek, Long reservationCount, Long generation) {
         this.reservationYear = reservationYear;
         this.reservationWeek = reservationWeek;
         this.reservationCount = reservationCount;
+        this.generation = generation;
     }
 }
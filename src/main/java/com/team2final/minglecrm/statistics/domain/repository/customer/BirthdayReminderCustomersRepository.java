@@ -1,9 +1,54 @@
 package com.team2final.minglecrm.statistics.domain.repository.customer;
 
+import com.team2final.minglecrm.log.domain.EmailDeliveryStatus;
 import com.team2final.minglecrm.statistics.domain.BirthdayReminderCustomers;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface BirthdayReminderCustomersRepository extends JpaRepository<BirthdayReminderCustomers, Long> {
+
+    // 발송 대상 id 기준 키셋 페이지. 아직 보내지 않았거나 시도 한도 안에서 실패한 행
+    @Query("SELECT b FROM BirthdayReminderCustomers b WHERE b.id > :id " +
+            "AND (b.deliveryStatus = com.team2final.minglecrm.log.domain.EmailDeliveryStatus.PENDING " +
+            "OR (b.deliveryStatus = com.team2final.minglecrm.log.domain.EmailDeliveryStatus.FAILED AND b.attemptCount < :maxAttempts)) " +
+            "ORDER BY b.id")
+    List<BirthdayReminderCustomers> findSendableAfter(Long id, int maxAttempts, Pageable pageable);
+
+    @Query("SELECT b.customerId FROM BirthdayReminderCustomers b WHERE b.birthdayYear = :birthdayYear AND b.customerId IN :customerIds")
+    List<Long> findCustomerIdsByBirthdayYear(int birthdayYear, Collection<Long> customerIds);
+
+    // 이미 보낸 행은 건드리지 않고, 발송 상태 컬럼도 갱신하지 않아 발송 스레드의 기록을 덮어쓰지 않음
+    @Modifying
+    @Query("UPDATE BirthdayReminderCustomers b SET b.name = :name, b.email = :email, b.birth = :birth " +
+            "WHERE b.customerId = :customerId AND b.birthdayYear = :birthdayYear " +
+            "AND b.deliveryStatus <> com.team2final.minglecrm.log.domain.EmailDeliveryStatus.SENT")
+    int updateUnsentContact(Long customerId, int birthdayYear, String name, String email, LocalDate birth);
+
+    @Modifying
+    @Query("DELETE FROM BirthdayReminderCustomers b WHERE b.birthdayYear < :birthdayYear")
+    int deleteByBirthdayYearBefore(int birthdayYear);
+
+    long countByDeliveryStatus(EmailDeliveryStatus deliveryStatus);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BirthdayReminderCustomers b SET b.deliveryStatus = com.team2final.minglecrm.log.domain.EmailDeliveryStatus.SENT, " +
+            "b.attemptCount = b.attemptCount + :attempts, b.lastError = null, b.sentTime = :sentTime WHERE b.id IN :ids")
+    int markSent(List<Long> ids, int attempts, LocalDateTime sentTime);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BirthdayReminderCustomers b SET b.deliveryStatus = com.team2final.minglecrm.log.domain.EmailDeliveryStatus.FAILED, " +
+            "b.attemptCount = b.attemptCount + :attempts, b.lastError = :lastError WHERE b.id = :id")
+    int markFailed(Long id, int attempts, String lastError);
 }
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface FrequentCustomerRepository extends JpaRepository<FrequentCustomer, Long> {
 
-    long countByGender(String gender);
-    long countByGrade(String graded);
+    long countByGeneration(Long generation);
+    long countByGenerationAndGender(Long generation, String gender);
+    long countByGenerationAndGrade(Long generation, String graded);
 }
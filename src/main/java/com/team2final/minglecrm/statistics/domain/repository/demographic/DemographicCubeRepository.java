@@ -0,0 +1,157 @@
+package com.team2final.minglecrm.statistics.domain.repository.demographic;
+
+import com.team2final.minglecrm.customer.domain.AgeGroup;
+import com.team2final.minglecrm.statistics.service.demographic.CustomerCellKey;
+import com.team2final.minglecrm.statistics.service.demographic.ReservationCellKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 엔티티 이벤트 처리 중(flush 중)에도 호출되므로 JPA 가 아닌 JDBC 로 같은 커넥션에서 갱신
+@Repository
+@RequiredArgsConstructor
+public class DemographicCubeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addCustomer(CustomerCellKey key, long delta) {
+        int updated = jdbcTemplate.update(
+                "UPDATE customer_demographic_cell SET customer_count = customer_count + ? " +
+                        "WHERE birth_year = ? AND gender = ? AND grade = ? AND visit_bucket = ?",
+                delta, key.birthYear(), key.gender(), key.grade(), key.visitBucket());
+        if (updated == 0) {
+            try {
+                jdbcTemplate.update(
+                        "INSERT INTO customer_demographic_cell (birth_year, gender, grade, visit_bucket, customer_count) VALUES (?, ?, ?, ?, ?)",
+                        key.birthYear(), key.gender(), key.grade(), key.visitBucket(), delta);
+            } catch (DuplicateKeyException e) {
+                // 다른 트랜잭션이 같은 칸을 먼저 만든 경우
+                addCustomer(key, delta);
+            }
+        }
+    }
+
+    public void addReservation(ReservationCellKey key, long delta) {
+        int updated = jdbcTemplate.update(
+                "UPDATE room_reservation_demographic_cell SET reservation_count = reservation_count + ? " +
+                        "WHERE reservation_date = ? AND age_group = ? AND gender = ? AND grade = ?",
+                delta, Date.valueOf(key.reservationDate()), key.ageGroup().name(), key.gender(), key.grade());
+        if (updated == 0) {
+            try {
+                jdbcTemplate.update(
+                        "INSERT INTO room_reservation_demographic_cell (reservation_date, age_group, gender, grade, reservation_count) VALUES (?, ?, ?, ?, ?)",
+                        Date.valueOf(key.reservationDate()), key.ageGroup().name(), key.gender(), key.grade(), delta);
+            } catch (DuplicateKeyException e) {
+                addReservation(key, delta);
+            }
+        }
+    }
+
+    // 고객의 투숙 시작일 별 예약 건수 (고객 차원이 바뀌면 예약 칸도 옮겨야 함)
+    public Map<LocalDate, Long> countReservationsByStartDate(Long customerId) {
+        Map<LocalDate, Long> counts = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT start_date, COUNT(*) FROM room_reservation WHERE customer_id = ? AND start_date IS NOT NULL GROUP BY start_date",
+                rs -> {
+                    counts.put(rs.getDate(1).toLocalDate(), rs.getLong(2));
+                },
+                customerId);
+        return counts;
+    }
+
+    // [birth, gender, grade] 예약 칸 계산용 고객 차원
+    public Object[] findCustomerDimensions(Long customerId) {
+        List<Object[]> rows = jdbcTemplate.query(
+                "SELECT birth, gender, grade FROM customer WHERE id = ?",
+                (rs, rowNum) -> new Object[]{rs.getDate(1) == null ? null : rs.getDate(1).toLocalDate(), rs.getString(2), rs.getString(3)},
+                customerId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    public Map<CustomerCellKey, Long> findAllCustomerCells() {
+        Map<CustomerCellKey, Long> cells = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT birth_year, gender, grade, visit_bucket, customer_count FROM customer_demographic_cell WHERE customer_count <> 0",
+                rs -> {
+                    cells.put(new CustomerCellKey(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getInt(4)), rs.getLong(5));
+                });
+        return cells;
+    }
+
+    public Map<ReservationCellKey, Long> findAllReservationCells() {
+        Map<ReservationCellKey, Long> cells = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT reservation_date, age_group, gender, grade, reservation_count FROM room_reservation_demographic_cell WHERE reservation_count <> 0",
+                rs -> {
+                    cells.put(new ReservationCellKey(rs.getDate(1).toLocalDate(), AgeGroup.valueOf(rs.getString(2)), rs.getString(3), rs.getString(4)), rs.getLong(5));
+                });
+        return cells;
+    }
+
+    // [birthYear, gender, count] 방문 구간이 minVisitBucket 이상인 칸을 출생 연도, 성별로 합산
+    public List<Object[]> sumCustomersByBirthYearAndGender(int minVisitBucket) {
+        return jdbcTemplate.query(
+                "SELECT birth_year, gender, SUM(customer_count) FROM customer_demographic_cell " +
+                        "WHERE visit_bucket >= ? GROUP BY birth_year, gender",
+                (rs, rowNum) -> new Object[]{rs.getInt(1), rs.getString(2), rs.getLong(3)},
+                minVisitBucket);
+    }
+
+    // [ageGroup, gender, count] 기간이 없으면 전체
+    public List<Object[]> sumReservationsByAgeGroupAndGender(LocalDate startDate, LocalDate endDate) {
+        String sql = "SELECT age_group, gender, SUM(reservation_count) FROM room_reservation_demographic_cell ";
+        List<Object> args = new ArrayList<>();
+        if (startDate != null && endDate != null) {
+            sql += "WHERE reservation_date BETWEEN ? AND ? ";
+            args.add(Date.valueOf(startDate));
+            args.add(Date.valueOf(endDate));
+        }
+        return jdbcTemplate.query(sql + "GROUP BY age_group, gender",
+                (rs, rowNum) -> new Object[]{AgeGroup.valueOf(rs.getString(1)), rs.getString(2), rs.getLong(3)},
+                args.toArray());
+    }
+
+    public void replaceCustomerCells(Map<CustomerCellKey, Long> cells) {
+        jdbcTemplate.update("DELETE FROM customer_demographic_cell");
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO customer_demographic_cell (birth_year, gender, grade, visit_bucket, customer_count) VALUES (?, ?, ?, ?, ?)",
+                new ArrayList<>(cells.entrySet()),
+                500,
+                (ps, entry) -> {
+                    ps.setInt(1, entry.getKey().birthYear());
+                    ps.setString(2, entry.getKey().gender());
+                    ps.setString(3, entry.getKey().grade());
+                    ps.setInt(4, entry.getKey().visitBucket());
+                    ps.setLong(5, entry.getValue());
+                });
+    }
+
+    public void replaceReservationCells(Map<ReservationCellKey, Long> cells) {
+        jdbcTemplate.update("DELETE FROM room_reservation_demographic_cell");
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO room_reservation_demographic_cell (reservation_date, age_group, gender, grade, reservation_count) VALUES (?, ?, ?, ?, ?)",
+                new ArrayList<>(cells.entrySet()),
+                500,
+                (ps, entry) -> {
+                    ps.setDate(1, Date.valueOf(entry.getKey().reservationDate()));
+                    ps.setString(2, entry.getKey().ageGroup().name());
+                    ps.setString(3, entry.getKey().gender());
+                    ps.setString(4, entry.getKey().grade());
+                    ps.setLong(5, entry.getValue());
+                });
+    }
+
+    public boolean isEmpty() {
+        Long customerCells = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer_demographic_cell", Long.class);
+        Long reservationCells = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM room_reservation_demographic_cell", Long.class);
+        return (customerCells == null || customerCells == 0) && (reservationCells == null || reservationCells == 0);
+    }
+}
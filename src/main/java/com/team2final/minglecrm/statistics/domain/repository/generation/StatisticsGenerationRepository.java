@@ -0,0 +1,10 @@
+package com.team2final.minglecrm.statistics.domain.repository.generation;
+
+import com.team2final.minglecrm.statistics.domain.StatisticsGeneration;
+import com.team2final.minglecrm.statistics.domain.StatisticsSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StatisticsGenerationRepository extends JpaRepository<StatisticsGeneration, StatisticsSnapshot> {
+}
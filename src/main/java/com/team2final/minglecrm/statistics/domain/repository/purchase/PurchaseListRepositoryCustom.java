@@ -6,9 +6,9 @@ import java.time.LocalDate;
 import java.util.List;
 
 public interface PurchaseListRepositoryCustom {
-    public List<StatisticsDishNameResponse> findStatisticsByDishName(LocalDate startDate, LocalDate endDate);
-    public List<StatisticsRoomTypeResponse> findStatisticsByRoomType(LocalDate startDate, LocalDate endDate);
-    public List<StatisticsDishNameAndRoomTypeResponse> findStatisticsByDishNameAndRoomType(LocalDate startDate, LocalDate endDate);
-    public List<StatisticsGenderResponse> findStatisticsByGender(LocalDate startDate, LocalDate endDate, String gender);
-    public List<StatisticsGradeResponse> findStatisticsByGrade(LocalDate startDate, LocalDate endDate, String grade);
+    public List<StatisticsDishNameResponse> findStatisticsByDishName(Long generation, LocalDate startDate, LocalDate endDate);
+    public List<StatisticsRoomTypeResponse> findStatisticsByRoomType(Long generation, LocalDate startDate, LocalDate endDate);
+    public List<StatisticsDishNameAndRoomTypeResponse> findStatisticsByDishNameAndRoomType(Long generation, LocalDate startDate, LocalDate endDate);
+    public List<StatisticsGenderResponse> findStatisticsByGender(Long generation, LocalDate startDate, LocalDate endDate, String gender);
+    public List<StatisticsGradeResponse> findStatisticsByGrade(Long generation, LocalDate startDate, LocalDate endDate, String grade);
 }
@@ -17,7 +17,7 @@ public class PurchaseListRepositoryImpl implements PurchaseListRepositoryCustom
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public List<StatisticsDishNameResponse> findStatisticsByDishName(LocalDate startDate, LocalDate endDate) {
+    public List<StatisticsDishNameResponse> findStatisticsByDishName(Long generation, LocalDate startDate, LocalDate endDate) {
         return queryFactory
                 .select(new QStatisticsDishNameResponse(
                         purchaseList.consumeType,
@@ -25,7 +25,8 @@ public class PurchaseListRepositoryImpl implements PurchaseListRepositoryCustom
                         purchaseList.dishName.count().as("count")
                 ))
                 .from(purchaseList)
-                .where(startDate != null && endDate != null ? purchaseList.purchaseDate.between(startDate, endDate) : null)
+                .where(purchaseList.generation.eq(generation),
+                        startDate != null && endDate != null ? purchaseList.purchaseDate.between(startDate, endDate) : null)
                 .groupBy(
                         purchaseList.consumeType,
                         purchaseList.dishName
@@ -35,7 +36,7 @@ public class PurchaseListRepositoryImpl implements PurchaseListRepositoryCustom
     }
 
     @Override
-    public List<StatisticsRoomTypeResponse> findStatisticsByRoomType(LocalDate startDate, LocalDate endDate) {
+    public List<StatisticsRoomTypeResponse> findStatisticsByRoomType(Long generation, LocalDate startDate, LocalDate endDate) {
         return queryFactory
                 .select(new QStatisticsRoomTypeResponse(
                         purchaseList.consumeType,
@@ -43,7 +44,8 @@ public class PurchaseListRepositoryImpl implements PurchaseListRepositoryCustom
                         purchaseList.roomType.count().as("count")
                 ))
                 .from(purchaseList)
-                .where(startDate != null && endDate != null ? purchaseList.purchaseDate.between(startDate, endDate) : null)
+                .where(purchaseList.generation.eq(generation),
+                        startDate != null && endDate != null ? purchaseList.purchaseDate.between(startDate, endDate) : null)
                 .groupBy(
                         purchaseList.consumeType,
                         purchaseList.roomType
@@ -53,7 +55,7 @@ public class PurchaseListRepositoryImpl implements PurchaseListRepositoryCustom
     }
 
     @Override
-    public List<StatisticsDishNameAndRoomTypeResponse> findStatisticsByDishNameAndRoomType(LocalDate startDate, LocalDate endDate) {
+    public List<StatisticsDishNameAndRoomTypeResponse> findStatisticsByDishNameAndRoomType(Long generation, LocalDate startDate, LocalDate endDate) {
         return queryFactory
                 .select(new QStatisticsDishNameAndRoomTypeResponse(
                         purchaseList.consumeType,
@@ -63,7 +65,8 @@ public class PurchaseListRepositoryImpl implements PurchaseListRepositoryCustom
                         purchaseList.roomType.count().as("roomTypeCount")
                 ))
                 .from(purchaseList)
-                .where(startDate != null && endDate != null ? purchaseList.purchaseDate.between(startDate, endDate) : null)
+                .where(purchaseList.generation.eq(generation),
+                        startDate != null && endDate != null ? purchaseList.purchaseDate.between(startDate, endDate) : null)
                 .groupBy(
                         purchaseList.consumeType,
                         purchaseList.dishName,
@@ -74,7 +77,7 @@ public class PurchaseListRepositoryImpl implements PurchaseListRepositoryCustom
     }
 
     @Override
-    public List<StatisticsGenderResponse> findStatisticsByGender(LocalDate startDate, LocalDate endDate, String gender) {
+    public List<StatisticsGenderResponse> findStatisticsByGender(Long generation, LocalDate startDate, LocalDate endDate, String gender) {
         return queryFactory
                 .select(new QStatisticsGenderResponse(
                         purchaseList.customerGender,
@@ -85,7 +88,8 @@ public class PurchaseListRepositoryImpl implements PurchaseListRepositoryCustom
                         purchaseList.roomType.count().as("roomTypeCount")
                 ))
                 .from(purchaseList)
-                .where(startDate != null && endDate != null ? purchaseList.purchaseDate.between(startDate, endDate).and(purchaseList.customerGender.eq(gender)) : purchaseList.customerGender.eq(gender))
+                .where(purchaseList.generation.eq(generation),
+                        startDate != null && endDate != null ? purchaseList.purchaseDate.between(startDate, endDate).and(purchaseList.customerGender.eq(gender)) : purchaseList.customerGender.eq(gender))
                 .groupBy(
                         purchaseList.customerGender,
                         purchaseList.consumeType,
@@ -97,7 +101,7 @@ public class PurchaseListRepositoryImpl implements PurchaseListRepositoryCustom
     }
 
     @Override
-    public List<StatisticsGradeResponse> findStatisticsByGrade(LocalDate startDate, LocalDate endDate, String grade) {
+    public List<StatisticsGradeResponse> findStatisticsByGrade(Long generation, LocalDate startDate, LocalDate endDate, String grade) {
         return queryFactory
                 .select(new QStatisticsGradeResponse(
                         purchaseList.customerGrade,
@@ -108,7 +112,8 @@ public class PurchaseListRepositoryImpl implements PurchaseListRepositoryCustom
                         purchaseList.roomType.count().as("roomTypeCount")
                 ))
                 .from(purchaseList)
-                .where(startDate != null && endDate != null ? purchaseList.purchaseDate.between(startDate, endDate).and(purchaseList.customerGrade.eq(grade)) : purchaseList.customerGrade.eq(grade))
+                .where(purchaseList.generation.eq(generation),
+                        startDate != null && endDate != null ? purchaseList.purchaseDate.between(startDate, endDate).and(purchaseList.customerGrade.eq(grade)) : purchaseList.customerGrade.eq(grade))
                 .groupBy(
                         purchaseList.customerGrade,
                         purchaseList.consumeType,
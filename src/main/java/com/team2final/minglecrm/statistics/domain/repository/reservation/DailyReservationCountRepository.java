@@ -2,6 +2,8 @@ package com.team2final.minglecrm.statistics.domain.repository.reservation;
 
 import com.team2final.minglecrm.statistics.domain.DailyReservationCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.domain.Pageable;
 
@@ -11,10 +13,18 @@ import java.util.List;
 @Repository
 public interface DailyReservationCountRepository extends JpaRepository<DailyReservationCount, Long> {
 
-    List<DailyReservationCount> findAllBy(Pageable pageable);
+    List<DailyReservationCount> findAllByGeneration(Long generation, Pageable pageable);
 
-    List<DailyReservationCount> findByReservationDateBetween(LocalDate startDate, LocalDate endDate, Pageable pageable);
+    // 페이징처리 x
+    List<DailyReservationCount> findAllByGeneration(Long generation);
+
+    List<DailyReservationCount> findByGenerationAndReservationDateBetween(Long generation, LocalDate startDate, LocalDate endDate, Pageable pageable);
 
     // 페이징처리 x
-    List<DailyReservationCount> findByReservationDateBetween(LocalDate startDate, LocalDate endDate);
+    List<DailyReservationCount> findByGenerationAndReservationDateBetween(Long generation, LocalDate startDate, LocalDate endDate);
+
+    // 증분 집계 - 기존 행에 예약 수를 더함 (갱신된 행 수 반환)
+    @Modifying
+    @Query("UPDATE DailyReservationCount c SET c.reservationCount = c.reservationCount + :reservationCount WHERE c.generation = :generation AND c.reservationDate = :reservationDate")
+    int addReservationCount(Long generation, LocalDate reservationDate, Long reservationCount);
 }
@@ -2,6 +2,8 @@ package com.team2final.minglecrm.statistics.domain.repository.reservation;
 
 import com.team2final.minglecrm.statistics.domain.MonthlyReservationCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.domain.Pageable;
 
@@ -10,5 +12,13 @@ import java.util.List;
 @Repository
 public interface MonthlyReservationCountRepository extends JpaRepository<MonthlyReservationCount, Long> {
 
-    List<MonthlyReservationCount> findAllBy(Pageable pageable);
+    List<MonthlyReservationCount> findAllByGeneration(Long generation, Pageable pageable);
+
+    // 페이징처리 x
+    List<MonthlyReservationCount> findAllByGeneration(Long generation);
+
+    // 증분 집계 - 기존 행에 예약 수를 더함 (갱신된 행 수 반환)
+    @Modifying
+    @Query("UPDATE MonthlyReservationCount c SET c.reservationCount = c.reservationCount + :reservationCount WHERE c.generation = :generation AND c.reservationYear = :reservationYear AND c.reservationMonth = :reservationMonth")
+    int addReservationCount(Long generation, Integer reservationYear, Integer reservationMonth, Long reservationCount);
 }
@@ -0,0 +1,14 @@
+package com.team2final.minglecrm.statistics.dto.response.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BatchJobLaunchResponse {
+
+    private String jobName;
+    // 이전 실행이 아직 돌고 있어 건너뛰었으면 null
+    private Long jobExecutionId;
+    private String status;
+}
@@ -0,0 +1,19 @@
+package com.team2final.minglecrm.statistics.dto.response.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BatchJobReportResponse {
+
+    private String jobName;
+    private String status;
+    private LocalDateTime lastStartTime;
+    private LocalDateTime lastEndTime;
+    private Long lastDurationMillis;
+    private Long readCount;
+    private Long writeCount;
+}
@@ -0,0 +1,17 @@
+package com.team2final.minglecrm.statistics.dto.response.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class DemographicCubeCheckResponse {
+
+    private Boolean consistent;
+    private Boolean repaired;
+    private Integer customerCellCount;
+    private Integer reservationCellCount;
+    private List<DemographicCubeDriftResponse> drifts;
+}
@@ -0,0 +1,15 @@
+package com.team2final.minglecrm.statistics.dto.response.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DemographicCubeDriftResponse {
+
+    // CUSTOMER / ROOM_RESERVATION
+    private String cube;
+    private String cell;
+    private Long expected;
+    private Long actual;
+}
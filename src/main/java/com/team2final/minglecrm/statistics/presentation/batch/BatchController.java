@@ -1,4 +1,83 @@
 package com.team2final.minglecrm.statistics.presentation.batch;
 
+import com.team2final.minglecrm.statistics.config.BatchOrchestrator;
+import com.team2final.minglecrm.statistics.dto.response.batch.BatchJobLaunchResponse;
+import com.team2final.minglecrm.statistics.dto.response.batch.BatchJobReportResponse;
+import com.team2final.minglecrm.statistics.dto.response.batch.DemographicCubeCheckResponse;
+import com.team2final.minglecrm.statistics.service.demographic.DemographicCubeChecker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/statistic/batch")
 public class BatchController {
+
+    private final BatchOrchestrator batchOrchestrator;
+    private final DemographicCubeChecker demographicCubeChecker;
+
+    // 잡 별 마지막 실행 상태, 소요 시간, 처리 건수 조회
+    @GetMapping("/jobs")
+//    @PreAuthorize("hasAnyRole('STAFF', 'MANAGER')")
+    public ResponseEntity<List<BatchJobReportResponse>> getBatchJobReports() {
+        return ResponseEntity.ok(batchOrchestrator.getReports());
+    }
+
+    // 실행 id 별 진행 상태, 소요 시간, 처리 건수 조회
+    @GetMapping("/jobs/executions/{jobExecutionId}")
+//    @PreAuthorize("hasAnyRole('STAFF', 'MANAGER')")
+    public ResponseEntity<BatchJobReportResponse> getBatchJobReport(@PathVariable Long jobExecutionId) {
+        return batchOrchestrator.getReport(jobExecutionId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // 고객 출생 연도 키 채우기. 잡은 백그라운드에서 돌고 실행 id 를 바로 반환
+    @PostMapping("/customer-birth-year/backfill")
+    @PreAuthorize("hasAnyRole('MANAGER')")
+    public ResponseEntity<BatchJobLaunchResponse> backfillCustomerBirthYear() {
+        return launch("customerBirthYearBackfillJob");
+    }
+
+    // 문의 상태 컬럼을 답변, 조치 테이블 기준으로 다시 계산. 잡은 백그라운드에서 돌고 실행 id 를 바로 반환
+    @PostMapping("/inquiry-status/backfill")
+    @PreAuthorize("hasAnyRole('MANAGER')")
+    public ResponseEntity<BatchJobLaunchResponse> backfillInquiryStatus() {
+        return launch("inquiryStatusBackfillJob");
+    }
+
+    // 인구통계 큐브를 원본 테이블과 비교해 어긋난 칸 조회
+    @GetMapping("/demographic-cube/check")
+//    @PreAuthorize("hasAnyRole('STAFF', 'MANAGER')")
+    public ResponseEntity<DemographicCubeCheckResponse> checkDemographicCube() {
+        return ResponseEntity.ok(demographicCubeChecker.check(false));
+    }
+
+    // 비교 후 어긋난 칸이 있으면 원본 기준으로 다시 채움
+    @PostMapping("/demographic-cube/repair")
+    @PreAuthorize("hasAnyRole('MANAGER')")
+    public ResponseEntity<DemographicCubeCheckResponse> repairDemographicCube() {
+        return ResponseEntity.ok(demographicCubeChecker.check(true));
+    }
+
+    // 이전 실행이 아직 돌고 있으면 409
+    private ResponseEntity<BatchJobLaunchResponse> launch(String jobName) {
+        Long jobExecutionId = batchOrchestrator.launchStandalone(jobName);
+        if (jobExecutionId == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new BatchJobLaunchResponse(jobName, null, BatchOrchestrator.SKIPPED_RUNNING));
+        }
+        return ResponseEntity.accepted()
+                .body(new BatchJobLaunchResponse(jobName, jobExecutionId, BatchStatus.STARTING.name()));
+    }
 }
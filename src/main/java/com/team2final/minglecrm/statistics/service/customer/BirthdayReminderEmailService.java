@@ -0,0 +1,141 @@
+package com.team2final.minglecrm.statistics.service.customer;
+
+import com.team2final.minglecrm.service.email.BulkEmailSender;
+import com.team2final.minglecrm.statistics.domain.BirthdayReminderCustomers;
+import com.team2final.minglecrm.statistics.domain.repository.customer.BirthdayReminderCustomersRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 생일 축하 메일 대량 발송. 대상자를 페이지 단위로 읽어 발송 스레드 풀에 나누어 보냄
+@Slf4j
+@Service
+public class BirthdayReminderEmailService {
+
+    private static final String SUBJECT = "다가오는 생일을 축하합니다.";
+
+    private final BirthdayReminderCustomersRepository birthdayReminderCustomersRepository;
+    private final BulkEmailSender bulkEmailSender;
+    private final ThreadPoolTaskExecutor emailSendExecutor;
+    private final ThreadPoolTaskExecutor emailDispatchExecutor;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${spring.mail.bulk.page-size:500}")
+    private int pageSize;
+
+    // 한 SMTP 연결로 보내는 메일 수
+    @Value("${spring.mail.bulk.batch-size:50}")
+    private int batchSize;
+
+    // 한 대상자에게 실패로 끝난 발송을 다시 시도하는 누적 SMTP 시도 한도. 넘으면 FAILED 로 남김
+    @Value("${spring.mail.bulk.max-delivery-attempts:9}")
+    private int maxDeliveryAttempts;
+
+    public BirthdayReminderEmailService(BirthdayReminderCustomersRepository birthdayReminderCustomersRepository,
+                                        BulkEmailSender bulkEmailSender,
+                                        @Qualifier("emailSendExecutor") ThreadPoolTaskExecutor emailSendExecutor,
+                                        @Qualifier("emailDispatchExecutor") ThreadPoolTaskExecutor emailDispatchExecutor) {
+        this.birthdayReminderCustomersRepository = birthdayReminderCustomersRepository;
+        this.bulkEmailSender = bulkEmailSender;
+        this.emailSendExecutor = emailSendExecutor;
+        this.emailDispatchExecutor = emailDispatchExecutor;
+    }
+
+    // 호출 스레드를 막지 않음. 이전 발송이 진행 중이면 false
+    public boolean sendAsync() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("이전 생일 메일 발송이 아직 진행 중이라 건너뜀");
+            return false;
+        }
+        try {
+            emailDispatchExecutor.execute(() -> {
+                try {
+                    send();
+                } finally {
+                    running.set(false);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            running.set(false);
+            log.error("생일 메일 발송 작업을 등록하지 못함", e);
+            return false;
+        }
+    }
+
+    // PENDING 이거나 시도 한도 안에서 실패한 대상자에게만 보내므로 중단된 발송은 다음 실행에서 이어서 진행
+    public Result send() {
+        int sentCount = 0;
+        int failedCount = 0;
+        long lastId = 0L;
+
+        while (true) {
+            List<BirthdayReminderCustomers> page = birthdayReminderCustomersRepository
+                    .findSendableAfter(lastId, maxDeliveryAttempts, PageRequest.ofSize(pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            lastId = page.get(page.size() - 1).getId();
+
+            List<CompletableFuture<Result>> futures = new ArrayList<>();
+            for (int from = 0; from < page.size(); from += batchSize) {
+                List<BirthdayReminderCustomers> batch = page.subList(from, Math.min(from + batchSize, page.size()));
+                futures.add(CompletableFuture.supplyAsync(() -> sendBatch(batch), emailSendExecutor));
+            }
+            for (CompletableFuture<Result> future : futures) {
+                Result result = future.join();
+                sentCount += result.sentCount();
+                failedCount += result.failedCount();
+            }
+        }
+
+        log.info("생일 메일 발송 완료 : 성공 {}, 실패 {}", sentCount, failedCount);
+        return new Result(sentCount, failedCount);
+    }
+
+    private Result sendBatch(List<BirthdayReminderCustomers> batch) {
+        Map<BirthdayReminderCustomers, BulkEmailSender.Outcome> outcomes =
+                bulkEmailSender.send(batch, BirthdayReminderCustomers::getEmail, SUBJECT, this::content);
+
+        // 같은 시도 횟수끼리 묶어 한 번에 갱신. 결과가 없는 대상자는 PENDING 으로 남김
+        Map<Integer, List<Long>> sentByAttempt = new HashMap<>();
+        int failedCount = 0;
+        for (Map.Entry<BirthdayReminderCustomers, BulkEmailSender.Outcome> entry : outcomes.entrySet()) {
+            BulkEmailSender.Outcome outcome = entry.getValue();
+            if (outcome.sent()) {
+                sentByAttempt.computeIfAbsent(outcome.attempts(), key -> new ArrayList<>()).add(entry.getKey().getId());
+            } else {
+                log.warn("생일 메일 발송 실패 : id {}, {}", entry.getKey().getId(), outcome.error());
+                birthdayReminderCustomersRepository.markFailed(entry.getKey().getId(), outcome.attempts(), outcome.error());
+                failedCount++;
+            }
+        }
+
+        LocalDateTime sentTime = LocalDateTime.now();
+        int sentCount = 0;
+        for (Map.Entry<Integer, List<Long>> entry : sentByAttempt.entrySet()) {
+            sentCount += birthdayReminderCustomersRepository.markSent(entry.getValue(), entry.getKey(), sentTime);
+        }
+        return new Result(sentCount, failedCount);
+    }
+
+    private String content(BirthdayReminderCustomers customer) {
+        return customer.getName() + "님, " + ",\n\n다가오는 생일을 축하드리며 생일기념 바우처를 드립니다.";
+    }
+
+    public record Result(int sentCount, int failedCount) {
+    }
+}
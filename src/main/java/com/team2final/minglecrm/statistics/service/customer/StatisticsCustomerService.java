@@ -1,12 +1,14 @@
 package com.team2final.minglecrm.statistics.service.customer;
 
-import com.team2final.minglecrm.customer.domain.repository.CustomerSearchRepository;
 import com.team2final.minglecrm.statistics.dto.response.customer.RevisitCustomerStatisticsResponse;
 import com.team2final.minglecrm.statistics.dto.response.customer.StatisticsCustomerResponse;
 import com.team2final.minglecrm.statistics.dto.response.customer.VisitCustomerResponse;
 import com.team2final.minglecrm.customer.domain.Customer;
+import com.team2final.minglecrm.statistics.domain.StatisticsSnapshot;
 import com.team2final.minglecrm.statistics.domain.repository.customer.FrequentCustomerRepository;
 import com.team2final.minglecrm.statistics.domain.repository.customer.StatisticsCustomerRepository;
+import com.team2final.minglecrm.statistics.service.generation.StatisticsGenerationService;
+import com.team2final.minglecrm.statistics.service.demographic.DemographicCubeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -27,7 +29,12 @@ public class StatisticsCustomerService {
 
     private final StatisticsCustomerRepository statisticsCustomerRepository;
     private final FrequentCustomerRepository frequentCustomerRepository;
-    private final CustomerSearchRepository customerSearchRepository;
+    private final StatisticsGenerationService statisticsGenerationService;
+    private final DemographicCubeService demographicCubeService;
+
+    private Long activeFrequentCustomerGeneration() {
+        return statisticsGenerationService.getActiveGeneration(StatisticsSnapshot.FREQUENT_CUSTOMER);
+    }
 
     private Date convertToDate(LocalDate localDate) {
         return Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
@@ -127,7 +134,7 @@ public class StatisticsCustomerService {
 
     public double calculateRevisitRate() {
         long totalCustomers = statisticsCustomerRepository.countByIsDeletedFalse();
-        long frequentCustomers = frequentCustomerRepository.count();
+        long frequentCustomers = frequentCustomerRepository.countByGeneration(activeFrequentCustomerGeneration());
 
         if (totalCustomers == 0) {
             return 0.0;
@@ -139,10 +146,11 @@ public class StatisticsCustomerService {
     public Map<String, Double> calculateRevisitRateByGender() {
         Map<String, Double> revisitRateByGender = new HashMap<>();
         String[] genders = {"Male", "Female"};
+        Long generation = activeFrequentCustomerGeneration();
 
         for (String gender : genders) {
             long totalCustomersByGender = statisticsCustomerRepository.countByGender(gender);
-            long frequentCustomersByGender = frequentCustomerRepository.countByGender(gender);
+            long frequentCustomersByGender = frequentCustomerRepository.countByGenerationAndGender(generation, gender);
 
             if (totalCustomersByGender == 0) {
                 revisitRateByGender.put(gender, 0.0);
@@ -157,10 +165,11 @@ public class StatisticsCustomerService {
     public Map<String, Double> calculateRevisitRateByGrade() {
         Map<String, Double> revisitRateByGrade = new HashMap<>();
         String[] grades = {"BROWN", "SILVER", "GOLD", "DIAMOND"};
+        Long generation = activeFrequentCustomerGeneration();
 
         for (String grade : grades) {
             long totalCustomersByGrade = statisticsCustomerRepository.countByGrade(grade);
-            long frequentCustomersByGender = frequentCustomerRepository.countByGrade(grade);
+            long frequentCustomersByGender = frequentCustomerRepository.countByGenerationAndGrade(generation, grade);
 
             if (totalCustomersByGrade == 0) {
                 revisitRateByGrade.put(grade, 0.0);
@@ -173,9 +182,9 @@ public class StatisticsCustomerService {
     }
 
     public RevisitCustomerStatisticsResponse getRevisitCustomerStatistics() {
-        return customerSearchRepository.findRevisitCustomerStatistics();
+        return demographicCubeService.getRevisitCustomerStatistics();
     }
     public RevisitCustomerStatisticsResponse getVisitCustomerStatistics() {
-        return customerSearchRepository.findVisitCustomerStatistics();
+        return demographicCubeService.getVisitCustomerStatistics();
     }
 }
\ No newline at end of file
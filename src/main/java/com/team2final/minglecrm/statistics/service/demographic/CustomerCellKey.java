@@ -0,0 +1,16 @@
+package com.team2final.minglecrm.statistics.service.demographic;
+
+import java.time.LocalDate;
+
+// 연령대는 출생 연도만으로 정해지므로 생일이 아닌 출생 연도 단위로 모음. 칸 수가 고객 수가 아닌 연도 수에 비례
+public record CustomerCellKey(int birthYear, String gender, String grade, int visitBucket) {
+
+    // 생일이 없으면 어느 연령대에도 속하지 않으므로 집계하지 않음
+    public static CustomerCellKey of(LocalDate birth, String gender, String grade, Integer visitCnt) {
+        if (birth == null) {
+            return null;
+        }
+        return new CustomerCellKey(birth.getYear(), DemographicBands.normalize(gender), DemographicBands.normalize(grade),
+                DemographicBands.visitBucket(visitCnt));
+    }
+}
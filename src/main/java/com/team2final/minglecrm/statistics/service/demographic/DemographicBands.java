@@ -0,0 +1,25 @@
+package com.team2final.minglecrm.statistics.service.demographic;
+
+// 큐브 차원 값 계산. 유지 보수 경로와 검증 경로가 같은 규칙을 쓰도록 한 곳에 둠
+public final class DemographicBands {
+
+    public static final String UNKNOWN = "UNKNOWN";
+
+    public static final int NO_VISIT = 0;
+    public static final int VISITED_ONCE = 1;
+    public static final int REVISITED = 2;
+
+    private DemographicBands() {
+    }
+
+    public static int visitBucket(Integer visitCnt) {
+        if (visitCnt == null || visitCnt <= 0) {
+            return NO_VISIT;
+        }
+        return visitCnt == 1 ? VISITED_ONCE : REVISITED;
+    }
+
+    public static String normalize(String value) {
+        return value == null ? UNKNOWN : value;
+    }
+}
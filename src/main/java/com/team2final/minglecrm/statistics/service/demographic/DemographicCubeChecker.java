@@ -0,0 +1,60 @@
+package com.team2final.minglecrm.statistics.service.demographic;
+
+import com.team2final.minglecrm.statistics.domain.repository.demographic.DemographicCubeRepository;
+import com.team2final.minglecrm.statistics.dto.response.batch.DemographicCubeCheckResponse;
+import com.team2final.minglecrm.statistics.dto.response.batch.DemographicCubeDriftResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 원본 테이블에서 다시 계산한 큐브와 유지 중인 큐브를 칸 단위로 비교
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DemographicCubeChecker {
+
+    private final DemographicCubeService demographicCubeService;
+    private final DemographicCubeRepository demographicCubeRepository;
+
+    @Transactional
+    public DemographicCubeCheckResponse check(boolean repair) {
+        Map<CustomerCellKey, Long> expectedCustomers = demographicCubeService.computeCustomerCells();
+        Map<ReservationCellKey, Long> expectedReservations = demographicCubeService.computeReservationCells();
+
+        List<DemographicCubeDriftResponse> drifts = new ArrayList<>();
+        diff("CUSTOMER", expectedCustomers, demographicCubeRepository.findAllCustomerCells(), drifts);
+        diff("ROOM_RESERVATION", expectedReservations, demographicCubeRepository.findAllReservationCells(), drifts);
+
+        boolean repaired = false;
+        if (!drifts.isEmpty()) {
+            log.warn("인구통계 큐브 불일치 {}건", drifts.size());
+            if (repair) {
+                demographicCubeRepository.replaceCustomerCells(expectedCustomers);
+                demographicCubeRepository.replaceReservationCells(expectedReservations);
+                repaired = true;
+            }
+        }
+
+        return new DemographicCubeCheckResponse(drifts.isEmpty(), repaired,
+                expectedCustomers.size(), expectedReservations.size(), drifts);
+    }
+
+    private <K> void diff(String cube, Map<K, Long> expected, Map<K, Long> actual, List<DemographicCubeDriftResponse> drifts) {
+        Set<K> keys = new HashSet<>(expected.keySet());
+        keys.addAll(actual.keySet());
+        for (K key : keys) {
+            long expectedCount = expected.getOrDefault(key, 0L);
+            long actualCount = actual.getOrDefault(key, 0L);
+            if (expectedCount != actualCount) {
+                drifts.add(new DemographicCubeDriftResponse(cube, key.toString(), expectedCount, actualCount));
+            }
+        }
+    }
+}
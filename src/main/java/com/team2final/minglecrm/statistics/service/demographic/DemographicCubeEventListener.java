@@ -0,0 +1,132 @@
+package com.team2final.minglecrm.statistics.service.demographic;
+
+import com.team2final.minglecrm.customer.domain.Customer;
+import com.team2final.minglecrm.reservation.domain.hotel.RoomReservation;
+import com.team2final.minglecrm.statistics.domain.repository.demographic.DemographicCubeRepository;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+// Customer, RoomReservation 변경을 같은 트랜잭션 안에서 인구통계 큐브에 반영
+@Component
+@RequiredArgsConstructor
+public class DemographicCubeEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final DemographicCubeRepository demographicCubeRepository;
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Customer customer) {
+            addCustomer(CustomerCellKey.of(customer.getBirth(), customer.getGender(), customer.getGrade(), customer.getVisitCnt()), 1);
+        } else if (event.getEntity() instanceof RoomReservation roomReservation) {
+            addReservation(roomReservation.getStartDate(), customerId(roomReservation.getCustomer()), 1);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        // 세션 밖에서 merge 되어 이전 상태가 없으면 정합성 검사에서 보정
+        if (event.getOldState() == null) {
+            return;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        Object[] oldState = event.getOldState();
+        Object[] state = event.getState();
+
+        if (event.getEntity() instanceof Customer customer) {
+            LocalDate oldBirth = (LocalDate) value(names, oldState, "birth");
+            String oldGender = (String) value(names, oldState, "gender");
+            String oldGrade = (String) value(names, oldState, "grade");
+
+            CustomerCellKey oldKey = CustomerCellKey.of(oldBirth, oldGender, oldGrade, (Integer) value(names, oldState, "visitCnt"));
+            CustomerCellKey newKey = CustomerCellKey.of(customer.getBirth(), customer.getGender(), customer.getGrade(), customer.getVisitCnt());
+            if (!Objects.equals(oldKey, newKey)) {
+                addCustomer(oldKey, -1);
+                addCustomer(newKey, 1);
+            }
+
+            // 예약 칸에도 고객의 생일, 성별, 등급이 들어 있으므로 함께 옮김
+            if (!Objects.equals(oldBirth, customer.getBirth())
+                    || !Objects.equals(oldGender, customer.getGender())
+                    || !Objects.equals(oldGrade, customer.getGrade())) {
+                for (Map.Entry<LocalDate, Long> entry : demographicCubeRepository.countReservationsByStartDate(customer.getId()).entrySet()) {
+                    addReservation(ReservationCellKey.of(entry.getKey(), oldBirth, oldGender, oldGrade), -entry.getValue());
+                    addReservation(ReservationCellKey.of(entry.getKey(), customer.getBirth(), customer.getGender(), customer.getGrade()), entry.getValue());
+                }
+            }
+        } else if (event.getEntity() instanceof RoomReservation) {
+            LocalDate oldStartDate = (LocalDate) value(names, oldState, "startDate");
+            LocalDate startDate = (LocalDate) value(names, state, "startDate");
+            Long oldCustomerId = customerId(value(names, oldState, "customer"));
+            Long customerId = customerId(value(names, state, "customer"));
+
+            if (!Objects.equals(oldStartDate, startDate) || !Objects.equals(oldCustomerId, customerId)) {
+                addReservation(oldStartDate, oldCustomerId, -1);
+                addReservation(startDate, customerId, 1);
+            }
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        String[] names = event.getPersister().getPropertyNames();
+        Object[] deletedState = event.getDeletedState();
+
+        if (event.getEntity() instanceof Customer) {
+            addCustomer(CustomerCellKey.of(
+                    (LocalDate) value(names, deletedState, "birth"),
+                    (String) value(names, deletedState, "gender"),
+                    (String) value(names, deletedState, "grade"),
+                    (Integer) value(names, deletedState, "visitCnt")), -1);
+        } else if (event.getEntity() instanceof RoomReservation) {
+            addReservation((LocalDate) value(names, deletedState, "startDate"), customerId(value(names, deletedState, "customer")), -1);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void addCustomer(CustomerCellKey key, long delta) {
+        if (key != null) {
+            demographicCubeRepository.addCustomer(key, delta);
+        }
+    }
+
+    private void addReservation(LocalDate startDate, Long customerId, long delta) {
+        if (startDate == null || customerId == null) {
+            return;
+        }
+        Object[] dimensions = demographicCubeRepository.findCustomerDimensions(customerId);
+        if (dimensions != null) {
+            addReservation(ReservationCellKey.of(startDate, (LocalDate) dimensions[0], (String) dimensions[1], (String) dimensions[2]), delta);
+        }
+    }
+
+    private void addReservation(ReservationCellKey key, long delta) {
+        if (key != null) {
+            demographicCubeRepository.addReservation(key, delta);
+        }
+    }
+
+    private Long customerId(Object customer) {
+        return customer instanceof Customer c ? c.getId() : null;
+    }
+
+    private Object value(String[] names, Object[] state, String propertyName) {
+        int index = Arrays.asList(names).indexOf(propertyName);
+        return index < 0 ? null : state[index];
+    }
+}
@@ -0,0 +1,136 @@
+package com.team2final.minglecrm.statistics.service.demographic;
+
+import com.team2final.minglecrm.customer.domain.AgeGroup;
+import com.team2final.minglecrm.reservation.dto.hotel.response.RoomReservationStatisticsResponse;
+import com.team2final.minglecrm.statistics.domain.repository.demographic.DemographicCubeRepository;
+import com.team2final.minglecrm.statistics.dto.response.customer.RevisitCustomerStatisticsResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 인구통계 큐브 조회. 테이블 전체를 훑지 않고 칸(cell) 수 만큼만 읽음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DemographicCubeService {
+
+    private static final String MALE = "Male";
+    private static final String FEMALE = "Female";
+
+    private final DemographicCubeRepository demographicCubeRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public RevisitCustomerStatisticsResponse getRevisitCustomerStatistics() {
+        return toCustomerResponse(sumCustomers(DemographicBands.REVISITED));
+    }
+
+    @Transactional(readOnly = true)
+    public RevisitCustomerStatisticsResponse getVisitCustomerStatistics() {
+        return toCustomerResponse(sumCustomers(DemographicBands.VISITED_ONCE));
+    }
+
+    @Transactional(readOnly = true)
+    public RoomReservationStatisticsResponse getRoomReservationStatistics(LocalDate startDate, LocalDate endDate) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Object[] row : demographicCubeRepository.sumReservationsByAgeGroupAndGender(startDate, endDate)) {
+            counts.merge(groupKey((AgeGroup) row[0], (String) row[1]), ((Long) row[2]).intValue(), Integer::sum);
+        }
+        return new RoomReservationStatisticsResponse(
+                count(counts, AgeGroup.TWENTIES, MALE), count(counts, AgeGroup.TWENTIES, FEMALE),
+                count(counts, AgeGroup.THIRTIES, MALE), count(counts, AgeGroup.THIRTIES, FEMALE),
+                count(counts, AgeGroup.FORTIES, MALE), count(counts, AgeGroup.FORTIES, FEMALE),
+                count(counts, AgeGroup.FIFTIES, MALE), count(counts, AgeGroup.FIFTIES, FEMALE),
+                count(counts, AgeGroup.OVER_SIXTY, MALE), count(counts, AgeGroup.OVER_SIXTY, FEMALE));
+    }
+
+    // 원본 테이블에서 큐브를 다시 계산 (정합성 검사, 재구축 공용)
+    @Transactional(readOnly = true)
+    public Map<CustomerCellKey, Long> computeCustomerCells() {
+        List<Object[]> rows = entityManager.createQuery(
+                        "select c.birth, c.gender, c.grade, c.visitCnt, count(c) from Customer c " +
+                                "where c.birth is not null " +
+                                "group by c.birth, c.gender, c.grade, c.visitCnt", Object[].class)
+                .getResultList();
+
+        Map<CustomerCellKey, Long> cells = new HashMap<>();
+        for (Object[] row : rows) {
+            CustomerCellKey key = CustomerCellKey.of((LocalDate) row[0], (String) row[1], (String) row[2], (Integer) row[3]);
+            cells.merge(key, (Long) row[4], Long::sum);
+        }
+        return cells;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<ReservationCellKey, Long> computeReservationCells() {
+        List<Object[]> rows = entityManager.createQuery(
+                        "select r.startDate, c.birth, c.gender, c.grade, count(r) from RoomReservation r " +
+                                "join r.customer c " +
+                                "where r.startDate is not null and c.birth is not null " +
+                                "group by r.startDate, c.birth, c.gender, c.grade", Object[].class)
+                .getResultList();
+
+        Map<ReservationCellKey, Long> cells = new HashMap<>();
+        for (Object[] row : rows) {
+            ReservationCellKey key = ReservationCellKey.of((LocalDate) row[0], (LocalDate) row[1], (String) row[2], (String) row[3]);
+            cells.merge(key, (Long) row[4], Long::sum);
+        }
+        return cells;
+    }
+
+    @Transactional
+    public void rebuild() {
+        demographicCubeRepository.replaceCustomerCells(computeCustomerCells());
+        demographicCubeRepository.replaceReservationCells(computeReservationCells());
+    }
+
+    // data.sql 로 적재된 데이터는 엔티티 이벤트를 거치지 않으므로 기동 시 비어 있으면 한 번 채움
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (demographicCubeRepository.isEmpty()) {
+            rebuild();
+            log.info("인구통계 큐브 초기 적재 완료");
+        }
+    }
+
+    // 출생 연도 칸을 올해 기준 연령대로 접음. 20세 미만, 올해보다 늦은 출생 연도는 어느 연령대에도 더하지 않음
+    private Map<String, Integer> sumCustomers(int minVisitBucket) {
+        int baseYear = LocalDate.now().getYear();
+        Map<String, Integer> counts = new HashMap<>();
+        for (Object[] row : demographicCubeRepository.sumCustomersByBirthYearAndGender(minVisitBucket)) {
+            AgeGroup.of((Integer) row[0], baseYear).ifPresent(ageGroup ->
+                    counts.merge(groupKey(ageGroup, (String) row[1]), ((Long) row[2]).intValue(), Integer::sum));
+        }
+        return counts;
+    }
+
+    private RevisitCustomerStatisticsResponse toCustomerResponse(Map<String, Integer> counts) {
+        return new RevisitCustomerStatisticsResponse(
+                count(counts, AgeGroup.TWENTIES, MALE), count(counts, AgeGroup.TWENTIES, FEMALE),
+                count(counts, AgeGroup.THIRTIES, MALE), count(counts, AgeGroup.THIRTIES, FEMALE),
+                count(counts, AgeGroup.FORTIES, MALE), count(counts, AgeGroup.FORTIES, FEMALE),
+                count(counts, AgeGroup.FIFTIES, MALE), count(counts, AgeGroup.FIFTIES, FEMALE),
+                count(counts, AgeGroup.OVER_SIXTY, MALE), count(counts, AgeGroup.OVER_SIXTY, FEMALE));
+    }
+
+    private Integer count(Map<String, Integer> counts, AgeGroup ageGroup, String gender) {
+        return counts.getOrDefault(groupKey(ageGroup, gender), 0);
+    }
+
+    private String groupKey(AgeGroup ageGroup, String gender) {
+        return ageGroup.name() + ":" + gender;
+    }
+}
@@ -0,0 +1,20 @@
+package com.team2final.minglecrm.statistics.service.demographic;
+
+import com.team2final.minglecrm.customer.domain.AgeGroup;
+
+import java.time.LocalDate;
+
+// 연령대는 고객 검색과 같은 AgeGroup 규칙(투숙 연도 - 출생 연도)으로 정함
+public record ReservationCellKey(LocalDate reservationDate, AgeGroup ageGroup, String gender, String grade) {
+
+    // 어느 연령대에도 속하지 않는 예약(20세 미만, 투숙 연도보다 늦은 출생 연도)은 집계하지 않음
+    public static ReservationCellKey of(LocalDate startDate, LocalDate birth, String gender, String grade) {
+        if (startDate == null || birth == null) {
+            return null;
+        }
+        return AgeGroup.of(birth.getYear(), startDate.getYear())
+                .map(ageGroup -> new ReservationCellKey(startDate, ageGroup,
+                        DemographicBands.normalize(gender), DemographicBands.normalize(grade)))
+                .orElse(null);
+    }
+}
@@ -1,9 +1,11 @@
 package com.team2final.minglecrm.statistics.service.dish;
 
 import com.team2final.minglecrm.statistics.domain.PurchaseDish;
+import com.team2final.minglecrm.statistics.domain.StatisticsSnapshot;
 import com.team2final.minglecrm.statistics.domain.repository.dish.PurchaseDishRepository;
 import com.team2final.minglecrm.statistics.dto.response.dish.DishAmountResponse;
 import com.team2final.minglecrm.statistics.dto.response.dish.StatisticsDishResponse;
+import com.team2final.minglecrm.statistics.service.generation.StatisticsGenerationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -18,11 +20,16 @@ import java.util.stream.Collectors;
 public class StatisticsDishService {
 
     private final PurchaseDishRepository purchaseDishRepository;
+    private final StatisticsGenerationService statisticsGenerationService;
+
+    private Long activeGeneration() {
+        return statisticsGenerationService.getActiveGeneration(StatisticsSnapshot.PURCHASE);
+    }
 
     // 판매된 상품(dish) 전체 조회
     public List<StatisticsDishResponse> getAllPurchaseDish(Pageable pageable) {
         pageable = pageable == null ? PageRequest.of(0, 3) : pageable;
-        List<StatisticsDishResponse> result = purchaseDishRepository.findAllBy(pageable).stream()
+        List<StatisticsDishResponse> result = purchaseDishRepository.findAllByGeneration(activeGeneration(), pageable).stream()
                 .map(purchaseDish -> new StatisticsDishResponse(
                         purchaseDish.getId(),
                         purchaseDish.getPurchaseDate(),
@@ -36,7 +43,7 @@ public class StatisticsDishService {
     // 직원은 기간을 설정하여 판매된 상품(dish) 수를 조회할 수 있다.
     public List<StatisticsDishResponse> getPurchaseDishByDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable) {
         pageable = pageable == null ? PageRequest.of(0, 3) : pageable;
-        List<StatisticsDishResponse> result = purchaseDishRepository.findByPurchaseDateBetween(startDate, endDate, pageable).stream()
+        List<StatisticsDishResponse> result = purchaseDishRepository.findByGenerationAndPurchaseDateBetween(activeGeneration(), startDate, endDate, pageable).stream()
                 .map(purchaseDish -> new StatisticsDishResponse(
                         purchaseDish.getId(),
                         purchaseDish.getPurchaseDate(),
@@ -50,13 +57,14 @@ public class StatisticsDishService {
 
     // 특정 기간 판매된 음식 가격 총합
     public Long calculateTotalAmount(LocalDate startDate, LocalDate endDate) {
-        return purchaseDishRepository.findTotalAmountByPurchaseDateBetween(startDate, endDate);
+        return purchaseDishRepository.findTotalAmountByPurchaseDateBetween(activeGeneration(), startDate, endDate);
     }
 
     // 전날 판매된 음식 가격 총합
     public Long calculateTotalPriceYesterday() {
         LocalDate yesterday = LocalDate.now().minusDays(1);
-        Long result = purchaseDishRepository.findTotalAmountByPurchaseDate(yesterday) != null ? purchaseDishRepository.findTotalAmountByPurchaseDate(yesterday) : 0L;
+        Long totalAmount = purchaseDishRepository.findTotalAmountByPurchaseDate(activeGeneration(), yesterday);
+        Long result = totalAmount != null ? totalAmount : 0L;
         return result;
     }
 }
@@ -0,0 +1,37 @@
+package com.team2final.minglecrm.statistics.service.generation;
+
+import com.team2final.minglecrm.statistics.domain.StatisticsGeneration;
+import com.team2final.minglecrm.statistics.domain.StatisticsSnapshot;
+import com.team2final.minglecrm.statistics.domain.repository.generation.StatisticsGenerationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class StatisticsGenerationService {
+
+    public static final long INITIAL_GENERATION = 0L;
+
+    private final StatisticsGenerationRepository statisticsGenerationRepository;
+
+    // 통계 조회 서비스는 항상 현재 활성 세대만 조회
+    @Transactional(readOnly = true)
+    public Long getActiveGeneration(StatisticsSnapshot snapshot) {
+        return statisticsGenerationRepository.findById(snapshot)
+                .map(StatisticsGeneration::getActiveGeneration)
+                .orElse(INITIAL_GENERATION);
+    }
+
+    // 배치가 모두 적재된 뒤 한 번에 활성 세대를 전환
+    @Transactional
+    public void switchGeneration(StatisticsSnapshot snapshot, Long generation) {
+        StatisticsGeneration statisticsGeneration = statisticsGenerationRepository.findById(snapshot)
+                .orElseGet(() -> StatisticsGeneration.builder()
+                        .snapshot(snapshot)
+                        .activeGeneration(INITIAL_GENERATION)
+                        .build());
+        statisticsGeneration.switchTo(generation);
+        statisticsGenerationRepository.save(statisticsGeneration);
+    }
+}
@@ -1,8 +1,10 @@
 package com.team2final.minglecrm.statistics.service.purchase;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.team2final.minglecrm.statistics.domain.StatisticsSnapshot;
 import com.team2final.minglecrm.statistics.domain.repository.purchase.PurchaseListRepository;
 import com.team2final.minglecrm.statistics.dto.response.purchase.*;
+import com.team2final.minglecrm.statistics.service.generation.StatisticsGenerationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -14,24 +16,29 @@ import java.util.List;
 public class StatisticsPurchaseService {
 
     private final PurchaseListRepository purchaseListRepository;
+    private final StatisticsGenerationService statisticsGenerationService;
+
+    private Long activeGeneration() {
+        return statisticsGenerationService.getActiveGeneration(StatisticsSnapshot.PURCHASE);
+    }
 
     public List<StatisticsDishNameResponse> getStatisticsByDishName(LocalDate startDate, LocalDate endDate) {
-        return purchaseListRepository.findStatisticsByDishName(startDate, endDate);
+        return purchaseListRepository.findStatisticsByDishName(activeGeneration(), startDate, endDate);
     }
 
     public List<StatisticsRoomTypeResponse> getStatisticsByRoomType(LocalDate startDate, LocalDate endDate) {
-        return purchaseListRepository.findStatisticsByRoomType(startDate, endDate);
+        return purchaseListRepository.findStatisticsByRoomType(activeGeneration(), startDate, endDate);
     }
 
     public List<StatisticsDishNameAndRoomTypeResponse> getStatisticsByDishNameAndRoomType(LocalDate startDate, LocalDate endDate) {
-        return purchaseListRepository.findStatisticsByDishNameAndRoomType(startDate, endDate);
+        return purchaseListRepository.findStatisticsByDishNameAndRoomType(activeGeneration(), startDate, endDate);
     }
 
     public List<StatisticsGenderResponse> getStatisticsByGender(LocalDate startDate, LocalDate endDate, String gender) {
-        return purchaseListRepository.findStatisticsByGender(startDate, endDate, gender);
+        return purchaseListRepository.findStatisticsByGender(activeGeneration(), startDate, endDate, gender);
     }
 
     public List<StatisticsGradeResponse> getStatisticsByGrade(LocalDate startDate, LocalDate endDate, String grade) {
-        return purchaseListRepository.findStatisticsByGrade(startDate, endDate, grade);
+        return purchaseListRepository.findStatisticsByGrade(activeGeneration(), startDate, endDate, grade);
     }
 }
\ No newline at end of file
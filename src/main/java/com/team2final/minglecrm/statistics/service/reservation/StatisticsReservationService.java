@@ -1,11 +1,13 @@
 package com.team2final.minglecrm.statistics.service.reservation;
 
 import com.team2final.minglecrm.statistics.domain.ByYearReservationCount;
+import com.team2final.minglecrm.statistics.domain.StatisticsSnapshot;
 import com.team2final.minglecrm.statistics.domain.repository.reservation.*;
 import com.team2final.minglecrm.statistics.dto.response.reservation.ByYearReservationResponse;
 import com.team2final.minglecrm.statistics.dto.response.reservation.DailyReservationResponse;
 import com.team2final.minglecrm.statistics.dto.response.reservation.MonthlyReservationResponse;
 import com.team2final.minglecrm.statistics.dto.response.reservation.WeeklyReservationResponse;
+import com.team2final.minglecrm.statistics.service.generation.StatisticsGenerationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -26,10 +28,16 @@ public class StatisticsReservationService {
     private final WeeklyReservationCountRepository weeklyReservationCountRepository;
     private final DailyReservationCountRepository dailyReservationCountRepository;
 
+    private final StatisticsGenerationService statisticsGenerationService;
+
+    private Long activeGeneration() {
+        return statisticsGenerationService.getActiveGeneration(StatisticsSnapshot.RESERVATION_COUNT);
+    }
+
     // 연 별 예약 수 조회
     public List<ByYearReservationResponse> getAllByYearReservation(Pageable pageable) {
         pageable = pageable == null ? PageRequest.of(0, 3) : pageable;
-        List<ByYearReservationResponse> result = byYearReservationCountRepository.findAllBy(pageable).stream()
+        List<ByYearReservationResponse> result = byYearReservationCountRepository.findAllByGeneration(activeGeneration(), pageable).stream()
                 .map(byYearReservationCount -> new ByYearReservationResponse(
                         byYearReservationCount.getId(),
                         byYearReservationCount.getReservationYear(),
@@ -42,7 +50,7 @@ public class StatisticsReservationService {
     // 월 별 예약 수 조회
     public List<MonthlyReservationResponse> getAllMonthlyReservation(Pageable pageable) {
         pageable = pageable == null ? PageRequest.of(0, 3) : pageable;
-        List<MonthlyReservationResponse> result = monthlyReservationCountRepository.findAllBy(pageable).stream()
+        List<MonthlyReservationResponse> result = monthlyReservationCountRepository.findAllByGeneration(activeGeneration(), pageable).stream()
                 .map(monthlyReservationCount -> new MonthlyReservationResponse(
                         monthlyReservationCount.getId(),
                         monthlyReservationCount.getReservationYear(),
@@ -55,7 +63,7 @@ public class StatisticsReservationService {
 
     // 월 별 예약 수 조회 - 페이징처리 X
     public List<MonthlyReservationResponse> getAllMonthlyReservation() {
-        List<MonthlyReservationResponse> result = monthlyReservationCountRepository.findAll().stream()
+        List<MonthlyReservationResponse> result = monthlyReservationCountRepository.findAllByGeneration(activeGeneration()).stream()
                 .map(monthlyReservationCount -> new MonthlyReservationResponse(
                         monthlyReservationCount.getId(),
                         monthlyReservationCount.getReservationYear(),
@@ -69,7 +77,7 @@ public class StatisticsReservationService {
     // 주 별 예약 수 조회
     public List<WeeklyReservationResponse> getAllWeeklyReservation(Pageable pageable) {
         pageable = pageable == null ? PageRequest.of(0, 3) : pageable;
-        List<WeeklyReservationResponse> result = weeklyReservationCountRepository.findAllBy(pageable).stream()
+        List<WeeklyReservationResponse> result = weeklyReservationCountRepository.findAllByGeneration(activeGeneration(), pageable).stream()
                 .map(weeklyReservationCount -> new WeeklyReservationResponse(
                         weeklyReservationCount.getId(),
                         weeklyReservationCount.getReservationYear(),
@@ -82,7 +90,7 @@ public class StatisticsReservationService {
 
     // 주 별 예약 수 조회 페이징처리 x
     public List<WeeklyReservationResponse> getAllWeeklyReservation() {
-        List<WeeklyReservationResponse> result = weeklyReservationCountRepository.findAll().stream()
+        List<WeeklyReservationResponse> result = weeklyReservationCountRepository.findAllByGeneration(activeGeneration()).stream()
                 .map(weeklyReservationCount -> new WeeklyReservationResponse(
                         weeklyReservationCount.getId(),
                         weeklyReservationCount.getReservationYear(),
@@ -96,7 +104,7 @@ public class StatisticsReservationService {
     // 일 별 예약 수 조회
     public List<DailyReservationResponse> getAllDailyReservation(Pageable pageable) {
         pageable = pageable == null ? PageRequest.of(0, 3) : pageable;
-        List<DailyReservationResponse> result = dailyReservationCountRepository.findAllBy(pageable).stream()
+        List<DailyReservationResponse> result = dailyReservationCountRepository.findAllByGeneration(activeGeneration(), pageable).stream()
                 .map(dailyReservationCount -> new DailyReservationResponse(
                         dailyReservationCount.getId(),
                         dailyReservationCount.getReservationYear(),
@@ -110,7 +118,7 @@ public class StatisticsReservationService {
 
     // 일 별 예약 수 조회 - 페이징 처리 x
     public List<DailyReservationResponse> getAllDailyReservation() {
-        List<DailyReservationResponse> result = dailyReservationCountRepository.findAll().stream()
+        List<DailyReservationResponse> result = dailyReservationCountRepository.findAllByGeneration(activeGeneration()).stream()
                 .map(dailyReservationCount -> new DailyReservationResponse(
                         dailyReservationCount.getId(),
                         dailyReservationCount.getReservationYear(),
@@ -125,7 +133,7 @@ public class StatisticsReservationService {
     // 기간 설정해서 예약 수 조회
     public List<DailyReservationResponse> getDailyReservationByDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable) {
         pageable = pageable == null ? PageRequest.of(0, 3) : pageable;
-        List<DailyReservationResponse> result = dailyReservationCountRepository.findByReservationDateBetween(startDate, endDate, pageable).stream()
+        List<DailyReservationResponse> result = dailyReservationCountRepository.findByGenerationAndReservationDateBetween(activeGeneration(), startDate, endDate, pageable).stream()
                 .map(dailyReservationCount -> new DailyReservationResponse(
                         dailyReservationCount.getId(),
                         dailyReservationCount.getReservationYear(),
@@ -139,7 +147,7 @@ public class StatisticsReservationService {
 
     // 기간 설정해서 예약 수 조회 - 페이징 처리 x
     public List<DailyReservationResponse> getDailyReservationByDateRange(LocalDate startDate, LocalDate endDate) {
-        List<DailyReservationResponse> result = dailyReservationCountRepository.findByReservationDateBetween(startDate, endDate).stream()
+        List<DailyReservationResponse> result = dailyReservationCountRepository.findByGenerationAndReservationDateBetween(activeGeneration(), startDate, endDate).stream()
                 .map(dailyReservationCount -> new DailyReservationResponse(
                         dailyReservationCount.getId(),
                         dailyReservationCount.getReservationYear(),
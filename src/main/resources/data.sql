@@ -488,6 +488,11 @@ VALUES (1, '김민준', 'GOLD', '010-9969-6203', 'rbittlestone0@springer.com', '
        (202, '이서준', 'SILVER', '010-7219-1224', 'wkdaudgns132@naver.com', '서울특별시 은평구 382 베라 트레일', 12, '', 'Female',
         '1951-09-16', '2019-09-15', FALSE, 10);
 
+-- 연령대 검색, 통계가 쓰는 출생 연도 키
+UPDATE customer
+SET birth_year = YEAR(birth)
+WHERE birth IS NOT NULL;
+
 INSERT INTO customer_preference (id, customer_id, is_smoking, purpose, is_pet, preferred_checkin_time,
                                  preferred_checkout_time, dietary_restrictions, funnel, interest,
                                  Is_breakfast_preferred)
@@ -4931,6 +4936,10 @@ VALUES (1, '2024-06-15 14:30:00', '레스토랑 예약 문의', '호텔 레스
        (4, '2024-05-13 14:45:00', '룸 청소 요청', '객실 청소를 요청합니다. 청소 가능한 시간을 알려주세요.', '온라인 문의', FALSE),
        (5, '2024-05-12 16:00:00', '룸서비스 이용 불편', '룸서비스 주문 후 30분이 지나도 도착하지 않습니다.', '방문 문의', FALSE);
 
+-- 문의함 목록이 쓰는 마지막 처리 시각
+UPDATE inquiry
+SET last_activity_time = date;
+
 
 INSERT INTO dish (id, name, price)
 VALUES (1, 'STEAK', 129000),
@@ -0,0 +1,83 @@
+package com.team2final.minglecrm.ai;
+
+import com.team2final.minglecrm.ai.service.summary.ReviewSummaryCache;
+import com.team2final.minglecrm.ai.service.summary.ReviewSummaryKey;
+import com.team2final.minglecrm.employee.domain.repository.dao.RedisDao;
+import com.team2final.minglecrm.review.domain.hotel.SummaryType;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReviewSummaryCacheTest {
+
+    @Test
+    void concurrentRequestsForSameKeyShareOneModelCall() throws Exception {
+        // Given
+        RedisDao redisDao = mock(RedisDao.class);
+        ReviewSummaryCache cache = new ReviewSummaryCache(redisDao, 100, 60, 24);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int requests = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(requests);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            results.add(pool.submit(() -> cache.getOrCompute("hotel:key", () -> {
+                loads.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "요약";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertEquals("요약", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        verify(redisDao, times(1)).setValues(eq("review-summary:hotel:key"), eq("요약"), any());
+        pool.shutdown();
+    }
+
+    @Test
+    void redisHitSkipsModelAndRedisFailureFallsBackToLoader() {
+        // Given
+        RedisDao redisDao = mock(RedisDao.class);
+        when(redisDao.getValues("review-summary:a")).thenReturn("저장된 요약");
+        when(redisDao.getValues("review-summary:b")).thenThrow(new RedisConnectionFailureException("down"));
+        ReviewSummaryCache cache = new ReviewSummaryCache(redisDao, 100, 60, 24);
+
+        // When, Then
+        assertEquals("저장된 요약", cache.getOrCompute("a", () -> fail("모델을 호출하면 안 됨")));
+        assertEquals("새 요약", cache.getOrCompute("b", () -> "새 요약"));
+        // 두 번째부터는 로컬 캐시
+        assertEquals("새 요약", cache.getOrCompute("b", () -> fail("모델을 호출하면 안 됨")));
+        verify(redisDao, times(1)).getValues("review-summary:b");
+    }
+
+    @Test
+    void keyDependsOnReviewSetNotOrder() {
+        String key = ReviewSummaryKey.of("hotel", "All", SummaryType.POSITIVE, List.of(1L, 2L), List.of("좋아요", "별로"));
+
+        assertEquals(key, ReviewSummaryKey.of("hotel", "All", SummaryType.POSITIVE, List.of(2L, 1L), List.of("별로", "좋아요")));
+        assertNotEquals(key, ReviewSummaryKey.of("hotel", "All", SummaryType.NEGATIVE, List.of(1L, 2L), List.of("좋아요", "별로")));
+        assertNotEquals(key, ReviewSummaryKey.of("hotel", "All", SummaryType.POSITIVE, List.of(1L, 2L), List.of("좋아요", "수정됨")));
+    }
+}
@@ -0,0 +1,186 @@
+package com.team2final.minglecrm.ai;
+
+import com.team2final.minglecrm.ai.service.job.ReviewSummaryJob;
+import com.team2final.minglecrm.ai.service.job.ReviewSummaryJobEngine;
+import com.team2final.minglecrm.ai.service.summary.SummaryProgress;
+import com.team2final.minglecrm.review.domain.hotel.SummaryType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewSummaryJobTest {
+
+    private static final int BUFFER_SIZE = 5;
+
+    private ThreadPoolTaskExecutor sender;
+
+    @BeforeEach
+    void setUp() {
+        sender = executor(2, "sse_send_test-");
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdown();
+    }
+
+    @Test
+    void stalledSubscriberDoesNotBlockProgressAndIsDropped() throws InterruptedException {
+        // Given
+        ReviewSummaryJob job = new ReviewSummaryJob(1L, "hotel", "Seoul", SummaryType.POSITIVE, sender, BUFFER_SIZE);
+        BlockingEmitter stalled = new BlockingEmitter();
+        RecordingEmitter reader = new RecordingEmitter();
+        job.subscribe(stalled);
+        job.subscribe(reader);
+        job.startAttempt(1);
+        assertTrue(stalled.sending.await(5, TimeUnit.SECONDS));
+
+        // When : 막힌 구독자가 있어도 요약 스레드는 기다리지 않음. 읽는 구독자는 한 건씩 받은 뒤 다음 건을 보냄
+        long started = System.nanoTime();
+        assertEquals("status", reader.next());
+        assertEquals("status", reader.next());
+        for (int i = 1; i <= BUFFER_SIZE * 4; i++) {
+            job.addProgress(new SummaryProgress(0, i, BUFFER_SIZE * 4, "부분 요약 " + i));
+            assertEquals("progress", reader.next());
+        }
+        job.complete("최종 요약");
+
+        // Then
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started) < 5);
+        assertEquals("result", reader.next());
+        assertTrue(reader.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(BUFFER_SIZE * 4, job.getProgress().size());
+        stalled.release.countDown();
+    }
+
+    @Test
+    void lateSubscriberReplaysAllEventsAndCompletes() throws InterruptedException {
+        // Given
+        ReviewSummaryJob job = new ReviewSummaryJob(1L, "hotel", "Seoul", SummaryType.POSITIVE, sender, BUFFER_SIZE);
+        job.startAttempt(1);
+        for (int i = 1; i <= BUFFER_SIZE * 2; i++) {
+            job.addProgress(new SummaryProgress(0, i, BUFFER_SIZE * 2, "부분 요약 " + i));
+        }
+        job.fail("모델 호출 실패");
+
+        // When
+        RecordingEmitter late = new RecordingEmitter();
+        job.subscribe(late);
+
+        // Then : 대기열 크기보다 많은 지난 이벤트도 모두 받음
+        assertEquals("status", late.next());
+        assertEquals("status", late.next());
+        for (int i = 1; i <= BUFFER_SIZE * 2; i++) {
+            assertEquals("progress", late.next());
+        }
+        assertEquals("error", late.next());
+        assertTrue(late.completed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void finishedJobsAreEvictedBeyondRetainedCount() {
+        // Given
+        ThreadPoolTaskExecutor workers = executor(1, "review_summary_job_test-");
+        ReviewSummaryJobEngine engine = new ReviewSummaryJobEngine(workers, sender);
+        ReflectionTestUtils.setField(engine, "maxAttempts", 1);
+        ReflectionTestUtils.setField(engine, "timeoutSeconds", 5L);
+        ReflectionTestUtils.setField(engine, "maxRetainedJobs", 3);
+        ReflectionTestUtils.setField(engine, "subscriberBufferSize", BUFFER_SIZE);
+
+        List<Long> jobIds = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            int index = i;
+            Long jobId = engine.enqueue("hotel", "Seoul", SummaryType.POSITIVE, (listener, timeout) -> "요약 " + index);
+            waitUntilFinished(engine, jobId);
+            jobIds.add(jobId);
+        }
+
+        // When
+        engine.evictFinishedJobs();
+
+        // Then : 가장 최근에 끝난 작업만 남음
+        assertEquals(3, engine.getRetainedJobCount());
+        assertTrue(engine.getJob(jobIds.get(0)).isEmpty());
+        assertTrue(engine.getJob(jobIds.get(5)).isPresent());
+        workers.shutdown();
+    }
+
+    private static void waitUntilFinished(ReviewSummaryJobEngine engine, Long jobId) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!engine.getJob(jobId).map(ReviewSummaryJob::isFinished).orElse(true)) {
+            assertTrue(System.currentTimeMillis() < deadline, "작업이 끝나지 않음");
+            Thread.onSpinWait();
+        }
+        // 끝난 시각이 같으면 정리 순서가 정해지지 않으므로 조금 띄움
+        try {
+            Thread.sleep(2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadPoolTaskExecutor executor(int threads, String prefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix(prefix);
+        executor.initialize();
+        return executor;
+    }
+
+    // 보낸 이벤트 이름과 정상 종료 여부를 모아 둠
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> names = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().stream()
+                    .flatMap(data -> data.getData().toString().lines())
+                    .filter(line -> line.startsWith("event:"))
+                    .findFirst()
+                    .ifPresent(line -> names.add(line.substring(6)));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        private String next() throws InterruptedException {
+            String name = names.poll(5, TimeUnit.SECONDS);
+            assertNotNull(name, "이벤트를 받지 못함");
+            return name;
+        }
+    }
+
+    // 첫 전송에서 멈춰 응답이 막힌 클라이언트를 흉내 냄
+    private static class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
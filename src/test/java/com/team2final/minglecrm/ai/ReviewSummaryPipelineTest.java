@@ -0,0 +1,160 @@
+package com.team2final.minglecrm.ai;
+
+import com.team2final.minglecrm.ai.service.summary.ChunkSummaryCache;
+import com.team2final.minglecrm.ai.service.summary.ReviewChunker;
+import com.team2final.minglecrm.ai.service.summary.ReviewSummaryPipeline;
+import com.team2final.minglecrm.ai.service.summary.TokenEstimator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReviewSummaryPipelineTest {
+
+    private static final int TOKEN_BUDGET = 500;
+    private static final int PARALLELISM = 2;
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private ThreadPoolTaskExecutor executor;
+    private ReviewSummaryPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        // 실제 모델 대신 호출 수와 동시 호출 수만 기록하는 ChatClient
+        ChatClient chatClient = mock(ChatClient.class, RETURNS_DEEP_STUBS);
+        when(chatClient.prompt(any(Prompt.class)).call().content()).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+                return "부분 요약 " + calls.incrementAndGet();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(PARALLELISM);
+        executor.setMaxPoolSize(PARALLELISM);
+        executor.initialize();
+
+        pipeline = new ReviewSummaryPipeline(chatClient, executor, new ChunkSummaryCache(1000), TOKEN_BUDGET);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void chunksStayWithinTokenBudget() {
+        // Given
+        List<String> reviews = reviews(0, 200);
+
+        // When
+        List<String> chunks = new ReviewChunker(TOKEN_BUDGET).chunk(reviews);
+
+        // Then
+        assertTrue(chunks.size() > 1);
+        for (String chunk : chunks) {
+            assertTrue(TokenEstimator.estimate(chunk) <= TOKEN_BUDGET);
+        }
+        assertEquals(reviews.size(), chunks.stream().mapToLong(chunk -> chunk.lines().count()).sum());
+    }
+
+    @Test
+    void summarizeReducesPartialSummariesWithBoundedParallelism() {
+        // Given
+        List<String> reviews = reviews(0, 200);
+        int chunkCount = new ReviewChunker(TOKEN_BUDGET).chunk(reviews).size();
+
+        // When
+        String summary = pipeline.summarize(reviews, "요약해줘");
+
+        // Then
+        assertNotNull(summary);
+        // map 호출에 reduce 호출이 더해짐
+        assertTrue(calls.get() > chunkCount);
+        assertTrue(maxInFlight.get() <= PARALLELISM);
+    }
+
+    @Test
+    void overlappingPeriodReusesCachedChunkSummaries() {
+        // Given
+        List<String> firstPeriod = reviews(0, 150);
+        List<String> overlappingPeriod = reviews(20, 200);
+        int overlappingChunkCount = new ReviewChunker(TOKEN_BUDGET).chunk(overlappingPeriod).size();
+        pipeline.summarize(firstPeriod, "요약해줘");
+        int callsBefore = calls.get();
+
+        // When
+        pipeline.summarize(overlappingPeriod, "요약해줘");
+
+        // Then
+        // 겹치는 구간의 묶음은 캐시에서 나오므로 map 호출이 묶음 수보다 훨씬 적음
+        int callsForOverlap = calls.get() - callsBefore;
+        assertTrue(callsForOverlap < overlappingChunkCount,
+                "호출 " + callsForOverlap + "회, 묶음 " + overlappingChunkCount + "개");
+    }
+
+    @Test
+    void timeoutInterruptsChunksAlreadyCallingModel() throws InterruptedException {
+        // Given
+        // 인터럽트되기 전에는 끝나지 않는 모델 호출
+        AtomicInteger started = new AtomicInteger();
+        CountDownLatch interrupted = new CountDownLatch(PARALLELISM);
+        ChatClient slowClient = mock(ChatClient.class, RETURNS_DEEP_STUBS);
+        when(slowClient.prompt(any(Prompt.class)).call().content()).thenAnswer(invocation -> {
+            started.incrementAndGet();
+            try {
+                Thread.sleep(60_000);
+                return "부분 요약";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException(e);
+            }
+        });
+        ReviewSummaryPipeline slowPipeline = new ReviewSummaryPipeline(slowClient, executor, new ChunkSummaryCache(1000), TOKEN_BUDGET);
+
+        // When
+        assertThrows(IllegalStateException.class,
+                () -> slowPipeline.summarize(reviews(0, 200), "요약해줘", progress -> {}, Duration.ofMillis(200)));
+
+        // Then
+        // 실행 중이던 묶음은 인터럽트되고, 대기 중이던 묶음은 시작되지 않음
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(PARALLELISM, started.get());
+        assertEquals(0, executor.getActiveCount());
+    }
+
+    @Test
+    void emptyReviewsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> pipeline.summarize(List.of(), "요약해줘"));
+    }
+
+    private List<String> reviews(int from, int to) {
+        List<String> reviews = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            reviews.add(i + "번 고객 리뷰입니다. 객실이 깨끗하고 직원분들이 친절했지만 조식 메뉴가 조금 아쉬웠습니다. 다음에도 방문하고 싶어요.");
+        }
+        return reviews;
+    }
+}
@@ -0,0 +1,65 @@
+package com.team2final.minglecrm.ai;
+
+import com.team2final.minglecrm.ai.dto.response.HotelReviewSummaryResponse;
+import com.team2final.minglecrm.ai.service.AiService;
+import com.team2final.minglecrm.ai.service.job.ReviewSummaryJobEngine;
+import com.team2final.minglecrm.ai.service.summary.ReviewSummaryCache;
+import com.team2final.minglecrm.ai.service.summary.ReviewSummaryPipeline;
+import com.team2final.minglecrm.review.domain.dining.repository.DiningReviewRepository;
+import com.team2final.minglecrm.review.domain.dining.repository.DiningReviewSummaryRepository;
+import com.team2final.minglecrm.review.domain.hotel.SummaryType;
+import com.team2final.minglecrm.review.domain.hotel.repository.hotelReview.HotelReviewRepository;
+import com.team2final.minglecrm.review.domain.hotel.repository.summary.HotelReviewSummaryRepository;
+import com.team2final.minglecrm.review.domain.summary.RollingReviewSummary;
+import com.team2final.minglecrm.review.domain.summary.repository.RollingReviewSummaryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RollingReviewSummaryLookupTest {
+
+    @Test
+    void periodWithoutExactSummaryIsServedFromNearestRollingWindow() {
+        // Given
+        HotelReviewSummaryRepository hotelReviewSummaryRepository = mock(HotelReviewSummaryRepository.class);
+        RollingReviewSummaryRepository rollingReviewSummaryRepository = mock(RollingReviewSummaryRepository.class);
+        AiService aiService = new AiService(mock(ReviewSummaryPipeline.class), mock(ReviewSummaryCache.class),
+                mock(ReviewSummaryJobEngine.class), mock(HotelReviewRepository.class), hotelReviewSummaryRepository,
+                mock(DiningReviewRepository.class), mock(DiningReviewSummaryRepository.class), rollingReviewSummaryRepository);
+
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        when(hotelReviewSummaryRepository.findHotelReviewSummariesBySummaryTypeAndStartDateAndEndDateAndHotel(any(), any(), any(), any()))
+                .thenReturn(List.of());
+        when(rollingReviewSummaryRepository.findRollingReviewSummariesByScopeAndTargetAndSummaryType("hotel", "Seoul", SummaryType.POSITIVE))
+                .thenReturn(List.of(rolling(7, today, "7일"), rolling(30, today, "30일"), rolling(90, today, "90일")));
+
+        // When
+        HotelReviewSummaryResponse response = aiService.getHotelReviewSummaryByPeriod(
+                today.minusDays(25), today.plusHours(10), SummaryType.POSITIVE, "Seoul");
+
+        // Then
+        assertEquals("30일", response.getSummary());
+        assertEquals(today.minusDays(30), response.getStartDate());
+        assertEquals(today, response.getEndDate());
+    }
+
+    private RollingReviewSummary rolling(int windowDays, LocalDateTime endDate, String summary) {
+        return RollingReviewSummary.builder()
+                .scope("hotel")
+                .target("Seoul")
+                .windowDays(windowDays)
+                .summaryType(SummaryType.POSITIVE)
+                .startDate(endDate.minusDays(windowDays))
+                .endDate(endDate)
+                .reviewFingerprint("1-1-1")
+                .summary(summary)
+                .generatedTime(endDate)
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.team2final.minglecrm.customer;
+
+import com.team2final.minglecrm.customer.domain.repository.CustomerRepository;
+import com.team2final.minglecrm.customer.dto.request.CustomerSearchCondition;
+import com.team2final.minglecrm.customer.service.search.CustomerLookupEntry;
+import com.team2final.minglecrm.customer.service.search.CustomerLookupService;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CustomerLookupServiceTest {
+
+    @Test
+    void changesCommittedDuringRebuildAreNotOverwrittenByStalePageRows() {
+        // Given
+        CustomerRepository customerRepository = mock(CustomerRepository.class);
+        CustomerLookupService service = new CustomerLookupService(customerRepository);
+        service.put(entry(1L, "김민수"));
+        service.put(entry(2L, "이민지"));
+
+        // 페이지를 읽은 뒤 돌려주기 전에 1번 고객 이름이 바뀌고 2번 고객이 지워짐
+        when(customerRepository.findLookupEntriesAfter(anyLong(), any())).thenAnswer(invocation -> {
+            service.put(entry(1L, "김민호"));
+            service.remove(2L);
+            return List.of(entry(1L, "김민수"), entry(2L, "이민지"), entry(3L, "박민준"));
+        });
+
+        // When
+        service.rebuild();
+
+        // Then
+        assertEquals(List.of(1L), search(service, "김민호"));
+        assertTrue(search(service, "김민수").isEmpty());
+        assertEquals(List.of(1L, 3L), search(service, "민"));
+    }
+
+    private static List<Long> search(CustomerLookupService service, String name) {
+        return service.search(new CustomerSearchCondition(name, null, null, null, null, null), PageRequest.of(0, 10)).pageIds();
+    }
+
+    private static CustomerLookupEntry entry(Long id, String name) {
+        return new CustomerLookupEntry(id, name, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,97 @@
+package com.team2final.minglecrm.customer;
+
+import com.team2final.minglecrm.customer.dto.request.CustomerSearchCondition;
+import com.team2final.minglecrm.customer.service.search.CustomerLookupEntry;
+import com.team2final.minglecrm.customer.service.search.CustomerLookupResult;
+import com.team2final.minglecrm.customer.service.search.CustomerNgramIndex;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerNgramIndexTest {
+
+    @Test
+    void containsSearchMatchesLikeSemanticsForNameEmailAndPhone() {
+        // Given
+        CustomerNgramIndex index = new CustomerNgramIndex();
+        index.put(new CustomerLookupEntry(1L, "김민수", "minsu@Example.com", "010-1234-5678", "GOLD", "Male", LocalDate.now().minusYears(25)));
+        index.put(new CustomerLookupEntry(2L, "이민지", "minji@test.com", "01098765432", "SILVER", "Female", LocalDate.now().minusYears(35)));
+        index.put(new CustomerLookupEntry(3L, "박서준", null, null, "GOLD", "Male", null));
+
+        // When, Then
+        assertEquals(List.of(1L, 2L), search(index, "민", null, null, null, null).pageIds());
+        assertEquals(List.of(1L), search(index, "김민수", null, null, null, null).pageIds());
+        assertEquals(List.of(1L), search(index, null, "EXAMPLE", null, null, null).pageIds());
+        assertEquals(List.of(1L, 2L), search(index, null, "m", null, null, null).pageIds());
+        assertEquals(List.of(1L), search(index, null, null, "1234-56", null, null).pageIds());
+        assertEquals(List.of(2L), search(index, "민", null, null, "Female", "30s").pageIds());
+        assertTrue(search(index, "최", null, null, null, null).pageIds().isEmpty());
+        assertEquals(0, search(index, null, null, "abc", null, null).total());
+    }
+
+    @Test
+    void pagingReturnsTotalAndUpdatesReplaceOldValues() {
+        // Given
+        CustomerNgramIndex index = new CustomerNgramIndex();
+        for (long id = 1; id <= 5; id++) {
+            index.put(new CustomerLookupEntry(id, "홍길동" + id, null, null, null, null, null));
+        }
+
+        // When
+        index.put(new CustomerLookupEntry(2L, "임꺽정", null, null, null, null, null));
+        index.remove(4L);
+        CustomerLookupResult result = index.search(new CustomerSearchCondition("길동", null, null, null, null, null), 1, 2);
+
+        // Then
+        assertEquals(3, result.total());
+        assertEquals(List.of(3L, 5L), result.pageIds());
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void unchangedTextFieldsDoNotAddDocuments() {
+        // Given
+        CustomerNgramIndex index = new CustomerNgramIndex();
+        index.put(new CustomerLookupEntry(1L, "김민수", "minsu@example.com", "010-1234-5678", "SILVER", "Male", null));
+
+        // When
+        index.put(new CustomerLookupEntry(1L, "김민수", "MINSU@example.com", "01012345678", "GOLD", "Male", null));
+
+        // Then
+        assertEquals(1, index.documentCount());
+        assertEquals(List.of(1L), index.search(new CustomerSearchCondition("민수", "GOLD", null, null, null, null), 0, 10).pageIds());
+        assertTrue(index.search(new CustomerSearchCondition("민수", "SILVER", null, null, null, null), 0, 10).pageIds().isEmpty());
+    }
+
+    @Test
+    void repeatedRenamesCompactDeletedDocuments() {
+        // Given
+        CustomerNgramIndex index = new CustomerNgramIndex();
+        for (long id = 1; id <= 100; id++) {
+            index.put(new CustomerLookupEntry(id, "고객" + id, "user" + id + "@mail.com", null, null, null, null));
+        }
+
+        // When
+        for (int round = 0; round < 50; round++) {
+            for (long id = 1; id <= 100; id++) {
+                index.put(new CustomerLookupEntry(id, "고객" + id + "-" + round, "user" + id + "@mail.com", null, null, null, null));
+            }
+        }
+        index.remove(100L);
+
+        // Then
+        assertEquals(99, index.size());
+        assertTrue(index.documentCount() < 1200, "문서 " + index.documentCount() + "개");
+        assertEquals(List.of(7L), search(index, "고객7-49", null, null, null, null).pageIds());
+        assertTrue(search(index, "고객7-48", null, null, null, null).pageIds().isEmpty());
+        assertEquals(99, search(index, null, "@mail", null, null, null).total());
+    }
+
+    private CustomerLookupResult search(CustomerNgramIndex index, String name, String email, String phone,
+                                        String gender, String ageGroup) {
+        return index.search(new CustomerSearchCondition(name, null, gender, email, ageGroup, phone), 0, 10);
+    }
+}
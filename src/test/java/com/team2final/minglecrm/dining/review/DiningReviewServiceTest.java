@@ -9,13 +9,19 @@ import com.team2final.minglecrm.customer.domain.repository.CustomerRepository;
 import com.team2final.minglecrm.review.domain.dining.repository.DiningReviewRepository;
 import com.team2final.minglecrm.reservation.domain.dining.repository.DishReservationRepository;
 import com.team2final.minglecrm.review.service.dining.DiningReviewService;
+import com.team2final.minglecrm.reservation.dto.dining.response.DiningReviewConditionSearchResponse;
+import com.team2final.minglecrm.review.dto.ReviewScrollResponse;
+import com.team2final.minglecrm.review.dto.dining.request.DiningReviewConditionSearchRequest;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.UUID;
 
 @SpringBootTest
 class DiningReviewServiceTest {
@@ -84,6 +90,53 @@ class DiningReviewServiceTest {
        diningReviewRepository.save(diningReview2);
    }
 
+   @Test
+   void scrollVisitsEveryReviewOnceAcrossSameCreatedDate() {
+       // Given
+       String restaurant = "scroll-" + UUID.randomUUID();
+       Customer customer = customerRepository.save(Customer.builder()
+               .name("scroll-customer")
+               .grade("SILVER")
+               .birth(LocalDate.of(1990, 1, 1))
+               .build());
+       LocalDateTime createdDate = LocalDateTime.of(2024, 5, 1, 12, 0);
+       for (int i = 0; i < 5; i++) {
+           DishReservation dishReservation = dishReservationRepository.save(DishReservation.builder()
+                   .totalPrice(10000L)
+                   .reservationDate(createdDate)
+                   .customer(customer)
+                   .restaurant(restaurant)
+                   .build());
+           diningReviewRepository.save(DiningReview.builder()
+                   .tasteRating(4.0)
+                   .review("리뷰 " + i)
+                   .customer(customer)
+                   .dishReservation(dishReservation)
+                   .createdDate(i < 3 ? createdDate : createdDate.minusDays(1))
+                   .build());
+       }
+       DiningReviewConditionSearchRequest condition = new DiningReviewConditionSearchRequest(null, restaurant, null, null);
+
+       // When
+       List<Long> visited = new ArrayList<>();
+       LocalDateTime cursorTime = null;
+       Long cursorId = null;
+       ReviewScrollResponse<DiningReviewConditionSearchResponse> page;
+       do {
+           page = diningReviewService.scrollDiningReviews(condition, cursorTime, cursorId, 2);
+           page.getContent().forEach(review -> visited.add(review.getId()));
+           cursorTime = page.getNextCursorTime();
+           cursorId = page.getNextCursorId();
+       } while (page.isHasNext());
+
+       // Then
+       Assertions.assertEquals(5, visited.size());
+       Assertions.assertEquals(5, new HashSet<>(visited).size());
+       Assertions.assertEquals(5L, diningReviewService.getDiningReviewMetaData(condition).getRowsNumber());
+       Assertions.assertEquals(0L, diningReviewService.getDiningReviewMetaData(
+               new DiningReviewConditionSearchRequest("other-customer", restaurant, null, null)).getRowsNumber());
+   }
+
 //   @Test
 //   void findAllDiningReviewsWithPaging() {
 //
@@ -1,5 +1,13 @@
 package com.team2final.minglecrm.entity.customer;
 
+import com.team2final.minglecrm.customer.domain.AgeGroup;
+import com.team2final.minglecrm.customer.domain.Customer;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 class CustomerTest {
 
 //    @Test
@@ -19,5 +27,32 @@ class CustomerTest {
 //
 //    }
 
+    @Test
+    void birthYearIsDerivedFromBirth() {
+        Customer customer = Customer.builder()
+                .name("kim dongwook")
+                .birth(LocalDate.of(1994, 12, 31))
+                .build();
+        Customer unknownBirth = Customer.builder()
+                .name("kim dongwook")
+                .build();
+
+        assertEquals(1994, customer.getBirthYear());
+        assertNull(unknownBirth.getBirthYear());
+    }
+
+    @Test
+    void ageGroupBoundariesFollowBirthYear() {
+        int baseYear = 2024;
 
-}
\ No newline at end of file
+        assertTrue(AgeGroup.TWENTIES.contains(2004, baseYear));
+        assertTrue(AgeGroup.TWENTIES.contains(1995, baseYear));
+        assertFalse(AgeGroup.TWENTIES.contains(1994, baseYear));
+        assertTrue(AgeGroup.THIRTIES.contains(1994, baseYear));
+        assertTrue(AgeGroup.OVER_SIXTY.contains(1900, baseYear));
+        assertFalse(AgeGroup.OVER_SIXTY.contains(null, baseYear));
+        assertNull(AgeGroup.OVER_SIXTY.minBirthYear(baseYear));
+        assertEquals(AgeGroup.FORTIES, AgeGroup.fromCode("40s").orElseThrow());
+        assertTrue(AgeGroup.fromCode("10s").isEmpty());
+    }
+}
@@ -1,6 +1,7 @@
 package com.team2final.minglecrm.entity.inquiry;
 
 import com.team2final.minglecrm.customer.domain.Customer;
+import com.team2final.minglecrm.inquiry.domain.ActionStatus;
 import com.team2final.minglecrm.inquiry.domain.Inquiry;
 import org.junit.jupiter.api.Test;
 
@@ -41,6 +42,27 @@ class InquiryTest {
         assertEquals(content, inquiry.getInquiryContent());
         assertEquals(type, inquiry.getType());
         assertFalse(inquiry.getIsReply());
+        assertNull(inquiry.getActionStatus());
+        assertEquals(date, inquiry.getLastActivityTime());
+    }
+
+    @Test
+    void recordReplyAndActionUpdateStatusColumns() {
+        // Given
+        LocalDateTime date = LocalDateTime.of(2024, 6, 1, 10, 0);
+        Inquiry inquiry = Inquiry.builder()
+                .date(date)
+                .inquiryTitle("문의 제목")
+                .build();
+
+        // When
+        inquiry.recordReply(date.plusHours(1));
+        inquiry.recordAction(ActionStatus.BEFORE_ACTION, date.plusHours(2));
+
+        // Then
+        assertTrue(inquiry.getIsReply());
+        assertEquals(ActionStatus.BEFORE_ACTION, inquiry.getActionStatus());
+        assertEquals(date.plusHours(2), inquiry.getLastActivityTime());
     }
 
 }
\ No newline at end of file
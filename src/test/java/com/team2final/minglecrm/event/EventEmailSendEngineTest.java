@@ -0,0 +1,221 @@
+package com.team2final.minglecrm.event;
+
+import com.team2final.minglecrm.customer.domain.repository.CustomerRepository;
+import com.team2final.minglecrm.event.domain.repository.EventRepository;
+import com.team2final.minglecrm.event.dto.response.EventEmailJobResponse;
+import com.team2final.minglecrm.event.service.EventEmailJob;
+import com.team2final.minglecrm.event.service.EventEmailSendEngine;
+import com.team2final.minglecrm.log.domain.repository.EmailLogBulkRepository;
+import com.team2final.minglecrm.service.email.BulkEmailSender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class EventEmailSendEngineTest {
+
+    private static final int BATCH_SIZE = 50;
+
+    private BulkEmailSender bulkEmailSender;
+    private CustomerRepository customerRepository;
+    private EventRepository eventRepository;
+    private EmailLogBulkRepository emailLogBulkRepository;
+    private ThreadPoolTaskExecutor sendExecutor;
+    private ThreadPoolTaskExecutor dispatchExecutor;
+    private EventEmailSendEngine engine;
+
+    // send 에 넘어온 묶음 크기
+    private final ConcurrentLinkedQueue<Integer> batchSizes = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        bulkEmailSender = mock(BulkEmailSender.class);
+        customerRepository = mock(CustomerRepository.class);
+        eventRepository = mock(EventRepository.class);
+        emailLogBulkRepository = mock(EmailLogBulkRepository.class);
+        sendExecutor = executor(4, 100, "email_send_test-");
+        dispatchExecutor = executor(1, 1, "email_dispatch_test-");
+        engine = new EventEmailSendEngine(bulkEmailSender, customerRepository, eventRepository, emailLogBulkRepository,
+                sendExecutor, dispatchExecutor);
+        ReflectionTestUtils.setField(engine, "batchSize", BATCH_SIZE);
+
+        // customer 로 시작하는 주소만 고객. id 는 주소의 숫자
+        when(customerRepository.findIdsByEmailIn(any())).thenAnswer(invocation -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (String email : invocation.<Collection<String>>getArgument(0)) {
+                if (email.startsWith("customer")) {
+                    rows.add(new Object[]{email, id(email)});
+                }
+            }
+            return rows;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        sendExecutor.shutdown();
+        dispatchExecutor.shutdown();
+    }
+
+    @Test
+    void recipientsAreDeduplicatedAndSentInBatches() {
+        // Given : 120 명 + 중복 주소 10 건
+        List<String> emails = new ArrayList<>(emails("customer", 0, 120));
+        emails.addAll(emails("customer", 0, 10));
+        sendSucceedsExcept(List.of());
+
+        // When
+        Long jobId = engine.enqueue(1L, "이벤트", "내용", emails);
+        EventEmailJob job = waitUntilFinished(jobId);
+
+        // Then
+        assertEquals(EventEmailJob.Status.COMPLETED, job.getStatus());
+        assertEquals(120, job.getTotalCount());
+        assertEquals(120, job.getSentCount());
+        assertEquals(0, job.getFailedCount());
+        assertEquals(List.of(20, 50, 50), batchSizes.stream().sorted().toList());
+        verify(emailLogBulkRepository, times(3)).saveAll(eq(1L), anyList());
+        verify(eventRepository).addSendCount(1L, 20L);
+        verify(eventRepository, times(2)).addSendCount(1L, 50L);
+    }
+
+    @Test
+    void unknownAddressesAndSendFailuresAreCountedAsFailed() {
+        // Given : 고객 60 명 중 3 명은 SMTP 실패, 고객이 아닌 주소 5 건
+        List<String> emails = new ArrayList<>(emails("customer", 0, 60));
+        emails.addAll(emails("guest", 0, 5));
+        sendSucceedsExcept(List.of("customer3@minglecrm.com", "customer30@minglecrm.com", "customer59@minglecrm.com"));
+
+        // When
+        EventEmailJob job = waitUntilFinished(engine.enqueue(2L, "이벤트", "내용", emails));
+
+        // Then : 실패한 수신자는 로그, 발송 건수에서 빠짐
+        assertEquals(EventEmailJob.Status.COMPLETED, job.getStatus());
+        assertEquals(57, job.getSentCount());
+        assertEquals(8, job.getFailedCount());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Long>> logged = ArgumentCaptor.forClass(List.class);
+        verify(emailLogBulkRepository, times(2)).saveAll(eq(2L), logged.capture());
+        List<Long> loggedIds = logged.getAllValues().stream().flatMap(List::stream).toList();
+        assertEquals(57, loggedIds.size());
+        assertFalse(loggedIds.contains(3L));
+        verify(eventRepository).addSendCount(2L, 48L);
+        verify(eventRepository).addSendCount(2L, 9L);
+    }
+
+    @Test
+    void statusReportsProgressWhileRunningAndAfterCompletion() throws InterruptedException {
+        // Given : 첫 묶음 발송이 끝나지 않은 상태
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(bulkEmailSender.send(anyList(), any(), anyString(), any())).thenAnswer(invocation -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            Map<String, BulkEmailSender.Outcome> outcomes = new LinkedHashMap<>();
+            for (String email : invocation.<List<String>>getArgument(0)) {
+                outcomes.put(email, new BulkEmailSender.Outcome(true, 1, null));
+            }
+            return outcomes;
+        });
+        Long jobId = engine.enqueue(3L, "이벤트", "내용", emails("customer", 0, 10));
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+        // When
+        EventEmailJobResponse running = new EventEmailJobResponse(engine.getJob(jobId).orElseThrow());
+        release.countDown();
+        EventEmailJobResponse finished = new EventEmailJobResponse(waitUntilFinished(jobId));
+
+        // Then
+        assertEquals("RUNNING", running.getStatus());
+        assertEquals(10, running.getPendingCount());
+        assertNotNull(running.getStartedTime());
+        assertNull(running.getFinishedTime());
+        assertEquals("COMPLETED", finished.getStatus());
+        assertEquals(10, finished.getSentCount());
+        assertEquals(0, finished.getPendingCount());
+        assertNotNull(finished.getFinishedTime());
+        assertTrue(engine.getJob(99L).isEmpty());
+    }
+
+    @Test
+    void rejectedJobIsMarkedFailed() throws InterruptedException {
+        // Given : 발송 스레드 하나와 대기열 한 칸이 모두 찬 상태
+        CountDownLatch release = new CountDownLatch(1);
+        when(bulkEmailSender.send(anyList(), any(), anyString(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Map.of();
+        });
+        engine.enqueue(4L, "이벤트", "내용", emails("customer", 0, 1));
+        engine.enqueue(5L, "이벤트", "내용", emails("customer", 0, 1));
+
+        // When
+        assertThrows(IllegalStateException.class, () -> engine.enqueue(6L, "이벤트", "내용", emails("customer", 0, 1)));
+
+        // Then
+        assertEquals(EventEmailJob.Status.FAILED, engine.getJob(6L).orElseThrow().getStatus());
+        release.countDown();
+    }
+
+    private void sendSucceedsExcept(List<String> failing) {
+        when(bulkEmailSender.send(anyList(), any(), anyString(), any())).thenAnswer(invocation -> {
+            List<String> recipients = invocation.getArgument(0);
+            batchSizes.add(recipients.size());
+            Map<String, BulkEmailSender.Outcome> outcomes = new LinkedHashMap<>();
+            for (String email : recipients) {
+                outcomes.put(email, failing.contains(email)
+                        ? new BulkEmailSender.Outcome(false, 3, "550 mailbox unavailable")
+                        : new BulkEmailSender.Outcome(true, 1, null));
+            }
+            return outcomes;
+        });
+    }
+
+    private EventEmailJob waitUntilFinished(Long jobId) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!engine.getJob(jobId).map(EventEmailJob::isFinished).orElse(false)) {
+            assertTrue(System.currentTimeMillis() < deadline, "발송 작업이 끝나지 않음");
+            Thread.onSpinWait();
+        }
+        return engine.getJob(jobId).orElseThrow();
+    }
+
+    private static List<String> emails(String prefix, int from, int to) {
+        List<String> emails = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            emails.add(prefix + i + "@minglecrm.com");
+        }
+        return emails;
+    }
+
+    private static Long id(String email) {
+        return Long.parseLong(email.substring("customer".length(), email.indexOf('@')));
+    }
+
+    private static ThreadPoolTaskExecutor executor(int threads, int queueCapacity, String prefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(prefix);
+        executor.initialize();
+        return executor;
+    }
+}
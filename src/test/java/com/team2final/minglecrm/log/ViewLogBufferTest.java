@@ -0,0 +1,65 @@
+package com.team2final.minglecrm.log;
+
+import com.team2final.minglecrm.log.domain.repository.ViewLogBulkRepository;
+import com.team2final.minglecrm.log.service.view.ViewLogBuffer;
+import com.team2final.minglecrm.log.service.view.ViewLogEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ViewLogBufferTest {
+
+    private static final int MAX_RETRIES = 2;
+
+    @Test
+    void failedBatchIsRetriedBeforeNewRecords() {
+        // Given : 첫 적재만 실패
+        ViewLogBulkRepository repository = mock(ViewLogBulkRepository.class);
+        doThrow(new IllegalStateException("DB 연결 실패")).doNothing().when(repository).saveAll(anyList());
+        ViewLogBuffer buffer = new ViewLogBuffer(repository, 100, 10, MAX_RETRIES);
+        buffer.offer(event(1L));
+        buffer.flush();
+
+        // When
+        buffer.offer(event(2L));
+        buffer.flush();
+
+        // Then
+        assertEquals(2, buffer.getFlushedCount());
+        assertEquals(0, buffer.getDroppedCount());
+        verify(repository, times(2)).saveAll(List.of(event(1L)));
+        verify(repository).saveAll(List.of(event(2L)));
+    }
+
+    @Test
+    void batchIsDroppedAfterMaxRetriesAndLaterRecordsAreKept() {
+        // Given : DB 가 계속 응답하지 않음
+        ViewLogBulkRepository repository = mock(ViewLogBulkRepository.class);
+        doThrow(new IllegalStateException("DB 연결 실패")).when(repository).saveAll(anyList());
+        ViewLogBuffer buffer = new ViewLogBuffer(repository, 100, 10, MAX_RETRIES);
+        buffer.offer(event(1L));
+        buffer.flush();
+        buffer.offer(event(2L));
+
+        // When : 처음 한 번과 다시 시도 MAX_RETRIES 번
+        for (int i = 0; i < MAX_RETRIES; i++) {
+            buffer.flush();
+        }
+
+        // Then : 실패한 묶음만 버리고 그 뒤 기록은 큐에 남음
+        assertEquals(1, buffer.getDroppedCount());
+        assertEquals(0, buffer.getFlushedCount());
+        assertEquals(1, buffer.getSize());
+        verify(repository, times(MAX_RETRIES + 1)).saveAll(List.of(event(1L)));
+        verify(repository, never()).saveAll(List.of(event(2L)));
+    }
+
+    private static ViewLogEvent event(Long customerId) {
+        return new ViewLogEvent(customerId, "staff@mingle.com", LocalDateTime.of(2024, 6, 1, 9, 0));
+    }
+}
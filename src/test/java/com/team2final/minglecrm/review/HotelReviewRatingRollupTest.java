@@ -0,0 +1,139 @@
+package com.team2final.minglecrm.review;
+
+import com.team2final.minglecrm.review.dto.hotel.response.HotelReviewRatingAggregate;
+import com.team2final.minglecrm.review.service.hotel.HotelReviewService;
+import com.team2final.minglecrm.review.service.rating.ReviewRatingRollupService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// 일별 집계 + 앞뒤 자투리 조회 결과가 리뷰 테이블 AVG 와 같은지 확인
+@SpringBootTest
+class HotelReviewRatingRollupTest {
+
+    private static final String MARKER = "rollup-test";
+
+    @Autowired
+    private HotelReviewService hotelReviewService;
+
+    @Autowired
+    private ReviewRatingRollupService reviewRatingRollupService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LocalDate today;
+    private Long reservationId;
+    private String hotel;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+        reservationId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM room_reservation", Long.class);
+        hotel = jdbcTemplate.queryForObject(
+                "SELECT hr.hotel FROM room_reservation rr JOIN hotel_room hr ON rr.hotel_room_id = hr.id WHERE rr.id = ?",
+                String.class, reservationId);
+
+        // 나흘 전부터 오늘까지 하루에 세 건씩, 자정 직후 / 한낮 / 자정 직전
+        double[][] ratings = {{5, 4.5, 4, 3.5}, {2, 3, 1.5, 4}, {4, 4, 5, 5}};
+        LocalTime[] times = {LocalTime.of(0, 0), LocalTime.of(12, 30), LocalTime.of(23, 59, 59)};
+        for (int day = 4; day >= 0; day--) {
+            for (int i = 0; i < times.length; i++) {
+                double[] rating = ratings[(day + i) % ratings.length];
+                insertReview(today.minusDays(day).atTime(times[i]), rating);
+            }
+        }
+        reviewRatingRollupService.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM hotel_review WHERE comment = ?", MARKER);
+        jdbcTemplate.update("DELETE FROM hotel_review_daily_rating WHERE review_date >= ?", today.minusDays(4));
+        reviewRatingRollupService.refresh();
+    }
+
+    @Test
+    void 앞뒤가_하루_중간인_기간도_리뷰_테이블_AVG_와_같다() {
+        assertMatchesRawAverage(today.minusDays(4).atTime(12, 0), today.minusDays(1).atTime(13, 0), null);
+        assertMatchesRawAverage(today.minusDays(4).atTime(12, 30), today.minusDays(2).atTime(12, 30), null);
+        assertMatchesRawAverage(today.minusDays(3).atTime(0, 0, 1), today.minusDays(1).atTime(23, 59, 58), hotel);
+    }
+
+    @Test
+    void 집계되지_않은_오늘까지_걸친_기간도_리뷰_테이블_AVG_와_같다() {
+        assertMatchesRawAverage(today.minusDays(3).atStartOfDay(), LocalDateTime.now().with(LocalTime.MAX), null);
+        assertMatchesRawAverage(today.minusDays(2).atTime(6, 0), today.atTime(12, 30), hotel);
+    }
+
+    @Test
+    void 온전한_날짜만_있는_기간도_리뷰_테이블_AVG_와_같다() {
+        assertMatchesRawAverage(today.minusDays(4).atStartOfDay(), today.minusDays(1).atTime(LocalTime.MAX), null);
+        assertMatchesRawAverage(today.minusDays(3).atStartOfDay(), today.minusDays(1).atStartOfDay(), hotel);
+    }
+
+    @Test
+    void 리뷰가_없는_기간은_0건이고_평균은_NaN() {
+        // 일별 집계 + 자투리, 하루 안의 자투리만, 아직 집계되지 않은 미래 날짜
+        HotelReviewRatingAggregate rolledUp = hotelReviewService.getRatingAggregate(
+                LocalDateTime.of(2000, 1, 1, 6, 0), LocalDateTime.of(2000, 3, 1, 6, 0), null);
+        HotelReviewRatingAggregate sameDay = hotelReviewService.getRatingAggregate(
+                today.minusDays(4).atTime(0, 0, 1), today.minusDays(4).atTime(12, 0), hotel);
+        HotelReviewRatingAggregate future = hotelReviewService.getRatingAggregate(
+                today.plusDays(10).atStartOfDay(), today.plusDays(20).atStartOfDay(), null);
+
+        for (HotelReviewRatingAggregate aggregate : new HotelReviewRatingAggregate[]{rolledUp, sameDay, future}) {
+            assertThat(aggregate.getReviewCount()).isZero();
+            assertThat(aggregate.getAverageRating()).isNaN();
+        }
+    }
+
+    @Test
+    void 지난_날짜의_리뷰가_바뀌면_전체_재집계로_맞춰진다() {
+        // 마지막 집계일 이전 리뷰의 평점이 바뀌면 증분 집계로는 반영되지 않음
+        jdbcTemplate.update("UPDATE hotel_review SET kindness_rating = 1, cleanliness_rating = 1, convenience_rating = 1, location_rating = 1 " +
+                "WHERE comment = ? AND created_time < ?", MARKER, Timestamp.valueOf(today.minusDays(2).atStartOfDay()));
+        reviewRatingRollupService.refresh();
+
+        reviewRatingRollupService.reconcile();
+
+        assertMatchesRawAverage(today.minusDays(4).atStartOfDay(), today.minusDays(1).atTime(LocalTime.MAX), null);
+        assertMatchesRawAverage(today.minusDays(4).atTime(12, 0), today.minusDays(2).atTime(13, 0), hotel);
+    }
+
+    private void assertMatchesRawAverage(LocalDateTime startDate, LocalDateTime endDate, String hotel) {
+        HotelReviewRatingAggregate aggregate = hotelReviewService.getRatingAggregate(startDate, endDate, hotel);
+
+        String sql = "SELECT COUNT(*), AVG((r.kindness_rating + r.cleanliness_rating + r.convenience_rating + r.location_rating) / 4) " +
+                "FROM hotel_review r " +
+                "JOIN room_reservation rr ON r.room_reservation_id = rr.id " +
+                "JOIN hotel_room hr ON rr.hotel_room_id = hr.id " +
+                "WHERE r.created_time BETWEEN ? AND ?";
+        Object[] args = hotel == null
+                ? new Object[]{Timestamp.valueOf(startDate), Timestamp.valueOf(endDate)}
+                : new Object[]{Timestamp.valueOf(startDate), Timestamp.valueOf(endDate), hotel};
+        jdbcTemplate.query(hotel == null ? sql : sql + " AND hr.hotel = ?", rs -> {
+            assertThat(rs.getLong(1)).as("%s ~ %s 건수", startDate, endDate).isPositive().isEqualTo(aggregate.getReviewCount());
+            assertThat(aggregate.getAverageRating()).as("%s ~ %s 평균", startDate, endDate).isCloseTo(rs.getDouble(2), within(1e-9));
+        }, args);
+    }
+
+    private void insertReview(LocalDateTime createdTime, double[] rating) {
+        jdbcTemplate.update(
+                "INSERT INTO hotel_review (kindness_rating, cleanliness_rating, convenience_rating, location_rating, created_time, " +
+                        "customer_id, room_reservation_id, comment) " +
+                        "SELECT ?, ?, ?, ?, ?, customer_id, id, ? FROM room_reservation WHERE id = ?",
+                rating[0], rating[1], rating[2], rating[3], Timestamp.valueOf(createdTime), MARKER, reservationId);
+    }
+}
@@ -0,0 +1,74 @@
+package com.team2final.minglecrm.review;
+
+import com.team2final.minglecrm.common.search.TextSearchHit;
+import com.team2final.minglecrm.common.search.TextIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewTextIndexTest {
+
+    @Test
+    void koreanKeywordMatchesWordWithParticleAndRanksByFrequency() {
+        // Given
+        TextIndex index = new TextIndex();
+        index.add(1L, "조식이 정말 맛있어요");
+        index.add(2L, "방이 시끄러워서 잠을 못 잤어요. noise 심함");
+        index.add(3L, "조식 맛있고 조식 종류도 많아요 조식 최고");
+
+        // When
+        List<TextSearchHit> hits = index.search("조식", 10);
+
+        // Then
+        assertEquals(List.of(3L, 1L), hits.stream().map(TextSearchHit::id).toList());
+        assertEquals(List.of(2L), ids(index.search("NOISE 시끄러", 10)));
+        assertEquals(List.of(3L), ids(index.search("\"조식 맛\"", 10)));
+        assertTrue(index.search("\"조식 최고 맛있\"", 10).isEmpty());
+    }
+
+    @Test
+    void updatedAndRemovedReviewsLeaveSearchResults() {
+        // Given
+        TextIndex index = new TextIndex();
+        index.add(1L, "수영장이 깨끗해요");
+        index.add(2L, "수영장 물이 차가워요");
+
+        // When
+        index.add(1L, "로비가 넓어요");
+        index.remove(2L);
+
+        // Then
+        assertTrue(index.search("수영장", 10).isEmpty());
+        assertEquals(List.of(1L), ids(index.search("로비", 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void repeatedUpdatesCompactDeletedDocuments() {
+        // Given
+        TextIndex index = new TextIndex();
+        for (long id = 1; id <= 100; id++) {
+            index.add(id, "객실 " + id + "호 청소 상태");
+        }
+
+        // When
+        for (int round = 0; round < 50; round++) {
+            for (long id = 1; id <= 100; id++) {
+                index.add(id, (round % 2 == 0 ? "수영장 " : "로비 ") + id + "번째 후기");
+            }
+        }
+
+        // Then
+        assertEquals(100, index.size());
+        assertTrue(index.documentCount() < 1200);
+        assertEquals(100, index.search("로비", 1000).size());
+        assertTrue(index.search("수영장", 10).isEmpty());
+        assertEquals(List.of(42L), ids(index.search("\"로비 42번째\"", 10)));
+    }
+
+    private List<Long> ids(List<TextSearchHit> hits) {
+        return hits.stream().map(TextSearchHit::id).toList();
+    }
+}
@@ -0,0 +1,100 @@
+package com.team2final.minglecrm.review;
+
+import com.team2final.minglecrm.review.dto.hotel.response.HotelReviewRatingAggregate;
+import com.team2final.minglecrm.review.service.rating.RollupPeriod;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollupPeriodTest {
+
+    private static final LocalDate ROLLED_UP_THROUGH = LocalDate.of(2024, 3, 31);
+
+    @Test
+    void midDayBoundariesLeaveHeadAndTailToRawQuery() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 3, 2, 13, 30);
+        LocalDateTime end = LocalDateTime.of(2024, 3, 5, 8, 15);
+
+        // When
+        RollupPeriod period = RollupPeriod.of(start, end, ROLLED_UP_THROUGH);
+
+        // Then
+        assertEquals(LocalDate.of(2024, 3, 3), period.firstDay());
+        assertEquals(LocalDate.of(2024, 3, 4), period.lastDay());
+        assertEquals(LocalDateTime.of(2024, 3, 3, 0, 0), period.headEnd());
+        assertEquals(LocalDateTime.of(2024, 3, 5, 0, 0), period.tailStart());
+    }
+
+    @Test
+    void wholeDaysNeedNoHeadOrTail() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 3, 2, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 3, 5, 0, 0).with(LocalTime.MAX);
+
+        // When
+        RollupPeriod period = RollupPeriod.of(start, end, ROLLED_UP_THROUGH);
+
+        // Then
+        assertEquals(LocalDate.of(2024, 3, 2), period.firstDay());
+        assertEquals(LocalDate.of(2024, 3, 5), period.lastDay());
+        assertFalse(start.isBefore(period.headEnd()));
+        assertTrue(period.tailStart().isAfter(end));
+    }
+
+    @Test
+    void endAtMidnightKeepsThatInstantInTail() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 3, 2, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 3, 5, 0, 0);
+
+        // When
+        RollupPeriod period = RollupPeriod.of(start, end, ROLLED_UP_THROUGH);
+
+        // Then
+        assertEquals(LocalDate.of(2024, 3, 4), period.lastDay());
+        assertEquals(end, period.tailStart());
+    }
+
+    @Test
+    void daysAfterRollupStayInTail() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 3, 29, 6, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 4, 3, 18, 0);
+
+        // When
+        RollupPeriod period = RollupPeriod.of(start, end, ROLLED_UP_THROUGH);
+
+        // Then
+        assertEquals(LocalDate.of(2024, 3, 30), period.firstDay());
+        assertEquals(ROLLED_UP_THROUGH, period.lastDay());
+        assertEquals(LocalDateTime.of(2024, 4, 1, 0, 0), period.tailStart());
+    }
+
+    @Test
+    void rangesWithoutWholeRolledUpDayUseRawQueryOnly() {
+        assertNull(RollupPeriod.of(LocalDateTime.of(2024, 3, 2, 1, 0), LocalDateTime.of(2024, 3, 2, 23, 0), ROLLED_UP_THROUGH));
+        assertNull(RollupPeriod.of(LocalDateTime.of(2024, 3, 2, 12, 0), LocalDateTime.of(2024, 3, 3, 12, 0), ROLLED_UP_THROUGH));
+        assertNull(RollupPeriod.of(LocalDateTime.of(2024, 4, 2, 0, 0), LocalDateTime.of(2024, 4, 9, 0, 0), ROLLED_UP_THROUGH));
+        assertNull(RollupPeriod.of(LocalDateTime.of(2024, 3, 2, 0, 0), LocalDateTime.of(2024, 3, 9, 0, 0), null));
+        assertNull(RollupPeriod.of(null, LocalDateTime.of(2024, 3, 9, 0, 0), ROLLED_UP_THROUGH));
+    }
+
+    @Test
+    void emptyAggregateAveragesToNaN() {
+        // Given
+        HotelReviewRatingAggregate empty = new HotelReviewRatingAggregate(null, null, null, null, null);
+        HotelReviewRatingAggregate one = new HotelReviewRatingAggregate(1L, 4.0, 5.0, 3.0, 4.0);
+
+        // Then
+        assertEquals(0L, empty.getReviewCount().longValue());
+        assertTrue(empty.getAverageRating().isNaN());
+        assertTrue(HotelReviewRatingAggregate.empty().plus(empty).getAverageRating().isNaN());
+        assertEquals(4.0, empty.plus(one).getAverageRating());
+        assertEquals(1L, one.plus(empty).getReviewCount().longValue());
+    }
+}
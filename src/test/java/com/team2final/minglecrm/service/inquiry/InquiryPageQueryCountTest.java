@@ -0,0 +1,134 @@
+package com.team2final.minglecrm.service.inquiry;
+
+import com.team2final.minglecrm.inquiry.domain.ActionStatus;
+import com.team2final.minglecrm.inquiry.dto.response.InquiryResponse;
+import com.team2final.minglecrm.inquiry.service.InquiryService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class InquiryPageQueryCountTest {
+
+    // 문의 페이지 조회 + 건수 조회 + 고객/답변/조치 조회
+    private static final long STATEMENT_BUDGET = 3;
+
+    @Autowired
+    private InquiryService inquiryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        jdbcTemplate.update("INSERT INTO employee (id, name, email) VALUES (1, '관리자', 'admin@test.com')");
+        for (long id = 1; id <= 200; id++) {
+            jdbcTemplate.update("INSERT INTO customer (id, name, phone) VALUES (?, ?, ?)",
+                    id, "customer" + id, String.format("010-0000-%04d", id));
+            jdbcTemplate.update("INSERT INTO inquiry (id, customer_id, date, inquiry_title, inquiry_content, type, is_reply, " +
+                            "action_status, last_activity_time) VALUES (?, ?, ?, ?, ?, '온라인 문의', ?, ?, ?)",
+                    id, id, Timestamp.valueOf(LocalDateTime.of(2024, 6, 1, 10, 0).plusHours(id)),
+                    "문의 제목 " + id, "문의 내용 " + id, id % 2 == 0, id % 3 == 0 ? "BEFORE_ACTION" : null,
+                    Timestamp.valueOf(LocalDateTime.of(2024, 6, 1, 10, 0).plusHours(id)));
+            if (id % 2 == 0) {
+                jdbcTemplate.update("INSERT INTO inquiry_reply (id, inquiry_id, employee_id, reply, date) VALUES (?, ?, 1, '답변', ?)",
+                        id, id, Timestamp.valueOf(LocalDateTime.of(2024, 6, 10, 10, 0)));
+            }
+            if (id % 3 == 0) {
+                jdbcTemplate.update("INSERT INTO inquiry_action (id, inquiry_id, employee_id, action_status, action_content, date) " +
+                                "VALUES (?, ?, 1, 'BEFORE_ACTION', '조치', ?)",
+                        id, id, Timestamp.valueOf(LocalDateTime.of(2024, 6, 10, 10, 0)));
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM inquiry_action");
+        jdbcTemplate.update("DELETE FROM inquiry_reply");
+        jdbcTemplate.update("DELETE FROM inquiry");
+        jdbcTemplate.update("DELETE FROM customer");
+        jdbcTemplate.update("DELETE FROM employee");
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void 페이지_크기와_무관하게_조회_쿼리_수가_일정하다() {
+        long small = statementCount(PageRequest.of(0, 5, Sort.by("id")));
+        long large = statementCount(PageRequest.of(0, 50, Sort.by("id")));
+
+        assertThat(large).isEqualTo(small).isLessThanOrEqualTo(STATEMENT_BUDGET);
+    }
+
+    @Test
+    void 한_번에_읽은_값으로_목록_응답을_채운다() {
+        Page<InquiryResponse> page = inquiryService.getAllInquiries(PageRequest.of(0, 6, Sort.by("id")));
+
+        InquiryResponse answeredWithAction = page.getContent().get(5);
+        assertThat(answeredWithAction.getId()).isEqualTo(6L);
+        assertThat(answeredWithAction.getCustomerName()).isEqualTo("customer6");
+        assertThat(answeredWithAction.getCustomerPhone()).isEqualTo("010-0000-0006");
+        assertThat(answeredWithAction.getIsReply()).isTrue();
+        assertThat(answeredWithAction.getEmployName()).isEqualTo("관리자");
+        assertThat(answeredWithAction.getActionStatus()).isEqualTo(ActionStatus.BEFORE_ACTION);
+
+        InquiryResponse unanswered = page.getContent().get(0);
+        assertThat(unanswered.getIsReply()).isFalse();
+        assertThat(unanswered.getEmployName()).isNull();
+        assertThat(unanswered.getActionStatus()).isNull();
+    }
+
+    @Test
+    void 답변_있는_문의는_답변_전체를_읽지_않고_한_행씩_조회한다() {
+        statistics.clear();
+
+        Page<InquiryResponse> page = inquiryService.getAnsweredInquiries(PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(100);
+        assertThat(page.getContent()).extracting(InquiryResponse::getId)
+                .containsExactly(2L, 4L, 6L, 8L, 10L, 12L, 14L, 16L, 18L, 20L);
+        assertThat(page.getContent()).allSatisfy(inquiry -> {
+            assertThat(inquiry.getIsReply()).isTrue();
+            assertThat(inquiry.getEmployName()).isEqualTo("관리자");
+        });
+        assertThat(page.getContent().get(2).getActionStatus()).isEqualTo(ActionStatus.BEFORE_ACTION);
+        assertThat(page.getContent().get(0).getActionStatus()).isNull();
+        // 목록 조회 + 건수 조회. 답변 엔티티를 올리지 않음
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    // 문의 엔티티 외에 고객, 직원, 답변, 조치를 하나씩 지연 로딩하지 않아야 함
+    private long statementCount(PageRequest pageRequest) {
+        statistics.clear();
+
+        Page<InquiryResponse> page = inquiryService.getAllInquiries(pageRequest);
+
+        assertThat(page.getContent()).hasSize(pageRequest.getPageSize());
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(pageRequest.getPageSize());
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        return statistics.getPrepareStatementCount();
+    }
+}
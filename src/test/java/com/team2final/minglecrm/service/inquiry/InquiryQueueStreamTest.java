@@ -0,0 +1,189 @@
+package com.team2final.minglecrm.service.inquiry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team2final.minglecrm.inquiry.service.InquiryService;
+import com.team2final.minglecrm.inquiry.service.queue.InquiryQueueChange;
+import com.team2final.minglecrm.inquiry.service.queue.InquiryQueueEventType;
+import com.team2final.minglecrm.inquiry.service.queue.InquiryQueueStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InquiryQueueStreamTest {
+
+    private static final int REPLAY_SIZE = 3;
+    private static final int BUFFER_SIZE = 2;
+
+    private ThreadPoolTaskExecutor sender;
+    private InquiryQueueStream stream;
+    private RecordingEmitter first;
+    private String bootId;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        InquiryService inquiryService = mock(InquiryService.class);
+        when(inquiryService.getUnansweredInquiries(any())).thenReturn(Page.empty());
+        when(inquiryService.getInquiriesWithoutAction(any())).thenReturn(Page.empty());
+        sender = new ThreadPoolTaskExecutor();
+        sender.setCorePoolSize(4);
+        sender.setMaxPoolSize(4);
+        sender.setThreadNamePrefix("sse_send_test-");
+        sender.initialize();
+        stream = new InquiryQueueStream(inquiryService, new ObjectMapper(), sender, REPLAY_SIZE, 20, BUFFER_SIZE);
+
+        // 처음 구독하면 순번 0 의 스냅샷을 받으므로 그 id 로 기동 구분자를 알아냄
+        first = subscribe(null);
+        String snapshotId = first.next("snapshot");
+        bootId = snapshotId.substring(0, snapshotId.lastIndexOf('-'));
+        for (int i = 1; i <= 5; i++) {
+            stream.publish(change(i));
+            assertEquals(bootId + "-" + i, first.next("created"));
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        stream.shutdown();
+        sender.shutdown();
+    }
+
+    @Test
+    void resumeInsideReplayWindowSendsOnlyMissedChanges() throws InterruptedException {
+        // When : 놓친 변경분이 구독자 대기열 크기보다 많아도 모두 다시 보냄
+        RecordingEmitter emitter = subscribe(bootId + "-2");
+
+        // Then
+        assertEquals(bootId + "-3", emitter.next("created"));
+        assertEquals(bootId + "-4", emitter.next("created"));
+        assertEquals(bootId + "-5", emitter.next("created"));
+        emitter.assertNothingMore();
+    }
+
+    @Test
+    void resumeOutsideReplayWindowFallsBackToSnapshot() throws InterruptedException {
+        // When
+        RecordingEmitter emitter = subscribe(bootId + "-1");
+
+        // Then
+        assertEquals(bootId + "-5", emitter.next("snapshot"));
+        emitter.assertNothingMore();
+    }
+
+    @Test
+    void idFromPreviousBootFallsBackToSnapshot() throws InterruptedException {
+        // When
+        RecordingEmitter emitter = subscribe("previous-boot-4");
+
+        // Then
+        assertEquals(bootId + "-5", emitter.next("snapshot"));
+        emitter.assertNothingMore();
+
+        // 이후 변경분은 이어서 받음
+        stream.publish(change(6));
+        assertEquals(bootId + "-6", emitter.next("created"));
+    }
+
+    @Test
+    void subscriberFallingBehindIsDropped() throws InterruptedException {
+        // Given
+        RecordingEmitter fast = subscribe(bootId + "-5");
+        BlockingEmitter slow = new BlockingEmitter();
+        stream.subscribe(slow, bootId + "-5");
+        stream.publish(change(6));
+        assertTrue(slow.sending.await(5, TimeUnit.SECONDS));
+
+        // When : 보내는 중인 하나를 빼고 대기열(buffer)을 넘길 만큼 더 보냄
+        // 다른 구독자는 한 건씩 받은 뒤 다음 건을 보내 대기열이 차지 않게 함
+        int last = 7 + BUFFER_SIZE;
+        for (int i = 6; i <= last; i++) {
+            if (i > 6) {
+                stream.publish(change(i));
+            }
+            assertEquals(bootId + "-" + i, first.next("created"));
+            assertEquals(bootId + "-" + i, fast.next("created"));
+        }
+
+        // Then
+        // 구독과 변경분은 전송 스레드에서 차례로 처리되므로 새 구독자가 다음 변경분을 받았으면 앞선 처리는 끝난 상태
+        RecordingEmitter probe = subscribe(null);
+        probe.next("snapshot");
+        stream.publish(change(last + 1));
+        assertEquals(bootId + "-" + (last + 1), probe.next("created"));
+        assertEquals(3, stream.getSubscriberCount());
+        slow.release.countDown();
+    }
+
+    private RecordingEmitter subscribe(String lastEventId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        stream.subscribe(emitter, lastEventId);
+        return emitter;
+    }
+
+    private static InquiryQueueChange change(long inquiryId) {
+        return new InquiryQueueChange(InquiryQueueEventType.CREATED, inquiryId, "문의 " + inquiryId, false, null, null);
+    }
+
+    // 보낸 이벤트의 "id:" 와 "event:" 줄만 모아 둠
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String[]> events = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String id = null;
+            String name = null;
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                for (String line : data.getData().toString().split("\n")) {
+                    if (line.startsWith("id:")) {
+                        id = line.substring(3);
+                    } else if (line.startsWith("event:")) {
+                        name = line.substring(6);
+                    }
+                }
+            }
+            events.add(new String[]{id, name});
+        }
+
+        private String next(String expectedName) throws InterruptedException {
+            String[] event = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, expectedName + " 이벤트를 받지 못함");
+            assertEquals(expectedName, event[1]);
+            return event[0];
+        }
+
+        private void assertNothingMore() throws InterruptedException {
+            assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    // 첫 전송에서 멈춰 응답이 막힌 클라이언트를 흉내 냄
+    private static class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
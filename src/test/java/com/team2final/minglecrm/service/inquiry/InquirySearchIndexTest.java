@@ -0,0 +1,110 @@
+package com.team2final.minglecrm.service.inquiry;
+
+import com.team2final.minglecrm.inquiry.domain.ActionStatus;
+import com.team2final.minglecrm.inquiry.dto.response.InquiryFacetCount;
+import com.team2final.minglecrm.inquiry.service.search.InquiryDocument;
+import com.team2final.minglecrm.inquiry.service.search.InquirySearchCondition;
+import com.team2final.minglecrm.inquiry.service.search.InquirySearchIndex;
+import com.team2final.minglecrm.inquiry.service.search.InquirySearchResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InquirySearchIndexTest {
+
+    @Test
+    void searchesTitleContentAndCustomerFieldsByRank() {
+        // Given
+        InquirySearchIndex index = sampleIndex();
+
+        // Then
+        assertEquals(List.of(3L, 1L), search(index, "환불", null, null).pageIds());
+        assertEquals(List.of(2L), search(index, "김철수", null, null).pageIds());
+        assertEquals(List.of(2L), search(index, "01012345678", null, null).pageIds());
+        assertEquals(List.of(2L), search(index, "1234-5678", null, null).pageIds());
+        // 검색어가 없으면 최신순
+        assertEquals(List.of(4L, 3L, 2L, 1L), search(index, null, null, null).pageIds());
+    }
+
+    @Test
+    void facetCountsIgnoreOwnFilter() {
+        // Given
+        InquirySearchIndex index = sampleIndex();
+
+        // When
+        InquirySearchResult result = search(index, null, "전화 문의", null);
+
+        // Then
+        assertEquals(2, result.total());
+        assertEquals(List.of(new InquiryFacetCount("온라인 문의", 2), new InquiryFacetCount("전화 문의", 2)),
+                result.facets().get(InquirySearchIndex.FACET_TYPE));
+        assertEquals(List.of(new InquiryFacetCount(InquirySearchIndex.ANSWERED, 1), new InquiryFacetCount(InquirySearchIndex.UNANSWERED, 1)),
+                result.facets().get(InquirySearchIndex.FACET_STATUS));
+        assertEquals(List.of(new InquiryFacetCount("2024-07", 1), new InquiryFacetCount("2024-06", 1)),
+                result.facets().get(InquirySearchIndex.FACET_MONTH));
+    }
+
+    @Test
+    void reindexesUpdatedInquiriesAndCustomers() {
+        // Given
+        InquirySearchIndex index = sampleIndex();
+
+        // When
+        index.updateCustomer(10L, "박영희", "010-9999-0000");
+        index.put(document(1L, 20L, "객실 변경 요청", "전화 문의", false, null, LocalDateTime.of(2024, 6, 1, 10, 0)));
+        index.remove(4L);
+
+        // Then
+        assertEquals(List.of(3L), search(index, "환불", null, null).pageIds());
+        assertEquals(List.of(2L), search(index, "박영희", null, null).pageIds());
+        assertTrue(search(index, "김철수", null, null).pageIds().isEmpty());
+        assertEquals(2, search(index, null, null, true).total());
+    }
+
+    @Test
+    void statusOnlyChangesKeepTextDocument() {
+        // Given
+        InquirySearchIndex index = sampleIndex();
+        int textDocuments = index.textDocumentCount();
+
+        // When
+        index.put(document(1L, 20L, "환불 요청", "온라인 문의", true, ActionStatus.BEFORE_ACTION, LocalDateTime.of(2024, 6, 1, 10, 0)));
+
+        // Then
+        assertEquals(textDocuments, index.textDocumentCount());
+        assertEquals(List.of(3L, 1L), search(index, "환불", null, true).pageIds());
+        assertTrue(search(index, "환불", null, false).pageIds().isEmpty());
+
+        // When
+        index.put(document(1L, 20L, "환불 취소", "온라인 문의", true, ActionStatus.BEFORE_ACTION, LocalDateTime.of(2024, 6, 1, 10, 0)));
+
+        // Then
+        assertEquals(textDocuments + 1, index.textDocumentCount());
+        assertEquals(List.of(1L), search(index, "취소", null, null).pageIds());
+    }
+
+    private static InquirySearchResult search(InquirySearchIndex index, String query, String type, Boolean isReply) {
+        return index.search(new InquirySearchCondition(query, LocalDate.of(2024, 1, 1), null, type, isReply, null), 0, 10);
+    }
+
+    private static InquirySearchIndex sampleIndex() {
+        InquirySearchIndex index = new InquirySearchIndex();
+        index.put(document(1L, 20L, "환불 요청", "온라인 문의", false, null, LocalDateTime.of(2024, 6, 1, 10, 0)));
+        index.put(document(2L, 10L, "주차 문의", "전화 문의", true, ActionStatus.AFTER_ACTION, LocalDateTime.of(2024, 6, 2, 10, 0)));
+        index.put(document(3L, 20L, "환불 환불 재요청", "온라인 문의", true, null, LocalDateTime.of(2024, 7, 1, 10, 0)));
+        index.put(document(4L, 30L, "조식 시간", "전화 문의", false, ActionStatus.BEFORE_ACTION, LocalDateTime.of(2024, 7, 2, 10, 0)));
+        return index;
+    }
+
+    private static InquiryDocument document(Long id, Long customerId, String title, String type, boolean isReply,
+                                            ActionStatus actionStatus, LocalDateTime date) {
+        String customerName = customerId == 10L ? "김철수" : "고객" + customerId;
+        String customerPhone = customerId == 10L ? "010-1234-5678" : "010-0000-00" + customerId;
+        return new InquiryDocument(id, customerId, title, title + " 내용입니다", customerName, customerPhone,
+                date, type, isReply, actionStatus);
+    }
+}
@@ -0,0 +1,175 @@
+package com.team2final.minglecrm.statistics;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.team2final.minglecrm.log.domain.EmailDeliveryStatus;
+import com.team2final.minglecrm.statistics.domain.BirthdayReminderCustomers;
+import com.team2final.minglecrm.statistics.domain.repository.customer.BirthdayReminderCustomersRepository;
+import com.team2final.minglecrm.statistics.service.customer.BirthdayReminderEmailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "spring.mail.username=noreply@minglecrm.com",
+        "spring.mail.password=",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "spring.mail.properties.mail.smtp.starttls.required=false",
+        "spring.mail.bulk.page-size=20",
+        "spring.mail.bulk.batch-size=7",
+        "spring.mail.bulk.rate-per-second=0",
+        "spring.mail.bulk.retry-backoff-millis=0"
+})
+class BirthdayReminderEmailServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private BirthdayReminderEmailService birthdayReminderEmailService;
+
+    @Autowired
+    private BirthdayReminderCustomersRepository birthdayReminderCustomersRepository;
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    @Qualifier("birthdayReminderJob")
+    private Job birthdayReminderJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        birthdayReminderCustomersRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM customer WHERE id > 900000");
+    }
+
+    @Test
+    void 모든_대상자에게_발송하고_결과를_기록한다() {
+        List<BirthdayReminderCustomers> customers = new ArrayList<>();
+        for (int i = 0; i < 45; i++) {
+            customers.add(BirthdayReminderCustomers.builder()
+                    .name("customer" + i)
+                    .email("customer" + i + "@minglecrm.com")
+                    .birth(LocalDate.of(1998, 9, 18))
+                    .build());
+        }
+        birthdayReminderCustomersRepository.saveAll(customers);
+
+        BirthdayReminderEmailService.Result result = birthdayReminderEmailService.send();
+
+        assertThat(result.sentCount()).isEqualTo(45);
+        assertThat(result.failedCount()).isZero();
+        assertThat(greenMail.getReceivedMessages()).hasSize(45);
+        assertThat(birthdayReminderCustomersRepository.countByDeliveryStatus(EmailDeliveryStatus.SENT)).isEqualTo(45);
+        assertThat(birthdayReminderCustomersRepository.findAll())
+                .allSatisfy(customer -> {
+                    assertThat(customer.getAttemptCount()).isEqualTo(1);
+                    assertThat(customer.getSentTime()).isNotNull();
+                });
+    }
+
+    @Test
+    void 이미_발송된_대상자에게는_다시_보내지_않는다() {
+        birthdayReminderCustomersRepository.save(BirthdayReminderCustomers.builder()
+                .name("customer")
+                .email("customer@minglecrm.com")
+                .build());
+
+        birthdayReminderEmailService.send();
+        BirthdayReminderEmailService.Result result = birthdayReminderEmailService.send();
+
+        assertThat(result.sentCount()).isZero();
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    @Test
+    void 작업을_다시_실행해도_고객마다_한_번만_보낸다() throws Exception {
+        LocalDate birthday = LocalDate.now().plusDays(7);
+        for (int i = 1; i <= 3; i++) {
+            jdbcTemplate.update("INSERT INTO customer (id, name, grade, gender, email, birth, is_deleted) VALUES (?, ?, 'SILVER', 'F', ?, ?, FALSE)",
+                    900000 + i, "birthday" + i, "birthday" + i + "@minglecrm.com", birthday.withYear(1984 + 4 * i));
+        }
+
+        runBirthdayReminderJob();
+        birthdayReminderEmailService.send();
+        runBirthdayReminderJob();
+        birthdayReminderEmailService.send();
+
+        Map<String, Long> receivedByRecipient = Arrays.stream(greenMail.getReceivedMessages())
+                .map(this::recipient)
+                .filter(recipient -> recipient.startsWith("birthday"))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        assertThat(receivedByRecipient).hasSize(3).allSatisfy((recipient, count) -> assertThat(count).isEqualTo(1L));
+        assertThat(birthdayReminderCustomersRepository.findAll())
+                .filteredOn(customer -> customer.getCustomerId() != null && customer.getCustomerId() > 900000)
+                .hasSize(3)
+                .allSatisfy(customer -> {
+                    assertThat(customer.getDeliveryStatus()).isEqualTo(EmailDeliveryStatus.SENT);
+                    assertThat(customer.getAttemptCount()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void 시도_한도_안에서_실패한_대상자만_다시_보낸다() {
+        BirthdayReminderCustomers retryable = birthdayReminderCustomersRepository.save(BirthdayReminderCustomers.builder()
+                .name("retryable")
+                .email("retryable@minglecrm.com")
+                .build());
+        BirthdayReminderCustomers exhausted = birthdayReminderCustomersRepository.save(BirthdayReminderCustomers.builder()
+                .name("exhausted")
+                .email("exhausted@minglecrm.com")
+                .build());
+        birthdayReminderCustomersRepository.markFailed(retryable.getId(), 3, "timeout");
+        birthdayReminderCustomersRepository.markFailed(exhausted.getId(), 9, "timeout");
+
+        BirthdayReminderEmailService.Result result = birthdayReminderEmailService.send();
+
+        assertThat(result.sentCount()).isEqualTo(1);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(birthdayReminderCustomersRepository.findById(exhausted.getId()).orElseThrow().getDeliveryStatus())
+                .isEqualTo(EmailDeliveryStatus.FAILED);
+    }
+
+    private void runBirthdayReminderJob() throws Exception {
+        BatchStatus status = jobLauncher.run(birthdayReminderJob, new JobParametersBuilder()
+                .addLong("time", System.nanoTime())
+                .toJobParameters()).getStatus();
+        assertThat(status).isEqualTo(BatchStatus.COMPLETED);
+    }
+
+    private String recipient(MimeMessage message) {
+        try {
+            return message.getRecipients(Message.RecipientType.TO)[0].toString();
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
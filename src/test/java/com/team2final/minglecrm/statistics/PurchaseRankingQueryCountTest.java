@@ -0,0 +1,115 @@
+package com.team2final.minglecrm.statistics;
+
+import com.team2final.minglecrm.statistics.config.support.StatisticsGenerationSupport;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.batch.statistics.purchase.grid-size=2")
+class PurchaseRankingQueryCountTest {
+
+    private static final long STAGING_GENERATION = 99L;
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    @Qualifier("purchaseItemJob")
+    private Job purchaseItemJob;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JobLauncherTestUtils jobLauncherTestUtils;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jobLauncherTestUtils = new JobLauncherTestUtils();
+        jobLauncherTestUtils.setJobLauncher(jobLauncher);
+        jobLauncherTestUtils.setJobRepository(jobRepository);
+        jobLauncherTestUtils.setJob(purchaseItemJob);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        jdbcTemplate.update("INSERT INTO customer (id, name, grade, gender) VALUES (1, 'customer1', 'SILVER', 'M')");
+        jdbcTemplate.update("INSERT INTO dish (id, name, price) VALUES (1, '스테이크', 50000)");
+        jdbcTemplate.update("INSERT INTO dish (id, name, price) VALUES (2, '파스타', 20000)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM purchase_list");
+        jdbcTemplate.update("DELETE FROM purchase_dish");
+        jdbcTemplate.update("DELETE FROM dish_reservation_detail");
+        jdbcTemplate.update("DELETE FROM dish_reservation");
+        jdbcTemplate.update("DELETE FROM dish");
+        jdbcTemplate.update("DELETE FROM customer");
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void 예약_건수와_무관하게_조회_쿼리_수가_일정하다() throws Exception {
+        insertDishReservations(1, 10);
+        long smallDishList = readStatementCount("purchaseDishListStep");
+        long smallDish = readStatementCount("purchaseDishStep");
+
+        insertDishReservations(11, 200);
+        long largeDishList = readStatementCount("purchaseDishListStep");
+        long largeDish = readStatementCount("purchaseDishStep");
+
+        // 파티션 id 범위 조회 1번 + 파티션 별 리더 쿼리 1번
+        assertThat(largeDishList).isEqualTo(smallDishList).isLessThanOrEqualTo(3);
+        assertThat(largeDish).isEqualTo(smallDish).isLessThanOrEqualTo(3);
+    }
+
+    // INSERT 를 제외한 (조회) 문장 수. 엔티티, 컬렉션 지연 로딩이 없어야 함
+    private long readStatementCount(String stepName) {
+        statistics.clear();
+
+        ExecutionContext jobExecutionContext = new ExecutionContext();
+        jobExecutionContext.putLong(StatisticsGenerationSupport.STAGING_GENERATION, STAGING_GENERATION);
+        JobExecution jobExecution = jobLauncherTestUtils.launchStep(
+                stepName, jobLauncherTestUtils.getUniqueJobParameters(), jobExecutionContext);
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        return statistics.getPrepareStatementCount() - statistics.getEntityInsertCount();
+    }
+
+    private void insertDishReservations(int fromId, int toId) {
+        for (int id = fromId; id <= toId; id++) {
+            jdbcTemplate.update("INSERT INTO dish_reservation (id, customer_id, reservation_date, total_price) VALUES (?, 1, ?, 70000)",
+                    id, Timestamp.valueOf(LocalDateTime.of(2024, 5, 1, 12, 0).plusDays(id % 30)));
+            jdbcTemplate.update("INSERT INTO dish_reservation_detail (dish_reservation_id, dish_id, quantity, item_total_price) VALUES (?, 1, 1, 50000)", id);
+            jdbcTemplate.update("INSERT INTO dish_reservation_detail (dish_reservation_id, dish_id, quantity, item_total_price) VALUES (?, 2, 1, 20000)", id);
+        }
+    }
+}
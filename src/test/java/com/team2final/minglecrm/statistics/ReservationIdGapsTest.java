@@ -0,0 +1,45 @@
+package com.team2final.minglecrm.statistics;
+
+import com.team2final.minglecrm.statistics.config.support.ReservationIdGaps;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReservationIdGapsTest {
+
+    @Test
+    void lateCommittedIdBelowWatermarkIsCountedOnNextRun() {
+        // Given : 첫 실행에서 id 12 가 아직 커밋되지 않아 보이지 않음
+        ReservationIdGaps firstRun = new ReservationIdGaps(10, 15, 100, Set.of());
+        for (long id : new long[]{11, 13, 14, 15}) {
+            firstRun.accept(id);
+        }
+        String carried = ReservationIdGaps.format(firstRun.getPendingIds());
+
+        // When : 다음 실행에서 12 가 커밋되어 보임
+        ReservationIdGaps secondRun = new ReservationIdGaps(15, 20, 100, ReservationIdGaps.parse(carried));
+
+        // Then
+        assertEquals("12", carried);
+        assertTrue(secondRun.resolve(12));
+        assertFalse(secondRun.resolve(12));
+        assertTrue(secondRun.getPendingIds().isEmpty());
+    }
+
+    @Test
+    void gapsBelowOverlapWindowAreDropped() {
+        // Given
+        ReservationIdGaps run = new ReservationIdGaps(0, 1000, 10, Set.of(5L, 995L));
+
+        // When
+        run.accept(1);
+        run.accept(500);
+        run.accept(1000);
+
+        // Then : 990 이하는 롤백된 것으로 보고 버림
+        assertEquals(Set.of(991L, 992L, 993L, 994L, 995L, 996L, 997L, 998L, 999L), run.getPendingIds());
+        assertTrue(ReservationIdGaps.parse("").isEmpty());
+    }
+}
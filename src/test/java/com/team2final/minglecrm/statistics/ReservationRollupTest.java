@@ -0,0 +1,84 @@
+package com.team2final.minglecrm.statistics;
+
+import com.team2final.minglecrm.statistics.config.support.IntLongCounter;
+import com.team2final.minglecrm.statistics.config.support.ReservationRollup;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReservationRollupTest {
+
+    @Test
+    void rollupDailyCountsToCoarserGranularities() {
+        // Given
+        ReservationRollup rollup = new ReservationRollup();
+        LocalDate newYearsEve = LocalDate.of(2023, 12, 31);
+        LocalDate newYearsDay = LocalDate.of(2024, 1, 1);
+
+        // When
+        rollup.add(newYearsEve);
+        rollup.add(newYearsEve);
+        rollup.add(newYearsDay);
+        rollup.add(LocalDate.of(2024, 1, 15));
+        rollup.add(null);
+
+        // Then
+        assertEquals(2L, rollup.getDailyCounts().get(20231231));
+        assertEquals(1L, rollup.getDailyCounts().get(20240101));
+        assertEquals(3, rollup.getDailyCounts().size());
+
+        assertEquals(2L, rollup.getMonthlyCounts().get(202312));
+        assertEquals(2L, rollup.getMonthlyCounts().get(202401));
+
+        assertEquals(2L, rollup.getByYearCounts().get(2023));
+        assertEquals(2L, rollup.getByYearCounts().get(2024));
+
+        int lastWeekOf2023 = 2023 * 100 + newYearsEve.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+        int firstWeekOf2024 = 2024 * 100 + newYearsDay.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+        assertEquals(2L, rollup.getWeeklyCounts().get(lastWeekOf2023));
+        assertEquals(1L, rollup.getWeeklyCounts().get(firstWeekOf2024));
+    }
+
+    @Test
+    void lateDecemberDaysInFirstIsoWeekBelongToNextWeekBasedYear() {
+        // Given : 2024-12-30, 31 은 2025년 ISO 1주차
+        ReservationRollup rollup = new ReservationRollup();
+
+        // When
+        rollup.add(LocalDate.of(2024, 1, 1));
+        rollup.add(LocalDate.of(2024, 12, 29));
+        rollup.add(LocalDate.of(2024, 12, 30));
+        rollup.add(LocalDate.of(2024, 12, 31));
+        rollup.add(LocalDate.of(2025, 1, 5));
+
+        // Then
+        IntLongCounter weeklyCounts = rollup.getWeeklyCounts();
+        assertEquals(1L, weeklyCounts.get(202401));
+        assertEquals(1L, weeklyCounts.get(202452));
+        assertEquals(3L, weeklyCounts.get(202501));
+        assertEquals(3, weeklyCounts.size());
+    }
+
+    @Test
+    void counterKeepsCountsAcrossResize() {
+        // Given
+        IntLongCounter counter = new IntLongCounter(4);
+
+        // When
+        for (int day = 1; day <= 5000; day++) {
+            counter.add(day, day);
+            counter.add(day, 1L);
+        }
+
+        // Then
+        assertEquals(5000, counter.size());
+        assertEquals(2L, counter.get(1));
+        assertEquals(5001L, counter.get(5000));
+        assertEquals(0L, counter.get(5001));
+        assertArrayEquals(new int[]{1, 2, 3}, Arrays.copyOf(counter.sortedKeys(), 3));
+    }
+}
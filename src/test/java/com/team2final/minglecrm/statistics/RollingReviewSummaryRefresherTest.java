@@ -0,0 +1,139 @@
+package com.team2final.minglecrm.statistics;
+
+import com.team2final.minglecrm.ai.dto.vo.JoinedReviews;
+import com.team2final.minglecrm.ai.dto.vo.ReviewSetFingerprint;
+import com.team2final.minglecrm.ai.service.AiService;
+import com.team2final.minglecrm.review.domain.dining.repository.DiningReviewRepository;
+import com.team2final.minglecrm.review.domain.hotel.SummaryType;
+import com.team2final.minglecrm.review.domain.hotel.repository.hotelReview.HotelReviewRepository;
+import com.team2final.minglecrm.review.domain.summary.RollingReviewSummary;
+import com.team2final.minglecrm.review.domain.summary.repository.RollingReviewSummaryRepository;
+import com.team2final.minglecrm.review.service.dining.DiningReviewService;
+import com.team2final.minglecrm.review.service.hotel.HotelReviewService;
+import com.team2final.minglecrm.statistics.config.support.RollingReviewSummaryRefresher;
+import com.team2final.minglecrm.statistics.config.support.RollingReviewSummaryTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RollingReviewSummaryRefresherTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 10);
+    private static final LocalDateTime START = TODAY.minusDays(7).atStartOfDay();
+    private static final LocalDateTime END = TODAY.atStartOfDay();
+
+    private HotelReviewRepository hotelReviewRepository;
+    private DiningReviewRepository diningReviewRepository;
+    private RollingReviewSummaryRepository rollingReviewSummaryRepository;
+    private HotelReviewService hotelReviewService;
+    private AiService aiService;
+    private RollingReviewSummaryRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        hotelReviewRepository = mock(HotelReviewRepository.class);
+        diningReviewRepository = mock(DiningReviewRepository.class);
+        rollingReviewSummaryRepository = mock(RollingReviewSummaryRepository.class);
+        hotelReviewService = mock(HotelReviewService.class);
+        aiService = mock(AiService.class);
+        refresher = new RollingReviewSummaryRefresher(hotelReviewRepository, diningReviewRepository, rollingReviewSummaryRepository,
+                hotelReviewService, mock(DiningReviewService.class), aiService);
+    }
+
+    @Test
+    void unchangedFingerprintOnlyMovesDates() {
+        // Given
+        RollingReviewSummary saved = saved("Seoul", "3-9-20", "지난 요약");
+        when(rollingReviewSummaryRepository.findRollingReviewSummaryByScopeAndTargetAndWindowDaysAndSummaryType("hotel", "Seoul", 7, SummaryType.POSITIVE))
+                .thenReturn(Optional.of(saved));
+
+        // When
+        RollingReviewSummaryRefresher.Result result = refresher.refresh(target("Seoul", "3-9-20"));
+
+        // Then
+        assertEquals(RollingReviewSummaryRefresher.Result.MOVED, result);
+        assertEquals(START, saved.getStartDate());
+        assertEquals(END, saved.getEndDate());
+        assertEquals("지난 요약", saved.getSummary());
+        assertEquals(START.minusDays(1), saved.getGeneratedTime());
+        verify(rollingReviewSummaryRepository).save(saved);
+        verifyNoInteractions(hotelReviewService, aiService);
+    }
+
+    @Test
+    void changedFingerprintRegeneratesSummary() {
+        // Given
+        RollingReviewSummary saved = saved("Seoul", "3-9-20", "지난 요약");
+        when(rollingReviewSummaryRepository.findRollingReviewSummaryByScopeAndTargetAndWindowDaysAndSummaryType("hotel", "Seoul", 7, SummaryType.POSITIVE))
+                .thenReturn(Optional.of(saved));
+        JoinedReviews reviews = JoinedReviews.builder()
+                .reviews(List.of("깨끗해요", "친절해요", "조식 최고", "수영장 좋아요"))
+                .reviewIds(List.of(2L, 4L, 5L, 10L))
+                .startDate(START)
+                .endDate(END)
+                .build();
+        when(hotelReviewService.getJoinedHotelReviews(START, END, "Seoul")).thenReturn(reviews);
+        when(aiService.summarizeHotelReviews(eq(reviews), eq(SummaryType.POSITIVE), eq("Seoul"), any(), any())).thenReturn("새 요약");
+
+        // When
+        RollingReviewSummaryRefresher.Result result = refresher.refresh(target("Seoul", "4-10-21"));
+
+        // Then
+        assertEquals(RollingReviewSummaryRefresher.Result.GENERATED, result);
+        assertEquals("새 요약", saved.getSummary());
+        assertEquals("4-10-21", saved.getReviewFingerprint());
+        assertEquals(START, saved.getStartDate());
+        assertTrue(saved.getGeneratedTime().isAfter(START));
+        verify(rollingReviewSummaryRepository).save(saved);
+    }
+
+    @Test
+    void targetsWithEmptyWindowAreDeleted() {
+        // Given : 부산 호텔은 이번 기간에 리뷰가 없음
+        when(hotelReviewRepository.findFingerprintsByPeriod(START, END))
+                .thenReturn(List.of(new ReviewSetFingerprint("Seoul", 3L, 9L, 20L), new ReviewSetFingerprint("Busan", 0L, null, null)));
+        when(diningReviewRepository.findFingerprintsByPeriod(START, END)).thenReturn(List.of());
+        RollingReviewSummary seoul = saved("Seoul", "3-9-20", "서울 요약");
+        RollingReviewSummary busan = saved("Busan", "1-3-3", "부산 요약");
+        RollingReviewSummary dining = RollingReviewSummary.builder()
+                .scope("dining").target(RollingReviewSummaryRefresher.ALL).windowDays(7).summaryType(SummaryType.POSITIVE)
+                .reviewFingerprint("1-1-1").summary("레스토랑 요약").build();
+        when(rollingReviewSummaryRepository.findAll()).thenReturn(List.of(seoul, busan, dining));
+
+        // When
+        List<RollingReviewSummaryTarget> targets = refresher.findTargets(TODAY, new int[]{7});
+        int deleted = refresher.deleteStale(targets);
+
+        // Then : 서울과 호텔 전체만 긍정/부정 두 건씩
+        assertEquals(List.of("Seoul", "Seoul", "All", "All"), targets.stream().map(RollingReviewSummaryTarget::target).toList());
+        assertEquals(2, deleted);
+        verify(rollingReviewSummaryRepository).deleteAllInBatch(List.of(busan, dining));
+    }
+
+    private static RollingReviewSummaryTarget target(String target, String fingerprint) {
+        return new RollingReviewSummaryTarget("hotel", target, 7, SummaryType.POSITIVE, START, END, fingerprint);
+    }
+
+    private static RollingReviewSummary saved(String target, String fingerprint, String summary) {
+        return RollingReviewSummary.builder()
+                .scope("hotel")
+                .target(target)
+                .windowDays(7)
+                .summaryType(SummaryType.POSITIVE)
+                .startDate(START.minusDays(1))
+                .endDate(END.minusDays(1))
+                .reviewFingerprint(fingerprint)
+                .summary(summary)
+                .generatedTime(START.minusDays(1))
+                .build();
+    }
+}